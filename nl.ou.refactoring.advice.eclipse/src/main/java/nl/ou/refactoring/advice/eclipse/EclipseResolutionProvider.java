@@ -1,6 +1,5 @@
 package nl.ou.refactoring.advice.eclipse;
 
-import java.io.FileNotFoundException;
 import java.util.Optional;
 
 import org.apache.logging.log4j.LogManager;
@@ -12,7 +11,8 @@ import org.eclipse.jdt.core.JavaModelException;
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
-import nl.ou.refactoring.advice.io.javaParser.GraphJavaReader;
+import nl.ou.refactoring.advice.io.javaParser.GraphJavaReaderCache;
+import nl.ou.refactoring.advice.io.javaParser.GraphJavaReaderFileReadFailedException;
 import nl.ou.refactoring.advice.io.javaParser.GraphJavaReaderResolutionProvider;
 import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
 import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
@@ -27,6 +27,11 @@ public final class EclipseResolutionProvider implements GraphJavaReaderResolutio
 	 */
 	private static final Logger LOGGER = LogManager.getLogger(EclipseResolutionProvider.class);
 
+	/**
+	 * The code nodes read from source files, shared by all projects so that unchanged source files are not parsed again.
+	 */
+	private static final GraphJavaReaderCache CACHE = new GraphJavaReaderCache(256);
+
 	/**
 	 * The Java Project from which a symbol should be resolved.
 	 */
@@ -58,7 +63,7 @@ public final class EclipseResolutionProvider implements GraphJavaReaderResolutio
 				ex.printStackTrace();
 				LOGGER.error("Resolution of Class '" + fullyQualifiedName + "' failed", ex);
 				return Optional.empty();
-			} catch (FileNotFoundException ex) {
+			} catch (GraphJavaReaderFileReadFailedException ex) {
 				ex.printStackTrace();
 				LOGGER.error("Failed to read source file for Class '" + fullyQualifiedName + "'", ex);
 				return Optional.empty();
@@ -69,13 +74,8 @@ public final class EclipseResolutionProvider implements GraphJavaReaderResolutio
 		return Optional.empty();
 	}
 
-	private Graph readElementToGraph(Graph graph, IJavaElement element) throws FileNotFoundException {
+	private Graph readElementToGraph(Graph graph, IJavaElement element) throws GraphJavaReaderFileReadFailedException {
 		final var elementFile = new ElementFile(element);
-		final var elementReader = new ElementFileReader(elementFile);
-		final var elementAbsolutePath = elementFile.getAbsolutePath();
-		final var elementName = elementFile.getName();
-		final var elementJavaReader = new GraphJavaReader(graph, this, elementReader, elementAbsolutePath, elementName);
-		graph = elementJavaReader.read();
-		return graph;
+		return CACHE.read(graph, this, elementFile.toPath());
 	}
 }
@@ -0,0 +1,45 @@
+package nl.ou.refactoring.advice;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+
+/**
+ * Waits for the tasks that are run in parallel on the graph.
+ */
+public final class Futures {
+	/**
+	 * A private constructor to avoid instantiation.
+	 * This class is only for static methods.
+	 */
+	private Futures() {
+		throw new AssertionError("Futures should not be instantiated; it only hosts static methods.");
+	}
+
+	/**
+	 * Waits for a future to complete and gets its result.
+	 * Unlike {@link CompletableFuture#join()}, this rethrows the exception or error of a failed task as is,
+	 * rather than wrapped in a {@link CompletionException}.
+	 * @param <T> The type of result.
+	 * @param future The future to wait for.
+	 * @return The result of the future.
+	 * @throws ArgumentNullException Thrown if future is null.
+	 */
+	public static <T> T join(CompletableFuture<T> future)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(future, "future");
+		try {
+			return future.join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (exception.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw exception;
+		}
+	}
+}
@@ -1,15 +1,21 @@
 package nl.ou.refactoring.advice;
 
-import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -19,14 +25,13 @@ import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.edges.GraphEdge;
 import nl.ou.refactoring.advice.edges.GraphEdgeFactoryFunction;
-import nl.ou.refactoring.advice.edges.code.GraphEdgeHas;
 import nl.ou.refactoring.advice.nodes.GraphNode;
 import nl.ou.refactoring.advice.nodes.GraphNodeBase;
 import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
-import nl.ou.refactoring.advice.nodes.code.GraphNodeInterface;
-import nl.ou.refactoring.advice.nodes.code.GraphNodePackage;
-import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeCodeNameIndex;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClassMemberIndex;
 import nl.ou.refactoring.advice.nodes.workflow.GraphNodeRefactoringStart;
+import nl.ou.refactoring.advice.nodes.workflow.GraphWorkflowPrecedenceIndex;
 import nl.ou.refactoring.advice.nodes.workflow.RefactoringMayContainOnlyOneStartNodeException;
 
 /**
@@ -34,9 +39,21 @@ import nl.ou.refactoring.advice.nodes.workflow.RefactoringMayContainOnlyOneStart
  */
 public final class Graph implements Cloneable {
 	private static final Logger LOGGER = LogManager.getLogger(Graph.class);
+	private static final int CLONE_CHUNK_SIZE = 1024;
+	private static final GraphDerivedView<GraphWorkflowPrecedenceIndex> PRECEDENCE_INDEX =
+			new GraphDerivedView<>(GraphWorkflowPrecedenceIndex::new);
+	private static final GraphDerivedView<GraphSnapshot> SNAPSHOT = new GraphDerivedView<>(GraphSnapshot::new);
 	private final UUID id;
-	private final Map<GraphNode, Map<GraphNode, Set<GraphEdge>>> matrix;
+	private final GraphStore store;
+	private final Map<GraphDerivedView<?>, GraphDerivedViewEntry> derivedViews;
+	private final List<GraphChangeListener> changeListeners;
+	private final GraphNodeClassMemberIndex memberIndex;
+	private final GraphNodeCodeNameIndex nameIndex;
+	private final Graph parent;
+	private final ReentrantLock lock;
 	private String refactoringName;
+	private volatile long modificationCount;
+	private long parentModificationCount;
 
 	/**
 	 * Initialises a new instance of {@link Graph}.
@@ -48,11 +65,53 @@ public final class Graph implements Cloneable {
 	 */
 	public Graph(String refactoringName) throws ArgumentNullException, ArgumentEmptyException {
 		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(refactoringName, "refactoringName");
+		this(refactoringName, null, false);
+	}
+
+	private Graph(String refactoringName, Graph parent, boolean concurrent) {
 		this.id = UUID.randomUUID();
-		this.matrix = new HashMap<>();
+		this.store = parent == null ? new GraphStore(concurrent) : new GraphStoreFork(parent.store);
+		this.parent = parent;
+		this.lock = concurrent ? new ReentrantLock() : null;
+		this.parentModificationCount = parent == null ? 0 : parent.modificationCount;
+		this.derivedViews = new ConcurrentHashMap<>();
+		this.changeListeners = new ArrayList<>();
+		this.memberIndex = new GraphNodeClassMemberIndex(this);
+		this.changeListeners.add(this.memberIndex);
+		this.nameIndex = new GraphNodeCodeNameIndex(this);
+		this.changeListeners.add(this.nameIndex);
 		this.refactoringName = refactoringName;
 	}
 
+	/**
+	 * Creates a new, empty Refactoring Advice Graph to which several threads may add nodes and edges at once,
+	 * such as parallel parsers and resolvers that populate one graph.<br />
+	 * The nodes and edges are kept in concurrent collections, so the graph may be read without locking
+	 * while it is modified, and views of it are weakly consistent. Modifications and change notifications
+	 * are made one at a time under a lock, so that the indices of the graph stay consistent, and
+	 * {@link #computeEdge(GraphNode, GraphNode, GraphEdgeFactoryFunction, Class)} finds or creates an edge atomically.
+	 * The nodes of a type are in no particular order. Forks and clones of a concurrent graph are not concurrent.
+	 * 
+	 * @param refactoringName The name of the refactoring.
+	 * @return The concurrent graph.
+	 * @throws ArgumentNullException  Thrown if refactoringName is null.
+	 * @throws ArgumentEmptyException Thrown if refactoringName is empty or contains
+	 *                                only white spaces.
+	 */
+	public static Graph concurrent(String refactoringName) throws ArgumentNullException, ArgumentEmptyException {
+		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(refactoringName, "refactoringName");
+		return new Graph(refactoringName, null, true);
+	}
+
+	/**
+	 * Determines whether several threads may add nodes and edges to the graph at once.
+	 * 
+	 * @return True if the graph was created by {@link #concurrent(String)}, otherwise false.
+	 */
+	public boolean isConcurrent() {
+		return this.lock != null;
+	}
+
 	/**
 	 * Gets the unique identifier of the Refactoring Advice Graph.
 	 * 
@@ -71,7 +130,7 @@ public final class Graph implements Cloneable {
 	 */
 	public GraphNode getNode(UUID nodeIdentifier) throws ArgumentNullException {
 		ArgumentGuard.requireNotNull(nodeIdentifier, "identifier");
-		return this.matrix.keySet().stream().filter(node -> node.getId() == nodeIdentifier).findFirst().orElse(null);
+		return this.store.getNode(nodeIdentifier);
 	}
 
 	/**
@@ -87,45 +146,7 @@ public final class Graph implements Cloneable {
 	 */
 	public <TNode extends GraphNodeCode> Optional<TNode> getNode(String path, Class<TNode> classType)
 			throws ArgumentNullException, ArgumentEmptyException {
-		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(path, "path");
-		ArgumentGuard.requireNotNull(classType, "classType");
-		final var pathComponents = new ArrayDeque<String>(List.of(path.split("\\.")));
-		String pathComponentName = pathComponents.pop();
-		GraphNodeCode nodeCurrent =
-				this.matrix.keySet()
-						.stream()
-						.filter(
-								node -> node instanceof GraphNodePackage
-										&& ((GraphNodePackage) node).getPackageName().equals(pathComponentName))
-						.map(node -> (GraphNodeCode) node)
-						.findAny()
-						.orElse(null);
-		while (!pathComponents.isEmpty() && nodeCurrent != null) {
-			final var pathComponent = pathComponents.pop();
-			nodeCurrent =
-					(GraphNodeCode) nodeCurrent.getEdges(GraphEdgeHas.class)
-							.stream()
-							.map(edge -> edge.getDestinationNode())
-							.filter(node -> switch (node) {
-								case GraphNodePackage packageNode -> packageNode.getPackageName().equals(pathComponent);
-								case GraphNodeClass classNode -> classNode.getClassName().equals(pathComponent);
-								case GraphNodeInterface interfaceNode ->
-									interfaceNode.getInterfaceName().equals(pathComponent);
-								default -> false;
-							})
-							.findAny()
-							.orElse(null);
-			if (pathComponents.isEmpty() && nodeCurrent != null) {
-				if (classType.isInstance(nodeCurrent)) {
-					return Optional.of(classType.cast(nodeCurrent));
-				}
-				return Optional.empty();
-			}
-		}
-		if (nodeCurrent != null && classType.isInstance(nodeCurrent)) {
-			return Optional.of(classType.cast(nodeCurrent));
-		}
-		return Optional.empty();
+		return this.nameIndex.getNode(path, classType);
 	}
 
 	/**
@@ -136,13 +157,14 @@ public final class Graph implements Cloneable {
 	 * @return The nodes in the Refactoring Advice Graph.
 	 */
 	public Set<GraphNode> getNodes() {
-		return Collections.unmodifiableSet(this.matrix.keySet());
+		return this.store.getNodes();
 	}
 
 	/**
 	 * Gets the nodes in this graph that are assignable to a particular type.<br />
-	 * <strong>Note:</strong> The returned {@link Set Set&lt;TNode&gt;} is not
-	 * modifiable.
+	 * <strong>Note:</strong> The returned {@link Set Set&lt;TNode&gt;} is a live
+	 * view that is not modifiable; it reflects nodes that are added to or removed
+	 * from the graph later on.
 	 * 
 	 * @param <TNode>  The type of node to retrieve.
 	 * @param nodeType The type of node to retrieve.
@@ -152,14 +174,14 @@ public final class Graph implements Cloneable {
 	 */
 	public <TNode extends GraphNode> Set<TNode> getNodes(Class<TNode> nodeType) throws ArgumentNullException {
 		ArgumentGuard.requireNotNull(nodeType, "nodeType");
-		return Collections.unmodifiableSet(
-				this.getNodes().stream().filter(nodeType::isInstance).map(nodeType::cast).collect(Collectors.toSet()));
+		return this.store.getNodes(nodeType);
 	}
 
 	/**
 	 * Gets the nodes in this graph that are exactly of a particular type.<br />
-	 * <strong>Note:</strong> The returned {@link Set Set&lt;TNode&gt;} is not
-	 * modifiable.
+	 * <strong>Note:</strong> The returned {@link Set Set&lt;TNode&gt;} is a live
+	 * view that is not modifiable; it reflects nodes that are added to or removed
+	 * from the graph later on.
 	 * 
 	 * @param <TNode>  The type of node to retrieve.
 	 * @param nodeType The type of node to retrieve.
@@ -168,12 +190,7 @@ public final class Graph implements Cloneable {
 	 */
 	public <TNode extends GraphNode> Set<TNode> getNodesExact(Class<TNode> nodeType) {
 		ArgumentGuard.requireNotNull(nodeType, "nodeType");
-		return Collections.unmodifiableSet(
-				this.getNodes()
-						.stream()
-						.filter(node -> node.getClass() == nodeType)
-						.map(nodeType::cast)
-						.collect(Collectors.toSet()));
+		return this.store.getNodesExact(nodeType);
 	}
 
 	/**
@@ -185,7 +202,17 @@ public final class Graph implements Cloneable {
 	 */
 	public void addNode(GraphNode node) {
 		ArgumentGuard.requireNotNull(node, "node");
-		this.matrix.putIfAbsent(node, new HashMap<>());
+		this.lock();
+		try {
+			if (this.store.addNode(node)) {
+				this.modificationCount++;
+				for (final var changeListener : this.changeListeners) {
+					changeListener.nodeAdded(node);
+				}
+			}
+		} finally {
+			this.unlock();
+		}
 	}
 
 	/**
@@ -198,7 +225,7 @@ public final class Graph implements Cloneable {
 		if (node == null) {
 			return false;
 		}
-		return this.matrix.containsKey(node);
+		return this.store.containsNode(node);
 	}
 
 	/**
@@ -210,12 +237,29 @@ public final class Graph implements Cloneable {
 	 * @throws ArgumentNullException Thrown if nodeType is null.
 	 */
 	public <TNode extends GraphNode> void removeNodes(Class<TNode> nodeType) throws ArgumentNullException {
-		final var nodes = this.getNodesExact(nodeType);
-		for (var node : nodes) {
-			this.matrix.forEach((_, column) -> {
-				column.remove(node);
-			});
-			this.matrix.remove(node);
+		this.lock();
+		try {
+			final var nodes = List.copyOf(this.getNodesExact(nodeType));
+			for (var node : nodes) {
+				this.removeNode(node);
+			}
+		} finally {
+			this.unlock();
+		}
+	}
+
+	private void removeNode(GraphNode node) {
+		final var edges = new ArrayList<GraphEdge>();
+		if (!this.changeListeners.isEmpty()) {
+			this.store.getOutgoing(node).values().forEach(edges::addAll);
+			this.store.getIncoming(node).values().forEach(edges::addAll);
+		}
+		if (this.store.removeNode(node)) {
+			this.modificationCount++;
+			for (final var changeListener : this.changeListeners) {
+				edges.forEach(changeListener::edgeRemoved);
+				changeListener.nodeRemoved(node);
+			}
 		}
 	}
 
@@ -230,12 +274,7 @@ public final class Graph implements Cloneable {
 	 */
 	public Optional<GraphEdge> getEdge(UUID edgeIdentifier) throws ArgumentNullException {
 		ArgumentGuard.requireNotNull(edgeIdentifier, "edgeIdentifier");
-		return this.matrix.values()
-				.stream()
-				.flatMap(column -> column.values().stream())
-				.flatMap(edges -> edges.stream())
-				.filter(edge -> edge.getId().equals(edgeIdentifier))
-				.findFirst();
+		return Optional.ofNullable(this.store.getEdge(edgeIdentifier));
 	}
 
 	/**
@@ -246,14 +285,37 @@ public final class Graph implements Cloneable {
 	 * @return The edges in the Refactoring Advice Graph.
 	 */
 	public Set<GraphEdge> getEdges() {
-		return Collections.unmodifiableSet(
-				this.matrix.values()
-						.stream()
-						.flatMap(row -> row.values().stream())
-						.reduce(new HashSet<>(), (aggregate, next) -> {
-							aggregate.addAll(next);
-							return aggregate;
-						}));
+		return Collections.unmodifiableSet(new HashSet<>(this.store.getEdges()));
+	}
+
+	/**
+	 * Gets the edges in the Refactoring Advice Graph that are assignable to a
+	 * particular type.<br />
+	 * <strong>Note:</strong> The returned {@link Set Set&lt;TEdge&gt;} is not
+	 * modifiable.
+	 * 
+	 * @param <TEdge>  The type of edge to retrieve.
+	 * @param edgeType The type of edge to retrieve.
+	 * @return A read-only set of edges that are assignable to the requested type in
+	 *         this graph.
+	 * @throws ArgumentNullException Thrown if edgeType is null.
+	 */
+	public <TEdge extends GraphEdge> Set<TEdge> getEdges(Class<TEdge> edgeType) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(edgeType, "edgeType");
+		return Collections.unmodifiableSet(this.store.getEdges(edgeType));
+	}
+
+	/**
+	 * Determines whether the graph contains an edge.
+	 * 
+	 * @param edge The edge to check whether the graph contains it.
+	 * @return True if this very edge is in the graph, false if not.
+	 */
+	public boolean containsEdge(GraphEdge edge) {
+		if (edge == null) {
+			return false;
+		}
+		return this.store.containsEdge(edge);
 	}
 
 	/**
@@ -268,12 +330,22 @@ public final class Graph implements Cloneable {
 		if (sourceNode == null) {
 			return Collections.unmodifiableSet(Set.of());
 		}
-		return Collections.unmodifiableSet(
-				this.matrix.getOrDefault(sourceNode, new HashMap<>())
-						.values()
-						.stream()
-						.flatMap(columns -> columns.stream())
-						.collect(Collectors.toSet()));
+		final var edges = new HashSet<GraphEdge>();
+		for (final var column : this.store.getOutgoing(sourceNode).values()) {
+			edges.addAll(column);
+		}
+		return Collections.unmodifiableSet(edges);
+	}
+
+	/**
+	 * Iterates the edges of which its source is the specified node, without copying them.<br />
+	 * <strong>Note:</strong> The graph must not be modified while iterating.
+	 * 
+	 * @param sourceNode The source node.
+	 * @return An iterator over the edges of which its source is the specified node.
+	 */
+	Iterator<GraphEdge> iterateEdgesFrom(GraphNode sourceNode) {
+		return this.store.getOutgoing(sourceNode).values().stream().flatMap(Set::stream).iterator();
 	}
 
 	/**
@@ -292,12 +364,7 @@ public final class Graph implements Cloneable {
 		if (sourceNode == null) {
 			return Collections.unmodifiableSet(Set.of());
 		}
-		return Collections.unmodifiableSet(
-				this.matrix.getOrDefault(sourceNode, new HashMap<>())
-						.values()
-						.stream()
-						.flatMap(columns -> columns.stream().filter(edgeType::isInstance).map(edgeType::cast))
-						.collect(Collectors.toSet()));
+		return Collections.unmodifiableSet(filterEdges(this.store.getOutgoing(sourceNode), edgeType));
 	}
 
 	/**
@@ -315,8 +382,7 @@ public final class Graph implements Cloneable {
 		if (sourceNode == null || destinationNode == null) {
 			return Collections.unmodifiableSet(Set.of());
 		}
-		return Collections.unmodifiableSet(
-				this.matrix.getOrDefault(sourceNode, new HashMap<>()).getOrDefault(destinationNode, new HashSet<>()));
+		return this.store.getEdgesWith(sourceNode, destinationNode);
 	}
 
 	/**
@@ -331,11 +397,11 @@ public final class Graph implements Cloneable {
 		if (destinationNode == null) {
 			return Collections.unmodifiableSet(Set.of());
 		}
-		return Collections.unmodifiableSet(
-				this.matrix.values()
-						.stream()
-						.flatMap(columns -> columns.getOrDefault(destinationNode, new HashSet<>()).stream())
-						.collect(Collectors.toSet()));
+		final var edges = new HashSet<GraphEdge>();
+		for (final var row : this.store.getIncoming(destinationNode).values()) {
+			edges.addAll(row);
+		}
+		return Collections.unmodifiableSet(edges);
 	}
 
 	/**
@@ -354,15 +420,7 @@ public final class Graph implements Cloneable {
 		if (destinationNode == null) {
 			return Collections.unmodifiableSet(Set.of());
 		}
-		return Collections.unmodifiableSet(
-				this.matrix.values()
-						.stream()
-						.flatMap(
-								columns -> columns.getOrDefault(destinationNode, new HashSet<>())
-										.stream()
-										.filter(edgeType::isInstance)
-										.map(edgeType::cast))
-						.collect(Collectors.toSet()));
+		return Collections.unmodifiableSet(filterEdges(this.store.getIncoming(destinationNode), edgeType));
 	}
 
 	/**
@@ -377,22 +435,34 @@ public final class Graph implements Cloneable {
 		ArgumentGuard.requireNotNull(edge, "edge");
 		final var sourceNode = edge.getSourceNode();
 		final var destinationNode = edge.getDestinationNode();
+		final var graph = this.getGraphOfEdge(sourceNode, destinationNode);
+		if (graph != this) {
+			return graph.addEdge(edge);
+		}
 		LOGGER.debug(
 				"Adding edge {} from {} to {} to graph {}",
 				edge.getId(),
 				sourceNode.getId(),
 				destinationNode.getId(),
 				this.getId());
-		matrix.computeIfAbsent(edge.getSourceNode(), _ -> new HashMap<>())
-				.computeIfAbsent(edge.getDestinationNode(), _ -> new HashSet<>())
-				.add(edge);
+		this.lock();
+		try {
+			final var sourceNodeAdded = !this.store.containsNode(sourceNode);
+			if (this.store.addEdge(edge)) {
+				this.edgeAdded(edge, sourceNodeAdded);
+			}
+		} finally {
+			this.unlock();
+		}
 		LOGGER.debug("Edge {} now in graph {}: {}", edge.getId(), this.getId(), this.getEdgesFrom(sourceNode).size());
 		return edge;
 	}
 
 	/**
 	 * Adds an edge to the graph, if it does not already exist. If it already
-	 * exists, it returns the existing instance.
+	 * exists, it returns the existing instance. On a concurrent graph, the edge is
+	 * found or created atomically, so that threads that compute the same edge at once
+	 * all get the same instance.
 	 * 
 	 * @param <TEdge>            The type of edge.
 	 * @param <TNodeSource>      The type of source node.
@@ -416,23 +486,170 @@ public final class Graph implements Cloneable {
 		ArgumentGuard.requireNotNull(destinationNode, "destinationNode");
 		ArgumentGuard.requireNotNull(edgeFactory, "edgeFactory");
 		ArgumentGuard.requireNotNull(edgeClass, "edgeClass");
+		final var graph = this.getGraphOfEdge(sourceNode, destinationNode);
+		if (graph != this) {
+			return graph.computeEdge(sourceNode, destinationNode, edgeFactory, edgeClass);
+		}
 
-		final var edges =
-				this.matrix.computeIfAbsent(sourceNode, _ -> new HashMap<>())
-						.computeIfAbsent(destinationNode, _ -> new HashSet<>());
-		var edge =
-				edges.stream()
-						.filter(knownEdge -> knownEdge.getClass().equals(edgeClass))
-						.map(edgeClass::cast)
-						.findAny()
-						.orElse(null);
-		if (edge == null) {
-			edge = edgeFactory.create(sourceNode, destinationNode);
-			edges.add(edge);
+		var edge = this.store.findEdge(sourceNode, destinationNode, edgeClass);
+		if (edge != null) {
+			return edge;
+		}
+		this.lock();
+		try {
+			// Look again under the lock, as another thread may have added the edge in the meantime.
+			edge = this.lock == null ? null : this.store.findEdge(sourceNode, destinationNode, edgeClass);
+			if (edge == null) {
+				edge = edgeFactory.create(sourceNode, destinationNode);
+				final var sourceNodeAdded = !this.store.containsNode(sourceNode);
+				if (this.store.addEdge(edge)) {
+					this.edgeAdded(edge, sourceNodeAdded);
+				}
+			}
+		} finally {
+			this.unlock();
 		}
 		return edge;
 	}
 
+	/**
+	 * Finds a node or, if it does not exist, creates it. On a concurrent graph, the node is
+	 * found or created atomically under the graph lock, so that threads that compute the same node
+	 * at once all get the same, fully constructed instance.
+	 * 
+	 * @param <TNode>     The type of node.
+	 * @param nodeFinder  Finds the node, if it already exists.
+	 * @param nodeFactory Creates the node in this graph, if it does not already exist.
+	 * @return If the node is new, the newly created node. If the node already
+	 *         exists, the existing node.
+	 * @throws ArgumentNullException Thrown if nodeFinder or nodeFactory is null.
+	 */
+	public <TNode extends GraphNode> TNode computeNode(
+			Supplier<Optional<TNode>> nodeFinder,
+			Supplier<TNode> nodeFactory) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(nodeFinder, "nodeFinder");
+		ArgumentGuard.requireNotNull(nodeFactory, "nodeFactory");
+
+		// Unlike an edge, a node adds itself to the graph while it is still being constructed,
+		// so on a concurrent graph it is looked for under the lock as well.
+		this.lock();
+		try {
+			return nodeFinder.get().orElseGet(nodeFactory);
+		} finally {
+			this.unlock();
+		}
+	}
+
+	/**
+	 * Adds a listener that is notified of every node and edge that is added to or
+	 * removed from the graph.
+	 * 
+	 * @param changeListener The listener to add.
+	 * @throws ArgumentNullException Thrown if changeListener is null.
+	 */
+	public void addChangeListener(GraphChangeListener changeListener) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(changeListener, "changeListener");
+		this.lock();
+		try {
+			this.changeListeners.add(changeListener);
+		} finally {
+			this.unlock();
+		}
+	}
+
+	/**
+	 * Removes a listener that was added by
+	 * {@link #addChangeListener(GraphChangeListener)}.
+	 * 
+	 * @param changeListener The listener to remove.
+	 * @return True if the listener was removed, false if it was not present.
+	 */
+	public boolean removeChangeListener(GraphChangeListener changeListener) {
+		this.lock();
+		try {
+			return this.changeListeners.remove(changeListener);
+		} finally {
+			this.unlock();
+		}
+	}
+
+	/**
+	 * Gets the modification count of the graph, which increases monotonically
+	 * whenever a node or an edge is added to or removed from the graph.
+	 * 
+	 * @return The modification count of the graph.
+	 */
+	public long getModificationCount() {
+		return this.modificationCount;
+	}
+
+	/**
+	 * Gets the value of a view that is derived from the graph.<br />
+	 * The value is computed on first use and cached until the graph is modified,
+	 * so that repeated queries on an unchanged graph are served from memory.
+	 * Views may be requested from several threads while the graph is not modified.
+	 * 
+	 * @param <TValue> The type of the value of the view.
+	 * @param view     The view.
+	 * @return The value of the view for the current state of the graph.
+	 * @throws ArgumentNullException Thrown if view is null.
+	 */
+	@SuppressWarnings("unchecked")
+	public <TValue> TValue getDerivedView(GraphDerivedView<TValue> view) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(view, "view");
+		final var entry = this.derivedViews.get(view);
+		if (entry != null && entry.modificationCount() == this.modificationCount) {
+			return (TValue) entry.value();
+		}
+		final var modificationCount = this.modificationCount;
+		final var value = view.compute(this);
+		this.derivedViews.put(view, new GraphDerivedViewEntry(modificationCount, value));
+		return value;
+	}
+
+	/**
+	 * Gets the index of the chains of workflow actions in the graph.<br />
+	 * The index is built on first use and rebuilt only after the graph has been modified.
+	 * 
+	 * @return The index of the chains of workflow actions in the graph.
+	 */
+	public GraphWorkflowPrecedenceIndex getPrecedenceIndex() {
+		return this.getDerivedView(PRECEDENCE_INDEX);
+	}
+
+	/**
+	 * Freezes the graph into an immutable snapshot in compressed sparse row form, for read-only analysis
+	 * that may run on several threads at once.<br />
+	 * The snapshot is taken on first use and taken again only after the graph has been modified,
+	 * so repeated calls on an unchanged graph return the same snapshot.
+	 * 
+	 * @return A snapshot of the current state of the graph.
+	 */
+	public GraphSnapshot freeze() {
+		return this.getDerivedView(SNAPSHOT);
+	}
+
+	/**
+	 * Gets the index of the members of every Class in the graph, by name.<br />
+	 * The index is kept up to date as members are added to and removed from Classes.
+	 * 
+	 * @return The index of the members of every Class in the graph.
+	 */
+	public GraphNodeClassMemberIndex getMemberIndex() {
+		return this.memberIndex;
+	}
+
+	/**
+	 * Gets the index of the code nodes in the graph by name: types by type name, and packages, classes
+	 * and interfaces by fully qualified name.<br />
+	 * The index is kept up to date as nodes are added to and removed from the graph.
+	 * 
+	 * @return The index of the code nodes in the graph by name.
+	 */
+	public GraphNodeCodeNameIndex getNameIndex() {
+		return this.nameIndex;
+	}
+
 	/**
 	 * Starts a new refactoring.
 	 * 
@@ -453,11 +670,7 @@ public final class Graph implements Cloneable {
 	 *         empty {@link Optional<GraphNodeRefactoringStart>}.
 	 */
 	public Optional<GraphNodeRefactoringStart> getStart() {
-		return this.matrix.keySet()
-				.stream()
-				.filter(GraphNodeRefactoringStart.class::isInstance)
-				.map(GraphNodeRefactoringStart.class::cast)
-				.findFirst();
+		return this.getNodes(GraphNodeRefactoringStart.class).stream().findFirst();
 	}
 
 	/**
@@ -469,6 +682,121 @@ public final class Graph implements Cloneable {
 		return this.refactoringName;
 	}
 
+	/**
+	 * Creates a lightweight, copy-on-write fork of this {@link Graph}, for example to evaluate a candidate
+	 * refactoring without deep cloning a large code graph.<br />
+	 * The fork shares the nodes and edges of this graph and records only the nodes and edges that are
+	 * added to or removed from the fork. Its changes are applied to this graph by {@link #commit()},
+	 * or dropped by {@link #discard()}. This graph must not be modified while the fork is in use.<br />
+	 * <strong>Note:</strong> The nodes of this graph keep belonging to this graph. An edge that connects
+	 * such a node to a node that was created in the fork, for example by {@code precedes}, is recorded
+	 * in the fork. An edge between two nodes of this graph must be added through the fork itself,
+	 * for example by {@link #addEdge(GraphEdge)}, or it modifies this graph and the fork can no longer
+	 * be committed. Nodes that were created in the fork belong to this graph once the fork is committed.
+	 * 
+	 * @param refactoringName The name of the fork.
+	 * @return The fork.
+	 * @throws ArgumentNullException  Thrown if refactoringName is null.
+	 * @throws ArgumentEmptyException Thrown if refactoringName is empty or contains
+	 *                                only white spaces.
+	 */
+	public Graph fork(String refactoringName) throws ArgumentNullException, ArgumentEmptyException {
+		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(refactoringName, "refactoringName");
+		return new Graph(refactoringName, this, false);
+	}
+
+	/**
+	 * Gets the graph of which this graph is a fork.
+	 * 
+	 * @return The parent graph, if this graph was created by {@link #fork(String)}, otherwise empty.
+	 */
+	public Optional<Graph> getParent() {
+		return Optional.ofNullable(this.parent);
+	}
+
+	/**
+	 * Applies the changes made to this fork to its parent graph. Afterwards, the fork has no changes
+	 * of its own and may be used and committed again.
+	 * 
+	 * @throws IllegalStateException              Thrown if this graph is not a fork.
+	 * @throws GraphForkParentModifiedException Thrown if the parent graph was modified
+	 *                                            since the fork was created or last committed.
+	 */
+	public void commit() throws IllegalStateException, GraphForkParentModifiedException {
+		final var storeFork = this.getStoreFork();
+		this.parent.lock();
+		try {
+			if (this.parent.modificationCount != this.parentModificationCount) {
+				throw new GraphForkParentModifiedException(this);
+			}
+			final var nodesRemoved = List.copyOf(storeFork.getNodesRemoved());
+			final var nodesAdded = List.copyOf(storeFork.getNodesAdded());
+			final var edgesAdded = List.copyOf(storeFork.getEdgesAdded());
+			LOGGER.info(
+					"Committing {} removed nodes, {} added nodes and {} added edges from fork {} to graph {}",
+					nodesRemoved.size(),
+					nodesAdded.size(),
+					edgesAdded.size(),
+					this.refactoringName,
+					this.parent.refactoringName);
+			for (final var node : nodesRemoved) {
+				this.parent.removeNode(node);
+			}
+			for (final var node : nodesAdded) {
+				this.parent.addNode(node);
+				if (node instanceof GraphNodeBase nodeBase && nodeBase.getGraph() == this) {
+					nodeBase.moveToParentGraph();
+				}
+			}
+			for (final var edge : edgesAdded) {
+				this.parent.addEdge(edge);
+			}
+			// The changes are dropped from the fork only once they have all been applied, so that they are not lost
+			// if applying one of them fails.
+			storeFork.reset();
+			this.parentModificationCount = this.parent.modificationCount;
+		} finally {
+			this.parent.unlock();
+		}
+	}
+
+	/**
+	 * Drops the changes made to this fork, so that it matches its parent graph again.
+	 * Afterwards, the fork may be used and committed again, even if its parent graph was modified.
+	 * 
+	 * @throws IllegalStateException Thrown if this graph is not a fork.
+	 */
+	public void discard() throws IllegalStateException {
+		final var storeFork = this.getStoreFork();
+		final var nodesRemoved = new LinkedHashSet<>(storeFork.getNodesRemoved());
+		final var nodesAdded = List.copyOf(storeFork.getNodesAdded());
+		final var edgesAdded = List.copyOf(storeFork.getEdgesAdded());
+		storeFork.reset();
+		this.parentModificationCount = this.parent.modificationCount;
+		this.modificationCount++;
+		for (final var changeListener : this.changeListeners) {
+			edgesAdded.forEach(changeListener::edgeRemoved);
+			nodesAdded.forEach(changeListener::nodeRemoved);
+			nodesRemoved.forEach(changeListener::nodeAdded);
+			// An edge between two restored nodes is reported once, as an outgoing edge of its source node.
+			for (final var node : nodesRemoved) {
+				this.store.getOutgoing(node).values().forEach(edges -> edges.forEach(changeListener::edgeAdded));
+				for (final var entry : this.store.getIncoming(node).entrySet()) {
+					if (!nodesRemoved.contains(entry.getKey())) {
+						entry.getValue().forEach(changeListener::edgeAdded);
+					}
+				}
+			}
+		}
+	}
+
+	private GraphStoreFork getStoreFork() throws IllegalStateException {
+		if (!(this.store instanceof GraphStoreFork storeFork)) {
+			throw new IllegalStateException("Graph " + this.refactoringName + " is not a fork");
+		}
+		return storeFork;
+	}
+
 	@Override
 	protected Object clone() {
 		return this.clone(this.getRefactoringName());
@@ -485,16 +813,40 @@ public final class Graph implements Cloneable {
 	 */
 	public Graph clone(String refactoringName) throws ArgumentNullException, ArgumentEmptyException {
 		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(refactoringName, "refactoringName");
+		return this.clone(refactoringName, null);
+	}
+
+	/**
+	 * Creates a clone of this {@link Graph}, including its nodes and edges, constructing the cloned edges
+	 * concurrently on an {@link Executor}. The nodes are cloned and the edges are added on the calling thread,
+	 * in the same order as by {@link #clone(String)}.
+	 * 
+	 * @param refactoringName The new name of the cloned {@link Graph}.
+	 * @param executor        The executor on which the cloned edges are constructed.
+	 *                        The graph does not shut it down.
+	 * @return The cloned {@link Graph}, which bears the new name.
+	 * @throws ArgumentNullException  Thrown if refactoringName or executor is null.
+	 * @throws ArgumentEmptyException Thrown if refactoringName is empty or contains
+	 *                                only white spaces.
+	 */
+	public Graph cloneConcurrently(String refactoringName, Executor executor)
+			throws ArgumentNullException, ArgumentEmptyException {
+		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(refactoringName, "refactoringName");
+		ArgumentGuard.requireNotNull(executor, "executor");
+		return this.clone(refactoringName, executor);
+	}
+
+	private Graph clone(String refactoringName, Executor executor) {
 		LOGGER.info("Cloning from graph {} to graph {}", this.refactoringName, refactoringName);
 
 		final var graphCloned = new Graph(refactoringName);
-		final var nodesCloned = new HashMap<GraphNode, GraphNode>();
 
-		// Clone all nodes.
-		final var nodes = this.matrix.keySet();
+		// Clone all nodes. Nodes are remapped by identity, as the hash code of some nodes changes once constructed.
+		final var nodes = List.copyOf(this.store.getNodes());
+		final var nodesCloned = new IdentityHashMap<GraphNode, GraphNode>(nodes.size());
 		for (final var node : nodes) {
-			if (node instanceof GraphNodeBase) {
-				final var nodeCloned = ((GraphNodeBase) node).clone(graphCloned);
+			if (node instanceof GraphNodeBase nodeBase) {
+				final var nodeCloned = nodeBase.clone(graphCloned);
 				if (nodeCloned.getGraph() != graphCloned) {
 					throw new IllegalStateException("Cloned node not in cloned graph");
 				}
@@ -502,42 +854,120 @@ public final class Graph implements Cloneable {
 			}
 		}
 
-		// Clone all edges.
-		final var edges =
-				this.matrix.values()
-						.stream()
-						.flatMap((entry) -> entry.values().stream())
-						.flatMap((edgeSet) -> edgeSet.stream())
-						.collect(Collectors.toSet());
-
-		for (final var edge : edges) {
-			final var sourceNodeFromEdge = edge.getSourceNode();
-			final var sourceNodeCloned = nodesCloned.get(sourceNodeFromEdge);
+		// Pair every edge with the clones of its nodes, except the edges that the cloned nodes already created.
+		final var edges = new ArrayList<GraphEdge>(this.store.getEdgeCount());
+		final var sourceNodesCloned = new ArrayList<GraphNode>(this.store.getEdgeCount());
+		final var destinationNodesCloned = new ArrayList<GraphNode>(this.store.getEdgeCount());
+		for (final var edge : this.store.getEdges()) {
+			final var sourceNodeCloned = nodesCloned.get(edge.getSourceNode());
 			if (sourceNodeCloned == null) {
-				LOGGER.warn("Edge source node {} not cloned", sourceNodeFromEdge.getId());
+				LOGGER.warn("Edge source node {} not cloned", edge.getSourceNode().getId());
 				continue;
 			}
-
-			final var destinationNodeFromEdge = edge.getDestinationNode();
-			final var destinationNodeCloned = nodesCloned.get(destinationNodeFromEdge);
+			final var destinationNodeCloned = nodesCloned.get(edge.getDestinationNode());
 			if (destinationNodeCloned == null) {
-				LOGGER.info("Edge destination node {} not cloned yet", destinationNodeFromEdge.getId());
+				LOGGER.info("Edge destination node {} not cloned yet", edge.getDestinationNode().getId());
+				continue;
+			}
+			if (graphCloned.store.findEdge(sourceNodeCloned, destinationNodeCloned, edge.getClass()) != null) {
 				continue;
 			}
+			edges.add(edge);
+			sourceNodesCloned.add(sourceNodeCloned);
+			destinationNodesCloned.add(destinationNodeCloned);
+		}
 
-			LOGGER.debug(
-					"Cloning edge with source node {} ({}) and destination node {} ({})",
-					sourceNodeFromEdge.getId(),
-					sourceNodeFromEdge.getClass().getName(),
-					destinationNodeFromEdge.getId(),
-					destinationNodeFromEdge.getClass().getName());
-			final var edgeCloned = edge.clone(sourceNodeCloned, destinationNodeCloned);
+		// Clone all edges. Edge constructors do not touch any graph, so they may run concurrently.
+		final var edgesCloned = new GraphEdge[edges.size()];
+		if (executor == null) {
+			cloneEdges(edges, sourceNodesCloned, destinationNodesCloned, edgesCloned, 0, edgesCloned.length);
+		} else {
+			final var chunkCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), edgesCloned.length / CLONE_CHUNK_SIZE));
+			final var futures = new ArrayList<CompletableFuture<Void>>(chunkCount);
+			for (var chunk = 0; chunk < chunkCount; chunk++) {
+				final var from = (int) ((long) edgesCloned.length * chunk / chunkCount);
+				final var to = (int) ((long) edgesCloned.length * (chunk + 1) / chunkCount);
+				futures.add(
+						CompletableFuture.runAsync(
+							() -> cloneEdges(edges, sourceNodesCloned, destinationNodesCloned, edgesCloned, from, to),
+							executor));
+			}
+			for (final var future : futures) {
+				Futures.join(future);
+			}
+		}
+		for (final var edgeCloned : edgesCloned) {
 			graphCloned.addEdge(edgeCloned);
 		}
 
 		return graphCloned;
 	}
 
+	private static void cloneEdges(
+			List<GraphEdge> edges,
+			List<GraphNode> sourceNodesCloned,
+			List<GraphNode> destinationNodesCloned,
+			GraphEdge[] edgesCloned,
+			int from,
+			int to) {
+		for (var i = from; i < to; i++) {
+			edgesCloned[i] = edges.get(i).clone(sourceNodesCloned.get(i), destinationNodesCloned.get(i));
+		}
+	}
+
+	/**
+	 * Gets the graph that records an edge between two nodes: a fork of this graph if either node was
+	 * created in that fork, otherwise this graph. This way, methods of the nodes inherited by a fork that
+	 * connect them to nodes of the fork, such as {@code precedes}, modify the fork rather than this graph.
+	 */
+	private Graph getGraphOfEdge(GraphNode sourceNode, GraphNode destinationNode) {
+		final var sourceGraph = sourceNode.getGraph();
+		if (sourceGraph != this && sourceGraph != null && sourceGraph.parent == this) {
+			return sourceGraph;
+		}
+		final var destinationGraph = destinationNode.getGraph();
+		if (destinationGraph != this && destinationGraph != null && destinationGraph.parent == this) {
+			return destinationGraph;
+		}
+		return this;
+	}
+
+	private void lock() {
+		if (this.lock != null) {
+			this.lock.lock();
+		}
+	}
+
+	private void unlock() {
+		if (this.lock != null) {
+			this.lock.unlock();
+		}
+	}
+
+	private void edgeAdded(GraphEdge edge, boolean sourceNodeAdded) {
+		this.modificationCount++;
+		for (final var changeListener : this.changeListeners) {
+			if (sourceNodeAdded) {
+				changeListener.nodeAdded(edge.getSourceNode());
+			}
+			changeListener.edgeAdded(edge);
+		}
+	}
+
+	private static <TEdge extends GraphEdge> Set<TEdge> filterEdges(
+			Map<GraphNode, Set<GraphEdge>> edgesByNode,
+			Class<TEdge> edgeType) {
+		final var edges = new HashSet<TEdge>();
+		for (final var edgeSet : edgesByNode.values()) {
+			for (final var edge : edgeSet) {
+				if (edgeType.isInstance(edge)) {
+					edges.add(edgeType.cast(edge));
+				}
+			}
+		}
+		return edges;
+	}
+
 	/**
 	 * Determines whether Refactoring Advice Graphs are equal. <br />
 	 * This method overrides {@link Object#equals(Object)}.
@@ -568,4 +998,12 @@ public final class Graph implements Cloneable {
 		}
 		return this.id == other.id;
 	}
+
+	/**
+	 * The cached value of a derived view.
+	 * 
+	 * @param modificationCount The modification count of the graph when the value was computed.
+	 * @param value             The value of the view.
+	 */
+	private record GraphDerivedViewEntry(long modificationCount, Object value) { }
 }
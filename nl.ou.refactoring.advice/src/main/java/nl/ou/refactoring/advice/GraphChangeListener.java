@@ -0,0 +1,35 @@
+package nl.ou.refactoring.advice;
+
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * Receives the changes that are made to a Refactoring Advice Graph {@link Graph}.<br />
+ * A listener is notified after each change, on the thread that made it.
+ * When a node is removed, the removal of each of its edges is reported before the removal of the node.
+ */
+public interface GraphChangeListener {
+	/**
+	 * Called after a node has been added to the graph.
+	 * @param node The node that was added.
+	 */
+	default void nodeAdded(GraphNode node) { }
+
+	/**
+	 * Called after a node has been removed from the graph.
+	 * @param node The node that was removed.
+	 */
+	default void nodeRemoved(GraphNode node) { }
+
+	/**
+	 * Called after an edge has been added to the graph.
+	 * @param edge The edge that was added.
+	 */
+	default void edgeAdded(GraphEdge edge) { }
+
+	/**
+	 * Called after an edge has been removed from the graph.
+	 * @param edge The edge that was removed.
+	 */
+	default void edgeRemoved(GraphEdge edge) { }
+}
@@ -0,0 +1,39 @@
+package nl.ou.refactoring.advice;
+
+import java.util.function.Function;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+
+/**
+ * A view that is derived from a Refactoring Advice Graph, such as a set of nodes or an index.<br />
+ * A {@link Graph} caches the value of a view together with its modification count,
+ * and computes it again only after the graph has been modified.
+ * The view instance itself is the key of the cached value, so views should be declared as constants.
+ * The computation must not modify the graph and must not retain the graph beyond its value.
+ * The value is shared by all callers until the graph is modified, so it must not be modified either.
+ * @param <TValue> The type of the value of the view.
+ */
+public final class GraphDerivedView<TValue> {
+	private final Function<Graph, TValue> computation;
+
+	/**
+	 * Initialises a new instance of {@link GraphDerivedView}.
+	 * @param computation The function that computes the value of the view from a graph.
+	 * @throws ArgumentNullException Thrown if computation is null.
+	 */
+	public GraphDerivedView(Function<Graph, TValue> computation)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(computation, "computation");
+		this.computation = computation;
+	}
+
+	/**
+	 * Computes the value of the view.
+	 * @param graph The graph from which the value is derived.
+	 * @return The value of the view.
+	 */
+	TValue compute(Graph graph) {
+		return this.computation.apply(graph);
+	}
+}
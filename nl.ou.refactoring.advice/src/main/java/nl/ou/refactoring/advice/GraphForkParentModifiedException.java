@@ -0,0 +1,50 @@
+package nl.ou.refactoring.advice;
+
+import java.text.MessageFormat;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.resources.ResourceProvider;
+
+/**
+ * An exception that is thrown if a fork of a graph is committed after its parent graph was modified.
+ */
+public final class GraphForkParentModifiedException extends RuntimeException {
+	/**
+	 * Generated serial version UID.
+	 */
+	private static final long serialVersionUID = -3318204727301964275L;
+
+	/**
+	 * The fork that could not be committed.
+	 */
+	private final Graph fork;
+
+	/**
+	 * Initialises a new instance of {@link GraphForkParentModifiedException}.
+	 * @param fork The fork that could not be committed.
+	 * @throws ArgumentNullException Thrown if fork is null.
+	 */
+	public GraphForkParentModifiedException(Graph fork)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(fork, "fork");
+		this.fork = fork;
+	}
+
+	/**
+	 * Gets the fork that could not be committed.
+	 * @return The fork that could not be committed.
+	 */
+	public Graph getFork() {
+		return this.fork;
+	}
+
+	@Override
+	public String getLocalizedMessage() {
+		final var messageFormat =
+				ResourceProvider
+					.ExceptionMessages
+					.getMessageTemplate(this.getClass());
+		return MessageFormat.format(messageFormat, this.fork.getRefactoringName());
+	}
+}
@@ -28,6 +28,14 @@ public final class GraphPath implements Cloneable {
 		this.segments.add(new GraphPathSegment(null, startNode));
 	}
 	
+	/**
+	 * Initialises a new instance of {@link GraphPath} with segments that are known to be valid.
+	 * @param segments The segments of the path.
+	 */
+	GraphPath(List<GraphPathSegment> segments) {
+		this.segments = segments;
+	}
+	
 	/**
 	 * Appends a new segment to the path.
 	 * @param edge The edge of the segment.
@@ -41,7 +49,8 @@ public final class GraphPath implements Cloneable {
 		ArgumentGuard.requireNotNull(edge, "edge");
 		ArgumentGuard.requireNotNull(node, "node");
 		final var lastNode = this.segments.getLast().getNode();
-		if (!lastNode.getEdges().contains(edge) ||
+		if (!edge.getSourceNode().equals(lastNode) ||
+				!lastNode.getGraph().containsEdge(edge) ||
 				edge.getDestinationNode() != node) {
 			throw new GraphPathSegmentInvalidException(node, edge);
 		}
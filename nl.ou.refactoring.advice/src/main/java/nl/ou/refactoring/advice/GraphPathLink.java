@@ -0,0 +1,100 @@
+package nl.ou.refactoring.advice;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * An immutable path in a graph that is represented by its last segment and a pointer to the path that precedes it.
+ * Paths that extend the same prefix share that prefix, so extending a path does not copy it.
+ */
+public final class GraphPathLink {
+	private final GraphPathLink parent;
+	private final GraphEdge edge;
+	private final GraphNode node;
+	private final int length;
+
+	/**
+	 * Initialises a new instance of {@link GraphPathLink} that consists of a start node only.
+	 * @param startNode The start node of the path.
+	 * @throws ArgumentNullException Thrown if startNode is null.
+	 */
+	public GraphPathLink(GraphNode startNode)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(startNode, "startNode");
+		this.parent = null;
+		this.edge = null;
+		this.node = startNode;
+		this.length = 1;
+	}
+	
+	private GraphPathLink(GraphPathLink parent, GraphEdge edge, GraphNode node) {
+		this.parent = parent;
+		this.edge = edge;
+		this.node = node;
+		this.length = parent.length + 1;
+	}
+	
+	/**
+	 * Extends this path with a segment. This path itself is not modified.
+	 * @param edge The edge that leads from the last node of this path to node.
+	 * @param node The node of the segment.
+	 * @return The extended path.
+	 * @throws ArgumentNullException Thrown if edge or node is null.
+	 */
+	public GraphPathLink extend(GraphEdge edge, GraphNode node)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(edge, "edge");
+		ArgumentGuard.requireNotNull(node, "node");
+		return new GraphPathLink(this, edge, node);
+	}
+	
+	/**
+	 * Gets the path that precedes the last segment.
+	 * @return The path that precedes the last segment, or null if this path consists of a start node only.
+	 */
+	public GraphPathLink getParent() {
+		return this.parent;
+	}
+	
+	/**
+	 * Gets the edge that leads to the last node of the path.
+	 * @return The edge that leads to the last node of the path, or null if this path consists of a start node only.
+	 */
+	public GraphEdge getEdge() {
+		return this.edge;
+	}
+	
+	/**
+	 * Gets the last node of the path.
+	 * @return The last node of the path.
+	 */
+	public GraphNode getNode() {
+		return this.node;
+	}
+	
+	/**
+	 * Gets the number of segments (nodes) in the path.
+	 * @return The number of segments in the path.
+	 */
+	public int getLength() {
+		return this.length;
+	}
+	
+	/**
+	 * Converts this path into a {@link GraphPath}.
+	 * @return A new {@link GraphPath} with the same segments as this path.
+	 */
+	public GraphPath toGraphPath() {
+		final var segments = new ArrayList<GraphPathSegment>(this.length);
+		for (var link = this; link != null; link = link.parent) {
+			segments.add(new GraphPathSegment(link.edge, link.node));
+		}
+		Collections.reverse(segments);
+		return new GraphPath(segments);
+	}
+}
@@ -0,0 +1,219 @@
+package nl.ou.refactoring.advice;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.edges.workflow.GraphEdgeCauses;
+import nl.ou.refactoring.advice.edges.workflow.GraphEdgeInitiates;
+import nl.ou.refactoring.advice.edges.workflow.GraphEdgePrecedes;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * Enumerates the simple paths that lead out of a node by a depth-first search,
+ * or finds the shortest paths from a node by a breadth-first search.<br />
+ * Paths are reported to a {@link GraphPathVisitor} as {@link GraphPathLink} instances that share their prefixes,
+ * and cycles are detected with a bit set of the nodes on the current path, indexed by node identity per search.
+ * An instance may be reused for several searches, but it must not be shared between threads.
+ */
+public final class GraphPathSearch {
+	/**
+	 * An edge filter that accepts all edges.
+	 */
+	public static final Predicate<GraphEdge> ALL_EDGES = _ -> true;
+	
+	/**
+	 * An edge filter that accepts only the edges along which the workflow of a refactoring proceeds:
+	 * {@link GraphEdgeInitiates}, {@link GraphEdgePrecedes} and {@link GraphEdgeCauses}.
+	 */
+	public static final Predicate<GraphEdge> WORKFLOW_EDGES =
+			edge ->
+				edge instanceof GraphEdgeInitiates ||
+				edge instanceof GraphEdgePrecedes ||
+				edge instanceof GraphEdgeCauses;
+	
+	private final Map<GraphNode, Integer> nodeIndices;
+	private final BitSet nodesOnPath;
+	private final ArrayDeque<GraphPathSearchFrame> frames;
+	private final ArrayDeque<GraphPathLink> queue;
+
+	/**
+	 * Initialises a new instance of {@link GraphPathSearch}.
+	 */
+	public GraphPathSearch() {
+		this.nodeIndices = new IdentityHashMap<>();
+		this.nodesOnPath = new BitSet();
+		this.frames = new ArrayDeque<>();
+		this.queue = new ArrayDeque<>();
+	}
+	
+	/**
+	 * Finds the paths that lead out of the start node, limited by a maximum depth.
+	 * @param startNode The node from which the paths lead.
+	 * @param maximumDepth The maximum number of nodes in a path.
+	 * @param visitor The visitor that receives the paths that were found.
+	 * @throws ArgumentNullException Thrown if startNode or visitor is null.
+	 * @throws IllegalArgumentException Thrown if maximumDepth is not greater than or equal to 0.
+	 */
+	public void findPaths(GraphNode startNode, int maximumDepth, GraphPathVisitor visitor)
+			throws ArgumentNullException, IllegalArgumentException {
+		ArgumentGuard.requireNotNull(startNode, "startNode");
+		ArgumentGuard.requireGreaterThanOrEqual(0, maximumDepth, "maximumDepth");
+		ArgumentGuard.requireNotNull(visitor, "visitor");
+		this.search(startNode, maximumDepth, path -> path.getLength() > maximumDepth || visitor.visit(path));
+	}
+	
+	/**
+	 * Finds the paths that lead from the start node to the destination node, limited by a maximum depth.
+	 * @param startNode The node from which the paths lead.
+	 * @param destinationNode The node to which the paths lead.
+	 * @param maximumDepth The maximum number of nodes in a path.
+	 * @param visitor The visitor that receives the paths that were found.
+	 * @throws ArgumentNullException Thrown if startNode, destinationNode or visitor is null.
+	 * @throws IllegalArgumentException Thrown if maximumDepth is not greater than or equal to 0.
+	 */
+	public void findPaths(GraphNode startNode, GraphNode destinationNode, int maximumDepth, GraphPathVisitor visitor)
+			throws ArgumentNullException, IllegalArgumentException {
+		ArgumentGuard.requireNotNull(startNode, "startNode");
+		ArgumentGuard.requireNotNull(destinationNode, "destinationNode");
+		ArgumentGuard.requireGreaterThanOrEqual(0, maximumDepth, "maximumDepth");
+		ArgumentGuard.requireNotNull(visitor, "visitor");
+		this.search(startNode, maximumDepth, path -> !path.getNode().equals(destinationNode) || visitor.visit(path));
+	}
+	
+	/**
+	 * Finds a shortest path from the start node to the destination node by a breadth-first search.
+	 * @param startNode The node from which the path leads.
+	 * @param destinationNode The node to which the path leads.
+	 * @param edgeFilter The filter that determines which edges the path may follow,
+	 * for example {@link #ALL_EDGES} or {@link #WORKFLOW_EDGES}.
+	 * @return A path with the least number of nodes, or an empty {@link Optional} if there is no path.
+	 * @throws ArgumentNullException Thrown if startNode, destinationNode or edgeFilter is null.
+	 */
+	public Optional<GraphPathLink> findShortestPath(
+			GraphNode startNode,
+			GraphNode destinationNode,
+			Predicate<? super GraphEdge> edgeFilter)
+					throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(destinationNode, "destinationNode");
+		return
+				Optional.ofNullable(
+					this.findShortestPaths(startNode, List.of(destinationNode), edgeFilter)
+						.get(destinationNode));
+	}
+	
+	/**
+	 * Finds a shortest path from the start node to each of the destination nodes by a single breadth-first search.
+	 * The search stops as soon as all destination nodes have been reached.
+	 * @param startNode The node from which the paths lead.
+	 * @param destinationNodes The nodes to which the paths lead.
+	 * @param edgeFilter The filter that determines which edges the paths may follow,
+	 * for example {@link #ALL_EDGES} or {@link #WORKFLOW_EDGES}.
+	 * @return A map of the reachable destination nodes and a path with the least number of nodes to each of them.
+	 * Destination nodes that cannot be reached are absent from the map.
+	 * @throws ArgumentNullException Thrown if startNode, destinationNodes or edgeFilter is null.
+	 */
+	public Map<GraphNode, GraphPathLink> findShortestPaths(
+			GraphNode startNode,
+			Collection<? extends GraphNode> destinationNodes,
+			Predicate<? super GraphEdge> edgeFilter)
+					throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(startNode, "startNode");
+		ArgumentGuard.requireNotNull(destinationNodes, "destinationNodes");
+		ArgumentGuard.requireNotNull(edgeFilter, "edgeFilter");
+		final var result = new LinkedHashMap<GraphNode, GraphPathLink>();
+		final var destinationsPending = new HashSet<GraphNode>(destinationNodes);
+		this.queue.clear();
+		this.nodesOnPath.clear();
+		this.nodeIndices.clear();
+		final var graph = startNode.getGraph();
+		final var startPath = new GraphPathLink(startNode);
+		this.nodesOnPath.set(this.indexOf(startNode));
+		this.queue.add(startPath);
+		
+		while (!this.queue.isEmpty() && !destinationsPending.isEmpty()) {
+			final var path = this.queue.poll();
+			final var node = path.getNode();
+			if (destinationsPending.remove(node)) {
+				result.put(node, path);
+			}
+			final var edges = graph.iterateEdgesFrom(node);
+			while (edges.hasNext()) {
+				final var edge = edges.next();
+				if (!edgeFilter.test(edge)) {
+					continue;
+				}
+				final var neighbour = edge.getDestinationNode();
+				final var neighbourIndex = this.indexOf(neighbour);
+				if (this.nodesOnPath.get(neighbourIndex)) {
+					// already reached by a path that is at most as long
+					continue;
+				}
+				this.nodesOnPath.set(neighbourIndex);
+				this.queue.add(path.extend(edge, neighbour));
+			}
+		}
+		this.queue.clear();
+		return result;
+	}
+	
+	private void search(GraphNode startNode, int maximumDepth, GraphPathVisitor visitor) {
+		this.frames.clear();
+		this.nodesOnPath.clear();
+		this.nodeIndices.clear();
+		final var graph = startNode.getGraph();
+		final var startPath = new GraphPathLink(startNode);
+		if (!visitor.visit(startPath) || startPath.getLength() >= maximumDepth) {
+			return;
+		}
+		this.nodesOnPath.set(this.indexOf(startNode));
+		this.frames.push(new GraphPathSearchFrame(startPath, graph.iterateEdgesFrom(startNode)));
+		
+		while (!this.frames.isEmpty()) {
+			final var frame = this.frames.peek();
+			if (!frame.edges().hasNext()) {
+				this.frames.pop();
+				this.nodesOnPath.clear(this.indexOf(frame.path().getNode()));
+				continue;
+			}
+			final var edge = frame.edges().next();
+			final var neighbour = edge.getDestinationNode();
+			final var neighbourIndex = this.indexOf(neighbour);
+			if (this.nodesOnPath.get(neighbourIndex)) {
+				// avoid cycles
+				continue;
+			}
+			final var path = frame.path().extend(edge, neighbour);
+			if (!visitor.visit(path)) {
+				this.frames.clear();
+				return;
+			}
+			if (path.getLength() < maximumDepth) {
+				this.nodesOnPath.set(neighbourIndex);
+				this.frames.push(new GraphPathSearchFrame(path, graph.iterateEdgesFrom(neighbour)));
+			}
+		}
+	}
+	
+	private int indexOf(GraphNode node) {
+		return this.nodeIndices.computeIfAbsent(node, _ -> this.nodeIndices.size());
+	}
+	
+	/**
+	 * A path on the search stack together with the outgoing edges of its last node that remain to be explored.
+	 * @param path The path.
+	 * @param edges The remaining outgoing edges of the last node of the path.
+	 */
+	private record GraphPathSearchFrame(GraphPathLink path, Iterator<GraphEdge> edges) { }
+}
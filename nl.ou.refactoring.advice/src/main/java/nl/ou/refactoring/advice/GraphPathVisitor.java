@@ -0,0 +1,14 @@
+package nl.ou.refactoring.advice;
+
+/**
+ * A functional interface that receives the paths found by a {@link GraphPathSearch}.
+ */
+@FunctionalInterface
+public interface GraphPathVisitor {
+	/**
+	 * Visits a path that was found.
+	 * @param path The path that was found. Its prefixes are shared with other paths found by the same search.
+	 * @return True to continue the search, false to stop it.
+	 */
+	boolean visit(GraphPathLink path);
+}
@@ -0,0 +1,344 @@
+package nl.ou.refactoring.advice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * An immutable snapshot of the structure of a Refactoring Advice Graph in compressed sparse row (CSR) form.<br />
+ * The nodes are numbered densely from 0, and so are the edge types. The edges are numbered in order of
+ * their source node, so the outgoing edges of node {@code n} are the edges from {@link #getOutgoingStart(int)}
+ * up to {@link #getOutgoingEnd(int)}. The incoming edges are listed in a second set of arrays, ordered by
+ * destination node. All adjacency is held in {@code int} arrays, which do not allocate when traversed.<br />
+ * A snapshot is never modified after it has been created, so any number of threads may read it at once,
+ * also while the graph changes. Use {@link Graph#freeze()} to obtain a snapshot of a graph.
+ */
+public final class GraphSnapshot {
+	private final String refactoringName;
+	private final long modificationCount;
+	private final GraphNode[] nodes;
+	private final Map<GraphNode, Integer> nodeIndices;
+	private final Map<Class<?>, int[]> nodeIndicesByExactType;
+	private final List<Class<? extends GraphEdge>> edgeTypes;
+	private final Map<Class<? extends GraphEdge>, Integer> edgeTypeIndices;
+	private final GraphEdge[] edges;
+	private final int[] edgeSources;
+	private final int[] edgeDestinations;
+	private final int[] edgeTypesByEdge;
+	private final int[] outgoingOffsets;
+	private final int[] incomingOffsets;
+	private final int[] incomingEdges;
+
+	/**
+	 * Initialises a new instance of {@link GraphSnapshot}.
+	 * @param graph The graph of which to take a snapshot.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 */
+	GraphSnapshot(Graph graph) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		this.refactoringName = graph.getRefactoringName();
+		this.modificationCount = graph.getModificationCount();
+
+		// Nodes, including destination nodes that were never added to the graph themselves.
+		final var nodes = new ArrayList<>(graph.getNodes());
+		final var nodeIndices = new IdentityHashMap<GraphNode, Integer>(nodes.size());
+		for (var i = 0; i < nodes.size(); i++) {
+			nodeIndices.put(nodes.get(i), i);
+		}
+		final var edges = new ArrayList<GraphEdge>();
+		final var edgeCounts = new ArrayList<Integer>(nodes.size());
+		for (var i = 0; i < nodes.size(); i++) {
+			var edgeCount = 0;
+			final var iterator = graph.iterateEdgesFrom(nodes.get(i));
+			while (iterator.hasNext()) {
+				final var edge = iterator.next();
+				if (nodeIndices.putIfAbsent(edge.getDestinationNode(), nodes.size()) == null) {
+					nodes.add(edge.getDestinationNode());
+				}
+				edges.add(edge);
+				edgeCount++;
+			}
+			edgeCounts.add(edgeCount);
+		}
+		this.nodes = nodes.toArray(GraphNode[]::new);
+		this.nodeIndices = nodeIndices;
+
+		final var nodeIndicesByExactType = new LinkedHashMap<Class<?>, List<Integer>>();
+		for (var i = 0; i < this.nodes.length; i++) {
+			nodeIndicesByExactType.computeIfAbsent(this.nodes[i].getClass(), _ -> new ArrayList<>()).add(i);
+		}
+		this.nodeIndicesByExactType = new LinkedHashMap<>();
+		nodeIndicesByExactType.forEach(
+			(nodeClass, indices) -> this.nodeIndicesByExactType.put(nodeClass, toArray(indices)));
+
+		// Outgoing adjacency: the edges are already ordered by source node.
+		this.edges = edges.toArray(GraphEdge[]::new);
+		this.outgoingOffsets = new int[this.nodes.length + 1];
+		for (var i = 0; i < this.nodes.length; i++) {
+			this.outgoingOffsets[i + 1] = this.outgoingOffsets[i] + (i < edgeCounts.size() ? edgeCounts.get(i) : 0);
+		}
+		this.edgeSources = new int[this.edges.length];
+		this.edgeDestinations = new int[this.edges.length];
+		this.edgeTypesByEdge = new int[this.edges.length];
+		final var edgeTypes = new ArrayList<Class<? extends GraphEdge>>();
+		final var edgeTypeIndices = new IdentityHashMap<Class<? extends GraphEdge>, Integer>();
+		for (var node = 0; node < this.nodes.length; node++) {
+			for (var edge = this.outgoingOffsets[node]; edge < this.outgoingOffsets[node + 1]; edge++) {
+				this.edgeSources[edge] = node;
+				this.edgeDestinations[edge] = nodeIndices.get(this.edges[edge].getDestinationNode());
+				final var edgeType = this.edges[edge].getClass();
+				var edgeTypeIndex = edgeTypeIndices.get(edgeType);
+				if (edgeTypeIndex == null) {
+					edgeTypeIndex = edgeTypes.size();
+					edgeTypeIndices.put(edgeType, edgeTypeIndex);
+					edgeTypes.add(edgeType);
+				}
+				this.edgeTypesByEdge[edge] = edgeTypeIndex;
+			}
+		}
+		this.edgeTypes = List.copyOf(edgeTypes);
+		this.edgeTypeIndices = edgeTypeIndices;
+
+		// Incoming adjacency, by counting sort on the destination node.
+		this.incomingOffsets = new int[this.nodes.length + 1];
+		for (final var destination : this.edgeDestinations) {
+			this.incomingOffsets[destination + 1]++;
+		}
+		for (var i = 0; i < this.nodes.length; i++) {
+			this.incomingOffsets[i + 1] += this.incomingOffsets[i];
+		}
+		this.incomingEdges = new int[this.edges.length];
+		final var incomingPositions = Arrays.copyOf(this.incomingOffsets, this.nodes.length);
+		for (var edge = 0; edge < this.edges.length; edge++) {
+			this.incomingEdges[incomingPositions[this.edgeDestinations[edge]]++] = edge;
+		}
+	}
+
+	/**
+	 * Gets the name of the refactoring of the graph.
+	 * @return The name of the refactoring of the graph when the snapshot was taken.
+	 */
+	public String getRefactoringName() {
+		return this.refactoringName;
+	}
+
+	/**
+	 * Gets the modification count of the graph when the snapshot was taken.
+	 * @return The modification count of the graph when the snapshot was taken.
+	 */
+	public long getModificationCount() {
+		return this.modificationCount;
+	}
+
+	/**
+	 * Gets the number of nodes.
+	 * @return The number of nodes.
+	 */
+	public int getNodeCount() {
+		return this.nodes.length;
+	}
+
+	/**
+	 * Gets a node by its index.
+	 * @param nodeIndex The index of the node.
+	 * @return The node.
+	 * @throws IndexOutOfBoundsException Thrown if nodeIndex is not a valid node index.
+	 */
+	public GraphNode getNode(int nodeIndex) throws IndexOutOfBoundsException {
+		return this.nodes[nodeIndex];
+	}
+
+	/**
+	 * Gets the index of a node.
+	 * @param node The node.
+	 * @return The index of the node, or -1 if the node is not in the snapshot.
+	 * @throws ArgumentNullException Thrown if node is null.
+	 */
+	public int indexOf(GraphNode node) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(node, "node");
+		final var nodeIndex = this.nodeIndices.get(node);
+		return nodeIndex == null ? -1 : nodeIndex;
+	}
+
+	/**
+	 * Gets the indices of the nodes that are assignable to a node type.
+	 * @param nodeType The type of node.
+	 * @return A new array of the indices of the nodes that are assignable to nodeType, in ascending order.
+	 * @throws ArgumentNullException Thrown if nodeType is null.
+	 */
+	public int[] getNodeIndices(Class<? extends GraphNode> nodeType) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(nodeType, "nodeType");
+		final var nodeIndices = new ArrayList<int[]>();
+		var count = 0;
+		for (final var entry : this.nodeIndicesByExactType.entrySet()) {
+			if (nodeType.isAssignableFrom(entry.getKey())) {
+				nodeIndices.add(entry.getValue());
+				count += entry.getValue().length;
+			}
+		}
+		final var result = new int[count];
+		var position = 0;
+		for (final var indices : nodeIndices) {
+			System.arraycopy(indices, 0, result, position, indices.length);
+			position += indices.length;
+		}
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * Gets the number of edges.
+	 * @return The number of edges.
+	 */
+	public int getEdgeCount() {
+		return this.edges.length;
+	}
+
+	/**
+	 * Gets an edge by its index.
+	 * @param edgeIndex The index of the edge.
+	 * @return The edge.
+	 * @throws IndexOutOfBoundsException Thrown if edgeIndex is not a valid edge index.
+	 */
+	public GraphEdge getEdge(int edgeIndex) throws IndexOutOfBoundsException {
+		return this.edges[edgeIndex];
+	}
+
+	/**
+	 * Gets the index of the source node of an edge.
+	 * @param edgeIndex The index of the edge.
+	 * @return The index of the source node of the edge.
+	 * @throws IndexOutOfBoundsException Thrown if edgeIndex is not a valid edge index.
+	 */
+	public int getEdgeSource(int edgeIndex) throws IndexOutOfBoundsException {
+		return this.edgeSources[edgeIndex];
+	}
+
+	/**
+	 * Gets the index of the destination node of an edge.
+	 * @param edgeIndex The index of the edge.
+	 * @return The index of the destination node of the edge.
+	 * @throws IndexOutOfBoundsException Thrown if edgeIndex is not a valid edge index.
+	 */
+	public int getEdgeDestination(int edgeIndex) throws IndexOutOfBoundsException {
+		return this.edgeDestinations[edgeIndex];
+	}
+
+	/**
+	 * Gets the index of the type of an edge.
+	 * @param edgeIndex The index of the edge.
+	 * @return The index of the type of the edge.
+	 * @throws IndexOutOfBoundsException Thrown if edgeIndex is not a valid edge index.
+	 */
+	public int getEdgeTypeIndex(int edgeIndex) throws IndexOutOfBoundsException {
+		return this.edgeTypesByEdge[edgeIndex];
+	}
+
+	/**
+	 * Gets the number of edge types.
+	 * @return The number of distinct classes of the edges.
+	 */
+	public int getEdgeTypeCount() {
+		return this.edgeTypes.size();
+	}
+
+	/**
+	 * Gets an edge type by its index.
+	 * @param edgeTypeIndex The index of the edge type.
+	 * @return The class of the edges of the edge type.
+	 * @throws IndexOutOfBoundsException Thrown if edgeTypeIndex is not a valid edge type index.
+	 */
+	public Class<? extends GraphEdge> getEdgeType(int edgeTypeIndex) throws IndexOutOfBoundsException {
+		return this.edgeTypes.get(edgeTypeIndex);
+	}
+
+	/**
+	 * Gets the index of an edge type.
+	 * @param edgeType The exact class of the edges.
+	 * @return The index of the edge type, or -1 if the snapshot has no edges of edgeType.
+	 * @throws ArgumentNullException Thrown if edgeType is null.
+	 */
+	public int indexOfEdgeType(Class<? extends GraphEdge> edgeType) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(edgeType, "edgeType");
+		final var edgeTypeIndex = this.edgeTypeIndices.get(edgeType);
+		return edgeTypeIndex == null ? -1 : edgeTypeIndex;
+	}
+
+	/**
+	 * Gets the index of the first outgoing edge of a node.
+	 * @param nodeIndex The index of the node.
+	 * @return The index of the first outgoing edge of the node.
+	 * @throws IndexOutOfBoundsException Thrown if nodeIndex is not a valid node index.
+	 */
+	public int getOutgoingStart(int nodeIndex) throws IndexOutOfBoundsException {
+		this.requireNodeIndex(nodeIndex);
+		return this.outgoingOffsets[nodeIndex];
+	}
+
+	/**
+	 * Gets the index after the last outgoing edge of a node.
+	 * @param nodeIndex The index of the node.
+	 * @return The index after the last outgoing edge of the node.
+	 * @throws IndexOutOfBoundsException Thrown if nodeIndex is not a valid node index.
+	 */
+	public int getOutgoingEnd(int nodeIndex) throws IndexOutOfBoundsException {
+		this.requireNodeIndex(nodeIndex);
+		return this.outgoingOffsets[nodeIndex + 1];
+	}
+
+	/**
+	 * Gets the index of the first incoming position of a node, for use with {@link #getIncomingEdge(int)}.
+	 * @param nodeIndex The index of the node.
+	 * @return The first incoming position of the node.
+	 * @throws IndexOutOfBoundsException Thrown if nodeIndex is not a valid node index.
+	 */
+	public int getIncomingStart(int nodeIndex) throws IndexOutOfBoundsException {
+		this.requireNodeIndex(nodeIndex);
+		return this.incomingOffsets[nodeIndex];
+	}
+
+	/**
+	 * Gets the position after the last incoming position of a node, for use with {@link #getIncomingEdge(int)}.
+	 * @param nodeIndex The index of the node.
+	 * @return The position after the last incoming position of the node.
+	 * @throws IndexOutOfBoundsException Thrown if nodeIndex is not a valid node index.
+	 */
+	public int getIncomingEnd(int nodeIndex) throws IndexOutOfBoundsException {
+		this.requireNodeIndex(nodeIndex);
+		return this.incomingOffsets[nodeIndex + 1];
+	}
+
+	/**
+	 * Gets the index of the edge at an incoming position.
+	 * @param incomingPosition The incoming position, between {@link #getIncomingStart(int)}
+	 * and {@link #getIncomingEnd(int)} of the destination node.
+	 * @return The index of the edge.
+	 * @throws IndexOutOfBoundsException Thrown if incomingPosition is not a valid position.
+	 */
+	public int getIncomingEdge(int incomingPosition) throws IndexOutOfBoundsException {
+		return this.incomingEdges[incomingPosition];
+	}
+
+	private void requireNodeIndex(int nodeIndex) {
+		// The offset arrays have one more element than there are nodes.
+		if (nodeIndex < 0 || nodeIndex >= this.nodes.length) {
+			throw new IndexOutOfBoundsException(nodeIndex);
+		}
+	}
+
+	private static int[] toArray(List<Integer> values) {
+		final var result = new int[values.size()];
+		for (var i = 0; i < result.length; i++) {
+			result[i] = values.get(i);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,374 @@
+package nl.ou.refactoring.advice;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * Stores the nodes and edges of a {@link Graph}.<br />
+ * Next to the outgoing adjacency matrix, the store maintains an incoming
+ * adjacency matrix, indices of nodes and edges by their unique identifiers and
+ * buckets of edges per edge class, so that lookups do not need to scan the
+ * whole matrix. Nodes are additionally indexed by every node type in their class
+ * hierarchy, so that type lookups cost time proportional to the result size.
+ * The type indices are created on demand, also by lookups, so they are kept in concurrent maps
+ * to allow lookups from several threads while the store is not modified.<br />
+ * A concurrent store keeps all of its maps and sets in concurrent collections, so that it may be read
+ * from several threads while it is modified; its modifications must still be made one at a time,
+ * which {@link Graph#concurrent(String)} ensures. The nodes of a type are then in no particular order.<br />
+ * {@link GraphStoreFork} overrides every operation to layer the changes of a fork over a parent store.
+ */
+class GraphStore {
+	/**
+	 * The node types (classes and interfaces) a node class is assignable to,
+	 * including the node class itself.
+	 */
+	static final ClassValue<List<Class<?>>> NODE_TYPES = new ClassValue<>() {
+		@Override
+		protected List<Class<?>> computeValue(Class<?> nodeClass) {
+			final var nodeTypes = new LinkedHashSet<Class<?>>();
+			final var pending = new ArrayList<Class<?>>();
+			pending.add(nodeClass);
+			while (!pending.isEmpty()) {
+				final var type = pending.removeLast();
+				if (type == null || !GraphNode.class.isAssignableFrom(type) || !nodeTypes.add(type)) {
+					continue;
+				}
+				pending.add(type.getSuperclass());
+				pending.addAll(List.of(type.getInterfaces()));
+			}
+			return List.copyOf(nodeTypes);
+		}
+	};
+
+	private final Map<GraphNode, Map<GraphNode, Set<GraphEdge>>> outgoing;
+	private final Map<GraphNode, Map<GraphNode, Set<GraphEdge>>> incoming;
+	private final Map<UUID, GraphNode> nodesById;
+	private final Map<UUID, GraphEdge> edgesById;
+	private final Map<Class<? extends GraphEdge>, Set<GraphEdge>> edgesByClass;
+	private final Map<Class<?>, Set<GraphNode>> nodesByType;
+	private final Map<Class<?>, Set<GraphNode>> nodesByExactType;
+	private final boolean concurrent;
+
+	/**
+	 * Initialises a new, empty instance of {@link GraphStore}.
+	 */
+	GraphStore() {
+		this(false);
+	}
+
+	/**
+	 * Initialises a new, empty instance of {@link GraphStore}.
+	 *
+	 * @param concurrent Whether the store may be read from several threads while it is modified.
+	 */
+	GraphStore(boolean concurrent) {
+		this.concurrent = concurrent;
+		this.outgoing = this.newMap();
+		this.incoming = this.newMap();
+		this.nodesById = this.newMap();
+		this.edgesById = this.newMap();
+		this.edgesByClass = this.newMap();
+		this.nodesByType = new ConcurrentHashMap<>();
+		this.nodesByExactType = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Adds a node to the store, if it is not already present.
+	 *
+	 * @param node The node to add.
+	 * @return True if the node was added, false if it was already present.
+	 */
+	boolean addNode(GraphNode node) {
+		if (this.outgoing.containsKey(node)) {
+			return false;
+		}
+		this.outgoing.put(node, this.newMap());
+		this.nodesById.put(node.getId(), node);
+		final var nodeClass = node.getClass();
+		this.nodesByExactType.computeIfAbsent(nodeClass, _ -> this.newOrderedSet()).add(node);
+		for (final var nodeType : NODE_TYPES.get(nodeClass)) {
+			this.nodesByType.computeIfAbsent(nodeType, _ -> this.newOrderedSet()).add(node);
+		}
+		return true;
+	}
+
+	/**
+	 * Determines whether the store contains a node.
+	 *
+	 * @param node The node to look for.
+	 * @return True if the store contains the node, otherwise false.
+	 */
+	boolean containsNode(GraphNode node) {
+		return this.outgoing.containsKey(node);
+	}
+
+	/**
+	 * Gets a node by its unique identifier.
+	 *
+	 * @param nodeIdentifier The unique identifier of the node.
+	 * @return The node, or null if not found.
+	 */
+	GraphNode getNode(UUID nodeIdentifier) {
+		return this.nodesById.get(nodeIdentifier);
+	}
+
+	/**
+	 * Gets a read-only view of the nodes in the store.
+	 *
+	 * @return A read-only view of the nodes in the store.
+	 */
+	Set<GraphNode> getNodes() {
+		return Collections.unmodifiableSet(this.outgoing.keySet());
+	}
+
+	/**
+	 * Gets a live, read-only view of the nodes that are assignable to a node type.
+	 *
+	 * @param <TNode>  The type of node.
+	 * @param nodeType The type of node.
+	 * @return A live, read-only view of the nodes that are assignable to nodeType.
+	 */
+	<TNode extends GraphNode> Set<TNode> getNodes(Class<TNode> nodeType) {
+		return view(this.nodesByType.computeIfAbsent(nodeType, _ -> this.newOrderedSet()));
+	}
+
+	/**
+	 * Gets a live, read-only view of the nodes that are exactly of a node type.
+	 *
+	 * @param <TNode>  The type of node.
+	 * @param nodeType The type of node.
+	 * @return A live, read-only view of the nodes that are exactly of nodeType.
+	 */
+	<TNode extends GraphNode> Set<TNode> getNodesExact(Class<TNode> nodeType) {
+		return view(this.nodesByExactType.computeIfAbsent(nodeType, _ -> this.newOrderedSet()));
+	}
+
+	/**
+	 * Gets the number of nodes in the store.
+	 *
+	 * @return The number of nodes in the store.
+	 */
+	int getNodeCount() {
+		return this.outgoing.size();
+	}
+
+	/**
+	 * Removes a node and all of its incoming and outgoing edges from the store.
+	 *
+	 * @param node The node to remove.
+	 * @return True if the node was removed, false if it was not present.
+	 */
+	boolean removeNode(GraphNode node) {
+		final var row = this.outgoing.remove(node);
+		if (row == null) {
+			return false;
+		}
+		this.nodesById.remove(node.getId());
+		final var nodeClass = node.getClass();
+		this.nodesByExactType.get(nodeClass).remove(node);
+		for (final var nodeType : NODE_TYPES.get(nodeClass)) {
+			this.nodesByType.get(nodeType).remove(node);
+		}
+		for (final var entry : row.entrySet()) {
+			final var incomingRow = this.incoming.get(entry.getKey());
+			if (incomingRow != null) {
+				incomingRow.remove(node);
+			}
+			entry.getValue().forEach(this::unindexEdge);
+		}
+		final var column = this.incoming.remove(node);
+		if (column != null) {
+			for (final var entry : column.entrySet()) {
+				final var outgoingRow = this.outgoing.get(entry.getKey());
+				if (outgoingRow != null) {
+					outgoingRow.remove(node);
+				}
+				entry.getValue().forEach(this::unindexEdge);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets an edge by its unique identifier.
+	 *
+	 * @param edgeIdentifier The unique identifier of the edge.
+	 * @return The edge, or null if not found.
+	 */
+	GraphEdge getEdge(UUID edgeIdentifier) {
+		return this.edgesById.get(edgeIdentifier);
+	}
+
+	/**
+	 * Determines whether the store contains this very edge instance.
+	 *
+	 * @param edge The edge to look for.
+	 * @return True if the store contains the edge, otherwise false.
+	 */
+	boolean containsEdge(GraphEdge edge) {
+		return this.edgesById.get(edge.getId()) == edge;
+	}
+
+	/**
+	 * Gets a read-only view of the edges in the store.
+	 *
+	 * @return A read-only view of the edges in the store.
+	 */
+	Collection<GraphEdge> getEdges() {
+		return Collections.unmodifiableCollection(this.edgesById.values());
+	}
+
+	/**
+	 * Gets the number of edges in the store.
+	 *
+	 * @return The number of edges in the store.
+	 */
+	int getEdgeCount() {
+		return this.edgesById.size();
+	}
+
+	/**
+	 * Gets the edges that are assignable to an edge type, using the per-class
+	 * buckets.
+	 *
+	 * @param <TEdge>  The type of edge.
+	 * @param edgeType The type of edge.
+	 * @return A new set of the edges that are assignable to edgeType.
+	 */
+	<TEdge extends GraphEdge> Set<TEdge> getEdges(Class<TEdge> edgeType) {
+		final var result = new HashSet<TEdge>();
+		for (final var bucket : this.edgesByClass.entrySet()) {
+			if (edgeType.isAssignableFrom(bucket.getKey())) {
+				for (final var edge : bucket.getValue()) {
+					result.add(edgeType.cast(edge));
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the outgoing edges of a node, grouped by destination node.
+	 *
+	 * @param sourceNode The source node.
+	 * @return A read-only view of the outgoing edges, grouped by destination node.
+	 */
+	Map<GraphNode, Set<GraphEdge>> getOutgoing(GraphNode sourceNode) {
+		final var row = this.outgoing.get(sourceNode);
+		return row == null ? Map.of() : Collections.unmodifiableMap(row);
+	}
+
+	/**
+	 * Gets the incoming edges of a node, grouped by source node.
+	 *
+	 * @param destinationNode The destination node.
+	 * @return A read-only view of the incoming edges, grouped by source node.
+	 */
+	Map<GraphNode, Set<GraphEdge>> getIncoming(GraphNode destinationNode) {
+		final var column = this.incoming.get(destinationNode);
+		return column == null ? Map.of() : Collections.unmodifiableMap(column);
+	}
+
+	/**
+	 * Gets the edges from a source node to a destination node.
+	 *
+	 * @param sourceNode      The source node.
+	 * @param destinationNode The destination node.
+	 * @return A read-only view of the edges between both nodes.
+	 */
+	Set<GraphEdge> getEdgesWith(GraphNode sourceNode, GraphNode destinationNode) {
+		final var edges = this.getOutgoing(sourceNode).get(destinationNode);
+		return edges == null ? Set.of() : Collections.unmodifiableSet(edges);
+	}
+
+	/**
+	 * Finds the edge of exactly the specified class between two nodes.
+	 *
+	 * @param <TEdge>         The type of edge.
+	 * @param sourceNode      The source node.
+	 * @param destinationNode The destination node.
+	 * @param edgeClass       The exact class of the edge.
+	 * @return The edge, or null if not found.
+	 */
+	<TEdge extends GraphEdge> TEdge findEdge(
+			GraphNode sourceNode,
+			GraphNode destinationNode,
+			Class<TEdge> edgeClass) {
+		for (final var edge : this.getEdgesWith(sourceNode, destinationNode)) {
+			if (edge.getClass().equals(edgeClass)) {
+				return edgeClass.cast(edge);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Adds an edge to the store. The source node is added to the store if it is not
+	 * already present.
+	 *
+	 * @param edge The edge to add.
+	 * @return True if the edge was added, false if it was already present.
+	 */
+	boolean addEdge(GraphEdge edge) {
+		final var sourceNode = edge.getSourceNode();
+		final var destinationNode = edge.getDestinationNode();
+		this.addNode(sourceNode);
+		final var added =
+				this.outgoing.get(sourceNode).computeIfAbsent(destinationNode, _ -> this.newSet()).add(edge);
+		if (!added) {
+			return false;
+		}
+		this.incoming.computeIfAbsent(destinationNode, _ -> this.newMap())
+				.computeIfAbsent(sourceNode, _ -> this.newSet())
+				.add(edge);
+		this.edgesById.put(edge.getId(), edge);
+		this.edgesByClass.computeIfAbsent(edge.getClass(), _ -> this.newSet()).add(edge);
+		return true;
+	}
+
+	/**
+	 * Determines whether the store may be read from several threads while it is modified.
+	 *
+	 * @return True if the store keeps its maps and sets in concurrent collections, otherwise false.
+	 */
+	boolean isConcurrent() {
+		return this.concurrent;
+	}
+
+	private <TKey, TValue> Map<TKey, TValue> newMap() {
+		return this.concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+	}
+
+	private <TValue> Set<TValue> newSet() {
+		return this.concurrent ? ConcurrentHashMap.newKeySet() : new HashSet<>();
+	}
+
+	private <TValue> Set<TValue> newOrderedSet() {
+		return this.concurrent ? ConcurrentHashMap.newKeySet() : new LinkedHashSet<>();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <TNode extends GraphNode> Set<TNode> view(Set<GraphNode> nodes) {
+		return (Set<TNode>) Collections.unmodifiableSet(nodes);
+	}
+
+	private void unindexEdge(GraphEdge edge) {
+		this.edgesById.remove(edge.getId());
+		final var bucket = this.edgesByClass.get(edge.getClass());
+		if (bucket != null) {
+			bucket.remove(edge);
+		}
+	}
+}
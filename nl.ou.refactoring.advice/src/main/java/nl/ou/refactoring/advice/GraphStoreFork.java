@@ -0,0 +1,400 @@
+package nl.ou.refactoring.advice;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * Stores the nodes and edges of a fork of a {@link Graph} as an overlay over the store of its parent.<br />
+ * The parent store is shared, not copied: the fork records only the nodes and edges it added and the parent
+ * nodes it removed. A parent edge is hidden once either of its nodes is removed from the fork, as a
+ * {@link Graph} removes edges only together with their nodes. The memory a fork takes is therefore
+ * proportional to its own changes, however large the parent.<br />
+ * The parent store must not be modified while the fork is in use.
+ */
+final class GraphStoreFork extends GraphStore {
+	private final GraphStore parent;
+	private final Set<GraphNode> nodesAdded;
+	private final Map<UUID, GraphNode> nodesAddedById;
+	private final Map<Class<?>, Set<GraphNode>> nodesAddedByType;
+	private final Map<Class<?>, Set<GraphNode>> nodesAddedByExactType;
+	private final Set<GraphNode> nodesRemoved;
+	private final Map<Class<?>, Set<GraphNode>> nodesRemovedByType;
+	private final Map<Class<?>, Set<GraphNode>> nodesRemovedByExactType;
+	private final Map<GraphNode, Map<GraphNode, Set<GraphEdge>>> outgoingAdded;
+	private final Map<GraphNode, Map<GraphNode, Set<GraphEdge>>> incomingAdded;
+	private final Map<UUID, GraphEdge> edgesAdded;
+	private int edgesRemovedCount;
+
+	/**
+	 * Initialises a new instance of {@link GraphStoreFork} without any changes.
+	 *
+	 * @param parent The store of the parent graph.
+	 */
+	GraphStoreFork(GraphStore parent) {
+		this.parent = parent;
+		this.nodesAdded = new LinkedHashSet<>();
+		this.nodesAddedById = new HashMap<>();
+		this.nodesAddedByType = new ConcurrentHashMap<>();
+		this.nodesAddedByExactType = new ConcurrentHashMap<>();
+		this.nodesRemoved = new LinkedHashSet<>();
+		this.nodesRemovedByType = new ConcurrentHashMap<>();
+		this.nodesRemovedByExactType = new ConcurrentHashMap<>();
+		this.outgoingAdded = new HashMap<>();
+		this.incomingAdded = new HashMap<>();
+		this.edgesAdded = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Gets the parent nodes that were removed from the fork, in the order in which they were removed.
+	 *
+	 * @return A read-only view of the parent nodes that were removed from the fork.
+	 */
+	Set<GraphNode> getNodesRemoved() {
+		return Collections.unmodifiableSet(this.nodesRemoved);
+	}
+
+	/**
+	 * Gets the nodes that were added to the fork, in the order in which they were added.
+	 *
+	 * @return A read-only view of the nodes that were added to the fork.
+	 */
+	Set<GraphNode> getNodesAdded() {
+		return Collections.unmodifiableSet(this.nodesAdded);
+	}
+
+	/**
+	 * Gets the edges that were added to the fork, in the order in which they were added.
+	 *
+	 * @return A read-only view of the edges that were added to the fork.
+	 */
+	Collection<GraphEdge> getEdgesAdded() {
+		return Collections.unmodifiableCollection(this.edgesAdded.values());
+	}
+
+	/**
+	 * Forgets all changes made to the fork, so that it matches its parent again.
+	 */
+	void reset() {
+		this.nodesAdded.clear();
+		this.nodesAddedById.clear();
+		this.nodesAddedByType.values().forEach(Set::clear);
+		this.nodesAddedByExactType.values().forEach(Set::clear);
+		this.nodesRemoved.clear();
+		this.nodesRemovedByType.values().forEach(Set::clear);
+		this.nodesRemovedByExactType.values().forEach(Set::clear);
+		this.outgoingAdded.clear();
+		this.incomingAdded.clear();
+		this.edgesAdded.clear();
+		this.edgesRemovedCount = 0;
+	}
+
+	@Override
+	boolean addNode(GraphNode node) {
+		if (this.containsNode(node)) {
+			return false;
+		}
+		this.nodesAdded.add(node);
+		this.nodesAddedById.put(node.getId(), node);
+		index(this.nodesAddedByType, this.nodesAddedByExactType, node);
+		return true;
+	}
+
+	@Override
+	boolean containsNode(GraphNode node) {
+		return this.nodesAdded.contains(node) || (!this.nodesRemoved.contains(node) && this.parent.containsNode(node));
+	}
+
+	@Override
+	GraphNode getNode(UUID nodeIdentifier) {
+		final var nodeAdded = this.nodesAddedById.get(nodeIdentifier);
+		if (nodeAdded != null) {
+			return nodeAdded;
+		}
+		final var nodeParent = this.parent.getNode(nodeIdentifier);
+		return nodeParent == null || this.nodesRemoved.contains(nodeParent) ? null : nodeParent;
+	}
+
+	@Override
+	Set<GraphNode> getNodes() {
+		return new GraphStoreForkNodeSet<>(this.parent.getNodes(), this.nodesAdded, this.nodesRemoved);
+	}
+
+	@Override
+	<TNode extends GraphNode> Set<TNode> getNodes(Class<TNode> nodeType) {
+		return
+				new GraphStoreForkNodeSet<>(
+					this.parent.getNodes(nodeType),
+					this.nodesAddedByType.computeIfAbsent(nodeType, _ -> new LinkedHashSet<>()),
+					this.nodesRemovedByType.computeIfAbsent(nodeType, _ -> new LinkedHashSet<>()));
+	}
+
+	@Override
+	<TNode extends GraphNode> Set<TNode> getNodesExact(Class<TNode> nodeType) {
+		return
+				new GraphStoreForkNodeSet<>(
+					this.parent.getNodesExact(nodeType),
+					this.nodesAddedByExactType.computeIfAbsent(nodeType, _ -> new LinkedHashSet<>()),
+					this.nodesRemovedByExactType.computeIfAbsent(nodeType, _ -> new LinkedHashSet<>()));
+	}
+
+	@Override
+	int getNodeCount() {
+		return this.parent.getNodeCount() - this.nodesRemoved.size() + this.nodesAdded.size();
+	}
+
+	@Override
+	boolean removeNode(GraphNode node) {
+		if (this.nodesAdded.remove(node)) {
+			this.nodesAddedById.remove(node.getId());
+			unindex(this.nodesAddedByType, this.nodesAddedByExactType, node);
+		} else if (!this.nodesRemoved.contains(node) && this.parent.containsNode(node)) {
+			for (final var entry : this.parent.getOutgoing(node).entrySet()) {
+				if (!this.nodesRemoved.contains(entry.getKey())) {
+					this.edgesRemovedCount += entry.getValue().size();
+				}
+			}
+			for (final var entry : this.parent.getIncoming(node).entrySet()) {
+				if (!this.nodesRemoved.contains(entry.getKey()) && !entry.getKey().equals(node)) {
+					this.edgesRemovedCount += entry.getValue().size();
+				}
+			}
+			this.nodesRemoved.add(node);
+			index(this.nodesRemovedByType, this.nodesRemovedByExactType, node);
+		} else {
+			return false;
+		}
+
+		final var row = this.outgoingAdded.remove(node);
+		if (row != null) {
+			for (final var entry : row.entrySet()) {
+				final var incomingRow = this.incomingAdded.get(entry.getKey());
+				if (incomingRow != null) {
+					incomingRow.remove(node);
+				}
+				entry.getValue().forEach(edge -> this.edgesAdded.remove(edge.getId()));
+			}
+		}
+		final var column = this.incomingAdded.remove(node);
+		if (column != null) {
+			for (final var entry : column.entrySet()) {
+				final var outgoingRow = this.outgoingAdded.get(entry.getKey());
+				if (outgoingRow != null) {
+					outgoingRow.remove(node);
+				}
+				entry.getValue().forEach(edge -> this.edgesAdded.remove(edge.getId()));
+			}
+		}
+		return true;
+	}
+
+	@Override
+	GraphEdge getEdge(UUID edgeIdentifier) {
+		final var edgeAdded = this.edgesAdded.get(edgeIdentifier);
+		if (edgeAdded != null) {
+			return edgeAdded;
+		}
+		final var edgeParent = this.parent.getEdge(edgeIdentifier);
+		return edgeParent == null || this.isHidden(edgeParent) ? null : edgeParent;
+	}
+
+	@Override
+	boolean containsEdge(GraphEdge edge) {
+		return this.getEdge(edge.getId()) == edge;
+	}
+
+	@Override
+	Collection<GraphEdge> getEdges() {
+		final var edges = new ArrayList<GraphEdge>(this.getEdgeCount());
+		for (final var edge : this.parent.getEdges()) {
+			if (!this.isHidden(edge)) {
+				edges.add(edge);
+			}
+		}
+		edges.addAll(this.edgesAdded.values());
+		return Collections.unmodifiableList(edges);
+	}
+
+	@Override
+	int getEdgeCount() {
+		return this.parent.getEdgeCount() - this.edgesRemovedCount + this.edgesAdded.size();
+	}
+
+	@Override
+	<TEdge extends GraphEdge> Set<TEdge> getEdges(Class<TEdge> edgeType) {
+		final var edges = this.parent.getEdges(edgeType);
+		if (!this.nodesRemoved.isEmpty()) {
+			edges.removeIf(this::isHidden);
+		}
+		for (final var edge : this.edgesAdded.values()) {
+			if (edgeType.isInstance(edge)) {
+				edges.add(edgeType.cast(edge));
+			}
+		}
+		return edges;
+	}
+
+	@Override
+	Map<GraphNode, Set<GraphEdge>> getOutgoing(GraphNode sourceNode) {
+		return this.merge(sourceNode, this.parent.getOutgoing(sourceNode), this.outgoingAdded.get(sourceNode));
+	}
+
+	@Override
+	Map<GraphNode, Set<GraphEdge>> getIncoming(GraphNode destinationNode) {
+		return this.merge(destinationNode, this.parent.getIncoming(destinationNode), this.incomingAdded.get(destinationNode));
+	}
+
+	@Override
+	Set<GraphEdge> getEdgesWith(GraphNode sourceNode, GraphNode destinationNode) {
+		final var edgesParent =
+				this.nodesRemoved.contains(sourceNode) || this.nodesRemoved.contains(destinationNode)
+					? Set.<GraphEdge>of()
+					: this.parent.getEdgesWith(sourceNode, destinationNode);
+		final var rowAdded = this.outgoingAdded.get(sourceNode);
+		final var edgesAdded = rowAdded == null ? null : rowAdded.get(destinationNode);
+		if (edgesAdded == null || edgesAdded.isEmpty()) {
+			return edgesParent;
+		}
+		if (edgesParent.isEmpty()) {
+			return Collections.unmodifiableSet(edgesAdded);
+		}
+		final var edges = new HashSet<>(edgesParent);
+		edges.addAll(edgesAdded);
+		return Collections.unmodifiableSet(edges);
+	}
+
+	@Override
+	boolean addEdge(GraphEdge edge) {
+		final var sourceNode = edge.getSourceNode();
+		final var destinationNode = edge.getDestinationNode();
+		if (this.getEdgesWith(sourceNode, destinationNode).contains(edge)) {
+			return false;
+		}
+		this.addNode(sourceNode);
+		this.outgoingAdded
+				.computeIfAbsent(sourceNode, _ -> new HashMap<>())
+				.computeIfAbsent(destinationNode, _ -> new HashSet<>())
+				.add(edge);
+		this.incomingAdded
+				.computeIfAbsent(destinationNode, _ -> new HashMap<>())
+				.computeIfAbsent(sourceNode, _ -> new HashSet<>())
+				.add(edge);
+		this.edgesAdded.put(edge.getId(), edge);
+		return true;
+	}
+
+	private boolean isHidden(GraphEdge edge) {
+		return
+				!this.nodesRemoved.isEmpty() &&
+				(this.nodesRemoved.contains(edge.getSourceNode()) || this.nodesRemoved.contains(edge.getDestinationNode()));
+	}
+
+	private Map<GraphNode, Set<GraphEdge>> merge(
+			GraphNode node,
+			Map<GraphNode, Set<GraphEdge>> edgesParent,
+			Map<GraphNode, Set<GraphEdge>> edgesAdded) {
+		if ((edgesAdded == null || edgesAdded.isEmpty()) && this.nodesRemoved.isEmpty()) {
+			return edgesParent;
+		}
+		final var edges = new HashMap<GraphNode, Set<GraphEdge>>();
+		if (!this.nodesRemoved.contains(node)) {
+			for (final var entry : edgesParent.entrySet()) {
+				if (!this.nodesRemoved.contains(entry.getKey())) {
+					edges.put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+		if (edgesAdded != null) {
+			for (final var entry : edgesAdded.entrySet()) {
+				edges.merge(
+					entry.getKey(),
+					Collections.unmodifiableSet(entry.getValue()),
+					(edgesFirst, edgesSecond) -> {
+						final var edgesMerged = new HashSet<GraphEdge>(edgesFirst);
+						edgesMerged.addAll(edgesSecond);
+						return Collections.unmodifiableSet(edgesMerged);
+					});
+			}
+		}
+		return Collections.unmodifiableMap(edges);
+	}
+
+	private static void index(
+			Map<Class<?>, Set<GraphNode>> nodesByType,
+			Map<Class<?>, Set<GraphNode>> nodesByExactType,
+			GraphNode node) {
+		final var nodeClass = node.getClass();
+		nodesByExactType.computeIfAbsent(nodeClass, _ -> new LinkedHashSet<>()).add(node);
+		for (final var nodeType : NODE_TYPES.get(nodeClass)) {
+			nodesByType.computeIfAbsent(nodeType, _ -> new LinkedHashSet<>()).add(node);
+		}
+	}
+
+	private static void unindex(
+			Map<Class<?>, Set<GraphNode>> nodesByType,
+			Map<Class<?>, Set<GraphNode>> nodesByExactType,
+			GraphNode node) {
+		final var nodeClass = node.getClass();
+		nodesByExactType.get(nodeClass).remove(node);
+		for (final var nodeType : NODE_TYPES.get(nodeClass)) {
+			nodesByType.get(nodeType).remove(node);
+		}
+	}
+
+	/**
+	 * A live, read-only view of the nodes of a fork: the nodes of the parent that were not removed,
+	 * followed by the nodes that were added.
+	 *
+	 * @param <TNode> The type of node.
+	 */
+	private static final class GraphStoreForkNodeSet<TNode extends GraphNode> extends AbstractSet<TNode> {
+		private final Set<? extends GraphNode> nodesParent;
+		private final Set<GraphNode> nodesAdded;
+		private final Set<GraphNode> nodesRemoved;
+
+		GraphStoreForkNodeSet(
+				Set<? extends GraphNode> nodesParent,
+				Set<GraphNode> nodesAdded,
+				Set<GraphNode> nodesRemoved) {
+			this.nodesParent = nodesParent;
+			this.nodesAdded = nodesAdded;
+			this.nodesRemoved = nodesRemoved;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Iterator<TNode> iterator() {
+			final Stream<? extends GraphNode> nodesParent =
+					this.nodesRemoved.isEmpty()
+						? this.nodesParent.stream()
+						: this.nodesParent.stream().filter(node -> !this.nodesRemoved.contains(node));
+			return (Iterator<TNode>) Stream.concat(nodesParent, this.nodesAdded.stream()).iterator();
+		}
+
+		@Override
+		public int size() {
+			return this.nodesParent.size() - this.nodesRemoved.size() + this.nodesAdded.size();
+		}
+
+		@Override
+		public boolean contains(Object node) {
+			return
+					this.nodesAdded.contains(node) ||
+					(!this.nodesRemoved.contains(node) && this.nodesParent.contains(node));
+		}
+	}
+}
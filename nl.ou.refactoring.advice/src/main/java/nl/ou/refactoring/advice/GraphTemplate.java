@@ -0,0 +1,152 @@
+package nl.ou.refactoring.advice;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+import nl.ou.refactoring.advice.contracts.ArgumentEmptyException;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.edges.GraphEdgeCloneConstructorNotFoundException;
+import nl.ou.refactoring.advice.edges.GraphEdgeCloneFailedException;
+import nl.ou.refactoring.advice.edges.GraphEdgeFactories;
+import nl.ou.refactoring.advice.edges.GraphEdgeFactoryFunction;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+import nl.ou.refactoring.advice.nodes.GraphNodeBase;
+
+/**
+ * A preparsed Refactoring Advice Graph from which independent copies can be instantiated.<br />
+ * The structure of the graph is captured once, as an array of prototype nodes and an array of edges
+ * that refer to their nodes by position, together with the factories that construct the edges.
+ * Instantiating the template clones the prototype nodes and invokes the edge factories directly,
+ * without parsing JSON, resolving constructors or looking up cloned nodes by hash.<br />
+ * A template is immutable and may be instantiated from multiple threads at once.
+ */
+public final class GraphTemplate {
+	private final String refactoringName;
+	private final GraphNodeBase[] nodes;
+	private final int[] edgeSources;
+	private final int[] edgeDestinations;
+	private final Class<? extends GraphEdge>[] edgeClasses;
+	private final GraphEdgeFactoryFunction<?, GraphNode, GraphNode>[] edgeFactories;
+
+	/**
+	 * Initialises a new instance of {@link GraphTemplate}.<br />
+	 * The template works on a private clone of the graph,
+	 * so later changes to the graph do not affect the template.
+	 * @param graph The graph to capture as a template.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 * @throws GraphEdgeCloneConstructorNotFoundException Thrown if an edge in the graph cannot be cloned.
+	 */
+	@SuppressWarnings("unchecked")
+	public GraphTemplate(Graph graph)
+			throws
+				ArgumentNullException,
+				GraphEdgeCloneConstructorNotFoundException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		final var prototype = graph.clone(graph.getRefactoringName());
+		this.refactoringName = prototype.getRefactoringName();
+
+		final var nodeIndices = new IdentityHashMap<GraphNode, Integer>();
+		final var nodes = new ArrayList<GraphNodeBase>();
+		for (final var node : prototype.getNodes(GraphNodeBase.class)) {
+			nodeIndices.put(node, nodes.size());
+			nodes.add(node);
+		}
+
+		final var edgeSources = new ArrayList<Integer>();
+		final var edgeDestinations = new ArrayList<Integer>();
+		final var edgeClasses = new ArrayList<Class<? extends GraphEdge>>();
+		final var edgeFactories = new ArrayList<GraphEdgeFactoryFunction<?, GraphNode, GraphNode>>();
+		for (final var sourceNode : nodes) {
+			final var edges = prototype.iterateEdgesFrom(sourceNode);
+			while (edges.hasNext()) {
+				final var edge = edges.next();
+				final var destinationIndex = nodeIndices.get(edge.getDestinationNode());
+				if (destinationIndex == null) {
+					continue;
+				}
+				final var edgeClass = edge.getClass();
+				edgeSources.add(nodeIndices.get(sourceNode));
+				edgeDestinations.add(destinationIndex);
+				edgeClasses.add(edgeClass);
+				edgeFactories.add(
+						GraphEdgeFactories
+							.find(edgeClass, sourceNode.getClass(), edge.getDestinationNode().getClass())
+							.orElseThrow(() -> new GraphEdgeCloneConstructorNotFoundException(edgeClass)));
+			}
+		}
+
+		this.nodes = nodes.toArray(GraphNodeBase[]::new);
+		this.edgeSources = edgeSources.stream().mapToInt(Integer::intValue).toArray();
+		this.edgeDestinations = edgeDestinations.stream().mapToInt(Integer::intValue).toArray();
+		this.edgeClasses = edgeClasses.toArray(Class[]::new);
+		this.edgeFactories = edgeFactories.toArray(GraphEdgeFactoryFunction[]::new);
+	}
+
+	/**
+	 * Gets the name of the refactoring that the template describes.
+	 * @return The name of the refactoring that the template describes.
+	 */
+	public String getRefactoringName() {
+		return this.refactoringName;
+	}
+
+	/**
+	 * Instantiates a new, independent graph from the template, which bears the template's refactoring name.
+	 * @return The new graph.
+	 * @throws GraphEdgeCloneFailedException Thrown if an edge could not be constructed.
+	 */
+	public Graph instantiate()
+			throws GraphEdgeCloneFailedException {
+		return this.instantiate(this.refactoringName);
+	}
+
+	/**
+	 * Instantiates a new, independent graph from the template.
+	 * @param refactoringName The name of the new graph.
+	 * @return The new graph, which bears the specified name.
+	 * @throws ArgumentNullException Thrown if refactoringName is null.
+	 * @throws ArgumentEmptyException Thrown if refactoringName is empty or contains only white spaces.
+	 * @throws GraphEdgeCloneFailedException Thrown if an edge could not be constructed.
+	 */
+	public Graph instantiate(String refactoringName)
+			throws
+				ArgumentNullException,
+				ArgumentEmptyException,
+				GraphEdgeCloneFailedException {
+		final var graph = new Graph(refactoringName);
+		final var nodesCloned = new GraphNode[this.nodes.length];
+		for (var i = 0; i < this.nodes.length; i++) {
+			nodesCloned[i] = this.nodes[i].clone(graph);
+		}
+		// Skip the edges that the cloned nodes already created, such as the name edge of an attribute.
+		for (var i = 0; i < this.edgeFactories.length; i++) {
+			try {
+				computeEdge(
+						graph,
+						nodesCloned[this.edgeSources[i]],
+						nodesCloned[this.edgeDestinations[i]],
+						this.edgeFactories[i],
+						this.edgeClasses[i]);
+			} catch (RuntimeException exception) {
+				throw new GraphEdgeCloneFailedException(this.edgeClasses[i], exception);
+			}
+		}
+		return graph;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <TEdge extends GraphEdge> void computeEdge(
+			Graph graph,
+			GraphNode sourceNode,
+			GraphNode destinationNode,
+			GraphEdgeFactoryFunction<?, GraphNode, GraphNode> edgeFactory,
+			Class<TEdge> edgeClass) {
+		graph.computeEdge(
+				sourceNode,
+				destinationNode,
+				(GraphEdgeFactoryFunction<TEdge, GraphNode, GraphNode>)edgeFactory,
+				edgeClass);
+	}
+}
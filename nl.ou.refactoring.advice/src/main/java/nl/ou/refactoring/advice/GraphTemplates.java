@@ -1,15 +1,53 @@
 package nl.ou.refactoring.advice;
 
 import java.io.StringReader;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
 
+import nl.ou.refactoring.advice.contracts.ArgumentEmptyException;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.io.GraphReaderException;
 import nl.ou.refactoring.advice.io.json.GraphJsonReader;
 
 /**
- * Accesses JSON resource files that contain default Refactoring Advice Graphs.
+ * Accesses JSON resource files that contain default Refactoring Advice Graphs.<br />
+ * Each resource file is parsed only once, into a {@link GraphTemplate}.
+ * Every call hands out a new, independent graph that is instantiated from the cached template.
+ * Additional templates can be registered at runtime.
  */
 public final class GraphTemplates {
+	/**
+	 * The name of the "Move Field" template.
+	 */
+	public static final String MOVE_FIELD = "Move Field";
+	
+	/**
+	 * The name of the "Move Method" template.
+	 */
+	public static final String MOVE_METHOD = "Move Method";
+	
+	/**
+	 * The name of the "Rename Field" template.
+	 */
+	public static final String RENAME_FIELD = "Rename Field";
+	
+	/**
+	 * The name of the "Rename Method" template.
+	 */
+	public static final String RENAME_METHOD = "Rename Method";
+	
+	private static final Map<String, String> RESOURCES =
+			Map.of(
+				MOVE_FIELD, "/refactorings/MoveField.json",
+				MOVE_METHOD, "/refactorings/MoveMethod.json",
+				RENAME_FIELD, "/refactorings/RenameField.json",
+				RENAME_METHOD, "/refactorings/RenameMethod.json");
+	
+	private static final Map<String, GraphTemplate> TEMPLATES = new ConcurrentHashMap<>();
+	
 	private GraphTemplates() { }
 	
 	/**
@@ -19,7 +57,7 @@ public final class GraphTemplates {
 	 */
 	public static Graph moveField()
 			throws GraphReaderException {
-		return readGraph("/refactorings/MoveField.json");
+		return getTemplate(MOVE_FIELD).orElseThrow().instantiate();
 	}
 	
 	/**
@@ -29,7 +67,7 @@ public final class GraphTemplates {
 	 */
 	public static Graph moveMethod()
 			throws GraphReaderException {
-		return readGraph("/refactorings/MoveMethod.json");
+		return getTemplate(MOVE_METHOD).orElseThrow().instantiate();
 	}
 	
 	/**
@@ -39,7 +77,7 @@ public final class GraphTemplates {
 	 */
 	public static Graph renameField()
 			throws GraphReaderException {
-		return readGraph("/refactorings/RenameField.json");
+		return getTemplate(RENAME_FIELD).orElseThrow().instantiate();
 	}
 	
 	/**
@@ -49,9 +87,63 @@ public final class GraphTemplates {
 	 */
 	public static Graph renameMethod()
 			throws GraphReaderException {
-		return readGraph("/refactorings/RenameMethod.json");
+		return getTemplate(RENAME_METHOD).orElseThrow().instantiate();
 	}
 
+	/**
+	 * Gets a template by its name.
+	 * The default templates are parsed from their JSON resource files on first use.
+	 * @param name The name of the template.
+	 * @return The template, or an empty {@link Optional} if no template with that name exists.
+	 * @throws ArgumentNullException Thrown if name is null.
+	 * @throws GraphReaderException Thrown if reading the JSON file of a default template failed.
+	 */
+	public static Optional<GraphTemplate> getTemplate(String name)
+			throws ArgumentNullException, GraphReaderException {
+		ArgumentGuard.requireNotNull(name, "name");
+		final var template = TEMPLATES.get(name);
+		if (template != null) {
+			return Optional.of(template);
+		}
+		final var resourceName = RESOURCES.get(name);
+		if (resourceName == null) {
+			return Optional.empty();
+		}
+		final var templateParsed = new GraphTemplate(readGraph(resourceName));
+		final var templateExisting = TEMPLATES.putIfAbsent(name, templateParsed);
+		return Optional.of(templateExisting == null ? templateParsed : templateExisting);
+	}
+	
+	/**
+	 * Registers a graph as a template, replacing any template with the same name.
+	 * @param name The name of the template.
+	 * @param graph The graph to capture as a template. Later changes to the graph do not affect the template.
+	 * @return The registered template.
+	 * @throws ArgumentNullException Thrown if name or graph is null.
+	 * @throws ArgumentEmptyException Thrown if name is empty or contains only white spaces.
+	 */
+	public static GraphTemplate register(String name, Graph graph)
+			throws ArgumentNullException, ArgumentEmptyException {
+		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(name, "name");
+		ArgumentGuard.requireNotNull(graph, "graph");
+		final var template = new GraphTemplate(graph);
+		TEMPLATES.put(name, template);
+		return template;
+	}
+	
+	/**
+	 * Removes a registered template.
+	 * A default template that is removed is parsed again from its JSON resource file on next use.
+	 * @param name The name of the template.
+	 * @return True if a template was removed, otherwise false.
+	 * @throws ArgumentNullException Thrown if name is null.
+	 */
+	public static boolean unregister(String name)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(name, "name");
+		return TEMPLATES.remove(name) != null;
+	}
+	
 	private static String loadJson(String resourceName) {
 		final var jsonResourceStream =
 				GraphTemplates
@@ -1,7 +1,5 @@
 package nl.ou.refactoring.advice.edges;
 
-import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.UUID;
 
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
@@ -69,21 +67,12 @@ public abstract class GraphEdge {
 				GraphEdgeCloneConstructorNotFoundException,
 				GraphEdgeCloneFailedException
 	{
+		final var factory =
+				GraphEdgeFactories
+					.find(this.getClass(), source.getClass(), destination.getClass())
+					.orElseThrow(() -> new GraphEdgeCloneConstructorNotFoundException(this.getClass()));
 		try {
-			return
-				(GraphEdge)List.of(this.getClass().getConstructors())
-					.stream()
-					.filter(c -> {
-						final var parameters = c.getParameters();
-						return
-							parameters[0].getType().isAssignableFrom(source.getClass()) &&
-							parameters[1].getType().isAssignableFrom(destination.getClass());
-					})
-					.findAny()
-					.orElseThrow()
-					.newInstance(source, destination);
-		} catch (NoSuchElementException ex) {
-			throw new GraphEdgeCloneConstructorNotFoundException(this.getClass());
+			return factory.create(source, destination);
 		} catch (Exception ex) {
 			throw new GraphEdgeCloneFailedException(this.getClass(), ex);
 		}
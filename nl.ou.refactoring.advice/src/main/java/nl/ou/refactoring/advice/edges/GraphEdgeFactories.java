@@ -0,0 +1,98 @@
+package nl.ou.refactoring.advice.edges;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * A registry of factories that construct edges by their class.<br />
+ * The constructor of an edge class is looked up by reflection once per combination of edge class,
+ * source node class and destination node class, and then invoked through a {@link MethodHandle}.
+ */
+public final class GraphEdgeFactories {
+	private static final MethodType FACTORY_TYPE =
+			MethodType.methodType(GraphEdge.class, GraphNode.class, GraphNode.class);
+	
+	private static final ClassValue<Map<GraphEdgeFactoryKey, Optional<MethodHandle>>> FACTORIES =
+			new ClassValue<>() {
+				@Override
+				protected Map<GraphEdgeFactoryKey, Optional<MethodHandle>> computeValue(Class<?> edgeClass) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+	
+	private GraphEdgeFactories() { }
+	
+	/**
+	 * Finds a factory that constructs edges of the specified class between nodes of the specified classes.
+	 * @param <TEdge> The type of edge.
+	 * @param edgeClass The class of the edge.
+	 * @param sourceNodeClass The class of the source node.
+	 * @param destinationNodeClass The class of the destination node.
+	 * @return A factory that invokes the public constructor of edgeClass that accepts both node classes,
+	 * or an empty {@link Optional} if edgeClass has no such constructor.
+	 * @throws ArgumentNullException Thrown if edgeClass, sourceNodeClass or destinationNodeClass is null.
+	 */
+	public static <TEdge extends GraphEdge> Optional<GraphEdgeFactoryFunction<TEdge, GraphNode, GraphNode>> find(
+			Class<TEdge> edgeClass,
+			Class<? extends GraphNode> sourceNodeClass,
+			Class<? extends GraphNode> destinationNodeClass)
+					throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(edgeClass, "edgeClass");
+		ArgumentGuard.requireNotNull(sourceNodeClass, "sourceNodeClass");
+		ArgumentGuard.requireNotNull(destinationNodeClass, "destinationNodeClass");
+		return
+				FACTORIES
+					.get(edgeClass)
+					.computeIfAbsent(
+						new GraphEdgeFactoryKey(sourceNodeClass, destinationNodeClass),
+						key -> resolve(edgeClass, key))
+					.map(handle -> (source, destination) -> invoke(edgeClass, handle, source, destination));
+	}
+	
+	private static Optional<MethodHandle> resolve(Class<?> edgeClass, GraphEdgeFactoryKey key) {
+		for (final var constructor : edgeClass.getConstructors()) {
+			final var parameterTypes = constructor.getParameterTypes();
+			if (parameterTypes.length == 2 &&
+					parameterTypes[0].isAssignableFrom(key.sourceNodeClass()) &&
+					parameterTypes[1].isAssignableFrom(key.destinationNodeClass())) {
+				try {
+					return Optional.of(MethodHandles.publicLookup().unreflectConstructor(constructor).asType(FACTORY_TYPE));
+				} catch (IllegalAccessException _) {
+					return Optional.empty();
+				}
+			}
+		}
+		return Optional.empty();
+	}
+	
+	private static <TEdge extends GraphEdge> TEdge invoke(
+			Class<TEdge> edgeClass,
+			MethodHandle handle,
+			GraphNode source,
+			GraphNode destination) {
+		try {
+			return edgeClass.cast((GraphEdge)handle.invokeExact(source, destination));
+		} catch (RuntimeException | Error exception) {
+			throw exception;
+		} catch (Throwable exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+	
+	/**
+	 * The node classes for which a factory of an edge class was resolved.
+	 * @param sourceNodeClass The class of the source node.
+	 * @param destinationNodeClass The class of the destination node.
+	 */
+	private record GraphEdgeFactoryKey(
+			Class<? extends GraphNode> sourceNodeClass,
+			Class<? extends GraphNode> destinationNodeClass) { }
+}
@@ -114,6 +114,17 @@ public final class GraphEdgeHas extends GraphEdge {
 		super(outerClassNode, innerClassNode);
 	}
 	
+	/**
+	 * Initialises a new instance of {@link GraphEdgeHas}.
+	 * @param outerClassNode A Class node that represents an outer class.
+	 * @param innerInterfaceNode An Interface node that represents an inner interface.
+	 * @throws ArgumentNullException Thrown if outerClassNode or innerInterfaceNode is null.
+	 */
+	public GraphEdgeHas(GraphNodeClass outerClassNode, GraphNodeInterface innerInterfaceNode)
+			throws ArgumentNullException {
+		super(outerClassNode, innerInterfaceNode);
+	}
+	
 	/**
 	 * Initialises a new instance of {@link GraphEdgeHas}.
 	 * @param classNode A node that represents a Class.
@@ -0,0 +1,135 @@
+package nl.ou.refactoring.advice.io;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+import nl.ou.refactoring.advice.nodes.GraphNodeBase;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeAttribute;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeInterface;
+import nl.ou.refactoring.advice.nodes.code.GraphNodePackage;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeType;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
+import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation;
+
+/**
+ * Writes and reads the named attributes that are needed to reconstruct a node, such as its class name,
+ * for the serialised formats of Refactoring Advice Graphs.
+ */
+public final class GraphNodeAttributes {
+	/**
+	 * The public constructor with the fewest parameters of each node class, looked up once per class.
+	 */
+	private static final ClassValue<Constructor<?>> NODE_CONSTRUCTORS = new ClassValue<>() {
+		@Override
+		protected Constructor<?> computeValue(Class<?> nodeClass) {
+			return
+				List.of(nodeClass.getConstructors())
+					.stream()
+					.sorted((c1, c2) -> c1.getParameterCount() - c2.getParameterCount())
+					.findFirst()
+					.get();
+		}
+	};
+	
+	private GraphNodeAttributes() { }
+	
+	/**
+	 * Writes the attributes of a node that are needed to construct it, such as its class name.
+	 * @param node The node.
+	 * @param attributeWriter Writes a named attribute.
+	 */
+	public static void write(GraphNode node, BiConsumer<String, String> attributeWriter) {
+		switch (node) {
+			case GraphNodeAttribute attributeNode: {
+				attributeWriter.accept("attributeName", attributeNode.getAttributeName());
+				break;
+			}
+			case GraphNodeClass classNode: {
+				attributeWriter.accept("className", classNode.getClassName());
+				break;
+			}
+			case GraphNodeInterface interfaceNode: {
+				attributeWriter.accept("interfaceName", interfaceNode.getInterfaceName());
+				break;
+			}
+			case GraphNodeOperation operationNode: {
+				attributeWriter.accept("operationName", operationNode.getOperationName());
+				break;
+			}
+			case GraphNodePackage packageNode: {
+				attributeWriter.accept("packageName", packageNode.getPackageName());
+				break;
+			}
+			case GraphNodeType typeNode: {
+				attributeWriter.accept("typeName", typeNode.getTypeName());
+				break;
+			}
+			default: {
+				break;
+			}
+		}
+	}
+	
+	/**
+	 * Constructs a node in a graph.
+	 * @param graph The graph that contains the node.
+	 * @param nodeClass The class of the node.
+	 * @param nodeAttributes Gets the value of a named attribute of the node, such as its class name.
+	 * @return The constructed node.
+	 */
+	public static GraphNodeBase construct(
+			final Graph graph,
+			final Class<?> nodeClass,
+			final Function<String, String> nodeAttributes) {
+		try {
+			final var nodeClassConstructorDefault = NODE_CONSTRUCTORS.get(nodeClass);
+			final var nodeClassConstructorArguments = new ArrayList<>();
+			nodeClassConstructorArguments.add(graph);
+			switch (nodeClass.getName()) {
+				case "nl.ou.refactoring.advice.nodes.code.GraphNodeAttribute": {
+					final var attributeName = nodeAttributes.apply("attributeName");
+					nodeClassConstructorArguments.add(attributeName);
+					break;
+				}
+				case "nl.ou.refactoring.advice.nodes.code.GraphNodeInterface": {
+					final var interfaceName = nodeAttributes.apply("interfaceName");
+					nodeClassConstructorArguments.add(interfaceName);
+					break;
+				}
+				case "nl.ou.refactoring.advice.nodes.code.GraphNodePackage": {
+					final var packageName = nodeAttributes.apply("packageName");
+					nodeClassConstructorArguments.add(packageName);
+					break;
+				}
+				case "nl.ou.refactoring.advice.nodes.code.GraphNodeType": {
+					final var typeName = nodeAttributes.apply("typeName");
+					nodeClassConstructorArguments.add(typeName);
+					break;
+				}
+				case "nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass": {
+					final var className = nodeAttributes.apply("className");
+					nodeClassConstructorArguments.add(className);
+					nodeClassConstructorArguments.add(null); // class stereotype
+					break;
+				}
+				case "nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation": {
+					final var operationName = nodeAttributes.apply("operationName");
+					nodeClassConstructorArguments.add(operationName);
+					nodeClassConstructorArguments.add(null); // operation parameters
+					break;
+				}
+				default: {
+					break;
+				}
+			}
+			return (GraphNodeBase)nodeClassConstructorDefault.newInstance(nodeClassConstructorArguments.toArray());
+		} catch (Exception exception) {
+			throw new RuntimeException(exception);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package nl.ou.refactoring.advice.io.binary;
+
+/**
+ * Describes the binary snapshot format of a Refactoring Advice Graph.<br />
+ * A snapshot consists of, in order:
+ * <ol>
+ * <li>the magic bytes {@code RAGB} and the format version;</li>
+ * <li>the refactoring name;</li>
+ * <li>a dictionary of the class names and attribute names that occur in the graph;</li>
+ * <li>the nodes, each written as the dictionary index of its class name followed by its attributes;</li>
+ * <li>the edges, written as one list per node in node order, each edge written as the dictionary index
+ * of its class name followed by the index of its destination node.</li>
+ * </ol>
+ * Counts and indices are written as unsigned variable-length integers (7 bits per byte, least significant group first).
+ * Strings are written as their UTF-8 length plus one, followed by their UTF-8 bytes; a length of zero denotes null.
+ */
+final class GraphBinaryFormat {
+	/**
+	 * The magic bytes at the start of a snapshot.
+	 */
+	static final byte[] MAGIC = { 'R', 'A', 'G', 'B' };
+	
+	/**
+	 * The version of the format.
+	 */
+	static final int VERSION = 1;
+	
+	private GraphBinaryFormat() { }
+}
@@ -0,0 +1,153 @@
+package nl.ou.refactoring.advice.io.binary;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.edges.GraphEdgeFactories;
+import nl.ou.refactoring.advice.io.GraphNodeAttributes;
+import nl.ou.refactoring.advice.io.GraphReader;
+import nl.ou.refactoring.advice.io.GraphReaderException;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * Reads Refactoring Advice Graphs from a binary snapshot that was written by {@link GraphBinaryWriter}.<br />
+ * A snapshot file is memory-mapped rather than read through a stream.
+ */
+public final class GraphBinaryReader implements GraphReader {
+	private final Path path;
+	private final ByteBuffer buffer;
+
+	/**
+	 * Initialises a new instance of {@link GraphBinaryReader} that reads a memory-mapped snapshot file.
+	 * @param path The path of the snapshot file.
+	 * @throws ArgumentNullException Thrown if path is null.
+	 */
+	public GraphBinaryReader(Path path)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(path, "path");
+		this.path = path;
+		this.buffer = null;
+	}
+	
+	/**
+	 * Initialises a new instance of {@link GraphBinaryReader} that reads a snapshot from a buffer.
+	 * The snapshot is read from the position of the buffer; the buffer itself is not modified.
+	 * @param buffer The buffer that contains the snapshot.
+	 * @throws ArgumentNullException Thrown if buffer is null.
+	 */
+	public GraphBinaryReader(ByteBuffer buffer)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(buffer, "buffer");
+		this.path = null;
+		this.buffer = buffer;
+	}
+
+	@Override
+	public Graph read() throws GraphReaderException {
+		if (this.buffer != null) {
+			return read(this.buffer.duplicate());
+		}
+		try (final var channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+			return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		} catch (IOException exception) {
+			throw new GraphBinaryReaderException(exception);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static Graph read(ByteBuffer input) {
+		try {
+			final var magic = new byte[GraphBinaryFormat.MAGIC.length];
+			input.get(magic);
+			if (!Arrays.equals(magic, GraphBinaryFormat.MAGIC)) {
+				throw new GraphBinaryReaderInvalidFormatException("unrecognised header");
+			}
+			final var version = readVarint(input);
+			if (version != GraphBinaryFormat.VERSION) {
+				throw new GraphBinaryReaderInvalidFormatException(String.format("unsupported version %d", version));
+			}
+			final var graph = new Graph(readString(input));
+			
+			final var dictionary = new String[readVarint(input)];
+			final var classes = new Class<?>[dictionary.length];
+			for (var i = 0; i < dictionary.length; i++) {
+				dictionary[i] = readString(input);
+			}
+			
+			final var nodes = new GraphNode[readVarint(input)];
+			for (var i = 0; i < nodes.length; i++) {
+				final var nodeClass = resolveClass(dictionary, classes, readVarint(input));
+				final var attributeCount = readVarint(input);
+				final Map<String, String> attributes = new HashMap<>(attributeCount * 2);
+				for (var j = 0; j < attributeCount; j++) {
+					final var name = dictionary[readVarint(input)];
+					attributes.put(name, readString(input));
+				}
+				nodes[i] = GraphNodeAttributes.construct(graph, nodeClass, attributes::get);
+			}
+			
+			for (final var node : nodes) {
+				final var edgeCount = readVarint(input);
+				for (var j = 0; j < edgeCount; j++) {
+					final var edgeClass = (Class<GraphEdge>)resolveClass(dictionary, classes, readVarint(input));
+					final var destination = nodes[readVarint(input)];
+					final var edgeFactory =
+							GraphEdgeFactories
+								.find(edgeClass, node.getClass(), destination.getClass())
+								.orElseThrow(
+									() -> new GraphBinaryReaderInvalidFormatException(
+										String.format("no constructor of %s accepts its nodes", edgeClass.getName())));
+					graph.computeEdge(node, destination, (_, _) -> edgeFactory.create(node, destination), edgeClass);
+				}
+			}
+			return graph;
+		} catch (BufferUnderflowException | IndexOutOfBoundsException _) {
+			throw new GraphBinaryReaderInvalidFormatException("unexpected end of data");
+		}
+	}
+	
+	private static Class<?> resolveClass(String[] dictionary, Class<?>[] classes, int index) {
+		if (classes[index] == null) {
+			try {
+				classes[index] = Class.forName(dictionary[index]);
+			} catch (ClassNotFoundException exception) {
+				throw new GraphBinaryReaderException(exception);
+			}
+		}
+		return classes[index];
+	}
+	
+	private static int readVarint(ByteBuffer input) {
+		var value = 0;
+		for (var shift = 0; shift < 32; shift += 7) {
+			final var part = input.get();
+			value |= (part & 0x7F) << shift;
+			if ((part & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new GraphBinaryReaderInvalidFormatException("malformed integer");
+	}
+	
+	private static String readString(ByteBuffer input) {
+		final var length = readVarint(input);
+		if (length == 0) {
+			return null;
+		}
+		final var bytes = new byte[length - 1];
+		input.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
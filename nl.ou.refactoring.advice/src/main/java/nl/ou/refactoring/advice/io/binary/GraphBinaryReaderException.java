@@ -0,0 +1,26 @@
+package nl.ou.refactoring.advice.io.binary;
+
+import nl.ou.refactoring.advice.io.GraphReaderException;
+
+/**
+ * An exception that is thrown during the reading of a binary snapshot of a Refactoring Advice Graph.
+ */
+public class GraphBinaryReaderException extends GraphReaderException {
+	/**
+	 * A serial version unique identifier.
+	 */
+	private static final long serialVersionUID = -1867392705372851734L;
+
+	/**
+	 * Initialises a new instance of {@link GraphBinaryReaderException}.
+	 */
+	protected GraphBinaryReaderException() { }
+	
+	/**
+	 * Initialises a new instance of {@link GraphBinaryReaderException}.
+	 * @param cause The cause of the exception.
+	 */
+	public GraphBinaryReaderException(Throwable cause) {
+		super(cause);
+	}
+}
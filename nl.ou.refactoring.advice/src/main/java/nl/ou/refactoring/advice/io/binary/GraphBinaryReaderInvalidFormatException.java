@@ -0,0 +1,29 @@
+package nl.ou.refactoring.advice.io.binary;
+
+/**
+ * An exception that is thrown if the data to read is not a valid binary snapshot of a Refactoring Advice Graph.
+ */
+public final class GraphBinaryReaderInvalidFormatException extends GraphBinaryReaderException {
+	/**
+	 * A serial version unique identifier.
+	 */
+	private static final long serialVersionUID = 2473154929016624507L;
+	
+	/**
+	 * A description of what is invalid.
+	 */
+	private final String reason;
+
+	/**
+	 * Initialises a new instance of {@link GraphBinaryReaderInvalidFormatException}.
+	 * @param reason A description of what is invalid.
+	 */
+	public GraphBinaryReaderInvalidFormatException(String reason) {
+		this.reason = reason;
+	}
+	
+	@Override
+	public String getLocalizedMessage() {
+		return String.format("Invalid Refactoring Advice Graph snapshot: %s", this.reason);
+	}
+}
@@ -0,0 +1,129 @@
+package nl.ou.refactoring.advice.io.binary;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.GraphValidationException;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.io.GraphNodeAttributes;
+import nl.ou.refactoring.advice.io.GraphWriter;
+import nl.ou.refactoring.advice.io.GraphWriterException;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * Writes Refactoring Advice Graphs to a compact binary snapshot.
+ * See {@link GraphBinaryReader} for reading the snapshot back.
+ */
+public final class GraphBinaryWriter implements GraphWriter {
+	private final OutputStream outputStream;
+
+	/**
+	 * Initialises a new instance of {@link GraphBinaryWriter}.
+	 * @param outputStream The stream to write the snapshot to. The stream is flushed, but not closed.
+	 * @throws ArgumentNullException Thrown if outputStream is null.
+	 */
+	public GraphBinaryWriter(OutputStream outputStream)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(outputStream, "outputStream");
+		this.outputStream = outputStream;
+	}
+
+	@Override
+	public void write(Graph graph)
+			throws
+				ArgumentNullException,
+				GraphValidationException,
+				GraphWriterException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		final List<GraphNode> nodes = new ArrayList<>(graph.getNodes(GraphNode.class));
+		final Map<GraphNode, Integer> nodeIndices = new IdentityHashMap<>(nodes.size());
+		final Map<String, Integer> dictionary = new LinkedHashMap<>();
+		for (var i = 0; i < nodes.size(); i++) {
+			final var node = nodes.get(i);
+			nodeIndices.put(node, i);
+			intern(dictionary, node.getClass().getName());
+			GraphNodeAttributes.write(node, (name, _) -> intern(dictionary, name));
+			for (final var edge : node.getEdges()) {
+				intern(dictionary, edge.getClass().getName());
+			}
+		}
+		
+		try {
+			final var output = new BufferedOutputStream(this.outputStream);
+			output.write(GraphBinaryFormat.MAGIC);
+			writeVarint(output, GraphBinaryFormat.VERSION);
+			writeString(output, graph.getRefactoringName());
+			
+			writeVarint(output, dictionary.size());
+			for (final var entry : dictionary.keySet()) {
+				writeString(output, entry);
+			}
+			
+			writeVarint(output, nodes.size());
+			for (final var node : nodes) {
+				writeVarint(output, dictionary.get(node.getClass().getName()));
+				final List<String> attributes = new ArrayList<>(2);
+				GraphNodeAttributes.write(node, (name, value) -> {
+					attributes.add(name);
+					attributes.add(value);
+				});
+				writeVarint(output, attributes.size() / 2);
+				for (var i = 0; i < attributes.size(); i += 2) {
+					writeVarint(output, dictionary.get(attributes.get(i)));
+					writeString(output, attributes.get(i + 1));
+				}
+			}
+			
+			for (final var node : nodes) {
+				final var edges = node.getEdges();
+				writeVarint(output, edges.size());
+				for (final var edge : edges) {
+					final var destinationIndex = nodeIndices.get(edge.getDestinationNode());
+					if (destinationIndex == null) {
+						throw new IllegalStateException(
+								String.format("Edge %s refers to a node outside the graph", edge.getId()));
+					}
+					writeVarint(output, dictionary.get(edge.getClass().getName()));
+					writeVarint(output, destinationIndex);
+				}
+			}
+			output.flush();
+		} catch (IOException | IllegalStateException exception) {
+			throw new GraphBinaryWriterException(exception);
+		}
+	}
+	
+	private static void intern(Map<String, Integer> dictionary, String entry) {
+		dictionary.putIfAbsent(entry, dictionary.size());
+	}
+	
+	private static void writeVarint(OutputStream output, int value)
+			throws IOException {
+		var remaining = value;
+		while ((remaining & ~0x7F) != 0) {
+			output.write((remaining & 0x7F) | 0x80);
+			remaining >>>= 7;
+		}
+		output.write(remaining);
+	}
+	
+	private static void writeString(OutputStream output, String value)
+			throws IOException {
+		if (value == null) {
+			writeVarint(output, 0);
+			return;
+		}
+		final var bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarint(output, bytes.length + 1);
+		output.write(bytes);
+	}
+}
@@ -0,0 +1,21 @@
+package nl.ou.refactoring.advice.io.binary;
+
+import nl.ou.refactoring.advice.io.GraphWriterException;
+
+/**
+ * An exception that is thrown if writing a binary snapshot of a Refactoring Advice Graph failed.
+ */
+public final class GraphBinaryWriterException extends GraphWriterException {
+	/**
+	 * A serial version unique identifier.
+	 */
+	private static final long serialVersionUID = 6010457126933207818L;
+
+	/**
+	 * Initialises a new instance of {@link GraphBinaryWriterException}.
+	 * @param cause The cause of the exception.
+	 */
+	public GraphBinaryWriterException(Throwable cause) {
+		super(cause);
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Feature for reading and writing Refactoring Advice Graphs from and to a compact binary snapshot format.
+ */
+package nl.ou.refactoring.advice.io.binary;
@@ -1,7 +1,7 @@
 package nl.ou.refactoring.advice.io.html.text;
 
-import java.util.TreeMap;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.GraphValidationException;
@@ -11,6 +11,8 @@ import nl.ou.refactoring.advice.io.GraphWriterException;
 import nl.ou.refactoring.advice.io.html.GraphHtmlWriter;
 import nl.ou.refactoring.advice.io.html.GraphHtmlWriterSettings;
 import nl.ou.refactoring.advice.nlp.NLPProcessor;
+import nl.ou.refactoring.advice.nlp.NLPResultSegment;
+import nl.ou.refactoring.advice.nodes.GraphNode;
 import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
 
 /**
@@ -56,74 +58,45 @@ public final class GraphHtmlTextWriter extends GraphHtmlWriter {
 
 		// Natural Language Processing
 		final var nlpResult = this.nlpProvider.process(graph);
-		final var text = nlpResult.getText();
-		final var references = nlpResult.getReferences();
 
 		// <article> element
 		final var document = this.hostElement.getOwnerDocument();
 		final var articleElement = document.createElement("article");
 		this.hostElement.appendChild(articleElement);
 
-		// Divide text into parts along the references.
-		final var indexWithReferenceMap = new TreeMap<Integer, String>();
-		final var referenceEntries = references.entrySet();
-		for (final var referenceEntry : referenceEntries) {
-			final var referenceString = referenceEntry.getKey();
-			var indexPrevious = 0;
-			while (indexPrevious >= 0 && indexPrevious < text.length()) {
-				var indexNext = text.indexOf(referenceString, indexPrevious);
-				if (indexNext < 0) {
-					break;
-				}
-				indexWithReferenceMap.put(indexNext, referenceString);
-				indexPrevious = indexNext + referenceString.length();
+		// Text runs become text nodes, references become links to their program locations.
+		for (final var segment : nlpResult.getSegments()) {
+			switch (segment) {
+				case NLPResultSegment.Text(var text) -> articleElement.appendChild(document.createTextNode(text));
+				case NLPResultSegment.Reference(var node) -> articleElement.appendChild(this.createReference(node));
 			}
 		}
+	}
 
-		var indexPrevious = 0;
-		final var indexWithReferenceMapEntries = indexWithReferenceMap.entrySet();
-		for (final var indexWithReferenceEntry : indexWithReferenceMapEntries) {
-			final var indexReference = indexWithReferenceEntry.getKey();
-			final var textBefore = text.substring(indexPrevious, indexReference);
-			if (textBefore.length() > 0) {
-				articleElement.appendChild(document.createTextNode(textBefore));
-			}
-			final var reference = indexWithReferenceEntry.getValue();
-			final var referenceNode = references.get(reference);
-			if (referenceNode instanceof GraphNodeCode) {
-				final var referenceNodeCode = (GraphNodeCode) referenceNode;
-				final var programLocationNodeOptional = referenceNodeCode.getProgramLocationNode();
-				if (programLocationNodeOptional.isPresent()) {
-					final var programLocationNode = programLocationNodeOptional.get();
-					final var referenceFileNameFull = programLocationNode.getFileNameFull();
-					final var anchorElement = document.createElement("a");
-					final var link =
-							this.settings.getResourceUrlPrefix().toString() + referenceFileNameFull
-									+ String.format(
-											"#%d:%d",
-											programLocationNode.getLineNumberStart(),
-											programLocationNode.getColumnIndexStart())
-									+ "_"
-									+ String.format(
-											"%d:%d",
-											programLocationNode.getLineNumberEnd(),
-											programLocationNode.getColumnIndexEnd());
-					anchorElement.setAttribute("href", link);
-					anchorElement.setTextContent(referenceNode.getCaption());
-					articleElement.appendChild(anchorElement);
-				} else {
-					articleElement.appendChild(document.createTextNode(referenceNode.getCaption()));
-				}
-			} else {
-				articleElement.appendChild(document.createTextNode(referenceNode.getCaption()));
+	private Node createReference(GraphNode referenceNode) {
+		final var document = this.hostElement.getOwnerDocument();
+		if (referenceNode instanceof GraphNodeCode referenceNodeCode) {
+			final var programLocationNodeOptional = referenceNodeCode.getProgramLocationNode();
+			if (programLocationNodeOptional.isPresent()) {
+				final var programLocationNode = programLocationNodeOptional.get();
+				final var referenceFileNameFull = programLocationNode.getFileNameFull();
+				final var anchorElement = document.createElement("a");
+				final var link =
+						this.settings.getResourceUrlPrefix().toString() + referenceFileNameFull
+								+ String.format(
+										"#%d:%d",
+										programLocationNode.getLineNumberStart(),
+										programLocationNode.getColumnIndexStart())
+								+ "_"
+								+ String.format(
+										"%d:%d",
+										programLocationNode.getLineNumberEnd(),
+										programLocationNode.getColumnIndexEnd());
+				anchorElement.setAttribute("href", link);
+				anchorElement.setTextContent(referenceNode.getCaption());
+				return anchorElement;
 			}
-			indexPrevious = indexPrevious + textBefore.length() + reference.length();
-		}
-
-		// Append last bit of plain text if the last reference occurrence wasn't at the
-		// end of the text.
-		if (indexWithReferenceMapEntries.size() > 0 && indexPrevious < text.length()) {
-			articleElement.appendChild(document.createTextNode(text.substring(indexPrevious, text.length())));
 		}
+		return document.createTextNode(referenceNode.getCaption());
 	}
 }
\ No newline at end of file
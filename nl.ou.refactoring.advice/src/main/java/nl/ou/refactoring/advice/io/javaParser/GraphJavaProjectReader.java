@@ -0,0 +1,223 @@
+package nl.ou.refactoring.advice.io.javaParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+
+import nl.ou.refactoring.advice.Futures;
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.io.GraphReader;
+import nl.ou.refactoring.advice.io.GraphReaderException;
+
+/**
+ * Reads code nodes for a Refactoring Advice Graph from all Java source files of a project.<br />
+ * The source files are parsed one after another, or concurrently on an {@link Executor},
+ * such as {@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()}.
+ * Afterwards, the declarations of all source files are read, then the bodies of their operations,
+ * so that a method invocation resolves regardless of the order of the source files.
+ * The declarations are read on the executor as well if the graph is {@link Graph#isConcurrent() concurrent},
+ * which finds or creates shared nodes such as packages and types atomically.
+ * The bodies are always read on the calling thread, as resolving a method invocation is not thread-safe.
+ */
+public final class GraphJavaProjectReader implements GraphReader {
+	/**
+	 * The Refactoring Advice Graph that will contain the code nodes.
+	 */
+	private final Graph graph;
+
+	/**
+	 * Resolves additional Graph nodes if they may have not been loaded into the
+	 * Refactoring Advice Graph (RAG) yet.
+	 */
+	private final GraphJavaReaderResolutionProvider resolutionProvider;
+
+	/**
+	 * The paths of the Java source files.
+	 */
+	private final List<Path> sourceFiles;
+
+	/**
+	 * The executor on which the source files are parsed and, on a concurrent graph, their declarations read,
+	 * or null to do so on the calling thread.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Whether a source file with any problem fails the read, rather than contributing the partial
+	 * compilation unit that the Java Parser recovered.
+	 */
+	private boolean strict;
+
+	/**
+	 * Initialises a new instance of {@link GraphJavaProjectReader} that parses the source files one after another.
+	 *
+	 * @param graph              The graph to which to add the code nodes from the
+	 *                           Java source files.
+	 * @param resolutionProvider Resolves additional Graph nodes if they may have
+	 *                           not been loaded into the Refactoring Advice Graph
+	 *                           (RAG) yet.
+	 * @param sourceFiles        The paths of the Java source files.
+	 * @throws ArgumentNullException Thrown if graph, resolutionProvider, sourceFiles
+	 *                               or any of the source files is null.
+	 */
+	public GraphJavaProjectReader(
+			Graph graph,
+			GraphJavaReaderResolutionProvider resolutionProvider,
+			Collection<Path> sourceFiles) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		ArgumentGuard.requireNotNull(resolutionProvider, "resolutionProvider");
+		ArgumentGuard.requireNotNull(sourceFiles, "sourceFiles");
+		for (final var sourceFile : sourceFiles) {
+			ArgumentGuard.requireNotNull(sourceFile, "sourceFile");
+		}
+		this.graph = graph;
+		this.resolutionProvider = resolutionProvider;
+		this.sourceFiles = List.copyOf(sourceFiles);
+		this.executor = null;
+	}
+
+	/**
+	 * Initialises a new instance of {@link GraphJavaProjectReader} that parses the source files concurrently.
+	 *
+	 * @param graph              The graph to which to add the code nodes from the
+	 *                           Java source files.
+	 * @param resolutionProvider Resolves additional Graph nodes if they may have
+	 *                           not been loaded into the Refactoring Advice Graph
+	 *                           (RAG) yet.
+	 * @param sourceFiles        The paths of the Java source files.
+	 * @param executor           The executor on which the source files are parsed and,
+	 *                           on a concurrent graph, their declarations read.
+	 *                           The reader does not shut it down.
+	 * @throws ArgumentNullException Thrown if graph, resolutionProvider, sourceFiles,
+	 *                               any of the source files or executor is null.
+	 */
+	public GraphJavaProjectReader(
+			Graph graph,
+			GraphJavaReaderResolutionProvider resolutionProvider,
+			Collection<Path> sourceFiles,
+			Executor executor) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		ArgumentGuard.requireNotNull(resolutionProvider, "resolutionProvider");
+		ArgumentGuard.requireNotNull(sourceFiles, "sourceFiles");
+		for (final var sourceFile : sourceFiles) {
+			ArgumentGuard.requireNotNull(sourceFile, "sourceFile");
+		}
+		ArgumentGuard.requireNotNull(executor, "executor");
+		this.graph = graph;
+		this.resolutionProvider = resolutionProvider;
+		this.sourceFiles = List.copyOf(sourceFiles);
+		this.executor = executor;
+	}
+
+	/**
+	 * Sets whether a source file with any problem fails the read. By default, a source file contributes
+	 * the partial compilation unit that the Java Parser recovered despite problems, like {@link GraphJavaReader}.
+	 *
+	 * @param strict True to fail the read on any problem in a source file, otherwise false.
+	 */
+	public void setStrict(boolean strict) {
+		this.strict = strict;
+	}
+
+	/**
+	 * Finds the Java source files in a source root and its subdirectories.
+	 *
+	 * @param sourceRoot The source root.
+	 * @return An unmodifiable list of the paths of the Java source files, sorted by path.
+	 * @throws ArgumentNullException Thrown if sourceRoot is null.
+	 * @throws GraphJavaReaderFileReadFailedException Thrown if the source root could not be read.
+	 */
+	public static List<Path> findSourceFiles(Path sourceRoot)
+			throws ArgumentNullException, GraphJavaReaderFileReadFailedException {
+		ArgumentGuard.requireNotNull(sourceRoot, "sourceRoot");
+		try (final var paths = Files.walk(sourceRoot)) {
+			return
+				paths
+					.filter(path -> Files.isRegularFile(path) && path.getFileName().toString().endsWith(".java"))
+					.sorted()
+					.collect(Collectors.toUnmodifiableList());
+		} catch (IOException exception) {
+			throw new GraphJavaReaderFileReadFailedException(exception);
+		} catch (UncheckedIOException exception) {
+			throw new GraphJavaReaderFileReadFailedException(exception.getCause());
+		}
+	}
+
+	@Override
+	public Graph read() throws GraphReaderException {
+		final var javaParserConfiguration =
+			GraphJavaReader.createParserConfiguration(this.graph, this.resolutionProvider);
+
+		// Parse phase: touches no graph, so it may run concurrently.
+		final var compilationUnits = new ArrayList<CompilationUnit>(this.sourceFiles.size());
+		if (this.executor == null) {
+			for (final var sourceFile : this.sourceFiles) {
+				compilationUnits.add(parse(javaParserConfiguration, sourceFile, this.strict));
+			}
+		} else {
+			final var futures = new ArrayList<CompletableFuture<CompilationUnit>>(this.sourceFiles.size());
+			for (final var sourceFile : this.sourceFiles) {
+				futures.add(
+					CompletableFuture.supplyAsync(() -> parse(javaParserConfiguration, sourceFile, this.strict), this.executor));
+			}
+			for (final var future : futures) {
+				compilationUnits.add(Futures.join(future));
+			}
+		}
+
+		// Merge phase: the declarations of all source files before the bodies of any operation.
+		final var javaReaders = new ArrayList<GraphJavaReader>(compilationUnits.size());
+		for (final var sourceFile : this.sourceFiles) {
+			javaReaders.add(
+				new GraphJavaReader(
+					this.graph,
+					this.resolutionProvider,
+					Reader.nullReader(),
+					sourceFile.toString(),
+					sourceFile.getFileName().toString()));
+		}
+		if (this.executor == null || !this.graph.isConcurrent()) {
+			for (var index = 0; index < javaReaders.size(); index++) {
+				javaReaders.get(index).readDeclarations(compilationUnits.get(index));
+			}
+		} else {
+			final var futures = new ArrayList<CompletableFuture<Void>>(javaReaders.size());
+			for (var index = 0; index < javaReaders.size(); index++) {
+				final var javaReader = javaReaders.get(index);
+				final var compilationUnit = compilationUnits.get(index);
+				futures.add(
+					CompletableFuture.runAsync(() -> javaReader.readDeclarations(compilationUnit), this.executor));
+			}
+			for (final var future : futures) {
+				Futures.join(future);
+			}
+		}
+		for (final var javaReader : javaReaders) {
+			javaReader.readBodies();
+		}
+
+		return this.graph;
+	}
+
+	private static CompilationUnit parse(ParserConfiguration javaParserConfiguration, Path sourceFile, boolean strict) {
+		try (final var reader = Files.newBufferedReader(sourceFile, GraphJavaReader.SOURCE_FILE_CHARSET)) {
+			return GraphJavaReader.parse(new JavaParser(javaParserConfiguration), reader, strict);
+		} catch (IOException exception) {
+			throw new GraphJavaReaderFileReadFailedException(exception);
+		}
+	}
+}
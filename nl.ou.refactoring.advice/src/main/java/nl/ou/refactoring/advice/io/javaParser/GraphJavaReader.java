@@ -1,7 +1,10 @@
 package nl.ou.refactoring.advice.io.javaParser;
 
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -45,6 +48,11 @@ public final class GraphJavaReader implements GraphReader {
 	 */
 	private static Logger LOGGER = LogManager.getLogger(GraphJavaReader.class);
 
+	/**
+	 * The character set in which Java source files are read from disk.
+	 */
+	static final Charset SOURCE_FILE_CHARSET = StandardCharsets.UTF_8;
+
 	/**
 	 * The Refactoring Advice Graph that will contain the code nodes.
 	 */
@@ -71,6 +79,11 @@ public final class GraphJavaReader implements GraphReader {
 	 */
 	private final String fileName;
 
+	/**
+	 * Reads the bodies of the operations that have been declared, once all declarations have been read.
+	 */
+	private final List<Runnable> operationBodies;
+
 	/**
 	 * Initialises a new instance of {@link GraphJavaReader}.
 	 * 
@@ -103,6 +116,7 @@ public final class GraphJavaReader implements GraphReader {
 		this.reader = reader;
 		this.fileNameFull = fileNameFull;
 		this.fileName = fileName;
+		this.operationBodies = new ArrayList<>();
 	}
 
 	/**
@@ -138,22 +152,71 @@ public final class GraphJavaReader implements GraphReader {
 		this.reader = reader;
 		this.fileNameFull = fileNameFull;
 		this.fileName = fileName;
+		this.operationBodies = new ArrayList<>();
 	}
 
 	@Override
 	public Graph read() throws GraphReaderException {
+		final var javaParser = new JavaParser(createParserConfiguration(this.graph, this.resolutionProvider));
+		this.readDeclarations(parse(javaParser, this.reader, false));
+		this.readBodies();
+		return this.graph;
+	}
+
+	/**
+	 * Creates the configuration of a Java Parser that resolves symbols from a Refactoring Advice Graph (RAG).
+	 * A configuration may be shared by several parsers, including parsers on other threads.
+	 * 
+	 * @param graph              The graph from which to resolve symbols.
+	 * @param resolutionProvider Resolves additional Graph nodes if they may have
+	 *                           not been loaded into the Refactoring Advice Graph
+	 *                           (RAG) yet.
+	 * @return The configuration of a Java Parser.
+	 */
+	static ParserConfiguration createParserConfiguration(
+			Graph graph,
+			GraphJavaReaderResolutionProvider resolutionProvider) {
 		final var javaParserConfiguration = new ParserConfiguration();
-		final var javaParserSymbolResolver = new GraphJavaReaderSymbolResolver(this.graph, this.resolutionProvider);
+		final var javaParserSymbolResolver = new GraphJavaReaderSymbolResolver(graph, resolutionProvider);
 		javaParserConfiguration.setSymbolResolver(javaParserSymbolResolver);
-		final var javaParser = new JavaParser(javaParserConfiguration);
+		return javaParserConfiguration;
+	}
 
-		CompilationUnit compilationUnit;
+	/**
+	 * Parses Java source code without touching any graph.
+	 * The symbol table of the compilation unit is built as part of parsing.
+	 * 
+	 * @param javaParser The Java Parser, which is not to be shared among threads.
+	 * @param reader     Reads the Java source code.
+	 * @param strict     True to fail on any problem in the Java source code, or false to return
+	 *                   the partial compilation unit that the Java Parser recovered despite problems.
+	 * @return The compilation unit of the Java source code.
+	 * @throws GraphJavaReaderParseFailedException Thrown if the Java source code could not be parsed,
+	 *                                             or, if strict, if it contains any problem.
+	 */
+	static CompilationUnit parse(JavaParser javaParser, Reader reader, boolean strict)
+			throws GraphJavaReaderParseFailedException {
 		try {
-			compilationUnit = javaParser.parse(this.reader).getResult().get();
+			final var parseResult = javaParser.parse(reader);
+			if (parseResult.getResult().isEmpty() || (strict && !parseResult.isSuccessful())) {
+				throw new ParseProblemException(parseResult.getProblems());
+			}
+			final var compilationUnit = parseResult.getResult().get();
+			GraphJavaReaderSymbolTable.of(compilationUnit);
+			return compilationUnit;
 		} catch (ParseProblemException exception) {
 			throw new GraphJavaReaderParseFailedException(exception);
 		}
+	}
 
+	/**
+	 * Reads the packages, classes, attributes and operations declared in a compilation unit into the graph.
+	 * The bodies of the operations are read by {@link #readBodies()}, so that all declarations of several
+	 * compilation units can be read before any method invocation is resolved.
+	 * 
+	 * @param compilationUnit The compilation unit of the Java source code.
+	 */
+	void readDeclarations(CompilationUnit compilationUnit) {
 		// Package
 		final var packageDeclaration = compilationUnit.getPackageDeclaration();
 		final var packageNameString = packageDeclaration.isPresent()
@@ -174,8 +237,17 @@ public final class GraphJavaReader implements GraphReader {
 				readClassDeclaration(packageNode, classOrInterfaceDeclaration);
 			}
 		}
+	}
 
-		return this.graph;
+	/**
+	 * Reads the bodies of the operations declared by {@link #readDeclarations(CompilationUnit)} into the graph.
+	 */
+	void readBodies() {
+		final var operationBodies = List.copyOf(this.operationBodies);
+		this.operationBodies.clear();
+		for (final var operationBody : operationBodies) {
+			operationBody.run();
+		}
 	}
 
 	private void readClassDeclaration(
@@ -244,6 +316,13 @@ public final class GraphJavaReader implements GraphReader {
 		operationNode.has(operationProgramLocationNode);
 		classNode.has(operationNode);
 
+		this.operationBodies.add(() -> this.readMethodBody(operationNode, operationIdentifier, methodDeclaration));
+	}
+
+	private void readMethodBody(
+			final GraphNodeOperation operationNode,
+			final GraphNodeIdentifier operationIdentifier,
+			final MethodDeclaration methodDeclaration) {
 		try {
 			methodDeclaration.getBody().ifPresent((bodyBlock) -> {
 				final var operationBodyNode = new GraphNodeBlock(this.graph);
@@ -0,0 +1,393 @@
+package nl.ou.refactoring.advice.io.javaParser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.io.GraphReaderException;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+import nl.ou.refactoring.advice.nodes.GraphNodeBase;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeAttribute;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeCodeNameIndex;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeInterface;
+import nl.ou.refactoring.advice.nodes.code.GraphNodePackage;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeType;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
+import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation;
+import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperationParameter;
+import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperationParameterSignature;
+import nl.ou.refactoring.advice.nodes.code.tokens.GraphNodeIdentifier;
+
+/**
+ * A cache of the code nodes that {@link GraphJavaReader} reads from Java source files.<br />
+ * The code nodes of a source file are read once into a subgraph of their own, which is kept for as long as
+ * the content of the source file and of every source file it resolved symbols from is unchanged.
+ * A source file whose size and modification time are unchanged is taken to be unchanged;
+ * only a source file of which either changed is read and hashed again.
+ * Reading a source file from the cache grafts its subgraph onto the target graph without parsing it again:
+ * packages, classes and interfaces that the target graph already has, and their members and types,
+ * are reused rather than duplicated.<br />
+ * Subgraphs are kept in memory, with the least recently used one evicted when the capacity is exceeded.
+ */
+public final class GraphJavaReaderCache {
+	/**
+	 * Logs messages for troubleshooting and debugging.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(GraphJavaReaderCache.class);
+
+	/**
+	 * The subgraphs in memory by the full file name of their source file, least recently used first.
+	 */
+	private final Map<String, GraphJavaReaderCacheEntry> entries;
+
+	/**
+	 * The source files on which the subgraphs being read depend, by subgraph.
+	 */
+	private final Map<Graph, List<GraphJavaReaderCacheDependency>> subgraphsReading;
+
+	/**
+	 * The full file names of the source files being read into a subgraph.
+	 */
+	private final Set<String> sourceFilesReading;
+
+	/**
+	 * Initialises a new instance of {@link GraphJavaReaderCache}.
+	 * @param capacity The maximum number of subgraphs kept in memory.
+	 * @throws IllegalArgumentException Thrown if capacity is less than one.
+	 */
+	public GraphJavaReaderCache(int capacity)
+			throws IllegalArgumentException {
+		this.entries = createEntries(capacity);
+		this.subgraphsReading = new IdentityHashMap<>();
+		this.sourceFilesReading = new HashSet<>();
+	}
+
+	/**
+	 * Reads the code nodes of a Java source file into a graph, from the cache if the source file is unchanged.
+	 * @param graph The graph to which to add the code nodes from the Java source file.
+	 * @param resolutionProvider Resolves additional Graph nodes if they may have
+	 *                           not been loaded into the Refactoring Advice Graph
+	 *                           (RAG) yet.
+	 * @param sourceFile The path of the Java source file.
+	 * @return The graph.
+	 * @throws ArgumentNullException Thrown if graph, resolutionProvider or sourceFile is null.
+	 * @throws GraphJavaReaderFileReadFailedException Thrown if the source file could not be read.
+	 * @throws GraphReaderException Thrown if the source file could not be parsed.
+	 */
+	public synchronized Graph read(
+			Graph graph,
+			GraphJavaReaderResolutionProvider resolutionProvider,
+			Path sourceFile) throws ArgumentNullException, GraphReaderException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		ArgumentGuard.requireNotNull(resolutionProvider, "resolutionProvider");
+		ArgumentGuard.requireNotNull(sourceFile, "sourceFile");
+		final var fileNameFull = sourceFile.toString();
+		final var fileName = sourceFile.getFileName().toString();
+
+		if (this.sourceFilesReading.contains(fileNameFull)) {
+			// The source file depends on itself through other source files: read it without caching this part.
+			final var source = readSource(sourceFile);
+			this.addDependencies(graph, List.of(source.dependency()));
+			return
+				new GraphJavaReader(graph, resolutionProvider, new StringReader(source.content()), fileNameFull, fileName)
+					.read();
+		}
+
+		var entry = this.entries.get(fileNameFull);
+		if (entry == null || !isCurrent(entry)) {
+			LOGGER.info("Reading source file '{}' into the cache", fileNameFull);
+			final var source = readSource(sourceFile);
+			final var subgraph = new Graph(graph.getRefactoringName());
+			final var dependencies = new ArrayList<GraphJavaReaderCacheDependency>();
+			dependencies.add(source.dependency());
+			this.subgraphsReading.put(subgraph, dependencies);
+			this.sourceFilesReading.add(fileNameFull);
+			try {
+				new GraphJavaReader(subgraph, resolutionProvider, new StringReader(source.content()), fileNameFull, fileName)
+					.read();
+			} finally {
+				this.subgraphsReading.remove(subgraph);
+				this.sourceFilesReading.remove(fileNameFull);
+			}
+			entry = new GraphJavaReaderCacheEntry(subgraph, List.copyOf(dependencies));
+			this.entries.put(fileNameFull, entry);
+		}
+		this.addDependencies(graph, entry.dependencies());
+		graft(entry.subgraph(), graph);
+		return graph;
+	}
+
+	/**
+	 * Removes all subgraphs from the cache.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+
+	private static Map<String, GraphJavaReaderCacheEntry> createEntries(int capacity)
+			throws IllegalArgumentException {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be at least 1");
+		}
+		return new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, GraphJavaReaderCacheEntry> eldest) {
+				return this.size() > capacity;
+			}
+		};
+	}
+
+	private void addDependencies(Graph graph, List<GraphJavaReaderCacheDependency> dependencies) {
+		final var dependenciesReading = this.subgraphsReading.get(graph);
+		if (dependenciesReading != null) {
+			dependenciesReading.addAll(dependencies);
+		}
+	}
+
+	private static boolean isCurrent(GraphJavaReaderCacheEntry entry) {
+		for (final var dependency : entry.dependencies()) {
+			final var sourceFile = Path.of(dependency.fileNameFull());
+			try {
+				final var attributes = Files.readAttributes(sourceFile, BasicFileAttributes.class);
+				if (attributes.size() != dependency.size()) {
+					return false;
+				}
+				// A source file that was touched or rewritten may still have the same content.
+				if (!attributes.lastModifiedTime().equals(dependency.lastModifiedTime()) &&
+						!hash(dependency.fileNameFull(), Files.readAllBytes(sourceFile)).equals(dependency.hash())) {
+					return false;
+				}
+			} catch (IOException _) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static GraphJavaReaderCacheSource readSource(Path sourceFile) throws GraphJavaReaderFileReadFailedException {
+		try {
+			// The attributes are read before the content, so that a change in between is noticed next time.
+			final var attributes = Files.readAttributes(sourceFile, BasicFileAttributes.class);
+			final var content = Files.readAllBytes(sourceFile);
+			final var fileNameFull = sourceFile.toString();
+			return
+				new GraphJavaReaderCacheSource(
+					new String(content, GraphJavaReader.SOURCE_FILE_CHARSET),
+					new GraphJavaReaderCacheDependency(
+						fileNameFull,
+						attributes.size(),
+						attributes.lastModifiedTime(),
+						hash(fileNameFull, content)));
+		} catch (IOException exception) {
+			throw new GraphJavaReaderFileReadFailedException(exception);
+		}
+	}
+
+	private static String hash(String fileNameFull, byte[] content) {
+		try {
+			final var digest = MessageDigest.getInstance("SHA-256");
+			// The full file name is part of the subgraph, through its program locations.
+			digest.update(fileNameFull.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte)0);
+			digest.update(content);
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/**
+	 * Grafts the nodes and edges of a subgraph onto a graph.
+	 * Nodes that the graph already has are reused, together with the nodes they own in the subgraph.
+	 */
+	private static void graft(Graph subgraph, Graph graph) {
+		final Map<GraphNode, GraphNode> nodesGrafted = new IdentityHashMap<>();
+		final var nodesReused = new ArrayDeque<GraphNode>();
+		for (final var node : subgraph.getNodes()) {
+			final var nodeExisting = findExisting(node, graph);
+			if (nodeExisting != null) {
+				nodesGrafted.put(node, nodeExisting);
+				nodesReused.add(node);
+			}
+		}
+
+		// The identifiers, locations, parameters and bodies of reused nodes are those already in the graph.
+		final Set<GraphNode> nodesOwned = Collections.newSetFromMap(new IdentityHashMap<>());
+		while (!nodesReused.isEmpty()) {
+			for (final var edge : subgraph.getEdgesFrom(nodesReused.pop())) {
+				final var destinationNode = edge.getDestinationNode();
+				if (!isMatchable(destinationNode) && nodesOwned.add(destinationNode)) {
+					nodesReused.add(destinationNode);
+				}
+			}
+		}
+
+		// Types first, so that they are shared rather than cloned along with parameters and attributes.
+		for (final var typeNode : subgraph.getNodes(GraphNodeType.class)) {
+			nodesGrafted.computeIfAbsent(typeNode, _ -> GraphNodeType.computeType(graph, typeNode.getTypeName()));
+		}
+		for (final var operationNode : subgraph.getNodes(GraphNodeOperation.class)) {
+			if (nodesGrafted.containsKey(operationNode) || nodesOwned.contains(operationNode)) {
+				continue;
+			}
+			final var operationParameters = operationNode.getOperationParameters();
+			final var operationParametersGrafted = new ArrayList<GraphNodeOperationParameter>(operationParameters.size());
+			for (final var operationParameter : operationParameters) {
+				final var operationParameterGrafted =
+					new GraphNodeOperationParameter(graph, operationParameter.getParameterName());
+				nodesGrafted.put(operationParameter, operationParameterGrafted);
+				operationParametersGrafted.add(operationParameterGrafted);
+			}
+			nodesGrafted.put(
+				operationNode,
+				new GraphNodeOperation(
+					graph,
+					GraphNodeIdentifier.computeIdentifier(graph, operationNode.getOperationName()),
+					operationParametersGrafted));
+		}
+		// Identifiers are not grafted themselves, as the grafted nodes name themselves.
+		for (final var node : subgraph.getNodes()) {
+			if (!nodesGrafted.containsKey(node) &&
+					!nodesOwned.contains(node) &&
+					!(node instanceof GraphNodeIdentifier) &&
+					node instanceof GraphNodeBase nodeBase) {
+				nodesGrafted.put(node, nodeBase.clone(graph));
+			}
+		}
+
+		for (final var edge : subgraph.getEdges()) {
+			final var sourceNode = nodesGrafted.get(edge.getSourceNode());
+			final var destinationNode = nodesGrafted.get(edge.getDestinationNode());
+			if (sourceNode == null || destinationNode == null ||
+					graph
+						.getEdgesWith(sourceNode, destinationNode)
+						.stream()
+						.anyMatch(edgeExisting -> edgeExisting.getClass() == edge.getClass())) {
+				continue;
+			}
+			graph.addEdge(edge.clone(sourceNode, destinationNode));
+		}
+	}
+
+	private static GraphNode findExisting(GraphNode node, Graph graph) {
+		return switch (node) {
+			case GraphNodePackage packageNode ->
+				GraphNodeCodeNameIndex
+					.getFullyQualifiedName(packageNode)
+					.flatMap(name -> graph.getNode(name, GraphNodePackage.class))
+					.orElse(null);
+			case GraphNodeClass classNode ->
+				GraphNodeCodeNameIndex
+					.getFullyQualifiedName(classNode)
+					.flatMap(name -> graph.getNode(name, GraphNodeClass.class))
+					.orElse(null);
+			case GraphNodeInterface interfaceNode ->
+				GraphNodeCodeNameIndex
+					.getFullyQualifiedName(interfaceNode)
+					.flatMap(name -> graph.getNode(name, GraphNodeInterface.class))
+					.orElse(null);
+			case GraphNodeType typeNode -> graph.getNameIndex().getType(typeNode.getTypeName()).orElse(null);
+			case GraphNodeOperation operationNode -> {
+				final var classNode = findExistingOwner(operationNode, graph);
+				yield
+					classNode == null
+						? null
+						: classNode
+							.getOperationNode(
+								operationNode.getOperationName(),
+								operationNode
+									.getOperationParameters()
+									.stream()
+									.map(operationParameter ->
+										new GraphNodeOperationParameterSignature(
+											operationParameter.getParameterName(),
+											operationParameter.getParameterType() == null
+												? null
+												: operationParameter.getParameterType().getTypeName()))
+									.toList())
+							.orElse(null);
+			}
+			case GraphNodeAttribute attributeNode -> {
+				final var classNode = findExistingOwner(attributeNode, graph);
+				yield classNode == null ? null : classNode.getAttributeNode(attributeNode.getAttributeName()).orElse(null);
+			}
+			default -> null;
+		};
+	}
+
+	private static GraphNodeClass findExistingOwner(GraphNodeCode memberNode, Graph graph) {
+		for (final var edge : memberNode.getEdgesIncoming()) {
+			if (edge.getSourceNode() instanceof GraphNodeClass classNode) {
+				final var classNodeExisting = findExisting(classNode, graph);
+				if (classNodeExisting != null) {
+					return (GraphNodeClass)classNodeExisting;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static boolean isMatchable(GraphNode node) {
+		return
+			node instanceof GraphNodePackage ||
+			node instanceof GraphNodeClass ||
+			node instanceof GraphNodeInterface ||
+			node instanceof GraphNodeType ||
+			node instanceof GraphNodeOperation ||
+			node instanceof GraphNodeAttribute;
+	}
+
+	/**
+	 * A source file, as it was when it was read.
+	 * @param fileNameFull The full file name of the source file.
+	 * @param size The size of the source file in bytes.
+	 * @param lastModifiedTime The time at which the source file was last modified.
+	 * @param hash The hash of the full file name and content of the source file.
+	 */
+	private record GraphJavaReaderCacheDependency(
+		String fileNameFull,
+		long size,
+		FileTime lastModifiedTime,
+		String hash) { }
+
+	/**
+	 * The content of a source file and the source file as it was when it was read.
+	 * @param content The content of the source file.
+	 * @param dependency The source file as it was when it was read.
+	 */
+	private record GraphJavaReaderCacheSource(String content, GraphJavaReaderCacheDependency dependency) { }
+
+	/**
+	 * The subgraph read from a source file.
+	 * @param subgraph The code nodes read from the source file.
+	 * @param dependencies The source files that were read into the subgraph, including the source file itself.
+	 */
+	private record GraphJavaReaderCacheEntry(
+		Graph subgraph,
+		List<GraphJavaReaderCacheDependency> dependencies) { }
+}
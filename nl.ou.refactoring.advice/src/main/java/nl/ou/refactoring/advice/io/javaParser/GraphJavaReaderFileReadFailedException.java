@@ -0,0 +1,21 @@
+package nl.ou.refactoring.advice.io.javaParser;
+
+import java.io.IOException;
+
+/**
+ * An exception that is thrown if the {@link GraphJavaProjectReader} could not read a Java source file.
+ */
+public final class GraphJavaReaderFileReadFailedException extends GraphJavaReaderException {
+	/**
+	 * A generated serial version unique identifier.
+	 */
+	private static final long serialVersionUID = -3893014432178915530L;
+
+	/**
+	 * Initialises a new instance of {@link GraphJavaReaderFileReadFailedException}.
+	 * @param cause {@link IOException} The input failure.
+	 */
+	public GraphJavaReaderFileReadFailedException(IOException cause) {
+		super(cause);
+	}
+}
@@ -2,7 +2,6 @@ package nl.ou.refactoring.advice.io.javaParser;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -10,22 +9,34 @@ import org.apache.logging.log4j.Logger;
 import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.CharLiteralExpr;
+import com.github.javaparser.ast.expr.DoubleLiteralExpr;
+import com.github.javaparser.ast.expr.EnclosedExpr;
 import com.github.javaparser.ast.expr.Expression;
-import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.LongLiteralExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
-import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.ObjectCreationExpr;
-import com.github.javaparser.ast.expr.ThisExpr;
+import com.github.javaparser.ast.type.ArrayType;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.PrimitiveType;
 import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.ast.type.VoidType;
 import com.github.javaparser.resolution.SymbolResolver;
 import com.github.javaparser.resolution.UnsolvedSymbolException;
 import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.model.typesystem.ReferenceTypeImpl;
+import com.github.javaparser.resolution.types.ResolvedArrayType;
+import com.github.javaparser.resolution.types.ResolvedPrimitiveType;
 import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.resolution.types.ResolvedVoidType;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.io.javaParser.resolution.GraphResolvedClassDeclaration;
 import nl.ou.refactoring.advice.io.javaParser.resolution.GraphResolvedMethodDeclaration;
 import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
 import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperationParameterSignature;
@@ -60,20 +71,6 @@ public final class GraphJavaReaderSymbolResolver implements SymbolResolver {
 		return this.graph;
 	}
 	
-	private static <T extends Node> Optional<T> findAncestor(Node node, Class<T> classType) {
-		var parentNodeOptional = node.getParentNode();
-		
-		while (parentNodeOptional.isPresent()) {
-			final var parentNode = parentNodeOptional.get();
-			if (classType.isInstance(parentNode)) {
-				return Optional.of(classType.cast(parentNode));
-			}
-			parentNodeOptional = parentNode.getParentNode();
-		}
-		
-		return Optional.empty();
-	}
-	
 	private static List<GraphNodeOperationParameterSignature> toParameterSignatures(NodeList<Expression> methodArguments) {
 		final var result = new ArrayList<GraphNodeOperationParameterSignature>();
 		for (final var expression : methodArguments) {
@@ -97,22 +94,7 @@ public final class GraphJavaReaderSymbolResolver implements SymbolResolver {
 			
 			// Resolve receiver Class
 			final var receiverClassFullyQualifiedName = this.resolveReceiverClassFullyQualifiedName(methodCallExpression);
-			var receiverClassNodeOptional = this.graph.getNode(receiverClassFullyQualifiedName, GraphNodeClass.class);
-			if (receiverClassNodeOptional.isEmpty()) {
-				LOGGER.info("Attempting to resolve Class Node by Fully Qualified Name '{}'", receiverClassFullyQualifiedName);
-				receiverClassNodeOptional =
-					this
-						.resolutionProvider
-						.resolveByFullyQualifiedName(
-							this.graph,
-							receiverClassFullyQualifiedName,
-							GraphNodeClass.class
-						);
-				if (receiverClassNodeOptional.isEmpty()) {
-					throw new UnsolvedSymbolException(methodName);
-				}
-			}
-			final var receiverClassNode = receiverClassNodeOptional.get();
+			final var receiverClassNode = this.resolveClassNode(receiverClassFullyQualifiedName, methodName);
 			
 			// Resolve receiver Operation
 			final var receiverOperationNodeOptional = receiverClassNode.getOperationNode(methodName, methodArgumentSignatures);
@@ -127,155 +109,144 @@ public final class GraphJavaReaderSymbolResolver implements SymbolResolver {
 		return null;
 	}
 	
-	private String resolveReceiverClassFullyQualifiedName(MethodCallExpr methodCallExpression, Expression expression) throws UnsolvedSymbolException {
-		return switch (expression) {
-			case FieldAccessExpr fieldAccessExpression ->
-				this.resolveReceiverClassFullyQualifiedName(
-					methodCallExpression,
-					fieldAccessExpression
-				);
-			case MethodCallExpr innerMethodCallExpression -> {
-				final var innerMethod = this.resolveDeclaration(innerMethodCallExpression, GraphResolvedMethodDeclaration.class);
-				yield innerMethod.getReturnType().toString();
-			}
-			case NameExpr nameExpression ->
-				this.resolveReceiverClassFullyQualifiedName(
-					methodCallExpression,
-					nameExpression
-				);
-			case ObjectCreationExpr objectCreationExpression ->
-				objectCreationExpression.getType().getNameAsString();
-			case ThisExpr thisExpression ->
-				this.resolveReceiverClassFullyQualifiedName(
-					methodCallExpression,
-					thisExpression
-				);
-			default -> throw new UnsolvedSymbolException(methodCallExpression.getNameAsString());
-		};
-	}
-	
-	private String resolveReceiverClassFullyQualifiedName(
-		MethodCallExpr methodCallExpression,
-		FieldAccessExpr fieldAccessExpression
-	) throws UnsolvedSymbolException {
-		final var fieldAccessScope = fieldAccessExpression.getScope();
-		if (fieldAccessScope instanceof ThisExpr) {
-			final var ownerClassOptional = findAncestor(fieldAccessExpression, ClassOrInterfaceDeclaration.class);
-			if (ownerClassOptional.isEmpty()) {
-				throw new UnsolvedSymbolException(methodCallExpression.getNameAsString());
-			}
-			
-			final var ownerClass = ownerClassOptional.get();
-			final var fieldDeclarationOptional = ownerClass.getFieldByName(fieldAccessExpression.getNameAsString());
-			if (fieldDeclarationOptional.isEmpty()) {
-				throw new UnsolvedSymbolException(methodCallExpression.getNameAsString());
-			}
-			
-			final var fieldDeclaration = fieldDeclarationOptional.get();
-			final var fieldDeclarationType = fieldDeclaration.getElementType();
-			return this.resolveTypeToFullyQualifiedName(ownerClass, fieldDeclarationType);
+	private String resolveReceiverClassFullyQualifiedName(MethodCallExpr methodCallExpression)
+			throws UnsolvedSymbolException {
+		final var symbolTable =
+			GraphJavaReaderSymbolTable
+				.of(methodCallExpression)
+				.orElseThrow(() -> new UnsolvedSymbolException(methodCallExpression.getNameAsString()));
+		
+		// Implicit receiver (e.g. `getName()`)
+		if (methodCallExpression.getScope().isEmpty()) {
+			return
+				symbolTable
+					.getEnclosingClassName(methodCallExpression)
+					.orElseThrow(() -> new UnsolvedSymbolException(methodCallExpression.getNameAsString()));
 		}
 		
-		return this.resolveReceiverClassFullyQualifiedName(methodCallExpression, fieldAccessExpression.getScope());
+		// Explicit receiver (e.g. `employee.getName()`)
+		final var receiver = methodCallExpression.getScope().get();
+		if (receiver instanceof MethodCallExpr innerMethodCallExpression) {
+			final var innerMethod = this.resolveDeclaration(innerMethodCallExpression, GraphResolvedMethodDeclaration.class);
+			return
+				innerMethod
+					.getOperationNode()
+					.getReturnType()
+					.map(returnType -> symbolTable.resolveTypeName(returnType.getTypeName()))
+					.orElseThrow(() -> new UnsolvedSymbolException(methodCallExpression.getNameAsString()));
+		}
+		return
+			symbolTable
+				.resolveReceiverTypeName(methodCallExpression, receiver)
+				.orElseThrow(() -> new UnsolvedSymbolException(methodCallExpression.getNameAsString()));
 	}
-	
-	private String resolveTypeToFullyQualifiedName(ClassOrInterfaceDeclaration contextClass, Type type) throws UnsolvedSymbolException {
-		return switch (type) {
-			case ClassOrInterfaceType classOrInterfaceType -> {
-				final var nameWithScope = classOrInterfaceType.getNameWithScope();
-				if (nameWithScope.contains(".")) {
-					yield nameWithScope;
-				}
-				
-				final var simpleName = classOrInterfaceType.getNameAsString();
-				final var compilationUnit =
-					contextClass
-						.findCompilationUnit()
-						.orElseThrow(() -> new UnsolvedSymbolException(type.toString()));
-				final var imports = compilationUnit.getImports();
-				for (final var importDeclaration : imports) {
-					if (importDeclaration.isStatic()) {
-						continue;
-					}
-					if (importDeclaration.getName().getIdentifier().equals(simpleName)) {
-						yield importDeclaration.getName().toString();
-					}
+
+	@Override
+	public <T> T toResolvedType(Type javaparserType, Class<T> resultClass) throws UnsolvedSymbolException {
+		final ResolvedType resolvedType = switch (javaparserType) {
+			case ArrayType arrayType ->
+				new ResolvedArrayType(this.toResolvedType(arrayType.getComponentType(), ResolvedType.class));
+			case ClassOrInterfaceType classOrInterfaceType ->
+				this.toResolvedType(classOrInterfaceType, classOrInterfaceType.getNameWithScope());
+			case PrimitiveType primitiveType -> ResolvedPrimitiveType.byName(primitiveType.asString());
+			case VoidType _ -> ResolvedVoidType.INSTANCE;
+			default -> throw new UnsolvedSymbolException(javaparserType.asString());
+		};
+		return resultClass.cast(resolvedType);
+	}
+
+	@Override
+	public ResolvedType calculateType(Expression expression) throws UnsolvedSymbolException {
+		return switch (expression) {
+			case BooleanLiteralExpr _ -> ResolvedPrimitiveType.BOOLEAN;
+			case CharLiteralExpr _ -> ResolvedPrimitiveType.CHAR;
+			case IntegerLiteralExpr _ -> ResolvedPrimitiveType.INT;
+			case LongLiteralExpr _ -> ResolvedPrimitiveType.LONG;
+			case DoubleLiteralExpr doubleLiteralExpression ->
+				doubleLiteralExpression.getValue().matches(".*[fF]")
+					? ResolvedPrimitiveType.FLOAT
+					: ResolvedPrimitiveType.DOUBLE;
+			case EnclosedExpr enclosedExpression -> this.calculateType(enclosedExpression.getInner());
+			case ObjectCreationExpr objectCreationExpression ->
+				this.toResolvedType(objectCreationExpression.getType(), ResolvedType.class);
+			case MethodCallExpr methodCallExpression -> {
+				final var returnTypeName =
+					this
+						.resolveDeclaration(methodCallExpression, GraphResolvedMethodDeclaration.class)
+						.getOperationNode()
+						.getReturnType()
+						.map(returnType -> returnType.getTypeName())
+						.orElseThrow(() -> new UnsolvedSymbolException(methodCallExpression.getNameAsString()));
+				yield this.toResolvedType(methodCallExpression, returnTypeName);
+			}
+			default -> {
+				// Other receivers (e.g. `employee` in `employee.getName()`) are resolved in the scope of their invocation.
+				if (expression.getParentNode().orElse(null) instanceof MethodCallExpr methodCallExpression
+						&& methodCallExpression.getScope().orElse(null) == expression) {
+					yield this.toResolvedType(expression, this.resolveReceiverClassFullyQualifiedName(methodCallExpression));
 				}
-				
-				final var packageDeclaration =
-					compilationUnit
-						.getPackageDeclaration()
-						.orElseThrow(() -> new UnsolvedSymbolException(type.toString()));
-				yield packageDeclaration.getNameAsString() + "." + simpleName;
+				throw new UnsolvedSymbolException(expression.toString());
 			}
-			default -> throw new UnsolvedSymbolException(type.toString());
 		};
 	}
-	
-	private String resolveReceiverClassFullyQualifiedName(MethodCallExpr methodCallExpression, NameExpr nameExpression)
-			throws UnsolvedSymbolException {
-		final var name = nameExpression.getNameAsString();
-		if (Character.isUpperCase(name.charAt(0))) {
-			return name; // Static Class
+
+	/**
+	 * Resolves a type name as it occurs in the compilation unit of node, e.g. the return type of an Operation.
+	 */
+	private ResolvedType toResolvedType(Node node, String typeName) throws UnsolvedSymbolException {
+		final var typeArgumentsIndex = typeName.indexOf('<');
+		final var typeNameRaw = typeArgumentsIndex < 0 ? typeName : typeName.substring(0, typeArgumentsIndex);
+		if (typeNameRaw.endsWith("[]")) {
+			return new ResolvedArrayType(this.toResolvedType(node, typeNameRaw.substring(0, typeNameRaw.length() - 2)));
 		}
-		
-		// TODO Variable resolution not implemented yet.
-		throw new UnsolvedSymbolException(methodCallExpression.getNameAsString());
-	}
-	
-	private String resolveReceiverClassFullyQualifiedName(MethodCallExpr methodCallExpression, ThisExpr thisExpression)
-			throws UnsolvedSymbolException {
-		final var declaringClassOptional = findAncestor(methodCallExpression, ClassOrInterfaceDeclaration.class);
-		if (declaringClassOptional.isEmpty()) {
-			throw new UnsolvedSymbolException(methodCallExpression.getNameAsString());
+		if (typeNameRaw.equals("void")) {
+			return ResolvedVoidType.INSTANCE;
 		}
-		
-		final var declaringClass = declaringClassOptional.get();
-		final var declaringClassFullyQualifiedNameOptional = declaringClass.getFullyQualifiedName();
-		if (declaringClassFullyQualifiedNameOptional.isEmpty()) {
-			throw new UnsolvedSymbolException(methodCallExpression.getNameAsString());
+		for (final var primitiveType : ResolvedPrimitiveType.values()) {
+			if (primitiveType.describe().equals(typeNameRaw)) {
+				return primitiveType;
+			}
 		}
-		
-		return declaringClassFullyQualifiedNameOptional.get();
+		final var symbolTable =
+			node
+				.findCompilationUnit()
+				.map(GraphJavaReaderSymbolTable::of)
+				.orElseThrow(() -> new UnsolvedSymbolException(typeName));
+		final var classNode = this.resolveClassNode(symbolTable.resolveTypeName(typeNameRaw), typeName);
+		return new ReferenceTypeImpl(new GraphResolvedClassDeclaration(classNode));
 	}
-	
-	private String resolveReceiverClassFullyQualifiedName(MethodCallExpr methodCallExpression)
+
+	private GraphNodeClass resolveClassNode(String classFullyQualifiedName, String symbolName)
 			throws UnsolvedSymbolException {
-		// Explicit receiver (e.g. `employee.getName()`s)
-		if(methodCallExpression.getScope().isPresent()) {
-			final var receiver = methodCallExpression.getScope().get();
-			return this.resolveReceiverClassFullyQualifiedName(methodCallExpression, receiver);
-		}
-		
-		// Implicit receiver (e.g. `this.getName()`)
-		final var enclosingClassOptional = findAncestor(methodCallExpression, ClassOrInterfaceDeclaration.class);
-		if (enclosingClassOptional.isEmpty()) {
-			throw new UnsolvedSymbolException(methodCallExpression.getNameAsString());
+		final var classNodeOptional = this.graph.getNode(classFullyQualifiedName, GraphNodeClass.class);
+		if (classNodeOptional.isPresent()) {
+			return classNodeOptional.get();
 		}
-		
+		LOGGER.info("Attempting to resolve Class Node by Fully Qualified Name '{}'", classFullyQualifiedName);
 		return
-			enclosingClassOptional
-				.get()
-				.getFullyQualifiedName()
-				.orElseThrow(() -> new UnsolvedSymbolException(methodCallExpression.getNameAsString()));
-	}
-
-	@Override
-	public <T> T toResolvedType(Type javaparserType, Class<T> resultClass) {
-		// TODO Auto-generated method stub
-		return null;
-	}
-
-	@Override
-	public ResolvedType calculateType(Expression expression) {
-		// TODO Auto-generated method stub
-		return null;
+			this
+				.resolutionProvider
+				.resolveByFullyQualifiedName(
+					this.graph,
+					classFullyQualifiedName,
+					GraphNodeClass.class
+				)
+				.orElseThrow(() -> new UnsolvedSymbolException(symbolName));
 	}
 
 	@Override
-	public ResolvedReferenceTypeDeclaration toTypeDeclaration(Node node) {
-		// TODO Auto-generated method stub
-		return null;
+	public ResolvedReferenceTypeDeclaration toTypeDeclaration(Node node) throws UnsolvedSymbolException {
+		// Only classes are read into the graph, so interfaces, enumerations and records remain unresolved.
+		if (node instanceof ClassOrInterfaceDeclaration classDeclaration) {
+			final var className =
+				classDeclaration
+					.findCompilationUnit()
+					.flatMap(compilationUnit -> GraphJavaReaderSymbolTable.of(compilationUnit).getClassName(classDeclaration))
+					.orElseThrow(() -> new UnsolvedSymbolException(classDeclaration.getNameAsString()));
+			return new GraphResolvedClassDeclaration(this.resolveClassNode(className, classDeclaration.getNameAsString()));
+		}
+		throw new UnsolvedSymbolException(
+			node instanceof TypeDeclaration<?> typeDeclaration ? typeDeclaration.getNameAsString() : node.toString());
 	}
 
 }
@@ -0,0 +1,411 @@
+package nl.ou.refactoring.advice.io.javaParser;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.CallableDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.ThisExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.CatchClause;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.TryStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+
+/**
+ * The symbols of a compilation unit that {@link GraphJavaReaderSymbolResolver} needs to resolve method invocations:
+ * its imports, its classes, their fields, and the local variables in scope at every method invocation.<br />
+ * The table is built in a single pass over the compilation unit. Every method invocation is annotated with
+ * its scope, so that resolving its receiver takes a few hash lookups instead of walking the syntax tree.
+ * Use {@link #of(CompilationUnit)} to obtain the table of a compilation unit.
+ */
+public final class GraphJavaReaderSymbolTable {
+	/**
+	 * The key of the symbol table in the data of its compilation unit.
+	 */
+	private static final DataKey<GraphJavaReaderSymbolTable> SYMBOL_TABLE = new DataKey<>() { };
+
+	/**
+	 * The key of the scope in the data of a method invocation.
+	 */
+	private static final DataKey<GraphJavaReaderSymbolScope> SCOPE = new DataKey<>() { };
+
+	/**
+	 * The name of the package of the compilation unit.
+	 */
+	private final String packageName;
+
+	/**
+	 * The fully qualified names of the single-type imports, by simple name.
+	 */
+	private final Map<String, String> imports;
+
+	/**
+	 * The fully qualified names of the classes and interfaces declared in the compilation unit, by simple name.
+	 */
+	private final Map<String, String> classes;
+
+	/**
+	 * The fully qualified names of the classes and interfaces declared in the compilation unit, by declaration.
+	 * Declarations are compared by identity, as structurally equal declarations may be nested in different classes.
+	 */
+	private final Map<ClassOrInterfaceDeclaration, String> classDeclarations;
+
+	/**
+	 * The number of variables declared so far in the pass, which orders declarations and invocations.
+	 */
+	private int declarationCount;
+
+	private GraphJavaReaderSymbolTable(CompilationUnit compilationUnit) {
+		this.packageName =
+			compilationUnit
+				.getPackageDeclaration()
+				.map(packageDeclaration -> packageDeclaration.getNameAsString())
+				.orElse(null);
+		this.imports = new HashMap<>();
+		this.classes = new HashMap<>();
+		this.classDeclarations = new IdentityHashMap<>();
+		for (final var importDeclaration : compilationUnit.getImports()) {
+			if (!importDeclaration.isStatic() && !importDeclaration.isAsterisk()) {
+				this.imports.put(importDeclaration.getName().getIdentifier(), importDeclaration.getNameAsString());
+			}
+		}
+		this.visit(compilationUnit, null);
+	}
+
+	/**
+	 * Gets the symbol table of a compilation unit, building it if it has not been built yet.
+	 * @param compilationUnit The compilation unit.
+	 * @return The symbol table of the compilation unit.
+	 * @throws ArgumentNullException Thrown if compilationUnit is null.
+	 */
+	public static GraphJavaReaderSymbolTable of(CompilationUnit compilationUnit)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(compilationUnit, "compilationUnit");
+		if (compilationUnit.containsData(SYMBOL_TABLE)) {
+			return compilationUnit.getData(SYMBOL_TABLE);
+		}
+		final var symbolTable = new GraphJavaReaderSymbolTable(compilationUnit);
+		compilationUnit.setData(SYMBOL_TABLE, symbolTable);
+		return symbolTable;
+	}
+
+	/**
+	 * Gets the symbol table of the compilation unit that contains a method invocation.
+	 * @param methodCallExpression The method invocation.
+	 * @return The symbol table, if the method invocation belongs to a compilation unit, otherwise empty.
+	 * @throws ArgumentNullException Thrown if methodCallExpression is null.
+	 */
+	public static Optional<GraphJavaReaderSymbolTable> of(MethodCallExpr methodCallExpression)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(methodCallExpression, "methodCallExpression");
+		if (methodCallExpression.containsData(SCOPE)) {
+			return Optional.of(methodCallExpression.getData(SCOPE).symbolTable());
+		}
+		return methodCallExpression.findCompilationUnit().map(GraphJavaReaderSymbolTable::of);
+	}
+
+	/**
+	 * Gets the fully qualified name of a type name as it occurs in the compilation unit.
+	 * @param typeName The simple or qualified name of the type, without type arguments.
+	 * @return The fully qualified name of the type.
+	 * @throws ArgumentNullException Thrown if typeName is null.
+	 */
+	public String resolveTypeName(String typeName)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(typeName, "typeName");
+		if (typeName.contains(".")) {
+			return typeName;
+		}
+		final var importedName = this.imports.get(typeName);
+		if (importedName != null) {
+			return importedName;
+		}
+		final var declaredName = this.classes.get(typeName);
+		if (declaredName != null) {
+			return declaredName;
+		}
+		return this.packageName == null ? typeName : this.packageName + "." + typeName;
+	}
+
+	/**
+	 * Gets the fully qualified name of a class or interface declared in the compilation unit.
+	 * @param classDeclaration The declaration of the class or interface.
+	 * @return The fully qualified name of the class or interface, if declared in the compilation unit, otherwise empty.
+	 * @throws ArgumentNullException Thrown if classDeclaration is null.
+	 */
+	public Optional<String> getClassName(ClassOrInterfaceDeclaration classDeclaration)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(classDeclaration, "classDeclaration");
+		return Optional.ofNullable(this.classDeclarations.get(classDeclaration));
+	}
+
+	/**
+	 * Gets the fully qualified name of the class that declares the method in which a method invocation occurs.
+	 * @param methodCallExpression The method invocation.
+	 * @return The fully qualified name of the enclosing class, if any, otherwise empty.
+	 * @throws ArgumentNullException Thrown if methodCallExpression is null.
+	 */
+	public Optional<String> getEnclosingClassName(MethodCallExpr methodCallExpression)
+			throws ArgumentNullException {
+		return this.getScope(methodCallExpression).map(scope -> scope.frame().getClassName());
+	}
+
+	/**
+	 * Gets the fully qualified name of the type of the receiver of a method invocation,
+	 * for receivers that are a class name, a variable, a field, {@code this} or an object creation.
+	 * @param methodCallExpression The method invocation.
+	 * @param receiver The receiver of the method invocation.
+	 * @return The fully qualified name of the type of the receiver, if resolved, otherwise empty.
+	 * @throws ArgumentNullException Thrown if methodCallExpression or receiver is null.
+	 */
+	public Optional<String> resolveReceiverTypeName(MethodCallExpr methodCallExpression, Expression receiver)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(receiver, "receiver");
+		final var scopeOptional = this.getScope(methodCallExpression);
+		if (scopeOptional.isEmpty()) {
+			return Optional.empty();
+		}
+		final var scope = scopeOptional.get();
+		return switch (receiver) {
+			case ThisExpr _ -> Optional.ofNullable(scope.frame().getClassName());
+			case ObjectCreationExpr objectCreationExpression ->
+				Optional.of(this.resolveTypeName(objectCreationExpression.getType().getNameWithScope()));
+			case FieldAccessExpr fieldAccessExpression when fieldAccessExpression.getScope() instanceof ThisExpr ->
+				scope
+					.frame()
+					.findField(fieldAccessExpression.getNameAsString())
+					.flatMap(this::resolveTypeName);
+			case NameExpr nameExpression -> {
+				final var name = nameExpression.getNameAsString();
+				final var variableType = scope.frame().findVariable(name, scope.declarationCount());
+				if (variableType.isPresent()) {
+					yield variableType.flatMap(this::resolveTypeName);
+				}
+				yield Character.isUpperCase(name.charAt(0)) ? Optional.of(this.resolveTypeName(name)) : Optional.empty();
+			}
+			default -> Optional.empty();
+		};
+	}
+
+	private Optional<GraphJavaReaderSymbolScope> getScope(MethodCallExpr methodCallExpression) {
+		ArgumentGuard.requireNotNull(methodCallExpression, "methodCallExpression");
+		if (!methodCallExpression.containsData(SCOPE)) {
+			return Optional.empty();
+		}
+		final var scope = methodCallExpression.getData(SCOPE);
+		return scope.symbolTable() == this ? Optional.of(scope) : Optional.empty();
+	}
+
+	private void visit(Node node, GraphJavaReaderSymbolFrame frame) {
+		switch (node) {
+			case ClassOrInterfaceDeclaration classDeclaration -> {
+				final var classNameEnclosing = frame == null ? null : frame.getClassName();
+				final var className =
+					classNameEnclosing != null
+						? classNameEnclosing + "." + classDeclaration.getNameAsString()
+						: this.packageName != null
+							? this.packageName + "." + classDeclaration.getNameAsString()
+							: classDeclaration.getNameAsString();
+				this.classes.putIfAbsent(classDeclaration.getNameAsString(), className);
+				this.classDeclarations.put(classDeclaration, className);
+				final var frameClass = new GraphJavaReaderSymbolFrame(frame, className);
+				// Fields are in scope throughout their class, including before their declaration.
+				for (final var fieldDeclaration : classDeclaration.getFields()) {
+					for (final var variable : fieldDeclaration.getVariables()) {
+						frameClass.declare(variable.getNameAsString(), variable.getType(), -1);
+					}
+				}
+				this.visitChildren(classDeclaration, frameClass);
+			}
+			case ForEachStmt forEachStatement -> {
+				// The iterable is visited before the variable comes into scope.
+				this.visit(forEachStatement.getIterable(), frame);
+				final var frameLoop = new GraphJavaReaderSymbolFrame(frame, null);
+				final var variable = forEachStatement.getVariableDeclarator();
+				this.declare(
+					frameLoop,
+					variable.getNameAsString(),
+					variable.getType().isVarType()
+						? this.getElementType(forEachStatement.getIterable(), frame)
+						: variable.getType());
+				this.visit(forEachStatement.getBody(), frameLoop);
+			}
+			case VariableDeclarationExpr variableDeclarationExpression -> {
+				for (final var variable : variableDeclarationExpression.getVariables()) {
+					// The initialiser is visited before the variable comes into scope.
+					variable.getInitializer().ifPresent(initializer -> this.visit(initializer, frame));
+					this.declare(frame, variable.getNameAsString(), getType(variable));
+				}
+			}
+			case Parameter parameter -> {
+				this.declare(frame, parameter.getNameAsString(), parameter.getType());
+				this.visitChildren(parameter, frame);
+			}
+			case CallableDeclaration<?> _, BlockStmt _, ForStmt _, LambdaExpr _, CatchClause _, TryStmt _ ->
+				this.visitChildren(node, new GraphJavaReaderSymbolFrame(frame, null));
+			case MethodCallExpr methodCallExpression -> {
+				methodCallExpression.setData(
+					SCOPE,
+					new GraphJavaReaderSymbolScope(this, frame, this.declarationCount));
+				this.visitChildren(methodCallExpression, frame);
+			}
+			default -> this.visitChildren(node, frame);
+		}
+	}
+
+	private void visitChildren(Node node, GraphJavaReaderSymbolFrame frame) {
+		for (final var childNode : node.getChildNodes()) {
+			this.visit(childNode, frame);
+		}
+	}
+
+	private void declare(GraphJavaReaderSymbolFrame frame, String name, Type type) {
+		if (frame != null) {
+			frame.declare(name, type, this.declarationCount++);
+		}
+	}
+
+	private Type getElementType(Expression iterable, GraphJavaReaderSymbolFrame frame) {
+		if (frame == null) {
+			return null;
+		}
+		final var iterableType = switch (iterable) {
+			case NameExpr nameExpression -> frame.findVariable(nameExpression.getNameAsString(), this.declarationCount);
+			case FieldAccessExpr fieldAccessExpression when fieldAccessExpression.getScope() instanceof ThisExpr ->
+				frame.findField(fieldAccessExpression.getNameAsString());
+			default -> Optional.<Type>empty();
+		};
+		return iterableType.map(GraphJavaReaderSymbolTable::getElementType).orElse(null);
+	}
+
+	private static Type getElementType(Type iterableType) {
+		if (iterableType.isArrayType()) {
+			return iterableType.asArrayType().getComponentType();
+		}
+		if (iterableType instanceof ClassOrInterfaceType classOrInterfaceType) {
+			return
+				classOrInterfaceType
+					.getTypeArguments()
+					.filter(typeArguments -> typeArguments.size() == 1)
+					.map(typeArguments -> typeArguments.get(0))
+					.orElse(null);
+		}
+		return null;
+	}
+
+	private static Type getType(VariableDeclarator variable) {
+		if (!variable.getType().isVarType()) {
+			return variable.getType();
+		}
+		return
+			variable
+				.getInitializer()
+				.filter(ObjectCreationExpr.class::isInstance)
+				.map(initializer -> (Type)((ObjectCreationExpr)initializer).getType())
+				.orElse(null);
+	}
+
+	private Optional<String> resolveTypeName(Type type) {
+		return
+			type instanceof ClassOrInterfaceType classOrInterfaceType
+				? Optional.of(this.resolveTypeName(classOrInterfaceType.getNameWithScope()))
+				: Optional.empty();
+	}
+
+	/**
+	 * The scope of a method invocation.
+	 * @param symbolTable The symbol table of the compilation unit that contains the method invocation.
+	 * @param frame The innermost frame that contains the method invocation.
+	 * @param declarationCount The number of variables declared before the method invocation.
+	 */
+	private record GraphJavaReaderSymbolScope(
+		GraphJavaReaderSymbolTable symbolTable,
+		GraphJavaReaderSymbolFrame frame,
+		int declarationCount) { }
+
+	/**
+	 * A variable or field.
+	 * @param type The type of the variable as written in the source code, or null if it is not known.
+	 * @param declarationIndex The order in which the variable was declared, or -1 for a field.
+	 */
+	private record GraphJavaReaderSymbolVariable(Type type, int declarationIndex) { }
+
+	/**
+	 * A class, method, block or other construct in which variables are declared.
+	 */
+	private static final class GraphJavaReaderSymbolFrame {
+		private final GraphJavaReaderSymbolFrame parent;
+		private final boolean isClass;
+		private final String className;
+		private final Map<String, GraphJavaReaderSymbolVariable> variables;
+
+		/**
+		 * Initialises a new frame.
+		 * @param parent The enclosing frame, or null for a top-level class.
+		 * @param className The fully qualified name of the class if the frame is a class, otherwise null.
+		 */
+		GraphJavaReaderSymbolFrame(GraphJavaReaderSymbolFrame parent, String className) {
+			this.parent = parent;
+			this.isClass = className != null;
+			this.className = className != null || parent == null ? className : parent.className;
+			this.variables = new HashMap<>(4);
+		}
+
+		/**
+		 * Gets the fully qualified name of the innermost class that contains the frame.
+		 */
+		String getClassName() {
+			return this.className;
+		}
+
+		void declare(String name, Type type, int declarationIndex) {
+			this.variables.put(name, new GraphJavaReaderSymbolVariable(type, declarationIndex));
+		}
+
+		/**
+		 * Finds the type of the innermost variable or field with name that was declared before declarationCount variables.
+		 */
+		Optional<Type> findVariable(String name, int declarationCount) {
+			for (var frame = this; frame != null; frame = frame.parent) {
+				final var variable = frame.variables.get(name);
+				if (variable != null && variable.declarationIndex() < declarationCount) {
+					return Optional.ofNullable(variable.type());
+				}
+			}
+			return Optional.empty();
+		}
+
+		/**
+		 * Finds the type of the field with name of the innermost class that contains the frame.
+		 */
+		Optional<Type> findField(String name) {
+			for (var frame = this; frame != null; frame = frame.parent) {
+				if (frame.isClass) {
+					final var variable = frame.variables.get(name);
+					return variable == null ? Optional.empty() : Optional.ofNullable(variable.type());
+				}
+			}
+			return Optional.empty();
+		}
+	}
+}
@@ -15,6 +15,7 @@ import com.github.javaparser.resolution.types.ResolvedType;
 
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeCodeNameIndex;
 import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
 
 /**
@@ -74,14 +75,13 @@ public final class GraphResolvedClassDeclaration implements ResolvedReferenceTyp
 
 	@Override
 	public String getQualifiedName() {
-		// TODO implement
-		return null;
+		return GraphNodeCodeNameIndex.getFullyQualifiedName(this.classNode).orElse(null);
 	}
 
 	@Override
 	public List<ResolvedTypeParameterDeclaration> getTypeParameters() {
-		// TODO implement
-		return null;
+		// The graph does not model type parameters.
+		return List.of();
 	}
 
 	@Override
@@ -0,0 +1,44 @@
+package nl.ou.refactoring.advice.io.json;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * Maps the nodes of a Refactoring Advice Graph to their position in the JSON nodes array.<br />
+ * Nodes are looked up by identity first, and by equality if an edge refers to an equal node instance
+ * that is not itself in the array.
+ */
+final class GraphJsonNodeIndex {
+	private final Map<GraphNode, Integer> identityIndices;
+	private final Map<GraphNode, Integer> equalityIndices;
+
+	/**
+	 * Initialises a new instance of {@link GraphJsonNodeIndex}.
+	 * @param nodes The nodes in the order in which they are written.
+	 */
+	GraphJsonNodeIndex(List<GraphNode> nodes) {
+		this.identityIndices = new IdentityHashMap<>(nodes.size());
+		this.equalityIndices = new HashMap<>(nodes.size());
+		for (var i = 0; i < nodes.size(); i++) {
+			this.identityIndices.put(nodes.get(i), i);
+			this.equalityIndices.putIfAbsent(nodes.get(i), i);
+		}
+	}
+	
+	/**
+	 * Gets the position of a node in the JSON nodes array.
+	 * @param node The node.
+	 * @return The position of the node, or -1 if the node is not in the array.
+	 */
+	int indexOf(GraphNode node) {
+		final var index = this.identityIndices.get(node);
+		if (index != null) {
+			return index;
+		}
+		return this.equalityIndices.getOrDefault(node, -1);
+	}
+}
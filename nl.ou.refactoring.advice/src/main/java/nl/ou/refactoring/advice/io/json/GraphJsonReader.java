@@ -14,6 +14,8 @@ import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.edges.GraphEdgeFactories;
+import nl.ou.refactoring.advice.io.GraphNodeAttributes;
 import nl.ou.refactoring.advice.io.GraphReader;
 import nl.ou.refactoring.advice.io.GraphReaderException;
 import nl.ou.refactoring.advice.nodes.GraphNodeBase;
@@ -65,18 +67,19 @@ public class GraphJsonReader implements GraphReader {
 		
 		final var nodeJsonArray = refactoringObject.getJsonArray("nodes");
 		if (nodeJsonArray != null) {
+			final Map<String, Class<?>> classes = new HashMap<>();
 			List<GraphNodeBase> nodes = new ArrayList<>();
 			for (var i = 0; i < nodeJsonArray.size(); i++) {
 				final var nodeJsonObject = nodeJsonArray.getJsonObject(i);
 				final var nodeType = nodeJsonObject.getString("type");
 				final Class<? extends GraphNodeBase> nodeClass;
 				try {
-					nodeClass = (Class<? extends GraphNodeBase>)Class.forName(nodeType);
+					nodeClass = (Class<? extends GraphNodeBase>)forName(classes, nodeType);
 				} catch (ClassNotFoundException exception) {
 					throw new GraphJsonReaderNodeClassNotFoundException(nodeType);
 				}
 
-				nodes.add(this.constructNode(graph, nodeClass, nodeJsonObject));
+				nodes.add(GraphNodeAttributes.construct(graph, nodeClass, nodeJsonObject::getString));
 			}
 			for (var i = 0; i < nodeJsonArray.size(); i++) {
 				final var node = nodes.get(i);
@@ -92,7 +95,7 @@ public class GraphJsonReader implements GraphReader {
 					final var nodeTo = nodes.get(edgeTo);
 					final Class<GraphEdge> edgeClass;
 					try {
-						edgeClass = (Class<GraphEdge>)Class.forName(edgeType);
+						edgeClass = (Class<GraphEdge>)forName(classes, edgeType);
 					} catch (ClassNotFoundException exception) {
 						throw new RuntimeException(exception);
 					}
@@ -100,7 +103,7 @@ public class GraphJsonReader implements GraphReader {
 					graph.computeEdge(
 							node,
 							nodeTo,
-							(_, _) -> this.constructEdge(edgeClass, node, nodeTo),
+							(_, _) -> constructEdge(edgeClass, node, nodeTo),
 							edgeClass);
 				}
 			}
@@ -109,8 +112,26 @@ public class GraphJsonReader implements GraphReader {
 		return graph;
 	}
 	
-	@SuppressWarnings("unchecked")
-	private <TEdge extends GraphEdge> TEdge constructEdge
+	private static Class<?> forName(final Map<String, Class<?>> classes, final String className)
+			throws ClassNotFoundException {
+		var type = classes.get(className);
+		if (type == null) {
+			type = Class.forName(className);
+			classes.put(className, type);
+		}
+		return type;
+	}
+	
+	/**
+	 * Constructs an edge between two nodes, using the cached factory of the edge class that accepts both nodes.
+	 * @param <TEdge> The type of edge.
+	 * @param edgeClassType The class of the edge.
+	 * @param sourceNode The source node of the edge.
+	 * @param destinationNode The destination node of the edge.
+	 * @return The constructed edge.
+	 * @throws GraphJsonReaderEdgeConstructorNoMatchException Thrown if no constructor of the edge class accepts both nodes.
+	 */
+	static <TEdge extends GraphEdge> TEdge constructEdge
 	(
 		final Class<TEdge> edgeClassType,
 		final GraphNodeBase sourceNode,
@@ -118,89 +139,14 @@ public class GraphJsonReader implements GraphReader {
 	)
 		throws GraphJsonReaderEdgeConstructorNoMatchException
 	{
-		try {
-			final var edgeConstructors = List.of(edgeClassType.getConstructors());
-			final var edgeConstructor =
-				edgeConstructors
-					.stream()
-					.filter(
-						constructor -> {
-							final var constructorParameterTypes = constructor.getParameterTypes();
-							if (constructorParameterTypes.length != 2) {
-								return false;
-							}
-							
-							return
-								constructorParameterTypes[0].isAssignableFrom(sourceNode.getClass()) &&
-								constructorParameterTypes[1].isAssignableFrom(destinationNode.getClass());
-						}
-					)
-					.findAny()
-					.orElse(null);
-			if (edgeConstructor == null) {
-				throw new GraphJsonReaderEdgeConstructorNoMatchException(edgeClassType, sourceNode, destinationNode);
-			}
-			return (TEdge)edgeConstructor.newInstance(sourceNode, destinationNode);
-		} catch (GraphJsonReaderEdgeConstructorNoMatchException exception) {
-			throw exception;
-		} catch (Exception exception) {
-			throw new RuntimeException(exception);
-		}
+		final var edgeFactory =
+			GraphEdgeFactories
+				.find(edgeClassType, sourceNode.getClass(), destinationNode.getClass())
+				.orElseThrow(
+					() -> new GraphJsonReaderEdgeConstructorNoMatchException(edgeClassType, sourceNode, destinationNode));
+		return edgeFactory.create(sourceNode, destinationNode);
 	}
 	
-	private GraphNodeBase constructNode(final Graph graph, final Class<?> nodeClass, final JsonObject nodeJsonObject) {
-		try {
-			final var nodeClassConstructorDefault =
-				List.of(nodeClass.getConstructors())
-					.stream()
-					.sorted((c1, c2) -> c1.getParameterCount() - c2.getParameterCount())
-					.findFirst()
-					.get();
-			final var nodeClassConstructorArguments = new ArrayList<Object>();
-			nodeClassConstructorArguments.add(graph);
-			switch (nodeClass.getName()) {
-				case "nl.ou.refactoring.advice.nodes.code.GraphNodeAttribute": {
-					final var attributeName = nodeJsonObject.getString("attributeName");
-					nodeClassConstructorArguments.add(attributeName);
-					break;
-				}
-				case "nl.ou.refactoring.advice.nodes.code.GraphNodeInterface": {
-					final var interfaceName = nodeJsonObject.getString("interfaceName");
-					nodeClassConstructorArguments.add(interfaceName);
-					break;
-				}
-				case "nl.ou.refactoring.advice.nodes.code.GraphNodePackage": {
-					final var packageName = nodeJsonObject.getString("packageName");
-					nodeClassConstructorArguments.add(packageName);
-					break;
-				}
-				case "nl.ou.refactoring.advice.nodes.code.GraphNodeType": {
-					final var typeName = nodeJsonObject.getString("typeName");
-					nodeClassConstructorArguments.add(typeName);
-					break;
-				}
-				case "nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass": {
-					final var className = nodeJsonObject.getString("className");
-					nodeClassConstructorArguments.add(className);
-					nodeClassConstructorArguments.add(null); // class stereotype
-					break;
-				}
-				case "nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation": {
-					final var operationName = nodeJsonObject.getString("operationName");
-					nodeClassConstructorArguments.add(operationName);
-					nodeClassConstructorArguments.add(null); // operation parameters
-					break;
-				}
-				default: {
-					break;
-				}
-			}
-			return (GraphNodeBase)nodeClassConstructorDefault.newInstance(nodeClassConstructorArguments.toArray());
-		} catch (Exception exception) {
-			throw new RuntimeException(exception);
-		}
-	}
-
 	private String readRefactoringName(final JsonObject refactoringObject)
 			throws GraphJsonReaderRefactoringNameNotFoundException {
 		final var refactoringNameValue = refactoringObject.get("refactoringName");
@@ -0,0 +1,189 @@
+package nl.ou.refactoring.advice.io.json;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.JsonException;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.io.GraphNodeAttributes;
+import nl.ou.refactoring.advice.io.GraphReader;
+import nl.ou.refactoring.advice.io.GraphReaderException;
+import nl.ou.refactoring.advice.nodes.GraphNodeBase;
+
+/**
+ * Reads Refactoring Advice Graphs from JSON, building nodes and edges while the tokens arrive.<br />
+ * Reads the same format as {@link GraphJsonReader}, but does not load the whole document in memory,
+ * which makes this reader suitable for large graphs. The refactoring name must precede the nodes.
+ * An edge to a node that has not been read yet is added as soon as that node has been read.
+ */
+public final class GraphJsonStreamReader implements GraphReader {
+	private final Reader reader;
+
+	/**
+	 * Initialises a new instance of {@link GraphJsonStreamReader}.
+	 * @param reader Reads JSON.
+	 * @throws ArgumentNullException Thrown if reader is null.
+	 */
+	public GraphJsonStreamReader(final Reader reader) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(reader, "reader");
+		this.reader = reader;
+	}
+
+	@Override
+	public Graph read() throws GraphReaderException {
+		final var jsonProvider = JsonProvider.provider();
+		try (final var parser = jsonProvider.createParser(this.reader)) {
+			if (!parser.hasNext() || parser.next() != Event.START_OBJECT) {
+				throw new GraphJsonReaderRefactoringNameNotFoundException();
+			}
+			Graph graph = null;
+			while (parser.hasNext()) {
+				final var event = parser.next();
+				if (event == Event.END_OBJECT) {
+					break;
+				}
+				final var key = parser.getString();
+				final var valueEvent = parser.next();
+				if (key.equals("refactoringName") && valueEvent == Event.VALUE_STRING) {
+					final var refactoringName = parser.getString();
+					if (refactoringName.trim().length() == 0) {
+						throw new GraphJsonReaderRefactoringNameNotFoundException();
+					}
+					graph = new Graph(refactoringName);
+				} else if (key.equals("nodes") && valueEvent == Event.START_ARRAY) {
+					if (graph == null) {
+						throw new GraphJsonReaderRefactoringNameNotFoundException();
+					}
+					this.readNodes(parser, graph);
+				} else {
+					skipValue(parser, valueEvent);
+				}
+			}
+			if (graph == null) {
+				throw new GraphJsonReaderRefactoringNameNotFoundException();
+			}
+			return graph;
+		} catch (JsonException exception) {
+			throw new GraphJsonReaderException(exception);
+		}
+	}
+	
+	private void readNodes(JsonParser parser, Graph graph) {
+		final List<GraphNodeBase> nodes = new ArrayList<>();
+		final Map<String, Class<?>> classes = new HashMap<>();
+		final List<GraphJsonStreamReaderEdge> pendingEdges = new ArrayList<>();
+		while (parser.next() == Event.START_OBJECT) {
+			final var sourceIndex = nodes.size();
+			final Map<String, String> nodeAttributes = new HashMap<>();
+			final List<GraphJsonStreamReaderEdge> edges = new ArrayList<>();
+			while (parser.next() == Event.KEY_NAME) {
+				final var key = parser.getString();
+				final var valueEvent = parser.next();
+				if (key.equals("edges") && valueEvent == Event.START_ARRAY) {
+					this.readEdges(parser, sourceIndex, classes, edges);
+				} else if (valueEvent == Event.VALUE_STRING) {
+					nodeAttributes.put(key, parser.getString());
+				} else {
+					skipValue(parser, valueEvent);
+				}
+			}
+			final var nodeType = nodeAttributes.get("type");
+			final var nodeClass = resolveClass(classes, nodeType);
+			if (nodeClass == null) {
+				throw new GraphJsonReaderNodeClassNotFoundException(nodeType);
+			}
+			nodes.add(GraphNodeAttributes.construct(graph, nodeClass, nodeAttributes::get));
+			
+			for (final var edge : edges) {
+				if (edge.destinationIndex() < nodes.size()) {
+					addEdge(graph, nodes, edge);
+				} else {
+					pendingEdges.add(edge);
+				}
+			}
+		}
+		for (final var edge : pendingEdges) {
+			addEdge(graph, nodes, edge);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void readEdges(
+			JsonParser parser,
+			int sourceIndex,
+			Map<String, Class<?>> classes,
+			List<GraphJsonStreamReaderEdge> edges) {
+		while (parser.next() == Event.START_OBJECT) {
+			String edgeType = null;
+			var destinationIndex = -1;
+			while (parser.next() == Event.KEY_NAME) {
+				final var key = parser.getString();
+				final var valueEvent = parser.next();
+				if (key.equals("type") && valueEvent == Event.VALUE_STRING) {
+					edgeType = parser.getString();
+				} else if (key.equals("to") && valueEvent == Event.VALUE_NUMBER) {
+					destinationIndex = parser.getInt();
+				} else {
+					skipValue(parser, valueEvent);
+				}
+			}
+			final var edgeClass = resolveClass(classes, edgeType);
+			if (edgeClass == null) {
+				throw new RuntimeException(new ClassNotFoundException(edgeType));
+			}
+			edges.add(
+					new GraphJsonStreamReaderEdge(
+						(Class<GraphEdge>)edgeClass,
+						sourceIndex,
+						destinationIndex));
+		}
+	}
+	
+	private static void addEdge(Graph graph, List<GraphNodeBase> nodes, GraphJsonStreamReaderEdge edge) {
+		final var node = nodes.get(edge.sourceIndex());
+		final var nodeTo = nodes.get(edge.destinationIndex());
+		graph.computeEdge(
+				node,
+				nodeTo,
+				(_, _) -> GraphJsonReader.constructEdge(edge.edgeClass(), node, nodeTo),
+				edge.edgeClass());
+	}
+	
+	private static Class<?> resolveClass(Map<String, Class<?>> classes, String className) {
+		if (className == null) {
+			return null;
+		}
+		return classes.computeIfAbsent(className, _ -> {
+			try {
+				return Class.forName(className);
+			} catch (ClassNotFoundException _) {
+				return null;
+			}
+		});
+	}
+	
+	private static void skipValue(JsonParser parser, Event valueEvent) {
+		if (valueEvent == Event.START_OBJECT) {
+			parser.skipObject();
+		} else if (valueEvent == Event.START_ARRAY) {
+			parser.skipArray();
+		}
+	}
+	
+	/**
+	 * An edge that was read, identified by the positions of its nodes in the JSON nodes array.
+	 * @param edgeClass The class of the edge.
+	 * @param sourceIndex The position of the source node.
+	 * @param destinationIndex The position of the destination node.
+	 */
+	private record GraphJsonStreamReaderEdge(Class<GraphEdge> edgeClass, int sourceIndex, int destinationIndex) { }
+}
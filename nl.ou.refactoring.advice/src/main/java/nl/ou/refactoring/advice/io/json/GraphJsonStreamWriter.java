@@ -0,0 +1,98 @@
+package nl.ou.refactoring.advice.io.json;
+
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.json.JsonException;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.GraphValidationException;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.io.GraphNodeAttributes;
+import nl.ou.refactoring.advice.io.GraphWriter;
+import nl.ou.refactoring.advice.io.GraphWriterException;
+
+/**
+ * Writes Refactoring Advice Graphs to JSON, streaming every node to the writer as soon as it is generated.<br />
+ * The output has the same structure as that of {@link GraphJsonWriter}, but no document tree is built in memory,
+ * which makes this writer suitable for large graphs.
+ */
+public final class GraphJsonStreamWriter implements GraphWriter {
+	private final Writer writer;
+	private final boolean prettyPrinting;
+	
+	/**
+	 * Initialises a new instance of {@link GraphJsonStreamWriter} that writes compact JSON.
+	 * @param writer Writes JSON.
+	 * @throws ArgumentNullException Thrown if writer is null.
+	 */
+	public GraphJsonStreamWriter(Writer writer)
+			throws ArgumentNullException {
+		this(writer, false);
+	}
+	
+	/**
+	 * Initialises a new instance of {@link GraphJsonStreamWriter}.
+	 * @param writer Writes JSON.
+	 * @param prettyPrinting True to indent the JSON, false to write compact JSON.
+	 * @throws ArgumentNullException Thrown if writer is null.
+	 */
+	public GraphJsonStreamWriter(Writer writer, boolean prettyPrinting)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(writer, "writer");
+		this.writer = writer;
+		this.prettyPrinting = prettyPrinting;
+	}
+
+	@Override
+	public void write(Graph graph)
+			throws
+				ArgumentNullException,
+				GraphValidationException,
+				GraphWriterException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		Map<String, Boolean> configuration = new HashMap<>();
+		if (this.prettyPrinting) {
+			configuration.put(JsonGenerator.PRETTY_PRINTING, true);
+		}
+		final var jsonProvider = JsonProvider.provider();
+		final var jsonGeneratorFactory = jsonProvider.createGeneratorFactory(configuration);
+		try {
+			final var generator = jsonGeneratorFactory.createGenerator(this.writer);
+			generator.writeStartObject();
+			generator.write("refactoringName", graph.getRefactoringName());
+			
+			final var nodes = GraphJsonWriter.sortNodes(graph);
+			if (nodes.size() > 0) {
+				final var nodeIndex = new GraphJsonNodeIndex(nodes);
+				generator.writeStartArray("nodes");
+				for (final var node : nodes) {
+					generator.writeStartObject();
+					generator.write("type", node.getClass().getName());
+					final var edges = GraphJsonWriter.sortEdges(node);
+					if (edges.size() > 0) {
+						generator.writeStartArray("edges");
+						for (final var edge : edges) {
+							generator.writeStartObject();
+							generator.write("type", edge.getClass().getName());
+							generator.write("to", nodeIndex.indexOf(edge.getDestinationNode()));
+							generator.writeEnd();
+						}
+						generator.writeEnd();
+					}
+					GraphNodeAttributes.write(node, generator::write);
+					generator.writeEnd();
+				}
+				generator.writeEnd();
+			}
+			
+			generator.writeEnd();
+			generator.flush();
+		} catch (JsonException exception) {
+			throw new GraphJsonWriterException(exception);
+		}
+	}
+}
@@ -14,15 +14,11 @@ import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.GraphValidationException;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.io.GraphNodeAttributes;
 import nl.ou.refactoring.advice.io.GraphWriter;
 import nl.ou.refactoring.advice.io.GraphWriterException;
 import nl.ou.refactoring.advice.nodes.GraphNode;
-import nl.ou.refactoring.advice.nodes.code.GraphNodeAttribute;
-import nl.ou.refactoring.advice.nodes.code.GraphNodeInterface;
-import nl.ou.refactoring.advice.nodes.code.GraphNodePackage;
-import nl.ou.refactoring.advice.nodes.code.GraphNodeType;
-import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
-import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation;
 
 /**
  * Writes Refactoring Advice Graphs to JSON.
@@ -55,16 +51,12 @@ public final class GraphJsonWriter implements GraphWriter {
 		final var refactoringObjectBuilder = Json.createObjectBuilder();
 		refactoringObjectBuilder.add("refactoringName", graph.getRefactoringName());
 		
-		final var nodes =
-				graph
-					.getNodes()
-					.stream()
-					.sorted((n1, n2) -> n1.getClass().getName().compareTo(n2.getClass().getName()))
-					.collect(Collectors.toList());
+		final var nodes = sortNodes(graph);
 		if (nodes.size() > 0) {
+			final var nodeIndex = new GraphJsonNodeIndex(nodes);
 			final var nodesArrayBuilder = Json.createArrayBuilder();
 			for (final var node : nodes) {
-				final var nodeObject = buildNodeJsonObject(nodes, node);
+				final var nodeObject = buildNodeJsonObject(nodeIndex, node);
 				nodesArrayBuilder.add(nodeObject);
 			}
 			refactoringObjectBuilder.add("nodes", nodesArrayBuilder.build());
@@ -73,9 +65,37 @@ public final class GraphJsonWriter implements GraphWriter {
 		jsonWriter.writeObject(refactoringObjectBuilder.build());
 	}
 	
+	/**
+	 * Sorts the nodes of a graph in the order in which they are written.
+	 * @param graph The graph.
+	 * @return The nodes of the graph in the order in which they are written.
+	 */
+	static List<GraphNode> sortNodes(Graph graph) {
+		return
+				graph
+					.getNodes()
+					.stream()
+					.sorted((n1, n2) -> n1.getClass().getName().compareTo(n2.getClass().getName()))
+					.collect(Collectors.toList());
+	}
+	
+	/**
+	 * Sorts the edges of a node in the order in which they are written.
+	 * @param node The node.
+	 * @return The edges of the node in the order in which they are written.
+	 */
+	static List<GraphEdge> sortEdges(GraphNode node) {
+		return
+				node
+					.getEdges()
+					.stream()
+					.sorted((e1, e2) -> e1.getClass().getName().compareTo(e2.getClass().getName()))
+					.collect(Collectors.toList());
+	}
+	
 	private static JsonObject buildNodeJsonObject
 	(
-		List<GraphNode> nodes,
+		GraphJsonNodeIndex nodeIndex,
 		GraphNode node
 	)
 	{
@@ -84,19 +104,14 @@ public final class GraphJsonWriter implements GraphWriter {
 		final var nodeClassTypeName = node.getClass().getName();
 		objectBuilder.add("type", nodeClassTypeName);
 		
-		final var edges =
-				node
-					.getEdges()
-					.stream()
-					.sorted((e1, e2) -> e1.getClass().getName().compareTo(e2.getClass().getName()))
-					.collect(Collectors.toList());
+		final var edges = sortEdges(node);
 		if (edges.size() > 0) {
 			final var edgesArrayBuilder = Json.createArrayBuilder();
 			for (final var edge : edges) {
 				final var edgeObjectBuilder = Json.createObjectBuilder();
 				edgeObjectBuilder.add("type", edge.getClass().getName());
 				
-				final var destinationNodeIndex = nodes.indexOf(edge.getDestinationNode());
+				final var destinationNodeIndex = nodeIndex.indexOf(edge.getDestinationNode());
 				edgeObjectBuilder.add("to", destinationNodeIndex);
 				edgesArrayBuilder.add(edgeObjectBuilder.build());
 			}
@@ -104,35 +119,7 @@ public final class GraphJsonWriter implements GraphWriter {
 			objectBuilder.add("edges", edgesArrayBuilder.build());
 		}
 		
-		switch (node) {
-			case GraphNodeAttribute attributeNode: {
-				objectBuilder.add("attributeName", attributeNode.getAttributeName());
-				break;
-			}
-			case GraphNodeClass classNode: {
-				objectBuilder.add("className", classNode.getClassName());
-				break;
-			}
-			case GraphNodeInterface interfaceNode: {
-				objectBuilder.add("interfaceName", interfaceNode.getInterfaceName());
-				break;
-			}
-			case GraphNodeOperation operationNode: {
-				objectBuilder.add("operationName", operationNode.getOperationName());
-				break;
-			}
-			case GraphNodePackage packageNode: {
-				objectBuilder.add("packageName", packageNode.getPackageName());
-				break;
-			}
-			case GraphNodeType typeNode: {
-				objectBuilder.add("typeName", typeNode.getTypeName());
-				break;
-			}
-			default: {
-				break;
-			}
-		}
+		GraphNodeAttributes.write(node, objectBuilder::add);
 		
 		return objectBuilder.build();
 	}
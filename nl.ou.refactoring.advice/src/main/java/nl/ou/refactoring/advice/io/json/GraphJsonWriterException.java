@@ -0,0 +1,21 @@
+package nl.ou.refactoring.advice.io.json;
+
+import nl.ou.refactoring.advice.io.GraphWriterException;
+
+/**
+ * An exception that is thrown if generating JSON failed during the writing of a Refactoring Advice Graph.
+ */
+public final class GraphJsonWriterException extends GraphWriterException {
+	/**
+	 * A serial version unique identifier.
+	 */
+	private static final long serialVersionUID = -2764091153862473370L;
+
+	/**
+	 * Initialises a new instance of {@link GraphJsonWriterException}.
+	 * @param cause The cause of the exception.
+	 */
+	public GraphJsonWriterException(Throwable cause) {
+		super(cause);
+	}
+}
@@ -1,21 +1,27 @@
 package nl.ou.refactoring.advice.io.layouts.forceDirected;
 
 import java.awt.geom.Rectangle2D;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
-import nl.ou.refactoring.advice.edges.GraphEdge;
 import nl.ou.refactoring.advice.io.layouts.GraphLayout;
 import nl.ou.refactoring.advice.io.layouts.GraphLayoutNode;
 import nl.ou.refactoring.advice.nodes.GraphNode;
 import nl.ou.refactoring.advice.nodes.workflow.GraphNodeRefactoringStart;
 
 /**
- * A layout of a Refactoring Advice Graph using the Force-Directed Layout algorithm.
+ * A layout of a Refactoring Advice Graph using the Force-Directed Layout algorithm.<br />
+ * During the simulation, positions, velocities and forces are kept in primitive arrays that are indexed by node.
  */
 public final class GraphLayoutForceDirected extends GraphLayout {
 	/**
@@ -30,46 +36,123 @@ public final class GraphLayoutForceDirected extends GraphLayout {
 
 	@Override
 	public Set<GraphLayoutNode> apply(Graph graph, Rectangle2D area) {
-		final var nodesMap =
+		// Nodes are taken in insertion order and edges are sorted by node index,
+		// so that a seeded layout is reproducible between runs.
+		final var nodes = new ArrayList<GraphLayoutForceDirectedNode>();
+		final var nodeIndices = new HashMap<GraphNode, Integer>();
+		for (final var node : graph.getNodes(GraphNode.class)) {
+			nodeIndices.put(node, nodes.size());
+			nodes.add(new GraphLayoutForceDirectedNode(node));
+		}
+		final var edgeIndices =
 				graph
-					.getNodes()
-					.stream()
-					.collect(Collectors.toMap(node -> node, node -> new GraphLayoutForceDirectedNode(node)));
-		final var nodes =
-				nodesMap
-					.values()
+					.getEdges()
 					.stream()
-					.collect(Collectors.toSet());
-		final var edges = graph.getEdges();
+					.map(edge -> new int[] {
+						nodeIndices.get(edge.getSourceNode()),
+						nodeIndices.get(edge.getDestinationNode())
+					})
+					.sorted(Comparator.<int[]>comparingInt(edge -> edge[0]).thenComparingInt(edge -> edge[1]))
+					.toList();
+		final var edgeSources = new int[edgeIndices.size()];
+		final var edgeDestinations = new int[edgeIndices.size()];
+		for (var edge = 0; edge < edgeIndices.size(); edge++) {
+			edgeSources[edge] = edgeIndices.get(edge)[0];
+			edgeDestinations[edge] = edgeIndices.get(edge)[1];
+		}
+		
+		final var count = nodes.size();
+		final var state = new GraphLayoutForceDirectedState(count);
 		
 		// Initialise nodes in centre.
 		final var centreX = area.getCenterX();
 		final var centreY = area.getCenterY();
-		for (var node : nodes) {
-			if (node.getNode().getClass() == GraphNodeRefactoringStart.class) {
-				node.getLocation().setLocation(200, centreY);
+		final var settings = this.getSettings();
+		final var random = settings.getSeed().isPresent() ? new Random(settings.getSeed().getAsLong()) : new Random();
+		for (var i = 0; i < count; i++) {
+			if (nodes.get(i).getNode().getClass() == GraphNodeRefactoringStart.class) {
+				state.fixed[i] = true;
+				state.positionsX[i] = 200;
+				state.positionsY[i] = centreY;
 				continue;
 			}
-			node
-				.getLocation()
-				.setLocation(
-						centreX + new Random().nextDouble(10),
-						centreY + new Random().nextDouble(10));
+			state.positionsX[i] = centreX + random.nextDouble(10);
+			state.positionsY[i] = centreY + random.nextDouble(10);
 		}
-		final var settings = this.getSettings();
-		for (var i = 0; i < settings.getIterations(); i++) {
-			applyRepulsion(
-					nodes,
-					settings.getRepulsionConstant());
-			applyAttraction(
-					nodesMap,
-					edges,
-					settings.getSpringLength(),
-					settings.getSpringStrength());
-			updatePositions(
-					nodes,
-					settings.getTimeStep(),
-					settings.getDamping());
+		
+		final var quadTree =
+				settings.getRepulsion() == GraphLayoutForceDirectedRepulsion.BARNES_HUT
+					? new GraphLayoutQuadTree()
+					: null;
+		final var parallelism = Math.min(settings.getParallelism(), Math.max(1, count));
+		final var workers = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+		final var attractionsX = new double[parallelism][count];
+		final var attractionsY = new double[parallelism][count];
+		try {
+			for (var i = 0; i < settings.getIterations(); i++) {
+				if (quadTree != null) {
+					quadTree.build(state.positionsX, state.positionsY, count);
+				}
+				runChunks(workers, parallelism, chunk -> {
+					final var from = chunkStart(chunk, parallelism, count);
+					final var to = chunkStart(chunk + 1, parallelism, count);
+					if (quadTree == null) {
+						applyRepulsion(
+								state,
+								from,
+								to,
+								settings.getRepulsionConstant());
+					} else {
+						applyRepulsion(
+								state,
+								from,
+								to,
+								quadTree,
+								settings.getRepulsionConstant(),
+								settings.getBarnesHutTheta());
+					}
+				});
+				runChunks(workers, parallelism, chunk -> {
+					Arrays.fill(attractionsX[chunk], 0);
+					Arrays.fill(attractionsY[chunk], 0);
+					applyAttraction(
+							state,
+							edgeSources,
+							edgeDestinations,
+							chunkStart(chunk, parallelism, edgeSources.length),
+							chunkStart(chunk + 1, parallelism, edgeSources.length),
+							attractionsX[chunk],
+							attractionsY[chunk],
+							settings.getSpringLength(),
+							settings.getSpringStrength());
+				});
+				// Add the attractions of every chunk in a fixed order, so that the result does not depend on scheduling.
+				for (var chunk = 0; chunk < parallelism; chunk++) {
+					for (var node = 0; node < count; node++) {
+						state.forcesX[node] += attractionsX[chunk][node];
+						state.forcesY[node] += attractionsY[chunk][node];
+					}
+				}
+				final var displacement =
+						updatePositions(
+							state,
+							settings.getTimeStep(),
+							settings.getDamping());
+				if (displacement < settings.getConvergenceThreshold()) {
+					break;
+				}
+			}
+		} finally {
+			if (workers != null) {
+				workers.shutdown();
+			}
+		}
+		
+		for (var i = 0; i < count; i++) {
+			final var node = nodes.get(i);
+			node.getLocation().setLocation(state.positionsX[i], state.positionsY[i]);
+			node.getVelocity().setLocation(state.velocitiesX[i], state.velocitiesY[i]);
+			node.getForce().setLocation(state.forcesX[i], state.forcesY[i]);
 		}
 		return
 				nodes
@@ -83,60 +166,124 @@ public final class GraphLayoutForceDirected extends GraphLayout {
 		return (GraphLayoutForceDirectedSettings)super.getSettings();
 	}
 	
+	/**
+	 * Runs the chunks of an iteration step, on the workers if there are any.
+	 */
+	private static void runChunks(ForkJoinPool workers, int chunkCount, IntConsumer chunk) {
+		if (workers == null) {
+			for (var index = 0; index < chunkCount; index++) {
+				chunk.accept(index);
+			}
+			return;
+		}
+		final var tasks = new ArrayList<ForkJoinTask<?>>(chunkCount);
+		for (var index = 0; index < chunkCount; index++) {
+			final var chunkIndex = index;
+			tasks.add(ForkJoinTask.adapt(() -> chunk.accept(chunkIndex)));
+		}
+		workers.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+	}
+	
+	private static int chunkStart(int chunk, int chunkCount, int length) {
+		return (int)((long)length * chunk / chunkCount);
+	}
+	
 	private static void applyRepulsion(
-			Set<GraphLayoutForceDirectedNode> nodes,
+			GraphLayoutForceDirectedState state,
+			int from,
+			int to,
 			double repulsionConstant) {
-		for (var node : nodes) {
-			node.getForce().setLocation(0, 0);
-			for (var nodeReference : nodes) {
+		final var positionsX = state.positionsX;
+		final var positionsY = state.positionsY;
+		for (var node = from; node < to; node++) {
+			var forceX = 0.0;
+			var forceY = 0.0;
+			for (var nodeReference = 0; nodeReference < state.count; nodeReference++) {
 				if (node == nodeReference) {
 					continue;
 				}
-				final var differenceX = node.getLocation().x - nodeReference.getLocation().x;
-				final var differenceY = node.getLocation().y - nodeReference.getLocation().y;
+				final var differenceX = positionsX[node] - positionsX[nodeReference];
+				final var differenceY = positionsY[node] - positionsY[nodeReference];
 				final var distance = Math.max(1,  Math.hypot(differenceX, differenceY));
 				final var repulsion = repulsionConstant / (distance * distance);
-				node.getForce().x += (differenceX / distance) * repulsion;
-				node.getForce().y += (differenceY / distance) * repulsion;
+				forceX += (differenceX / distance) * repulsion;
+				forceY += (differenceY / distance) * repulsion;
 			}
+			state.forcesX[node] = forceX;
+			state.forcesY[node] = forceY;
+		}
+	}
+	
+	private static void applyRepulsion(
+			GraphLayoutForceDirectedState state,
+			int from,
+			int to,
+			GraphLayoutQuadTree quadTree,
+			double repulsionConstant,
+			double theta) {
+		for (var node = from; node < to; node++) {
+			state.forcesX[node] = 0;
+			state.forcesY[node] = 0;
+			quadTree.accumulateRepulsion(
+					node,
+					state.positionsX[node],
+					state.positionsY[node],
+					repulsionConstant,
+					theta,
+					state.forcesX,
+					state.forcesY);
 		}
 	}
 	
 	private static void applyAttraction(
-			Map<GraphNode, GraphLayoutForceDirectedNode> nodes,
-			Set<GraphEdge> edges,
+			GraphLayoutForceDirectedState state,
+			int[] edgeSources,
+			int[] edgeDestinations,
+			int from,
+			int to,
+			double[] forcesX,
+			double[] forcesY,
 			double springLength,
 			double springStrength) {
-		for (var edge : edges) {
-			final var graphicsNodeSource = nodes.get(edge.getSourceNode());
-			final var graphicsNodeDestination = nodes.get(edge.getDestinationNode());
-			final var differenceX = graphicsNodeDestination.getLocation().x - graphicsNodeSource.getLocation().x;
-			final var differenceY = graphicsNodeDestination.getLocation().y - graphicsNodeSource.getLocation().y;
+		for (var edge = from; edge < to; edge++) {
+			final var source = edgeSources[edge];
+			final var destination = edgeDestinations[edge];
+			final var differenceX = state.positionsX[destination] - state.positionsX[source];
+			final var differenceY = state.positionsY[destination] - state.positionsY[source];
 			final var distance = Math.max(1,  Math.hypot(differenceX, differenceY));
 			final var displacement = distance - springLength;
 			final var force = springStrength * displacement;
 			final var forceX = (differenceX / distance) * force;
 			final var forceY = (differenceY / distance) * force;
 			
-			graphicsNodeSource.getForce().x += forceX;
-			graphicsNodeSource.getForce().y += forceY;
-			graphicsNodeDestination.getForce().x -= forceX;
-			graphicsNodeDestination.getForce().y -= forceY;
+			forcesX[source] += forceX;
+			forcesY[source] += forceY;
+			forcesX[destination] -= forceX;
+			forcesY[destination] -= forceY;
 		}
 	}
 	
-	private static void updatePositions(
-			Set<GraphLayoutForceDirectedNode> nodes,
+	/**
+	 * Moves the nodes by their velocities.
+	 * @return The largest distance that a node was moved.
+	 */
+	private static double updatePositions(
+			GraphLayoutForceDirectedState state,
 			double timeStep,
 			double damping) {
-		for (var node : nodes) {
-			if (node.getNode().getClass() == GraphNodeRefactoringStart.class) {
+		var maximumDisplacement = 0.0;
+		for (var node = 0; node < state.count; node++) {
+			if (state.fixed[node]) {
 				continue;
 			}
-			node.getVelocity().x = (node.getVelocity().x + node.getForce().x * timeStep) * damping;
-			node.getVelocity().y = (node.getVelocity().y + node.getForce().y * timeStep) * damping;
-			node.getLocation().x += node.getVelocity().x * timeStep;
-			node.getLocation().y += node.getVelocity().y * timeStep;
+			state.velocitiesX[node] = (state.velocitiesX[node] + state.forcesX[node] * timeStep) * damping;
+			state.velocitiesY[node] = (state.velocitiesY[node] + state.forcesY[node] * timeStep) * damping;
+			final var displacementX = state.velocitiesX[node] * timeStep;
+			final var displacementY = state.velocitiesY[node] * timeStep;
+			state.positionsX[node] += displacementX;
+			state.positionsY[node] += displacementY;
+			maximumDisplacement = Math.max(maximumDisplacement, Math.hypot(displacementX, displacementY));
 		}
+		return maximumDisplacement;
 	}
 }
@@ -0,0 +1,16 @@
+package nl.ou.refactoring.advice.io.layouts.forceDirected;
+
+/**
+ * Represents the way in which repulsion between nodes is computed in a Force-Directed Layout.
+ */
+public enum GraphLayoutForceDirectedRepulsion {
+	/**
+	 * Compute the repulsion between every pair of nodes.
+	 */
+	EXACT,
+	
+	/**
+	 * Approximate the repulsion of distant groups of nodes with a Barnes-Hut quadtree.
+	 */
+	BARNES_HUT
+}
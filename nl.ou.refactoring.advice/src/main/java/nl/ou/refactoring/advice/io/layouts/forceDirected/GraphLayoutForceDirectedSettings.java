@@ -1,6 +1,9 @@
 package nl.ou.refactoring.advice.io.layouts.forceDirected;
 
+import java.util.OptionalLong;
+
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.io.layouts.GraphLayoutSettings;
 
 /**
@@ -13,6 +16,11 @@ public final class GraphLayoutForceDirectedSettings extends GraphLayoutSettings
 	private double springStrength = 0.1;
 	private double damping = 0.85;
 	private double timeStep = 0.5;
+	private GraphLayoutForceDirectedRepulsion repulsion = GraphLayoutForceDirectedRepulsion.EXACT;
+	private double barnesHutTheta = 0.8;
+	private double convergenceThreshold = 0.0;
+	private int parallelism = 1;
+	private Long seed = null;
 	
 	/**
 	 * Initialises a new instance of {@link GraphLayoutForceDirectedSettings}.
@@ -133,6 +141,106 @@ public final class GraphLayoutForceDirectedSettings extends GraphLayoutSettings
 		this.timeStep = value;
 	}
 
+	
+	/**
+	 * Gets the way in which repulsion between nodes is computed.
+	 * @return The way in which repulsion between nodes is computed.
+	 */
+	public GraphLayoutForceDirectedRepulsion getRepulsion() {
+		return this.repulsion;
+	}
+	
+	/**
+	 * Sets the way in which repulsion between nodes is computed.
+	 * {@link GraphLayoutForceDirectedRepulsion#BARNES_HUT} is recommended for large graphs.
+	 * @param value The way in which repulsion between nodes is computed.
+	 * @throws ArgumentNullException Thrown if value is null.
+	 */
+	public void setRepulsion(GraphLayoutForceDirectedRepulsion value)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(value, "repulsion");
+		this.repulsion = value;
+	}
+	
+	/**
+	 * Gets the Barnes-Hut accuracy parameter.
+	 * A group of nodes is approximated by its centre of mass if its size divided by its distance is less than this value.
+	 * @return The Barnes-Hut accuracy parameter.
+	 */
+	public double getBarnesHutTheta() {
+		return this.barnesHutTheta;
+	}
+	
+	/**
+	 * Sets the Barnes-Hut accuracy parameter.
+	 * A group of nodes is approximated by its centre of mass if its size divided by its distance is less than this value.
+	 * Zero computes the exact repulsion.
+	 * @param value The Barnes-Hut accuracy parameter.
+	 * @throws IllegalArgumentException Thrown if the value is less than zero.
+	 */
+	public void setBarnesHutTheta(double value)
+			throws IllegalArgumentException {
+		ArgumentGuard.requireGreaterThanOrEqual(0.0, value, "barnesHutTheta");
+		this.barnesHutTheta = value;
+	}
+	
+	/**
+	 * Gets the displacement below which the layout is considered converged.
+	 * @return The displacement below which the layout is considered converged.
+	 */
+	public double getConvergenceThreshold() {
+		return this.convergenceThreshold;
+	}
+	
+	/**
+	 * Sets the displacement below which the layout is considered converged.
+	 * The algorithm stops before the number of iterations is reached as soon as no node moves farther than this value in an iteration.
+	 * Zero disables early stopping.
+	 * @param value The displacement below which the layout is considered converged.
+	 * @throws IllegalArgumentException Thrown if the value is less than zero.
+	 */
+	public void setConvergenceThreshold(double value)
+			throws IllegalArgumentException {
+		ArgumentGuard.requireGreaterThanOrEqual(0.0, value, "convergenceThreshold");
+		this.convergenceThreshold = value;
+	}
+	
+	/**
+	 * Gets the number of worker threads that compute the forces on the nodes.
+	 * @return The number of worker threads that compute the forces on the nodes.
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+	
+	/**
+	 * Sets the number of worker threads that compute the forces on the nodes. Must be at least 1.
+	 * With more than one worker thread, repulsion and attraction are computed on a worker pool;
+	 * the result does not depend on how the work is scheduled.
+	 * @param value The number of worker threads that compute the forces on the nodes.
+	 * @throws IllegalArgumentException Thrown if the value is smaller than 1.
+	 */
+	public void setParallelism(int value)
+			throws IllegalArgumentException {
+		ArgumentGuard.requireGreaterThanOrEqual(1, value, "parallelism");
+		this.parallelism = value;
+	}
+	
+	/**
+	 * Gets the seed with which the initial locations of the nodes are chosen.
+	 * @return The seed with which the initial locations of the nodes are chosen, or empty if the locations are chosen randomly.
+	 */
+	public OptionalLong getSeed() {
+		return this.seed == null ? OptionalLong.empty() : OptionalLong.of(this.seed);
+	}
+	
+	/**
+	 * Sets the seed with which the initial locations of the nodes are chosen, so that layouts are reproducible between runs.
+	 * @param value The seed with which the initial locations of the nodes are chosen.
+	 */
+	public void setSeed(long value) {
+		this.seed = value;
+	}
 	@Override
 	public GraphLayoutForceDirected createLayout() {
 		return new GraphLayoutForceDirected(this);
@@ -0,0 +1,30 @@
+package nl.ou.refactoring.advice.io.layouts.forceDirected;
+
+/**
+ * The simulation state of a Force-Directed Layout, stored in primitive arrays that are indexed by node.
+ */
+final class GraphLayoutForceDirectedState {
+	final int count;
+	final double[] positionsX;
+	final double[] positionsY;
+	final double[] velocitiesX;
+	final double[] velocitiesY;
+	final double[] forcesX;
+	final double[] forcesY;
+	final boolean[] fixed;
+
+	/**
+	 * Initialises a new instance of {@link GraphLayoutForceDirectedState}.
+	 * @param count The number of nodes.
+	 */
+	GraphLayoutForceDirectedState(int count) {
+		this.count = count;
+		this.positionsX = new double[count];
+		this.positionsY = new double[count];
+		this.velocitiesX = new double[count];
+		this.velocitiesY = new double[count];
+		this.forcesX = new double[count];
+		this.forcesY = new double[count];
+		this.fixed = new boolean[count];
+	}
+}
@@ -0,0 +1,208 @@
+package nl.ou.refactoring.advice.io.layouts.forceDirected;
+
+import java.util.Arrays;
+
+/**
+ * A Barnes-Hut quadtree over the positions of the nodes in a Force-Directed Layout.<br />
+ * The cells of the tree are stored in primitive arrays, so that the tree can be rebuilt
+ * every iteration without allocating objects. Once built, the tree may be queried by several threads.
+ */
+final class GraphLayoutQuadTree {
+	private static final int EMPTY = -1;
+	private static final int INTERNAL = -2;
+	
+	/**
+	 * The maximum depth of the tree; nodes that still share a cell at this depth are aggregated.
+	 */
+	private static final int MAXIMUM_DEPTH = 48;
+	
+	private double[] cellCentreX;
+	private double[] cellCentreY;
+	private double[] cellHalfSize;
+	private double[] cellMass;
+	private double[] cellMassX;
+	private double[] cellMassY;
+	private int[] cellBody;
+	private int[] cellFirstChild;
+	private int cellCount;
+
+	/**
+	 * Initialises a new, empty instance of {@link GraphLayoutQuadTree}.
+	 */
+	GraphLayoutQuadTree() {
+		this.resize(16);
+	}
+	
+	/**
+	 * Builds the tree from the positions of the nodes.
+	 * @param positionsX The horizontal positions of the nodes.
+	 * @param positionsY The vertical positions of the nodes.
+	 * @param count The number of nodes.
+	 */
+	void build(double[] positionsX, double[] positionsY, int count) {
+		var minimumX = Double.POSITIVE_INFINITY;
+		var minimumY = Double.POSITIVE_INFINITY;
+		var maximumX = Double.NEGATIVE_INFINITY;
+		var maximumY = Double.NEGATIVE_INFINITY;
+		for (var i = 0; i < count; i++) {
+			minimumX = Math.min(minimumX, positionsX[i]);
+			minimumY = Math.min(minimumY, positionsY[i]);
+			maximumX = Math.max(maximumX, positionsX[i]);
+			maximumY = Math.max(maximumY, positionsY[i]);
+		}
+		if (this.cellBody.length < count * 4 + 1) {
+			this.resize(count * 4 + 1);
+		}
+		this.cellCount = 0;
+		if (count == 0) {
+			return;
+		}
+		this.addCell(
+				(minimumX + maximumX) / 2,
+				(minimumY + maximumY) / 2,
+				Math.max(maximumX - minimumX, maximumY - minimumY) / 2 + 1);
+		for (var i = 0; i < count; i++) {
+			this.insert(i, positionsX[i], positionsY[i]);
+		}
+	}
+	
+	/**
+	 * Adds the repulsion that the other nodes exert on a node to its force.
+	 * @param body The index of the node.
+	 * @param positionX The horizontal position of the node.
+	 * @param positionY The vertical position of the node.
+	 * @param repulsionConstant The repulsion constant.
+	 * @param theta The ratio between cell size and distance below which a cell is approximated by its centre of mass.
+	 * @param forcesX The horizontal forces of the nodes.
+	 * @param forcesY The vertical forces of the nodes.
+	 */
+	void accumulateRepulsion(
+			int body,
+			double positionX,
+			double positionY,
+			double repulsionConstant,
+			double theta,
+			double[] forcesX,
+			double[] forcesY) {
+		if (this.cellCount == 0) {
+			return;
+		}
+		this.accumulateRepulsion(0, body, positionX, positionY, repulsionConstant, theta, forcesX, forcesY);
+	}
+	
+	private void accumulateRepulsion(
+			int cell,
+			int body,
+			double positionX,
+			double positionY,
+			double repulsionConstant,
+			double theta,
+			double[] forcesX,
+			double[] forcesY) {
+		final var mass = this.cellMass[cell];
+		if (mass == 0 || (this.cellBody[cell] == body && mass == 1)) {
+			return;
+		}
+		final var differenceX = positionX - this.cellMassX[cell] / mass;
+		final var differenceY = positionY - this.cellMassY[cell] / mass;
+		final var distance = Math.max(1, Math.hypot(differenceX, differenceY));
+		if (this.cellBody[cell] != INTERNAL || this.cellHalfSize[cell] * 2 < theta * distance) {
+			final var repulsion = repulsionConstant * mass / (distance * distance);
+			forcesX[body] += (differenceX / distance) * repulsion;
+			forcesY[body] += (differenceY / distance) * repulsion;
+			return;
+		}
+		final var firstChild = this.cellFirstChild[cell];
+		for (var child = firstChild; child < firstChild + 4; child++) {
+			this.accumulateRepulsion(child, body, positionX, positionY, repulsionConstant, theta, forcesX, forcesY);
+		}
+	}
+	
+	private void insert(int body, double positionX, double positionY) {
+		var cell = 0;
+		var depth = 0;
+		while (true) {
+			final var existing = this.cellBody[cell];
+			if (existing == INTERNAL) {
+				this.addMass(cell, 1, positionX, positionY);
+				cell = this.cellFirstChild[cell] + this.quadrant(cell, positionX, positionY);
+				depth++;
+				continue;
+			}
+			if (existing == EMPTY) {
+				this.cellBody[cell] = body;
+				this.addMass(cell, 1, positionX, positionY);
+				return;
+			}
+			if (depth >= MAXIMUM_DEPTH) {
+				this.addMass(cell, 1, positionX, positionY);
+				return;
+			}
+			// Split the leaf and move the node it holds into one of the new children.
+			final var existingX = this.cellMassX[cell];
+			final var existingY = this.cellMassY[cell];
+			final var half = this.cellHalfSize[cell] / 2;
+			final var firstChild = this.cellCount;
+			for (var quadrant = 0; quadrant < 4; quadrant++) {
+				this.addCell(
+						this.cellCentreX[cell] + ((quadrant & 1) == 0 ? -half : half),
+						this.cellCentreY[cell] + ((quadrant & 2) == 0 ? -half : half),
+						half);
+			}
+			final var child = firstChild + this.quadrant(cell, existingX, existingY);
+			this.cellBody[child] = existing;
+			this.addMass(child, 1, existingX, existingY);
+			this.cellBody[cell] = INTERNAL;
+			this.cellFirstChild[cell] = firstChild;
+		}
+	}
+	
+	private int quadrant(int cell, double positionX, double positionY) {
+		return
+				(positionX < this.cellCentreX[cell] ? 0 : 1) |
+				(positionY < this.cellCentreY[cell] ? 0 : 2);
+	}
+	
+	private void addMass(int cell, double mass, double positionX, double positionY) {
+		this.cellMass[cell] += mass;
+		this.cellMassX[cell] += positionX * mass;
+		this.cellMassY[cell] += positionY * mass;
+	}
+	
+	private void addCell(double centreX, double centreY, double halfSize) {
+		if (this.cellCount == this.cellBody.length) {
+			this.resize(this.cellCount * 2);
+		}
+		final var cell = this.cellCount++;
+		this.cellCentreX[cell] = centreX;
+		this.cellCentreY[cell] = centreY;
+		this.cellHalfSize[cell] = halfSize;
+		this.cellMass[cell] = 0;
+		this.cellMassX[cell] = 0;
+		this.cellMassY[cell] = 0;
+		this.cellBody[cell] = EMPTY;
+		this.cellFirstChild[cell] = EMPTY;
+	}
+	
+	private void resize(int capacity) {
+		if (this.cellBody == null) {
+			this.cellCentreX = new double[capacity];
+			this.cellCentreY = new double[capacity];
+			this.cellHalfSize = new double[capacity];
+			this.cellMass = new double[capacity];
+			this.cellMassX = new double[capacity];
+			this.cellMassY = new double[capacity];
+			this.cellBody = new int[capacity];
+			this.cellFirstChild = new int[capacity];
+			return;
+		}
+		this.cellCentreX = Arrays.copyOf(this.cellCentreX, capacity);
+		this.cellCentreY = Arrays.copyOf(this.cellCentreY, capacity);
+		this.cellHalfSize = Arrays.copyOf(this.cellHalfSize, capacity);
+		this.cellMass = Arrays.copyOf(this.cellMass, capacity);
+		this.cellMassX = Arrays.copyOf(this.cellMassX, capacity);
+		this.cellMassY = Arrays.copyOf(this.cellMassY, capacity);
+		this.cellBody = Arrays.copyOf(this.cellBody, capacity);
+		this.cellFirstChild = Arrays.copyOf(this.cellFirstChild, capacity);
+	}
+}
@@ -77,7 +77,11 @@ public final class GraphGlobalRanking {
 		
 		// Extract variations
 		final var variationMaximumDepth = settings.getVariationMaximumDepth();
-		final var variations = GraphVariationExtractor.extract(graph, variationMaximumDepth);
+		final var variations =
+				GraphVariationExtractor.extract(
+					graph,
+					variationMaximumDepth,
+					settings.isVariationExtractionParallel());
 		
 		// Sort by importance
 		final var edgeWeights = settings.getEdgeWeights();
@@ -15,6 +15,7 @@ import nl.ou.refactoring.advice.io.layouts.GraphLayoutSettings;
 public final class GraphLayoutGlobalRankingSettings extends GraphLayoutSettings {
 	private Map<Class<? extends GraphEdge>, Double> edgeWeights = new HashMap<>();
 	private int variationMaximumDepth = 10;
+	private boolean variationExtractionParallel = false;
 	
 	/**
 	 * Initialises a new instance of {@link GraphLayoutGlobalRankingSettings}.
@@ -63,4 +64,20 @@ public final class GraphLayoutGlobalRankingSettings extends GraphLayoutSettings
 		ArgumentGuard.requireGreaterThanOrEqual(0, value, "variationMaximumDepth");
 		this.variationMaximumDepth = value;
 	}
+	
+	/**
+	 * Gets a value indicating whether variations are extracted from the graph in parallel.
+	 * @return True if variations are extracted in parallel, otherwise false.
+	 */
+	public boolean isVariationExtractionParallel() {
+		return this.variationExtractionParallel;
+	}
+	
+	/**
+	 * Sets a value indicating whether variations are extracted from the graph in parallel.
+	 * @param value True to extract variations in parallel, false to extract them sequentially.
+	 */
+	public void setVariationExtractionParallel(boolean value) {
+		this.variationExtractionParallel = value;
+	}
 }
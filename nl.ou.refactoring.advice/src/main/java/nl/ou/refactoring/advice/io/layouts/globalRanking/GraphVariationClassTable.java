@@ -0,0 +1,52 @@
+package nl.ou.refactoring.advice.io.layouts.globalRanking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns the node and edge classes that occur in graph variations as integer identifiers.<br />
+ * Classes may be interned concurrently by several threads.
+ */
+final class GraphVariationClassTable {
+	private final Map<Class<?>, Integer> identifiers;
+	private final List<Class<?>> classes;
+
+	/**
+	 * Initialises a new, empty instance of {@link GraphVariationClassTable}.
+	 */
+	GraphVariationClassTable() {
+		this.identifiers = new ConcurrentHashMap<>();
+		this.classes = new ArrayList<>();
+	}
+	
+	/**
+	 * Gets the identifier of a class, assigning a new identifier if the class has not been interned yet.
+	 * @param type The class to intern.
+	 * @return The identifier of the class.
+	 */
+	int intern(Class<?> type) {
+		final var identifier = this.identifiers.get(type);
+		if (identifier != null) {
+			return identifier;
+		}
+		return this.identifiers.computeIfAbsent(type, _ -> {
+			synchronized (this.classes) {
+				this.classes.add(type);
+				return this.classes.size() - 1;
+			}
+		});
+	}
+	
+	/**
+	 * Gets the class that belongs to an identifier.
+	 * @param identifier The identifier of the class.
+	 * @return The class that belongs to the identifier.
+	 */
+	Class<?> get(int identifier) {
+		synchronized (this.classes) {
+			return this.classes.get(identifier);
+		}
+	}
+}
@@ -1,27 +1,33 @@
 package nl.ou.refactoring.advice.io.layouts.globalRanking;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
 
 import nl.ou.refactoring.advice.Graph;
-import nl.ou.refactoring.advice.GraphPath;
+import nl.ou.refactoring.advice.GraphPathLink;
+import nl.ou.refactoring.advice.GraphPathSearch;
 import nl.ou.refactoring.advice.GraphPathSegmentInvalidException;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.edges.GraphEdge;
 import nl.ou.refactoring.advice.nodes.GraphNode;
-import nl.ou.refactoring.advice.nodes.GraphNodeBase;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostep;
 
 /**
  * Extracts graph variations from a graph.
  */
 public final class GraphVariationExtractor {
+	/**
+	 * The number of start nodes below which a parallel extraction task is no longer split.
+	 */
+	private static final int START_NODES_PER_TASK = 16;
+	
 	private GraphVariationExtractor() { }
 
 	/**
@@ -34,67 +40,134 @@ public final class GraphVariationExtractor {
 	 */
 	public static Set<GraphVariation> extract(Graph graph, int maximumDepth)
 			throws ArgumentNullException, GraphPathSegmentInvalidException {
+		return extract(graph, maximumDepth, false);
+	}
+	
+	/**
+	 * Extracts the variations from the specified graph, optionally in parallel.<br />
+	 * In parallel mode, the start nodes are partitioned across the common {@link ForkJoinPool}.
+	 * The graph must not be modified during the extraction.
+	 * @param graph The graph to extract variations from.
+	 * @param maximumDepth The maximum depth of a variation.
+	 * @param parallel True to extract the variations in parallel, false to extract them sequentially.
+	 * @return The set of variations found in the graph.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 * @throws GraphPathSegmentInvalidException Thrown if a graph path segment is invalid.
+	 */
+	public static Set<GraphVariation> extract(Graph graph, int maximumDepth, boolean parallel)
+			throws ArgumentNullException, GraphPathSegmentInvalidException {
 		ArgumentGuard.requireNotNull(graph, "graph");
-		final Map<String, Integer> sequenceCounts = new HashMap<>();
-		for (final var variationStartNode : graph.getNodes()) {
-			var paths = variationStartNode.findPaths(maximumDepth);
-			for (var path : paths) {
-				var sequence = encodeSequence(path);
-				sequenceCounts.merge(sequence, 1, Integer::sum);
-			}
-		}
+		ArgumentGuard.requireGreaterThanOrEqual(0, maximumDepth, "maximumDepth");
+		final var classTable = new GraphVariationClassTable();
+		final var startNodes = List.copyOf(graph.getNodes());
+		final var sequenceCounts =
+				parallel
+					? ForkJoinPool.commonPool().invoke(
+						new GraphVariationExtractorTask(startNodes, 0, startNodes.size(), maximumDepth, classTable))
+					: countSequences(startNodes, 0, startNodes.size(), maximumDepth, classTable);
 		
 		return
 			sequenceCounts
 				.entrySet()
 				.stream()
-				.map(entry -> {
-					try {
-						final var segments = decodeSequence(entry.getKey(), graph);
-						return new GraphVariation(segments, entry.getValue());
-					} catch (ClassNotFoundException ex) {
-						ex.printStackTrace();
-						return new GraphVariation(new ArrayList<>(), 0);
-					}
-				})
+				.map(entry -> new GraphVariation(decodeSequence(entry.getKey(), classTable), entry.getValue()))
 				.collect(Collectors.toUnmodifiableSet());
 	}
 	
-	private static String getClassName(Class<? extends GraphNode> nodeClass) {
+	private static Map<GraphVariationSequence, Integer> countSequences(
+			List<GraphNode> startNodes,
+			int fromIndex,
+			int toIndex,
+			int maximumDepth,
+			GraphVariationClassTable classTable) {
+		final Map<GraphVariationSequence, Integer> sequenceCounts = new HashMap<>();
+		final var pathSearch = new GraphPathSearch();
+		for (var index = fromIndex; index < toIndex; index++) {
+			pathSearch.findPaths(startNodes.get(index), maximumDepth, path -> {
+				sequenceCounts.merge(encodeSequence(path, classTable), 1, Integer::sum);
+				return true;
+			});
+		}
+		return sequenceCounts;
+	}
+	
+	private static Class<? extends GraphNode> getNodeClass(Class<? extends GraphNode> nodeClass) {
 		if (GraphNodeMicrostep.class.isAssignableFrom(nodeClass)) {
-			nodeClass = GraphNodeMicrostep.class;
+			return GraphNodeMicrostep.class;
 		}
-		
-		return nodeClass.getName();
+		return nodeClass;
 	}
 	
-	private static String encodeSequence(GraphPath path) {
-		final var segments = path.getSegments();
-		var sequence = getClassName(segments.get(0).getNode().getClass());
-		for (var i = 1; i < segments.size(); i++) {
-			final var segment = segments.get(i);
-			final var nodeClassName = getClassName(segment.getNode().getClass());
-			sequence += ",";
-			sequence += segment.getEdge().getClass().getName();
-			sequence += ",";
-			sequence += nodeClassName;
+	private static GraphVariationSequence encodeSequence(GraphPathLink path, GraphVariationClassTable classTable) {
+		final var identifiers = new int[path.getLength() * 2 - 1];
+		var index = identifiers.length - 1;
+		for (var link = path; link != null; link = link.getParent()) {
+			identifiers[index--] = classTable.intern(getNodeClass(link.getNode().getClass()));
+			if (link.getEdge() != null) {
+				identifiers[index--] = classTable.intern(link.getEdge().getClass());
+			}
 		}
-		return sequence;
+		return new GraphVariationSequence(identifiers);
 	}
 	
-	private static List<GraphVariationSegment> decodeSequence(String encodedSequence, Graph graph)
-			throws ClassNotFoundException {
+	@SuppressWarnings("unchecked")
+	private static List<GraphVariationSegment> decodeSequence(
+			GraphVariationSequence sequence,
+			GraphVariationClassTable classTable) {
+		final var identifiers = sequence.identifiers();
 		final var segments = new ArrayList<GraphVariationSegment>();
-		final var parts = Arrays.asList(encodedSequence.split(","));
-		final var nodeClassFirst = Class.forName(parts.get(0));
-		segments.add(new GraphVariationSegment(null, (Class<? extends GraphNodeBase>)nodeClassFirst));
-		for (var i = 1; i < parts.size(); i += 2) {
-			final var edgeClassName = parts.get(i);
-			final var edgeClass = (Class<? extends GraphEdge>)Class.forName(edgeClassName);
-			final var nodeClassName = parts.get(i + 1);
-			final var nodeClass = (Class<? extends GraphNodeBase>)Class.forName(nodeClassName);
+		final var nodeClassFirst = (Class<? extends GraphNode>)classTable.get(identifiers[0]);
+		segments.add(new GraphVariationSegment(null, nodeClassFirst));
+		for (var i = 1; i < identifiers.length; i += 2) {
+			final var edgeClass = (Class<? extends GraphEdge>)classTable.get(identifiers[i]);
+			final var nodeClass = (Class<? extends GraphNode>)classTable.get(identifiers[i + 1]);
 			segments.add(new GraphVariationSegment(edgeClass, nodeClass));
 		}
 		return segments;
 	}
+	
+	/**
+	 * Counts the variations of a range of start nodes, splitting the range into subtasks while it is large.
+	 * Every task counts into its own map, and the maps are merged when the subtasks are joined.
+	 */
+	private static final class GraphVariationExtractorTask
+			extends RecursiveTask<Map<GraphVariationSequence, Integer>> {
+		private static final long serialVersionUID = 1L;
+		private final transient List<GraphNode> startNodes;
+		private final int fromIndex;
+		private final int toIndex;
+		private final int maximumDepth;
+		private final transient GraphVariationClassTable classTable;
+		
+		GraphVariationExtractorTask(
+				List<GraphNode> startNodes,
+				int fromIndex,
+				int toIndex,
+				int maximumDepth,
+				GraphVariationClassTable classTable) {
+			this.startNodes = startNodes;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.maximumDepth = maximumDepth;
+			this.classTable = classTable;
+		}
+		
+		@Override
+		protected Map<GraphVariationSequence, Integer> compute() {
+			if (this.toIndex - this.fromIndex <= START_NODES_PER_TASK) {
+				return countSequences(this.startNodes, this.fromIndex, this.toIndex, this.maximumDepth, this.classTable);
+			}
+			final var middleIndex = (this.fromIndex + this.toIndex) >>> 1;
+			final var left =
+					new GraphVariationExtractorTask(
+						this.startNodes, this.fromIndex, middleIndex, this.maximumDepth, this.classTable);
+			final var right =
+					new GraphVariationExtractorTask(
+						this.startNodes, middleIndex, this.toIndex, this.maximumDepth, this.classTable);
+			left.fork();
+			final var sequenceCounts = right.compute();
+			left.join().forEach((sequence, count) -> sequenceCounts.merge(sequence, count, Integer::sum));
+			return sequenceCounts;
+		}
+	}
 }
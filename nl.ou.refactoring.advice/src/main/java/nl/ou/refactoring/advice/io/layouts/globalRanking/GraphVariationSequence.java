@@ -0,0 +1,27 @@
+package nl.ou.refactoring.advice.io.layouts.globalRanking;
+
+import java.util.Arrays;
+
+/**
+ * An encoded graph variation: the interned identifiers of the start node class,
+ * followed by the edge class and node class of every subsequent segment.
+ * @param identifiers The interned class identifiers.
+ */
+record GraphVariationSequence(int[] identifiers) {
+	@Override
+	public boolean equals(Object other) {
+		return
+				other instanceof GraphVariationSequence sequence &&
+				Arrays.equals(this.identifiers, sequence.identifiers);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.identifiers);
+	}
+	
+	@Override
+	public String toString() {
+		return Arrays.toString(this.identifiers);
+	}
+}
@@ -9,6 +9,7 @@ import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.io.GraphStringWriter;
 import nl.ou.refactoring.advice.io.GraphWriterException;
 import nl.ou.refactoring.advice.nlp.NLPProcessor;
+import nl.ou.refactoring.advice.nlp.NLPResultSegment;
 
 /**
  * Base class for generating text from Refactoring Advice Graphs.
@@ -36,12 +37,13 @@ public final class GraphTextWriter extends GraphStringWriter {
 			GraphValidationException,
 			GraphWriterException {
 		final var nlpResult = this.nlpProvider.process(graph);
-		var resultText = nlpResult.getText();
-		for (final var entry : nlpResult.getReferences().entrySet()) {
-			final var reference = entry.getKey();
-			final var node = entry.getValue();
-			resultText = resultText.replace(reference, node.getCaption());
+		final var resultText = new StringBuilder();
+		for (final var segment : nlpResult.getSegments()) {
+			switch (segment) {
+				case NLPResultSegment.Text(var text) -> resultText.append(text);
+				case NLPResultSegment.Reference(var node) -> resultText.append(node.getCaption());
+			}
 		}
-		this.print(resultText);
+		this.print(resultText.toString());
 	}
 }
\ No newline at end of file
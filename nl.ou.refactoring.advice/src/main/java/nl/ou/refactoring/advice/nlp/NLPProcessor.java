@@ -9,15 +9,15 @@ import nl.ou.refactoring.advice.contracts.ArgumentNullException;
  */
 public abstract class NLPProcessor {
 	/**
-	 * Builds the clear text of the Natural Language Processing result.
+	 * Builds the segments of the Natural Language Processing result.
 	 */
-	protected final StringBuilder stringBuilder;
+	protected final NLPResultBuilder resultBuilder;
 	
 	/**
 	 * Initialises a new instance of {@link NLPProcessor}.
 	 */
 	protected NLPProcessor() {
-		this.stringBuilder = new StringBuilder();
+		this.resultBuilder = new NLPResultBuilder();
 	}
 	
 	/**
@@ -1,6 +1,9 @@
 package nl.ou.refactoring.advice.nlp;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import nl.ou.refactoring.advice.contracts.ArgumentEmptyException;
@@ -9,14 +12,41 @@ import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.nodes.GraphNode;
 
 /**
- * A result of a Natural Language Processing request.
+ * A result of a Natural Language Processing request.<br />
+ * The result is a list of segments: runs of clear text and references to nodes,
+ * so that writers can render it in a single pass.
  */
 public final class NLPResult {
-	private final String text;
-	private final Map<String, GraphNode> references;
+	private final List<NLPResultSegment> segments;
 
 	/**
 	 * Initialises a new instance of {@link NLPResult}.
+	 * @param segments The segments of the Natural Language Processing result. Consecutive runs of clear text are joined.
+	 * @throws ArgumentNullException Thrown if segments or any of the segments is null.
+	 */
+	public NLPResult(List<NLPResultSegment> segments)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(segments, "segments");
+		final var segmentsJoined = new ArrayList<NLPResultSegment>(segments.size());
+		for (final var segment : segments) {
+			ArgumentGuard.requireNotNull(segment, "segment");
+			if (segment instanceof NLPResultSegment.Text(var text)) {
+				if (text.isEmpty()) {
+					continue;
+				}
+				if (!segmentsJoined.isEmpty() && segmentsJoined.getLast() instanceof NLPResultSegment.Text(var textPrevious)) {
+					segmentsJoined.set(segmentsJoined.size() - 1, new NLPResultSegment.Text(textPrevious + text));
+					continue;
+				}
+			}
+			segmentsJoined.add(segment);
+		}
+		this.segments = Collections.unmodifiableList(segmentsJoined);
+	}
+
+	/**
+	 * Initialises a new instance of {@link NLPResult} from a text with reference strings,
+	 * as produced by {@link #extractReferenceString(GraphNode)}.
 	 * @param text The clear text of the Natural Language Processing result.
 	 * @param references The references in the text of the Natural Language Processing result.
 	 * @throws ArgumentNullException Thrown if text or references is null.
@@ -25,24 +55,66 @@ public final class NLPResult {
 			throws ArgumentNullException, ArgumentEmptyException {
 		ArgumentGuard.requireNotNull(text, "text");
 		ArgumentGuard.requireNotNull(references, "references");
-		this.text = text;
-		this.references = references;
+		this(parse(text, references));
+	}
+
+	/**
+	 * Creates a Natural Language Processing result of clear text only.
+	 * @param text The clear text.
+	 * @return The Natural Language Processing result.
+	 * @throws ArgumentNullException Thrown if text is null.
+	 */
+	public static NLPResult fromText(String text) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(text, "text");
+		return new NLPResult(List.of(new NLPResultSegment.Text(text)));
+	}
+
+	/**
+	 * Creates a Natural Language Processing result of a single reference to a node.
+	 * @param node The node that is referred to.
+	 * @return The Natural Language Processing result.
+	 * @throws ArgumentNullException Thrown if node is null.
+	 */
+	public static NLPResult fromReference(GraphNode node) throws ArgumentNullException {
+		return new NLPResult(List.of(new NLPResultSegment.Reference(node)));
+	}
+
+	/**
+	 * Gets the segments of the Natural Language Processing result.
+	 * @return An unmodifiable list of the segments, in which no two runs of clear text are adjacent.
+	 */
+	public List<NLPResultSegment> getSegments() {
+		return this.segments;
 	}
 	
 	/**
-	 * Gets the clear text of the Natural Language Processing result.
+	 * Gets the clear text of the Natural Language Processing result, in which every reference
+	 * is represented by its reference string, as produced by {@link #extractReferenceString(GraphNode)}.
 	 * @return The clear text of the Natural Language Processing result.
 	 */
 	public String getText() {
-		return this.text;
+		final var text = new StringBuilder();
+		for (final var segment : this.segments) {
+			switch (segment) {
+				case NLPResultSegment.Text(var textRun) -> text.append(textRun);
+				case NLPResultSegment.Reference(var node) -> text.append(extractReferenceString(node));
+			}
+		}
+		return text.toString();
 	}
 	
 	/**
 	 * Gets the references in the text of the Natural Language Processing result.
-	 * @return The references in the text of the Natural Language Processing result.
+	 * @return A new map of the reference strings in the text of the Natural Language Processing result to their nodes.
 	 */
 	public Map<String, GraphNode> getReferences() {
-		return this.references;
+		final var references = new HashMap<String, GraphNode>();
+		for (final var segment : this.segments) {
+			if (segment instanceof NLPResultSegment.Reference(var node)) {
+				references.putIfAbsent(extractReferenceString(node), node);
+			}
+		}
+		return references;
 	}
 	
 	/**
@@ -51,25 +123,33 @@ public final class NLPResult {
 	 * @return A new instance of {@link NLPResult} with a period appended. If the text already ends with a period, the identity is returned.
 	 */
 	public NLPResult appendPeriod() {
-		if (this.text.endsWith(".")) {
+		if (!this.segments.isEmpty()
+				&& this.segments.getLast() instanceof NLPResultSegment.Text(var text)
+				&& text.endsWith(".")) {
 			return this;
 		}
-		return new NLPResult(this.text + ".", this.references);
+		return new NLPResultBuilder().append(this).appendText(".").build();
 	}
 	
 	/**
 	 * Capitalises the first letter of the text and returns a new instance of {@link NLPResult}.
+	 * If the result does not start with clear text, the identity is returned.
 	 * @return A new instance of {@link NLPResult} with the first letter capitalised.
 	 */
 	public NLPResult capitaliseFirstLetter() {
-		return new NLPResult(NLPTransformer.capitaliseFirstLetter(this.text), this.references);
+		if (this.segments.isEmpty() || !(this.segments.getFirst() instanceof NLPResultSegment.Text(var text))) {
+			return this;
+		}
+		final var segments = new ArrayList<>(this.segments);
+		segments.set(0, new NLPResultSegment.Text(NLPTransformer.capitaliseFirstLetter(text)));
+		return new NLPResult(segments);
 	}
 	
 	/**
 	 * Merges this Natural Language Processing result with the other Natural Language Processing result and interjects the specified separator.
 	 * @param otherResult The other Natural Language Processing result to merge with.
 	 * @param separator The separator to interject between the merged Natural Language Processing results.
-	 * @return A new instance of {@link NLPResult} with a merged text and references map.
+	 * @return A new instance of {@link NLPResult} with the merged segments.
 	 * @throws ArgumentNullException Thrown if otherResult or separator is null.
 	 */
 	public NLPResult merge(NLPResult otherResult, String separator)
@@ -92,12 +172,12 @@ public final class NLPResult {
 	}
 	
 	/**
-	 * Extracts a unique reference {@link String} from a {@link GraphNode}.
+	 * Extracts a unique reference {@link String} from a {@link GraphNode}, which represents the node in {@link #getText()}.
 	 * @param node The node from which to extract a unique reference {@link String}.
 	 * @return A unique reference to a {@link GraphNode}.
 	 */
 	public static String extractReferenceString(GraphNode node) {
-		return String.format("{%s}", node.getId());
+		return "{" + node.getId() + "}";
 	}
 	
 	/**
@@ -113,17 +193,28 @@ public final class NLPResult {
 		ArgumentGuard.requireNotNull(firstResult, "firstResult");
 		ArgumentGuard.requireNotNull(secondResult, "secondResult");
 		ArgumentGuard.requireNotNull(separator, "separator");
-		final var text = firstResult.getText() + separator + secondResult.getText();
-		final var references = new HashMap<String, GraphNode>();
-		final var referencesEntriesFirst = firstResult.getReferences().entrySet();
-		for (final var entry : referencesEntriesFirst) {
-			references.put(entry.getKey(), entry.getValue());
-		}
-		final var referencesEntriesSecond = secondResult.getReferences().entrySet();
-		for (final var entry : referencesEntriesSecond) {
-			references.putIfAbsent(entry.getKey(), entry.getValue());
+		return new NLPResultBuilder().append(firstResult).appendText(separator).append(secondResult).build();
+	}
+
+	private static List<NLPResultSegment> parse(String text, Map<String, GraphNode> references) {
+		final var builder = new NLPResultBuilder();
+		var indexText = 0;
+		var indexOpen = text.indexOf('{');
+		while (indexOpen >= 0) {
+			final var indexClose = text.indexOf('}', indexOpen + 1);
+			if (indexClose < 0) {
+				break;
+			}
+			final var node = references.get(text.substring(indexOpen, indexClose + 1));
+			if (node == null) {
+				indexOpen = text.indexOf('{', indexOpen + 1);
+				continue;
+			}
+			builder.appendText(text.substring(indexText, indexOpen)).appendReference(node);
+			indexText = indexClose + 1;
+			indexOpen = text.indexOf('{', indexText);
 		}
-		return new NLPResult(text, references);
+		return builder.appendText(text.substring(indexText)).build().getSegments();
 	}
 	
 	@Override
@@ -135,6 +226,11 @@ public final class NLPResult {
 			return true;
 		}
 		final var other = (NLPResult)obj;
-		return this.getText().equals(other.getText()) && this.getReferences().equals(other.getReferences());
-	};
-}
\ No newline at end of file
+		return this.getSegments().equals(other.getSegments());
+	}
+
+	@Override
+	public int hashCode() {
+		return this.segments.hashCode();
+	}
+}
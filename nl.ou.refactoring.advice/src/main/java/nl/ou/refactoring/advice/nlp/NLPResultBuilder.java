@@ -0,0 +1,98 @@
+package nl.ou.refactoring.advice.nlp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * Builds an {@link NLPResult} from runs of clear text and references to nodes.
+ * Consecutive runs of clear text are joined into one segment.
+ */
+public final class NLPResultBuilder {
+	private final List<NLPResultSegment> segments;
+	private final StringBuilder text;
+
+	/**
+	 * Initialises a new instance of {@link NLPResultBuilder}.
+	 */
+	public NLPResultBuilder() {
+		this.segments = new ArrayList<>();
+		this.text = new StringBuilder();
+	}
+
+	/**
+	 * Appends a run of clear text.
+	 * @param text The clear text.
+	 * @return The identity, to chain calls.
+	 * @throws ArgumentNullException Thrown if text is null.
+	 */
+	public NLPResultBuilder appendText(String text) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(text, "text");
+		this.text.append(text);
+		return this;
+	}
+
+	/**
+	 * Appends a reference to a node.
+	 * @param node The node that is referred to.
+	 * @return The identity, to chain calls.
+	 * @throws ArgumentNullException Thrown if node is null.
+	 */
+	public NLPResultBuilder appendReference(GraphNode node) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(node, "node");
+		this.flushText();
+		this.segments.add(new NLPResultSegment.Reference(node));
+		return this;
+	}
+
+	/**
+	 * Appends a segment.
+	 * @param segment The segment.
+	 * @return The identity, to chain calls.
+	 * @throws ArgumentNullException Thrown if segment is null.
+	 */
+	public NLPResultBuilder append(NLPResultSegment segment) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(segment, "segment");
+		return switch (segment) {
+			case NLPResultSegment.Text(var text) -> this.appendText(text);
+			case NLPResultSegment.Reference(var node) -> this.appendReference(node);
+		};
+	}
+
+	/**
+	 * Appends the segments of a Natural Language Processing result.
+	 * @param result The Natural Language Processing result.
+	 * @return The identity, to chain calls.
+	 * @throws ArgumentNullException Thrown if result is null.
+	 */
+	public NLPResultBuilder append(NLPResult result) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(result, "result");
+		for (final var segment : result.getSegments()) {
+			this.append(segment);
+		}
+		return this;
+	}
+
+	/**
+	 * Builds the Natural Language Processing result of the segments appended so far.
+	 * The builder may be appended to afterwards, which does not affect the built result.
+	 * @return The Natural Language Processing result.
+	 */
+	public NLPResult build() {
+		final var segments = new ArrayList<>(this.segments);
+		if (!this.text.isEmpty()) {
+			segments.add(new NLPResultSegment.Text(this.text.toString()));
+		}
+		return new NLPResult(segments);
+	}
+
+	private void flushText() {
+		if (!this.text.isEmpty()) {
+			this.segments.add(new NLPResultSegment.Text(this.text.toString()));
+			this.text.setLength(0);
+		}
+	}
+}
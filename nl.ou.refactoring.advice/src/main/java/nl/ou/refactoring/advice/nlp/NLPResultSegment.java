@@ -0,0 +1,40 @@
+package nl.ou.refactoring.advice.nlp;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * A segment of a Natural Language Processing result: either a run of clear text or a reference to a node.
+ */
+public sealed interface NLPResultSegment {
+	/**
+	 * A run of clear text.
+	 * @param text The clear text.
+	 */
+	record Text(String text) implements NLPResultSegment {
+		/**
+		 * Initialises a new instance of {@link Text}.
+		 * @param text The clear text.
+		 * @throws nl.ou.refactoring.advice.contracts.ArgumentNullException Thrown if text is null.
+		 */
+		public Text {
+			ArgumentGuard.requireNotNull(text, "text");
+		}
+	}
+
+	/**
+	 * A reference to a node in a Refactoring Advice Graph, which a writer renders as it sees fit,
+	 * for instance by the caption of the node or by a link to its program location.
+	 * @param node The node that is referred to.
+	 */
+	record Reference(GraphNode node) implements NLPResultSegment {
+		/**
+		 * Initialises a new instance of {@link Reference}.
+		 * @param node The node that is referred to.
+		 * @throws nl.ou.refactoring.advice.contracts.ArgumentNullException Thrown if node is null.
+		 */
+		public Reference {
+			ArgumentGuard.requireNotNull(node, "node");
+		}
+	}
+}
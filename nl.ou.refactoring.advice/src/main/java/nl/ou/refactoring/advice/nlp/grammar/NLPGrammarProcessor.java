@@ -10,6 +10,7 @@ import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.nlp.NLPException;
 import nl.ou.refactoring.advice.nlp.NLPProcessor;
 import nl.ou.refactoring.advice.nlp.NLPResult;
+import nl.ou.refactoring.advice.nlp.NLPResultBuilder;
 import nl.ou.refactoring.advice.nlp.grammar.nouns.CommonNoun;
 import nl.ou.refactoring.advice.nlp.grammar.nouns.NounPhrase;
 import nl.ou.refactoring.advice.nlp.grammar.nouns.ReferenceNoun;
@@ -31,7 +32,6 @@ import nl.ou.refactoring.advice.nodes.code.GraphNodeAttribute;
 import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
 import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation;
 import nl.ou.refactoring.advice.nodes.workflow.GraphWorkflowExplorer;
-import nl.ou.refactoring.advice.nodes.workflow.RefactoringMustContainStartNodeException;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddField;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAttributeMissingException;
@@ -65,26 +65,21 @@ public class NLPGrammarProcessor extends NLPProcessor {
 
 		final var references = new HashMap<String, GraphNode>();
 
-		final var startNode = graph.getStart().orElseThrow(() -> new RefactoringMustContainStartNodeException());
+		final var resultBuilder = new NLPResultBuilder();
 
-		var result = new NLPResult("", references);
-
-		final var dangerNodes = GraphWorkflowExplorer.getDangers(graph);
-		for (final var dangerNode : dangerNodes) {
+		final var dangerPaths = GraphWorkflowExplorer.getDangerPaths(graph);
+		for (final var dangerPath : dangerPaths.values()) {
 			// Dangers
-			final var dangerPaths = startNode.findPaths(dangerNode, 100);
-			if (dangerPaths.isEmpty()) {
-				continue;
-			}
-			final var dangerPath = dangerPaths.get(0);
 			final var dangerDescription = NLPGrammarSentenceBuilder.buildDangerDescription(dangerPath, references);
-			result = dangerDescription.stream().map(this.language::visit).reduce(result, NLPResult::merge);
+			for (final var sentence : dangerDescription) {
+				resultBuilder.append(this.language.visit(sentence));
+			}
 
 			// Remedies
 			// TODO remedy paths
 		}
 
-		return result;
+		return resultBuilder.build();
 	}
 
 	/**
@@ -99,7 +99,7 @@ public final class NLPLanguageDutchNetherlands implements NLPLanguage {
 
 	@Override
 	public NLPResult visit(Sentence sentence) {
-		var result = new NLPResult("", new HashMap<String, GraphNode>());
+		var result = NLPResult.fromText("");
 		final var nounPhrase = sentence.getNounPhrase();
 		if (nounPhrase.isPresent()) {
 			result = result.merge(this.visit(nounPhrase.get()));
@@ -115,28 +115,25 @@ public final class NLPLanguageDutchNetherlands implements NLPLanguage {
 		final var noun = nounPhrase.getNoun();
 		final var nounDeclensionKey = nounPhrase.getDeclension();
 
-		final var references = new HashMap<String, GraphNode>();
-		final var nounString = switch (noun) {
+		final var result = switch (noun) {
 			case ReferenceNoun<?> referenceNoun -> {
 				final var reference = referenceNoun.getReference();
 				if (!GraphNode.class.isInstance(reference)) {
-					yield reference.toString();
+					yield NLPResult.fromText(reference.toString());
 				}
-				final var referenceKey = NLPResult.extractReferenceString((GraphNode) referenceNoun.getReference());
-				references.putIfAbsent(referenceKey, (GraphNode) referenceNoun.getReference());
-				yield referenceKey;
+				yield NLPResult.fromReference((GraphNode) reference);
 			}
-			default -> this.nounDeclensions.get(noun.getToken()).lookup(nounDeclensionKey).get();
+			default -> NLPResult.fromText(this.nounDeclensions.get(noun.getToken()).lookup(nounDeclensionKey).get());
 		};
 
-		return new NLPResult(nounString, references);
+		return result;
 	}
 
 	private NLPResult visit(PrepositionalPhrase prepositionalPhrase) {
 		final var preposition = prepositionalPhrase.getPreposition();
 		final var prepositionText = prepositions.get(preposition.getToken());
 
-		var result = new NLPResult(prepositionText, new HashMap<String, GraphNode>());
+		var result = NLPResult.fromText(prepositionText);
 		result = result.merge(this.visit(prepositionalPhrase.getNounPhrase()), " ");
 		return result;
 	}
@@ -157,7 +154,7 @@ public final class NLPLanguageDutchNetherlands implements NLPLanguage {
 		}
 		resultTextBuilder.append(this.verbConjugations.get(verb.getToken()).lookup(verbConjugationKey).get());
 
-		var result = new NLPResult(resultTextBuilder.toString(), new HashMap<String, GraphNode>());
+		var result = NLPResult.fromText(resultTextBuilder.toString());
 		
 		final var nounPhrase = verbPhrase.getNounPhrase();
 		if (nounPhrase.isPresent()) {
@@ -1,8 +1,7 @@
 package nl.ou.refactoring.advice.nlp.processors;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import nl.ou.refactoring.advice.Graph;
@@ -15,7 +14,6 @@ import nl.ou.refactoring.advice.nlp.NLPResult;
 import nl.ou.refactoring.advice.nodes.GraphNode;
 import nl.ou.refactoring.advice.nodes.workflow.GraphNodeRefactoringStart;
 import nl.ou.refactoring.advice.nodes.workflow.GraphWorkflowExplorer;
-import nl.ou.refactoring.advice.nodes.workflow.RefactoringMustContainStartNodeException;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddClass;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddField;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
@@ -38,233 +36,175 @@ public final class NLPConcatenationProcessor extends NLPProcessor {
 	}
 
 	private void append(String text) {
-		this.stringBuilder.append(text);
+		this.resultBuilder.appendText(text);
 	}
 
-	private void appendFormat(String format, Object... args) {
-		this.stringBuilder.append(String.format(format, args));
+	private void appendQuoted(GraphNode node) {
+		this.resultBuilder.appendText("'").appendReference(node).appendText("'");
 	}
 
-	private void appendNodeRefactoringStart(GraphNodeRefactoringStart startNode, Map<String, GraphNode> references) {
+	private void appendNodeRefactoringStart(GraphNodeRefactoringStart startNode) {
 		this.append(startNode.getRefactoringName());
 	}
 
-	private void appendNodeMicrostepAddClass(
-			GraphNodeMicrostepAddClass addClassNode,
-			Map<String, GraphNode> references) {
+	private void appendNodeMicrostepAddClass(GraphNodeMicrostepAddClass addClassNode) {
 		final var classNode = addClassNode.getClassNode();
 		if (classNode == null) {
 			this.append(", adds class");
 		} else {
-			final var classNodeId = NLPResult.extractReferenceString(classNode);
-			this.appendFormat(", adds class '%s'", classNodeId);
-			references.computeIfAbsent(classNodeId, (_) -> classNode);
+			this.append(", adds class ");
+			this.appendQuoted(classNode);
 			final var packageNode = classNode.getPackageNode();
 			if (packageNode.isPresent()) {
-				final var packageNodeId = NLPResult.extractReferenceString(packageNode.get());
-				this.appendFormat(" to package '%s'", packageNodeId);
-				references.computeIfAbsent(packageNodeId, (_) -> packageNode.get());
+				this.append(" to package ");
+				this.appendQuoted(packageNode.get());
 			}
 		}
 	}
 
-	private void appendNodeMicrostepAddField(
-			GraphNodeMicrostepAddField addFieldNode,
-			Map<String, GraphNode> references) {
+	private void appendNodeMicrostepAddField(GraphNodeMicrostepAddField addFieldNode) {
 		final var attributeNodeOptional = addFieldNode.getAttributeNode();
 		if (attributeNodeOptional.isEmpty()) {
 			this.append(", adds field");
 		} else {
 			final var attributeNode = attributeNodeOptional.get();
-			final var attributeNodeId = NLPResult.extractReferenceString(attributeNode);
-			this.appendFormat(", adds field '%s'", attributeNodeId);
-			references.computeIfAbsent(attributeNodeId, (_) -> attributeNode);
+			this.append(", adds field ");
+			this.appendQuoted(attributeNode);
 			final var classNode = attributeNode.getClassNode();
 			if (classNode.isPresent()) {
-				final var classNodeId = NLPResult.extractReferenceString(classNode.get());
-				this.appendFormat(" to class '%s'", classNodeId);
-				references.computeIfAbsent(classNodeId, (_) -> classNode.get());
+				this.append(" to class ");
+				this.appendQuoted(classNode.get());
 			}
 		}
 	}
 
-	private void appendNodeMicrostepAddMethod(
-			GraphNodeMicrostepAddMethod addMethodNode,
-			Map<String, GraphNode> references) {
+	private void appendNodeMicrostepAddMethod(GraphNodeMicrostepAddMethod addMethodNode) {
 		final var operationNode = addMethodNode.getOperationNode();
 		if (operationNode.isEmpty()) {
 			this.append(", adds method {undefined}");
 		} else {
-			final var operationNodeId = NLPResult.extractReferenceString(operationNode.get());
-			this.appendFormat(", adds method '%s'", operationNodeId);
-			references.computeIfAbsent(operationNodeId, (_) -> operationNode.get());
+			this.append(", adds method ");
+			this.appendQuoted(operationNode.get());
 			final var classNode = operationNode.get().getClassNode();
 			if (classNode.isPresent()) {
-				final var classNodeId = NLPResult.extractReferenceString(classNode.get());
-				this.appendFormat(" to class '%s'", classNodeId);
-				references.computeIfAbsent(classNodeId, (_) -> classNode.get());
+				this.append(" to class ");
+				this.appendQuoted(classNode.get());
 			}
 		}
 	}
 
-	private void appendNodeMicrostepRemoveClass(
-			GraphNodeMicrostepRemoveClass removeClassNode,
-			Map<String, GraphNode> references) {
+	private void appendNodeMicrostepRemoveClass(GraphNodeMicrostepRemoveClass removeClassNode) {
 		final var classNode = removeClassNode.getClassNode();
-		final var classNodeId = NLPResult.extractReferenceString(classNode);
-		this.appendFormat(", removes class '%s'", classNodeId);
-		references.computeIfAbsent(classNodeId, (_) -> classNode);
+		this.append(", removes class ");
+		this.appendQuoted(classNode);
 		final var packageNode = classNode.getPackageNode();
 		if (packageNode.isPresent()) {
-			final var packageNodeId = NLPResult.extractReferenceString(packageNode.get());
-			this.appendFormat(" from package '%s'", packageNodeId);
-			references.computeIfAbsent(packageNodeId, (_) -> packageNode.get());
+			this.append(" from package ");
+			this.appendQuoted(packageNode.get());
 		}
 	}
 
-	private void appendNodeMicrostepRemoveField(
-			GraphNodeMicrostepRemoveField removeFieldNode,
-			Map<String, GraphNode> references) {
+	private void appendNodeMicrostepRemoveField(GraphNodeMicrostepRemoveField removeFieldNode) {
 		final var attributeNodeOptional = removeFieldNode.getAttributeNode();
 		if (attributeNodeOptional.isEmpty()) {
 			this.append(", removes field");
 		} else {
 			final var attributeNode = attributeNodeOptional.get();
-			final var attributeNodeId = NLPResult.extractReferenceString(attributeNode);
-			this.appendFormat(", removes field '%s'", attributeNodeId);
-			references.computeIfAbsent(attributeNodeId, (_) -> attributeNode);
+			this.append(", removes field ");
+			this.appendQuoted(attributeNode);
 			final var classNode = attributeNode.getClassNode();
 			if (classNode.isPresent()) {
-				final var classNodeId = NLPResult.extractReferenceString(classNode.get());
-				this.appendFormat(" from class '%s'", classNodeId);
-				references.computeIfAbsent(classNodeId, (_) -> classNode.get());
+				this.append(" from class ");
+				this.appendQuoted(classNode.get());
 			}
 		}
 	}
 
-	private void appendNodeMicrostepRemoveMethod(
-			GraphNodeMicrostepRemoveMethod removeMethodNode,
-			Map<String, GraphNode> references) {
+	private void appendNodeMicrostepRemoveMethod(GraphNodeMicrostepRemoveMethod removeMethodNode) {
 		final var operationNode = removeMethodNode.getOperationNode();
-		final var operationNodeId = NLPResult.extractReferenceString(operationNode);
-		this.appendFormat(", removes method '%s'", operationNodeId);
-		references.computeIfAbsent(operationNodeId, (_) -> operationNode);
+		this.append(", removes method ");
+		this.appendQuoted(operationNode);
 		final var classNode = operationNode.getClassNode();
 		if (classNode.isPresent()) {
-			final var classNodeId = NLPResult.extractReferenceString(classNode.get());
-			this.appendFormat(" from class '%s'", classNodeId);
-			references.computeIfAbsent(classNodeId, (_) -> classNode.get());
+			this.append(" from class ");
+			this.appendQuoted(classNode.get());
 		}
 	}
 
-	private void appendNodeRisk(GraphNodeRisk riskNode, Map<String, GraphNode> references) {
-		this.appendFormat(" which will cause a %s", riskNode.getCaption());
-		final var affectedNodes = riskNode.getAffected();
-		final var affectedNodesList =
-				affectedNodes.stream()
-						.sorted((n1, n2) -> n1.getId().toString().compareTo(n2.getId().toString()))
-						.collect(Collectors.toUnmodifiableList());
-		this.append(" on " + getEnumeration(affectedNodesList, references));
+	private void appendNodeRisk(GraphNodeRisk riskNode) {
+		this.append(String.format(" which will cause a %s", riskNode.getCaption()));
+		this.append(" on ");
+		this.appendEnumeration(sortById(riskNode.getAffected()));
 	}
 
-	private void appendNodeRiskDoubleDefinition(
-			GraphNodeRiskDoubleDefinition doubleDefinition,
-			Map<String, GraphNode> references) {
+	private void appendNodeRiskDoubleDefinition(GraphNodeRiskDoubleDefinition doubleDefinition) {
 		this.append(" which will introduce code symbols with identical signatures");
-		final var affectedNodes = doubleDefinition.getAffected();
-		final var affectedNodesList =
-				affectedNodes.stream()
-						.sorted((n1, n2) -> n1.getId().toString().compareTo(n2.getId().toString()))
-						.collect(Collectors.toUnmodifiableList());
-		this.append(" on " + getEnumeration(affectedNodesList, references));
+		this.append(" on ");
+		this.appendEnumeration(sortById(doubleDefinition.getAffected()));
 	}
 
-	private void appendNodeRiskForcedOverride(
-			GraphNodeRiskForcedOverride forcedOverride,
-			Map<String, GraphNode> references) {
+	private void appendNodeRiskForcedOverride(GraphNodeRiskForcedOverride forcedOverride) {
 		this.append(" which will forcefully cause an override of ");
-		final var affectedNodes = forcedOverride.getAffected();
-		final var affectedNames =
-				affectedNodes.stream()
-						.sorted((n1, n2) -> n1.getId().toString().compareTo(n2.getId().toString()))
-						.collect(Collectors.toUnmodifiableList());
-		this.append(getEnumeration(affectedNames, references));
+		this.appendEnumeration(sortById(forcedOverride.getAffected()));
 	}
 
-	private static String getEnumeration(List<GraphNode> items, Map<String, GraphNode> references) {
+	private void appendEnumeration(List<GraphNode> items) {
 		if (items.size() == 0) {
-			return "";
+			return;
 		}
 
 		if (items.size() == 1) {
-			final var itemSingle = items.get(0);
-			final var itemSingleId = NLPResult.extractReferenceString(itemSingle);
-			references.computeIfAbsent(itemSingleId, (_) -> itemSingle);
-			return itemSingleId;
+			this.resultBuilder.appendReference(items.get(0));
+			return;
 		}
 
-		final var stringBuilder = new StringBuilder();
-		final var itemFirst = items.get(0);
-		final var itemFirstId = NLPResult.extractReferenceString(itemFirst);
-		stringBuilder.append(String.format("'%s'", itemFirstId));
-		references.computeIfAbsent(itemFirstId, (_) -> itemFirst);
-
+		this.appendQuoted(items.get(0));
 		for (var i = 1; i < items.size() - 1; i++) {
-			final var itemNext = items.get(i);
-			final var itemNextId = NLPResult.extractReferenceString(itemNext);
-			stringBuilder.append(String.format(", '%s'", itemNextId));
-			references.computeIfAbsent(itemNextId, (_) -> itemNext);
+			this.append(", ");
+			this.appendQuoted(items.get(i));
 		}
+		this.append(" and ");
+		this.appendQuoted(items.get(items.size() - 1));
+	}
 
-		final var itemLast = items.get(items.size() - 1);
-		final var itemLastId = NLPResult.extractReferenceString(itemLast);
-		stringBuilder.append(String.format(" and '%s'", itemLastId));
-		references.computeIfAbsent(itemLastId, (_) -> itemLast);
-
-		return stringBuilder.toString();
+	private static List<GraphNode> sortById(Collection<GraphNode> nodes) {
+		return
+				nodes.stream()
+						.sorted((n1, n2) -> n1.getId().toString().compareTo(n2.getId().toString()))
+						.collect(Collectors.toUnmodifiableList());
 	}
 
 	@Override
 	public NLPResult process(Graph graph) throws ArgumentNullException, GraphValidationException, NLPException {
 		ArgumentGuard.requireNotNull(graph, "graph");
 
-		final var references = new HashMap<String, GraphNode>();
-
-		final var startNode = graph.getStart().orElseThrow(() -> new RefactoringMustContainStartNodeException());
-
-		final var dangerNodes = GraphWorkflowExplorer.getDangers(graph);
-		for (final var dangerNode : dangerNodes) {
-			final var dangerPaths = startNode.findPaths(dangerNode, 100);
-			if (dangerPaths.isEmpty()) {
-				continue;
-			}
-
-			final var dangerPath = dangerPaths.get(0);
+		final var dangerPaths = GraphWorkflowExplorer.getDangerPaths(graph);
+		for (final var dangerPath : dangerPaths.values()) {
 			for (final var dangerPathSegment : dangerPath.getSegments()) {
 				switch (dangerPathSegment.getNode()) {
-					case GraphNodeRefactoringStart start -> this.appendNodeRefactoringStart(start, references);
-					case GraphNodeMicrostepAddClass addClass -> this.appendNodeMicrostepAddClass(addClass, references);
-					case GraphNodeMicrostepAddField addField -> this.appendNodeMicrostepAddField(addField, references);
+					case GraphNodeRefactoringStart start -> this.appendNodeRefactoringStart(start);
+					case GraphNodeMicrostepAddClass addClass -> this.appendNodeMicrostepAddClass(addClass);
+					case GraphNodeMicrostepAddField addField -> this.appendNodeMicrostepAddField(addField);
 					case GraphNodeMicrostepAddMethod addMethod ->
-						this.appendNodeMicrostepAddMethod(addMethod, references);
+						this.appendNodeMicrostepAddMethod(addMethod);
 					case GraphNodeMicrostepRemoveClass removeClass ->
-						this.appendNodeMicrostepRemoveClass(removeClass, references);
+						this.appendNodeMicrostepRemoveClass(removeClass);
 					case GraphNodeMicrostepRemoveField removeField ->
-						this.appendNodeMicrostepRemoveField(removeField, references);
+						this.appendNodeMicrostepRemoveField(removeField);
 					case GraphNodeMicrostepRemoveMethod removeMethod ->
-						this.appendNodeMicrostepRemoveMethod(removeMethod, references);
+						this.appendNodeMicrostepRemoveMethod(removeMethod);
 					case GraphNodeRiskDoubleDefinition doubleDefinition ->
-						this.appendNodeRiskDoubleDefinition(doubleDefinition, references);
+						this.appendNodeRiskDoubleDefinition(doubleDefinition);
 					case GraphNodeRiskForcedOverride forcedOverride ->
-						this.appendNodeRiskForcedOverride(forcedOverride, references);
-					case GraphNodeRisk risk -> this.appendNodeRisk(risk, references);
+						this.appendNodeRiskForcedOverride(forcedOverride);
+					case GraphNodeRisk risk -> this.appendNodeRisk(risk);
 					default -> {
 					}
 				}
 			}
 		}
 
-		return new NLPResult(this.stringBuilder.toString(), references);
+		return this.resultBuilder.build();
 	}
 
 	@Override
@@ -1,11 +1,16 @@
 package nl.ou.refactoring.advice.nodes;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.GraphPath;
+import nl.ou.refactoring.advice.GraphPathVisitor;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.edges.GraphEdge;
 
@@ -73,6 +78,51 @@ public interface GraphNode {
 	public List<GraphPath> findPaths(GraphNodeBase destinationNode, int maximumDepth)
 		throws ArgumentNullException, IllegalArgumentException;
 	
+	/**
+	 * Finds paths that lead out of this node, limited by a maximum depth, and reports them to a visitor as they are found.
+	 * @param maximumDepth The maximum depth of the paths.
+	 * @param visitor The visitor that receives the paths; it may stop the search by returning false.
+	 * @throws ArgumentNullException Thrown if visitor is null.
+	 * @throws IllegalArgumentException Thrown if maximumDepth is not greater than or equal to 0.
+	 */
+	public void findPaths(int maximumDepth, GraphPathVisitor visitor)
+		throws ArgumentNullException, IllegalArgumentException;
+	
+	/**
+	 * Finds paths that lead to the specified destination node, limited by a maximum depth, and reports them to a visitor as they are found.
+	 * @param destinationNode The node to which to find paths from this node.
+	 * @param maximumDepth The maximum depth of the paths.
+	 * @param visitor The visitor that receives the paths; it may stop the search by returning false.
+	 * @throws ArgumentNullException Thrown if destinationNode or visitor is null.
+	 * @throws IllegalArgumentException Thrown if maximumDepth is not greater than or equal to 0.
+	 */
+	public void findPaths(GraphNode destinationNode, int maximumDepth, GraphPathVisitor visitor)
+		throws ArgumentNullException, IllegalArgumentException;
+	
+	/**
+	 * Finds a shortest path that leads to the specified destination node.
+	 * @param destinationNode The node to which to find a path from this node.
+	 * @param edgeFilter The filter that determines which edges the path may follow,
+	 * for example {@link nl.ou.refactoring.advice.GraphPathSearch#WORKFLOW_EDGES}.
+	 * @return A path with the least number of nodes, or an empty {@link Optional} if there is no path.
+	 * @throws ArgumentNullException Thrown if destinationNode or edgeFilter is null.
+	 */
+	public Optional<GraphPath> findShortestPath(GraphNode destinationNode, Predicate<? super GraphEdge> edgeFilter)
+		throws ArgumentNullException;
+	
+	/**
+	 * Finds a shortest path to each of the specified destination nodes by a single search.
+	 * @param destinationNodes The nodes to which to find paths from this node.
+	 * @param edgeFilter The filter that determines which edges the paths may follow,
+	 * for example {@link nl.ou.refactoring.advice.GraphPathSearch#WORKFLOW_EDGES}.
+	 * @return A map of the reachable destination nodes and a shortest path to each of them.
+	 * @throws ArgumentNullException Thrown if destinationNodes or edgeFilter is null.
+	 */
+	public Map<GraphNode, GraphPath> findShortestPaths(
+			Collection<? extends GraphNode> destinationNodes,
+			Predicate<? super GraphEdge> edgeFilter)
+		throws ArgumentNullException;
+	
 	/**
 	 * Gets the label for the node.
 	 * @return A label for the node.
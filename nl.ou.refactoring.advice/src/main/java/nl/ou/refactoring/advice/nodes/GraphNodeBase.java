@@ -1,13 +1,20 @@
 package nl.ou.refactoring.advice.nodes;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.Stack;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.GraphPath;
+import nl.ou.refactoring.advice.GraphPathLink;
+import nl.ou.refactoring.advice.GraphPathSearch;
+import nl.ou.refactoring.advice.GraphPathVisitor;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.edges.GraphEdge;
@@ -21,8 +28,9 @@ public abstract class GraphNodeBase implements GraphNode {
 	
 	/**
 	 * The Refactoring Advice Graph to which this node belongs.
+	 * It changes only when the fork in which the node was created is committed to its parent graph.
 	 */
-	protected final Graph graph;
+	protected Graph graph;
 	
 	/**
 	 * Initialises a new instance of a {@link GraphNodeBase}.
@@ -53,6 +61,24 @@ public abstract class GraphNodeBase implements GraphNode {
 		return this.graph;
 	}
 	
+	/**
+	 * Moves this node from the fork in which it was created to the parent graph of the fork,
+	 * once the fork is committed. Used by {@link Graph#commit()}.
+	 * @throws IllegalStateException Thrown if the graph of this node is not a fork,
+	 * or if its parent graph does not contain this node.
+	 */
+	public final void moveToParentGraph() throws IllegalStateException {
+		final var graphParent =
+			this
+				.graph
+				.getParent()
+				.orElseThrow(() -> new IllegalStateException("Graph " + this.graph.getRefactoringName() + " is not a fork"));
+		if (!graphParent.containsNode(this)) {
+			throw new IllegalStateException("Graph " + graphParent.getRefactoringName() + " does not contain node " + this.id);
+		}
+		this.graph = graphParent;
+	}
+	
 	@Override
 	public final Set<GraphEdge> getEdges() {
 		return this.graph.getEdgesFrom(this);
@@ -76,89 +102,49 @@ public abstract class GraphNodeBase implements GraphNode {
 	@Override
 	public final List<GraphPath> findPaths(int maximumDepth)
 			throws IllegalArgumentException {
-		ArgumentGuard.requireGreaterThanOrEqual(0, maximumDepth, "maximumDepth");
-		
-		List<GraphPath> result = new ArrayList<>();
-		Stack<GraphPathSearchNode> searchNodes = new Stack<>();
-		var initialPath = new GraphPath(this);
-		searchNodes.push(new GraphPathSearchNode(this, initialPath));
-		
-		while (!searchNodes.isEmpty()) {
-			var currentSearchNode = searchNodes.pop();
-			var currentNode = currentSearchNode.getNode();
-			var currentPath = currentSearchNode.getPath();
-			var currentPathSegments = currentPath.getSegments();
-			
-			if (currentPathSegments.size() <= maximumDepth) {
-				result.add(currentPath);
-			}
-			if (currentPathSegments.size() >= maximumDepth) {
-				continue;
-			}
-			
-			var currentEdges = currentNode.getEdges();
-			for (var edge : currentEdges) {
-				var neighbour = edge.getDestinationNode();
-				if (currentPath.contains(neighbour)) {
-					// avoid cycles
-					continue;
-				}
-				
-				try {
-					var newPath = (GraphPath)currentPath.clone();
-					newPath.append(edge, neighbour);
-					searchNodes.push(new GraphPathSearchNode(neighbour, newPath));
-				} catch (Exception exception) {
-					exception.printStackTrace();
-				}
-			}
-		}
-		
+		final List<GraphPath> result = new ArrayList<>();
+		this.findPaths(maximumDepth, path -> result.add(path.toGraphPath()));
 		return result;
 	}
 	
 	@Override
 	public final List<GraphPath> findPaths(GraphNodeBase destinationNode, int maximumDepth)
 			throws ArgumentNullException, IllegalArgumentException {
-		ArgumentGuard.requireNotNull(destinationNode, "destinationNode");
-		ArgumentGuard.requireGreaterThanOrEqual(0, maximumDepth, "maximumDepth");
-		
-		List<GraphPath> result = new ArrayList<>();
-		Stack<GraphPathSearchNode> searchNodes = new Stack<>();
-		var initialPath = new GraphPath(this);
-		searchNodes.push(new GraphPathSearchNode(this, initialPath));
-		
-		while (!searchNodes.isEmpty()) {
-			var currentSearchNode = searchNodes.pop();
-			var currentNode = currentSearchNode.getNode();
-			var currentPath = currentSearchNode.getPath();
-			var currentPathSegments = currentPath.getSegments();
-			
-			if (currentNode.equals(destinationNode)) {
-				result.add(currentPath);
-			}
-			if (currentPathSegments.size() >= maximumDepth) {
-				continue;
-			}
-			
-			var currentEdges = currentNode.getEdges();
-			for (var edge : currentEdges) {
-				var neighbour = edge.getDestinationNode();
-				if (currentPath.contains(neighbour)) {
-					// avoid cycles
-					continue;
-				}
-				
-				try {
-					var newPath = (GraphPath)currentPath.clone();
-					newPath.append(edge, neighbour);
-					searchNodes.push(new GraphPathSearchNode(neighbour, newPath));
-				} catch (Exception exception) {
-					exception.printStackTrace();
-				}
-			}
-		}
-		
+		final List<GraphPath> result = new ArrayList<>();
+		this.findPaths(destinationNode, maximumDepth, path -> result.add(path.toGraphPath()));
+		return result;
+	}
+	
+	@Override
+	public final void findPaths(int maximumDepth, GraphPathVisitor visitor)
+			throws ArgumentNullException, IllegalArgumentException {
+		new GraphPathSearch().findPaths(this, maximumDepth, visitor);
+	}
+	
+	@Override
+	public final void findPaths(GraphNode destinationNode, int maximumDepth, GraphPathVisitor visitor)
+			throws ArgumentNullException, IllegalArgumentException {
+		new GraphPathSearch().findPaths(this, destinationNode, maximumDepth, visitor);
+	}
+	
+	@Override
+	public final Optional<GraphPath> findShortestPath(GraphNode destinationNode, Predicate<? super GraphEdge> edgeFilter)
+			throws ArgumentNullException {
+		return
+				new GraphPathSearch()
+					.findShortestPath(this, destinationNode, edgeFilter)
+					.map(GraphPathLink::toGraphPath);
+	}
+	
+	@Override
+	public final Map<GraphNode, GraphPath> findShortestPaths(
+			Collection<? extends GraphNode> destinationNodes,
+			Predicate<? super GraphEdge> edgeFilter)
+					throws ArgumentNullException {
+		final Map<GraphNode, GraphPath> result = new LinkedHashMap<>();
+		new GraphPathSearch()
+			.findShortestPaths(this, destinationNodes, edgeFilter)
+			.forEach((destinationNode, path) -> result.put(destinationNode, path.toGraphPath()));
 		return result;
 	}
 	
@@ -9,6 +9,7 @@ import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.edges.code.GraphEdgeHas;
 import nl.ou.refactoring.advice.edges.workflow.GraphEdgeAffects;
 import nl.ou.refactoring.advice.nodes.GraphNodeBase;
+import nl.ou.refactoring.advice.nodes.workflow.GraphWorkflowExplorer;
 import nl.ou.refactoring.advice.nodes.workflow.risks.GraphNodeRisk;
 
 /**
@@ -78,11 +79,12 @@ public abstract class GraphNodeCode extends GraphNodeBase {
 	 * @return The {@link GraphNodeRisk} nodes associated with this code element.
 	 */
 	public Set<GraphNodeRisk> getDangers() {
+		final var dangers = GraphWorkflowExplorer.getDangers(this.graph);
 		return
 				this
 					.getRisks()
 					.stream()
-					.filter(node -> node.getNeutralisers().isEmpty())
+					.filter(dangers::contains)
 					.collect(Collectors.toUnmodifiableSet());
 	}
 }
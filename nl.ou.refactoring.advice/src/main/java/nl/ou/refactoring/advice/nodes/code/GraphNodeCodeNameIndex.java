@@ -0,0 +1,307 @@
+package nl.ou.refactoring.advice.nodes.code;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.GraphChangeListener;
+import nl.ou.refactoring.advice.contracts.ArgumentEmptyException;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.edges.code.GraphEdgeHas;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
+import nl.ou.refactoring.advice.nodes.code.tokens.GraphNodeIdentifier;
+
+/**
+ * An index of the code nodes in a Refactoring Advice Graph by name: the type nodes by type name,
+ * the identifier nodes by identifier, the package nodes by package name, and the package, class and interface nodes by fully qualified name.<br />
+ * The index is kept up to date by listening to the changes made to the graph.
+ * A node is added to the index when it is first looked up after it was added to the graph,
+ * because a node is added to the graph before its constructor has finished.
+ * A fully qualified name found in the index is verified before it is returned,
+ * so that moving a package or class elsewhere in the tree never leads to a stale result.
+ * Use {@link Graph#getNameIndex()} to obtain the index of a graph.
+ */
+public final class GraphNodeCodeNameIndex implements GraphChangeListener {
+	private final Graph graph;
+	private final Map<String, GraphNodeType> types;
+	private final Map<String, GraphNodeIdentifier> identifiers;
+	private final Map<String, List<GraphNodePackage>> packages;
+	private final Map<String, GraphNodeCode> nodesByQualifiedName;
+	private final Map<GraphNodeCode, String> qualifiedNames;
+	private final List<GraphNode> nodesPending;
+
+	/**
+	 * Initialises a new instance of {@link GraphNodeCodeNameIndex}.
+	 * @param graph The graph of which to index the code nodes.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 */
+	public GraphNodeCodeNameIndex(Graph graph)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		this.graph = graph;
+		this.types = new HashMap<>();
+		this.identifiers = new HashMap<>();
+		this.packages = new HashMap<>();
+		this.nodesByQualifiedName = new HashMap<>();
+		this.qualifiedNames = new IdentityHashMap<>();
+		this.nodesPending = new ArrayList<>();
+		for (final var node : graph.getNodes()) {
+			this.nodeAdded(node);
+		}
+	}
+
+	/**
+	 * Gets the type node with typeName.
+	 * @param typeName The name of the type.
+	 * @return The type node with typeName, if present, otherwise empty.
+	 * @throws ArgumentNullException Thrown if typeName is null.
+	 */
+	public synchronized Optional<GraphNodeType> getType(String typeName)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(typeName, "typeName");
+		this.flush();
+		return Optional.ofNullable(this.types.get(typeName));
+	}
+
+	/**
+	 * Gets an identifier node with identifier.
+	 * @param identifier The identifier.
+	 * @return An identifier node with identifier, if present, otherwise empty.
+	 * @throws ArgumentNullException Thrown if identifier is null.
+	 */
+	public synchronized Optional<GraphNodeIdentifier> getIdentifier(String identifier)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(identifier, "identifier");
+		this.flush();
+		return Optional.ofNullable(this.identifiers.get(identifier));
+	}
+
+	/**
+	 * Gets the package nodes with packageName, wherever they are in the package tree.
+	 * @param packageName The name of the packages, without the names of their ancestors.
+	 * @return An unmodifiable list of the package nodes with packageName, in the order in which they were indexed.
+	 * @throws ArgumentNullException Thrown if packageName is null.
+	 */
+	public synchronized List<GraphNodePackage> getPackages(String packageName)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(packageName, "packageName");
+		this.flush();
+		final var packagesNamed = this.packages.get(packageName);
+		return packagesNamed == null ? List.of() : List.copyOf(packagesNamed);
+	}
+
+	/**
+	 * Gets a code node based on its code path.
+	 * The code path is looked up as a fully qualified name first; if that fails, the path is followed
+	 * from any package whose name is the first component of the path.
+	 * @param <TNode> The type of node to retrieve.
+	 * @param path The path to the code node.
+	 * @param classType The type of Class of the node.
+	 * @return The node at the specified path, otherwise an empty {@link Optional}.
+	 * @throws ArgumentNullException Thrown if path or classType is null.
+	 * @throws ArgumentEmptyException Thrown if path is empty or contains only white spaces.
+	 */
+	public synchronized <TNode extends GraphNodeCode> Optional<TNode> getNode(String path, Class<TNode> classType)
+			throws ArgumentNullException, ArgumentEmptyException {
+		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(path, "path");
+		ArgumentGuard.requireNotNull(classType, "classType");
+		this.flush();
+		final var nodeIndexed = this.nodesByQualifiedName.get(path);
+		if (nodeIndexed != null && classType.isInstance(nodeIndexed) && this.isCurrent(path, nodeIndexed)) {
+			return Optional.of(classType.cast(nodeIndexed));
+		}
+		final var nodeFound = this.findNode(path);
+		if (nodeFound != null && classType.isInstance(nodeFound)) {
+			if (path.equals(getQualifiedName(nodeFound))) {
+				this.index(path, nodeFound);
+			}
+			return Optional.of(classType.cast(nodeFound));
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Gets the fully qualified name of a package, class or interface node, based on the packages and classes that have it.
+	 * @param node The package, class or interface node.
+	 * @return The fully qualified name of the node, if it is a package, class or interface that is not its own ancestor, otherwise empty.
+	 * @throws ArgumentNullException Thrown if node is null.
+	 */
+	public static Optional<String> getFullyQualifiedName(GraphNodeCode node)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(node, "node");
+		return isQualified(node) ? Optional.ofNullable(getQualifiedName(node)) : Optional.empty();
+	}
+
+	@Override
+	public synchronized void nodeAdded(GraphNode node) {
+		if (isIndexed(node)) {
+			this.nodesPending.add(node);
+		}
+	}
+
+	@Override
+	public synchronized void nodeRemoved(GraphNode node) {
+		switch (node) {
+			case GraphNodeType typeNode -> this.types.remove(typeNode.getTypeName(), typeNode);
+			case GraphNodeIdentifier identifierNode ->
+				this.identifiers.remove(identifierNode.getIdentifier(), identifierNode);
+			case GraphNodePackage packageNode -> {
+				final var packagesNamed = this.packages.get(packageNode.getPackageName());
+				if (packagesNamed != null) {
+					packagesNamed.removeIf(packageIndexed -> packageIndexed == packageNode);
+				}
+			}
+			default -> { }
+		}
+		if (node instanceof GraphNodeCode codeNode) {
+			final var qualifiedName = this.qualifiedNames.remove(codeNode);
+			if (qualifiedName != null) {
+				this.nodesByQualifiedName.remove(qualifiedName, codeNode);
+			}
+		}
+	}
+
+	@Override
+	public synchronized void edgeAdded(GraphEdge edge) {
+		if (edge instanceof GraphEdgeHas && isQualified(edge.getDestinationNode())) {
+			this.nodesPending.add(edge.getDestinationNode());
+		}
+	}
+
+	@Override
+	public synchronized void edgeRemoved(GraphEdge edge) {
+		this.edgeAdded(edge);
+	}
+
+	private void flush() {
+		if (this.nodesPending.isEmpty()) {
+			return;
+		}
+		final var nodes = List.copyOf(this.nodesPending);
+		this.nodesPending.clear();
+		for (final var node : nodes) {
+			if (!this.isPresent(node)) {
+				continue;
+			}
+			switch (node) {
+				case GraphNodeType typeNode -> this.types.putIfAbsent(typeNode.getTypeName(), typeNode);
+				case GraphNodeIdentifier identifierNode ->
+					this.identifiers.putIfAbsent(identifierNode.getIdentifier(), identifierNode);
+				case GraphNodePackage packageNode -> {
+					final var packagesNamed =
+						this.packages.computeIfAbsent(packageNode.getPackageName(), _ -> new ArrayList<>(1));
+					if (packagesNamed.stream().noneMatch(packageIndexed -> packageIndexed == packageNode)) {
+						packagesNamed.add(packageNode);
+					}
+					this.indexTree(packageNode);
+				}
+				default -> this.indexTree((GraphNodeCode) node);
+			}
+		}
+	}
+
+	private void indexTree(GraphNodeCode node) {
+		final var qualifiedName = getQualifiedName(node);
+		if (qualifiedName == null || qualifiedName.equals(this.qualifiedNames.get(node))) {
+			return;
+		}
+		this.index(qualifiedName, node);
+		for (final var edge : this.graph.getEdgesFrom(node, GraphEdgeHas.class)) {
+			if (isQualified(edge.getDestinationNode())) {
+				this.indexTree((GraphNodeCode) edge.getDestinationNode());
+			}
+		}
+	}
+
+	private void index(String qualifiedName, GraphNodeCode node) {
+		final var qualifiedNamePrevious = this.qualifiedNames.put(node, qualifiedName);
+		if (qualifiedNamePrevious != null && !qualifiedNamePrevious.equals(qualifiedName)) {
+			this.nodesByQualifiedName.remove(qualifiedNamePrevious, node);
+		}
+		final var nodeIndexed = this.nodesByQualifiedName.get(qualifiedName);
+		if (nodeIndexed == null || nodeIndexed == node || !this.isCurrent(qualifiedName, nodeIndexed)) {
+			this.nodesByQualifiedName.put(qualifiedName, node);
+		}
+	}
+
+	private boolean isCurrent(String qualifiedName, GraphNodeCode node) {
+		return this.isPresent(node) && qualifiedName.equals(getQualifiedName(node));
+	}
+
+	private boolean isPresent(GraphNode node) {
+		// Looked up by identifier, as the hash code of a type node changes once its constructor has finished.
+		return this.graph.getNode(node.getId()) == node;
+	}
+
+	private GraphNodeCode findNode(String path) {
+		final var pathComponents = new ArrayDeque<>(List.of(path.split("\\.")));
+		final var pathComponentName = pathComponents.pop();
+		final var packagesNamed = this.packages.get(pathComponentName);
+		GraphNodeCode nodeCurrent = packagesNamed == null || packagesNamed.isEmpty() ? null : packagesNamed.get(0);
+		while (!pathComponents.isEmpty() && nodeCurrent != null) {
+			final var pathComponent = pathComponents.pop();
+			GraphNodeCode nodeNext = null;
+			for (final var edge : this.graph.getEdgesFrom(nodeCurrent, GraphEdgeHas.class)) {
+				final var node = edge.getDestinationNode();
+				if (isQualified(node) && pathComponent.equals(getName(node))) {
+					nodeNext = (GraphNodeCode) node;
+					break;
+				}
+			}
+			nodeCurrent = nodeNext;
+		}
+		return nodeCurrent;
+	}
+
+	private static String getQualifiedName(GraphNode node) {
+		final var names = new ArrayDeque<String>();
+		final Set<GraphNode> nodesVisited = Collections.newSetFromMap(new IdentityHashMap<>());
+		var nodeCurrent = node;
+		while (nodeCurrent != null) {
+			if (!nodesVisited.add(nodeCurrent)) {
+				return null;
+			}
+			names.push(getName(nodeCurrent));
+			nodeCurrent = getParent(nodeCurrent);
+		}
+		return String.join(".", names);
+	}
+
+	private static GraphNode getParent(GraphNode node) {
+		for (final var edge : node.getEdgesIncoming(GraphEdgeHas.class)) {
+			final var parent = edge.getSourceNode();
+			if (parent instanceof GraphNodePackage ||
+				(parent instanceof GraphNodeClass && !(node instanceof GraphNodePackage))) {
+				return parent;
+			}
+		}
+		return null;
+	}
+
+	private static String getName(GraphNode node) {
+		return switch (node) {
+			case GraphNodePackage packageNode -> packageNode.getPackageName();
+			case GraphNodeClass classNode -> classNode.getClassName();
+			case GraphNodeInterface interfaceNode -> interfaceNode.getInterfaceName();
+			default -> null;
+		};
+	}
+
+	private static boolean isQualified(GraphNode node) {
+		return node instanceof GraphNodePackage || node instanceof GraphNodeClass || node instanceof GraphNodeInterface;
+	}
+
+	private static boolean isIndexed(GraphNode node) {
+		return node instanceof GraphNodeType || node instanceof GraphNodeIdentifier || isQualified(node);
+	}
+}
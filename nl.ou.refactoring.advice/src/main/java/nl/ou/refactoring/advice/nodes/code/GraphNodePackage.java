@@ -30,6 +30,11 @@ public final class GraphNodePackage extends GraphNodeCode {
 	 */
 	private final GraphEdgeHas packageNameEdge;
 	
+	/**
+	 * The full package name that was computed last, cached until the graph is modified.
+	 */
+	private volatile GraphNodePackageNameFull packageNameFullCached;
+	
 	/**
 	 * Initialises a new instance of {@link GraphNodePackage}.
 	 * @param graph The graph that contains the node.
@@ -65,26 +70,30 @@ public final class GraphNodePackage extends GraphNodeCode {
 		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(packageName, "packageName");
 		final var pathComponents = new ArrayDeque<String>(List.of(packageName.split("\\.")));
 		final var pathComponentRoot = pathComponents.pop();
-		final var packageNodeRootOptional = graph.getNode(pathComponentRoot, GraphNodePackage.class);
-		GraphNodePackage packageNodeRoot;
-		if (packageNodeRootOptional.isPresent()) {
-			packageNodeRoot = packageNodeRootOptional.get();
-		} else {
-			packageNodeRoot = new GraphNodePackage(graph, new GraphNodeIdentifier(graph, pathComponentRoot));
-		}
+		final var packageNodeRoot =
+			graph.computeNode(
+				() -> graph.getNode(pathComponentRoot, GraphNodePackage.class),
+				() -> new GraphNodePackage(graph, new GraphNodeIdentifier(graph, pathComponentRoot)));
 		var packageNode = packageNodeRoot;
+		var packageNameCurrent = pathComponentRoot;
 		while (pathComponents.size() > 0) {
 			final var pathComponent = pathComponents.pop();
 			final var packageNodeCurrent = packageNode;
-			final var packageNodeNextOptional = packageNodeCurrent.getPackage(pathComponent);
-			if (packageNodeNextOptional.isPresent()) {
-				packageNode = packageNodeNextOptional.get();
-				continue;
-			}
-			final var packageNameComponent = new GraphNodeIdentifier(graph, pathComponent);
-			final var packageNodeComponent = new GraphNodePackage(graph, packageNameComponent);
-			packageNodeCurrent.has(packageNodeComponent);
-			packageNode = packageNodeComponent;
+			final var packageNameNext = packageNameCurrent + "." + pathComponent;
+			packageNode =
+				graph.computeNode(
+					() ->
+						graph
+							.getNode(packageNameNext, GraphNodePackage.class)
+							.filter(node -> node.getParent().orElse(null) == packageNodeCurrent)
+							.or(() -> packageNodeCurrent.getPackage(pathComponent)),
+					() -> {
+						final var packageNameComponent = new GraphNodeIdentifier(graph, pathComponent);
+						final var packageNodeComponent = new GraphNodePackage(graph, packageNameComponent);
+						packageNodeCurrent.has(packageNodeComponent);
+						return packageNodeComponent;
+					});
+			packageNameCurrent = packageNameNext;
 		}
 		return packageNodeRoot;
 	}
@@ -102,13 +111,23 @@ public final class GraphNodePackage extends GraphNodeCode {
 	 * @return The full package name, including the ancestor packages.
 	 */
 	public String getPackageNameFull() {
+		final var graph = this.graph;
+		final var modificationCount = graph.getModificationCount();
+		final var packageNameFullCached = this.packageNameFullCached;
+		if (packageNameFullCached != null &&
+			packageNameFullCached.graph() == graph &&
+			packageNameFullCached.modificationCount() == modificationCount) {
+			return packageNameFullCached.packageNameFull();
+		}
 		Optional<GraphNodePackage> packageNodeCurrent = Optional.of(this);
 		final var packageNameStack = new ArrayDeque<String>();
 		while (packageNodeCurrent.isPresent()) {
 			packageNameStack.push(packageNodeCurrent.get().getPackageName());
 			packageNodeCurrent = packageNodeCurrent.get().getParent();
 		}
-		return String.join(".", packageNameStack);
+		final var packageNameFull = String.join(".", packageNameStack);
+		this.packageNameFullCached = new GraphNodePackageNameFull(graph, modificationCount, packageNameFull);
+		return packageNameFull;
 	}
 	
 	/**
@@ -277,16 +296,29 @@ public final class GraphNodePackage extends GraphNodeCode {
 	 * @return The existing or newly created {@link GraphNodeClass}.
 	 */
 	public GraphNodeClass computeClassNode(GraphNodeIdentifier className) {
-		var classNode =
+		return
+			this.graph.computeNode(
+				() -> this.getClassNode(className),
+				() -> {
+					final var classNode = new GraphNodeClass(this.graph, className);
+					this.has(classNode);
+					return classNode;
+				});
+	}
+	
+	private Optional<GraphNodeClass> getClassNode(GraphNodeIdentifier className) {
+		final var classNode =
 			this
-				.getClassNodes()
-				.stream()
-				.filter(node -> node.getClassName().equals(className.getIdentifier()))
-				.findFirst()
-				.orElse(null);
-		if (classNode == null) {
-			classNode = new GraphNodeClass(this.graph, className);
-			this.has(classNode);
+				.graph
+				.getNode(this.getPackageNameFull() + "." + className.getIdentifier(), GraphNodeClass.class);
+		if (classNode.isPresent() && classNode.get().getPackageNode().orElse(null) != this) {
+			// Another package has the same full name; look among the classes of this package itself.
+			return
+				this
+					.getClassNodes()
+					.stream()
+					.filter(node -> node.getClassName().equals(className.getIdentifier()))
+					.findFirst();
 		}
 		return classNode;
 	}
@@ -322,4 +354,12 @@ public final class GraphNodePackage extends GraphNodeCode {
 	public String toString() {
 		return this.getCaption();
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * A full package name, together with the graph and its modification count when it was computed.
+	 * @param graph The graph that contained the package.
+	 * @param modificationCount The modification count of the graph.
+	 * @param packageNameFull The full package name.
+	 */
+	private record GraphNodePackageNameFull(Graph graph, long modificationCount, String packageNameFull) { }
+}
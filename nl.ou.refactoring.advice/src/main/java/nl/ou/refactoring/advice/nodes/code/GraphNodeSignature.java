@@ -2,7 +2,10 @@ package nl.ou.refactoring.advice.nodes.code;
 
 import java.util.Optional;
 
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.edges.code.GraphEdgeHas;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
 import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation;
 import nl.ou.refactoring.advice.nodes.code.tokens.GraphNodeIdentifier;
 
@@ -30,21 +33,27 @@ public final class GraphNodeSignature {
 			return equals((GraphNodeOperation)codeNodeLeft, (GraphNodeOperation)codeNodeRight);
 		}
 		
-		final var identifierNodeLeftOptional = getIdentifierNode(codeNodeLeft);
-		final var identifierNodeRightOptional = getIdentifierNode(codeNodeRight);
-		if (identifierNodeLeftOptional.isEmpty() || identifierNodeRightOptional.isEmpty()) {
-			return false;
-		}
-		
-		return
-			identifierNodeLeftOptional
-				.get()
-				.getIdentifier()
-				.equals(
-					identifierNodeRightOptional
-						.get()
-						.getIdentifier()
-				);
+		final var nameLeft = getName(codeNodeLeft);
+		return nameLeft != null && nameLeft.equals(getName(codeNodeRight));
+	}
+	
+	/**
+	 * Gets the name by which the signature of the specified code node is compared:
+	 * the name of an Operation or Interface, otherwise the identifier that the code node has.
+	 * @param codeNode The code node of which to get the name.
+	 * @return The name of the code node, or null if it has none.
+	 * @throws ArgumentNullException Thrown if codeNode is null.
+	 */
+	public static String getName(GraphNodeCode codeNode)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(codeNode, "codeNode");
+		return switch (codeNode) {
+			case GraphNodeOperation operationNode -> operationNode.getOperationName();
+			case GraphNodeAttribute attributeNode -> attributeNode.getAttributeName();
+			case GraphNodeClass classNode -> classNode.getClassName();
+			case GraphNodeInterface interfaceNode -> interfaceNode.getInterfaceName();
+			default -> getIdentifierNode(codeNode).map(GraphNodeIdentifier::getIdentifier).orElse(null);
+		};
 	}
 	
 	private static Optional<GraphNodeIdentifier> getIdentifierNode(GraphNodeCode codeNode) {
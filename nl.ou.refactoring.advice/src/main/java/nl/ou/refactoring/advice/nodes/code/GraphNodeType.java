@@ -41,13 +41,10 @@ public final class GraphNodeType extends GraphNodeCode {
 			throws ArgumentNullException, ArgumentEmptyException {
 		ArgumentGuard.requireNotNull(graph, "graph");
 		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(typeName, "typeName");
-		final var existingType =
-			graph
-				.getNodes(GraphNodeType.class)
-				.stream()
-				.filter((typeNode) -> typeNode.getTypeName().equals(typeName))
-				.findAny();
-		return existingType.orElseGet(() -> new GraphNodeType(graph, typeName));
+		return
+			graph.computeNode(
+				() -> graph.getNameIndex().getType(typeName),
+				() -> new GraphNodeType(graph, typeName));
 	}
 	
 	/**
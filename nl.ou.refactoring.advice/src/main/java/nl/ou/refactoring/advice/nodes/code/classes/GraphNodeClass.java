@@ -31,6 +31,11 @@ public final class GraphNodeClass extends GraphNodeCode {
 	private final GraphEdgeHas classNameEdge;
 	private final GraphNodeClassStereotype stereotype;
 	
+	/**
+	 * The package node that was looked up last, cached until the graph is modified.
+	 */
+	private volatile GraphNodeClassPackageNode packageNodeCached;
+	
 	/**
 	 * Initialises a new instance of {@link GraphNodeClass}.
 	 * @param graph {@link Graph} The graph that contains the node.
@@ -105,6 +110,25 @@ public final class GraphNodeClass extends GraphNodeCode {
 				);
 	}
 	
+	/**
+	 * Indicates that the Class has an inner interface that is represented by interfaceNode.
+	 * @param interfaceNode The Interface node that represents the inner interface.
+	 * @return The edge that connects the Class and the inner Interface node.
+	 * @throws ArgumentNullException Thrown if interfaceNode is null.
+	 */
+	public GraphEdgeHas has(GraphNodeInterface interfaceNode) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(interfaceNode, "interfaceNode");
+		return
+			this
+				.graph
+				.computeEdge(
+					this,
+					interfaceNode,
+					(sourceNode, destinationNode) -> new GraphEdgeHas(sourceNode, destinationNode),
+					GraphEdgeHas.class
+				);
+	}
+	
 	/**
 	 * Indicates that the Class owns an Attribute.
 	 * @param attributeNode The Attribute that is owned by the Class.
@@ -233,10 +257,11 @@ public final class GraphNodeClass extends GraphNodeCode {
 		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(attributeName, "attributeName");
 		return
 			this
-				.getAttributeNodes()
+				.graph
+				.getMemberIndex()
+				.getMembers(this, attributeName, GraphNodeAttribute.class)
 				.stream()
-				.filter(node -> node.getAttributeName().equals(attributeName))
-				.findAny();
+				.findFirst();
 	}
 	
 	/**
@@ -250,18 +275,17 @@ public final class GraphNodeClass extends GraphNodeCode {
 			throws ArgumentNullException, ArgumentEmptyException {
 		ArgumentGuard.requireNotNullEmptyOrWhiteSpace(attributeName, "attributeName");
 		return
-			this
-				.getAttributeNode(attributeName)
-				.or(() -> {
+			this.graph.computeNode(
+				() -> this.getAttributeNode(attributeName),
+				() -> {
 					final var node =
 						new GraphNodeAttribute(
 							this.graph,
 							new GraphNodeIdentifier(this.graph, attributeName)
 						);
 					this.has(node);
-					return Optional.of(node);
-				})
-				.get();
+					return node;
+				});
 	}
 	
 	/**
@@ -355,10 +379,25 @@ public final class GraphNodeClass extends GraphNodeCode {
 		ArgumentGuard.requireNotNull(operationParameters, "operationParameters");
 		return
 			this
-				.getOperationNodes()
+				.graph
+				.getMemberIndex()
+				.getMembers(this, operationName, GraphNodeOperation.class)
 				.stream()
 				.filter(node -> node.matches(operationName, operationParameters))
-				.findAny();
+				.findFirst();
+	}
+	
+	/**
+	 * Gets the members of the class with memberName: its attributes, operations, inner classes, inner interfaces
+	 * and any other code nodes it has with that name.
+	 * Overloaded operations share a name, so several members may be returned.
+	 * @param memberName The name of the members.
+	 * @return An unmodifiable list of the members with memberName, in the order in which they were added to the class.
+	 * @throws ArgumentNullException Thrown if memberName is null.
+	 */
+	public List<GraphNodeCode> getMemberNodes(String memberName) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(memberName, "memberName");
+		return this.graph.getMemberIndex().getMembers(this, memberName);
 	}
 	
 	/**
@@ -366,7 +405,15 @@ public final class GraphNodeClass extends GraphNodeCode {
 	 * @return The package node associated with this class wrapped in {@link Optional<GraphNodePackage>}, representing the package that contains the class. If no association is found, returns an empty {@link Optional<GraphNodePackage>}.
 	 */
 	public Optional<GraphNodePackage> getPackageNode() {
-		return
+		final var graph = this.graph;
+		final var modificationCount = graph.getModificationCount();
+		final var packageNodeCached = this.packageNodeCached;
+		if (packageNodeCached != null &&
+			packageNodeCached.graph() == graph &&
+			packageNodeCached.modificationCount() == modificationCount) {
+			return packageNodeCached.packageNode();
+		}
+		final var packageNode =
 			this
 				.getEdgesIncoming(GraphEdgeHas.class)
 				.stream()
@@ -374,6 +421,8 @@ public final class GraphNodeClass extends GraphNodeCode {
 				.filter(node -> node instanceof GraphNodePackage)
 				.map(GraphNodePackage.class::cast)
 				.findAny();
+		this.packageNodeCached = new GraphNodeClassPackageNode(graph, modificationCount, packageNode);
+		return packageNode;
 	}
 	
 	/**
@@ -391,9 +440,9 @@ public final class GraphNodeClass extends GraphNodeCode {
 		ArgumentGuard.requireNotNull(operationName, "operationName");
 		ArgumentGuard.requireNotNull(operationParameterSignatures, "operationParameters");
 		return
-			this
-				.getOperationNode(operationName, operationParameterSignatures)
-				.or(() -> {
+			this.graph.computeNode(
+				() -> this.getOperationNode(operationName, operationParameterSignatures),
+				() -> {
 					final var operationParameterNodes = new ArrayList<GraphNodeOperationParameter>();
 					for (final var operationParameterSignature : operationParameterSignatures) {
 						final var operationParameterNode =
@@ -410,9 +459,8 @@ public final class GraphNodeClass extends GraphNodeCode {
 							operationParameterNodes
 						);
 					this.has(node);
-					return Optional.of(node);
-				})
-				.get();
+					return node;
+				});
 	}
 	
 	@Override
@@ -440,4 +488,12 @@ public final class GraphNodeClass extends GraphNodeCode {
 	public String getCaption() {
 		return ((GraphNodeIdentifier)this.classNameEdge.getDestinationNode()).getIdentifier();
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * The package node of a class, together with the graph and its modification count when it was looked up.
+	 * @param graph The graph that contained the class.
+	 * @param modificationCount The modification count of the graph.
+	 * @param packageNode The package node of the class, if any.
+	 */
+	private record GraphNodeClassPackageNode(Graph graph, long modificationCount, Optional<GraphNodePackage> packageNode) { }
+}
@@ -0,0 +1,130 @@
+package nl.ou.refactoring.advice.nodes.code.classes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.GraphChangeListener;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.edges.code.GraphEdgeHas;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeSignature;
+
+/**
+ * An index of the members of every Class in a Refactoring Advice Graph, by name.<br />
+ * The members of a Class are the named code nodes it has, such as its attributes, operations, inner classes and inner interfaces,
+ * indexed by the name that {@link GraphNodeSignature} compares.
+ * Overloaded operations share a name, so a name may lead to several members.
+ * The index is kept up to date by listening to the changes made to the graph;
+ * it may be read and updated from several threads at once.
+ * Use {@link Graph#getMemberIndex()} to obtain the index of a graph.
+ */
+public final class GraphNodeClassMemberIndex implements GraphChangeListener {
+	private final Map<GraphNodeClass, Map<String, List<GraphNodeCode>>> members;
+
+	/**
+	 * Initialises a new instance of {@link GraphNodeClassMemberIndex}.
+	 * @param graph The graph of which to index the members of every Class.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 */
+	public GraphNodeClassMemberIndex(Graph graph)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		this.members = new IdentityHashMap<>();
+		for (final var edge : graph.getEdges(GraphEdgeHas.class)) {
+			this.edgeAdded(edge);
+		}
+	}
+
+	/**
+	 * Gets the members of a Class with a particular name.
+	 * @param classNode The Class node.
+	 * @param memberName The name of the members.
+	 * @return An unmodifiable list of the members with memberName, in the order in which they were added to the Class.
+	 * @throws ArgumentNullException Thrown if classNode or memberName is null.
+	 */
+	public synchronized List<GraphNodeCode> getMembers(GraphNodeClass classNode, String memberName)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(classNode, "classNode");
+		ArgumentGuard.requireNotNull(memberName, "memberName");
+		final var membersByName = this.members.get(classNode);
+		if (membersByName == null) {
+			return List.of();
+		}
+		final var membersNamed = membersByName.get(memberName);
+		return membersNamed == null ? List.of() : List.copyOf(membersNamed);
+	}
+
+	/**
+	 * Gets the members of a Class of a particular type with a particular name.
+	 * @param <TMember> The type of the members.
+	 * @param classNode The Class node.
+	 * @param memberName The name of the members.
+	 * @param memberType The type of the members.
+	 * @return An unmodifiable list of the members of memberType with memberName, in the order in which they were added to the Class.
+	 * @throws ArgumentNullException Thrown if classNode, memberName or memberType is null.
+	 */
+	public <TMember extends GraphNodeCode> List<TMember> getMembers(
+			GraphNodeClass classNode,
+			String memberName,
+			Class<TMember> memberType)
+					throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(memberType, "memberType");
+		final var membersNamed = this.getMembers(classNode, memberName);
+		final var membersTyped = new ArrayList<TMember>(membersNamed.size());
+		for (final var member : membersNamed) {
+			if (memberType.isInstance(member)) {
+				membersTyped.add(memberType.cast(member));
+			}
+		}
+		return Collections.unmodifiableList(membersTyped);
+	}
+
+	@Override
+	public synchronized void edgeAdded(GraphEdge edge) {
+		if (!(edge instanceof GraphEdgeHas) || !(edge.getSourceNode() instanceof GraphNodeClass classNode)) {
+			return;
+		}
+		final var member = edge.getDestinationNode();
+		final var memberName = getMemberName(member);
+		if (memberName != null) {
+			this.members
+				.computeIfAbsent(classNode, _ -> new HashMap<>())
+				.computeIfAbsent(memberName, _ -> new ArrayList<>(1))
+				.add((GraphNodeCode) member);
+		}
+	}
+
+	@Override
+	public synchronized void edgeRemoved(GraphEdge edge) {
+		if (!(edge instanceof GraphEdgeHas) || !(edge.getSourceNode() instanceof GraphNodeClass classNode)) {
+			return;
+		}
+		final var membersByName = this.members.get(classNode);
+		final var memberName = getMemberName(edge.getDestinationNode());
+		if (membersByName == null || memberName == null) {
+			return;
+		}
+		final var membersNamed = membersByName.get(memberName);
+		if (membersNamed != null) {
+			membersNamed.removeIf(member -> member == edge.getDestinationNode());
+			if (membersNamed.isEmpty()) {
+				membersByName.remove(memberName);
+			}
+		}
+		if (membersByName.isEmpty()) {
+			this.members.remove(classNode);
+		}
+	}
+
+	private static String getMemberName(GraphNode member) {
+		return member instanceof GraphNodeCode codeNode ? GraphNodeSignature.getName(codeNode) : null;
+	}
+}
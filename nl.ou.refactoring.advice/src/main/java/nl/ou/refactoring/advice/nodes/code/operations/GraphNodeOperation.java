@@ -29,7 +29,7 @@ import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepRemo
  */
 public final class GraphNodeOperation extends GraphNodeClassMember {
 	private final GraphEdgeHas operationNameEdge;
-	private final GraphEdgeHas operationParameterHead;
+	private final List<GraphNodeOperationParameter> operationParameters;
 	
 	/**
 	 * Initialises a new instance of {@link GraphNodeOperation}.
@@ -56,20 +56,17 @@ public final class GraphNodeOperation extends GraphNodeClassMember {
 				GraphEdgeHas.class
 			);
 		
-		if (operationParameters.size() == 0) {
-			this.operationParameterHead = null;
-		} else {
+		if (operationParameters.size() > 0) {
 			var node = operationParameters.get(0);
 			if (node == null) {
 				throw new GraphNodeOperationParameterNullReferenceException(this, 0);
 			}
-			this.operationParameterHead =
-				this.graph.computeEdge(
-					this,
-					operationParameters.get(0),
-					(source, destination) -> new GraphEdgeHas(source, destination),
-					GraphEdgeHas.class
-				);
+			this.graph.computeEdge(
+				this,
+				operationParameters.get(0),
+				(source, destination) -> new GraphEdgeHas(source, destination),
+				GraphEdgeHas.class
+			);
 			GraphNodeOperationParameter nodeNext;
 			for (var i = 1; i < operationParameters.size(); i++) {
 				nodeNext = operationParameters.get(i);
@@ -80,6 +77,7 @@ public final class GraphNodeOperation extends GraphNodeClassMember {
 				node = nodeNext;
 			}
 		}
+		this.operationParameters = List.copyOf(operationParameters);
 	}
 	
 	/**
@@ -156,16 +154,8 @@ public final class GraphNodeOperation extends GraphNodeClassMember {
 	 * @return The Operation Parameters of this Operation.
 	 */
 	public List<GraphNodeOperationParameter> getOperationParameters() {
-		if (this.operationParameterHead == null) {
-			return List.of();
-		}
-		final var operationParameterList = new ArrayList<GraphNodeOperationParameter>();
-		var node = (GraphNodeOperationParameter)this.operationParameterHead.getDestinationNode();
-		while (node != null) {
-			operationParameterList.add(node);
-			node = node.getNext();
-		}
-		return operationParameterList;
+		// The parameters are linked by the constructor only, so the list it was given remains current.
+		return this.operationParameters;
 	}
 	
 	/**
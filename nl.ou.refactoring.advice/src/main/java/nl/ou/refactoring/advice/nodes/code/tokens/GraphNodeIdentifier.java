@@ -43,6 +43,23 @@ public final class GraphNodeIdentifier
 		this.identifier = identifier;
 	}
 	
+	/**
+	 * Computes the identifier node, creating and returning a new identifier node if it is not yet present in the Refactoring Advice Graph (RAG), otherwise, the existing identifier node.
+	 * @param graph The Refactoring Advice Graph (RAG).
+	 * @param identifier The identifier value.
+	 * @return The existing identifier node if already present in the graph, otherwise a newly created identifier node.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 * @throws ArgumentPatternException Thrown if identifier does not contain a valid value.
+	 */
+	public static GraphNodeIdentifier computeIdentifier(Graph graph, String identifier)
+			throws ArgumentNullException, ArgumentPatternException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		ArgumentGuard.requirePattern(identifier, IDENTIFIER_PATTERN, "identifier");
+		return
+			graph.computeNode(
+				() -> graph.getNameIndex().getIdentifier(identifier),
+				() -> new GraphNodeIdentifier(graph, identifier));
+	}
 	
 	/**
 	 * Gets the identifier value.
@@ -55,15 +72,7 @@ public final class GraphNodeIdentifier
 	@Override
 	public GraphNodeBase clone(Graph graph) throws ArgumentNullException {
 		ArgumentGuard.requireNotNull(graph, "graph");
-		return
-			graph
-				.getNodes()
-				.stream()
-				.filter(GraphNodeIdentifier.class::isInstance)
-				.map(GraphNodeIdentifier.class::cast)
-				.filter((node) -> node.getIdentifier().equals(this.identifier))
-				.findAny()
-				.orElse(new GraphNodeIdentifier(graph, this.identifier));
+		return computeIdentifier(graph, this.identifier);
 	}
 	
 	@Override
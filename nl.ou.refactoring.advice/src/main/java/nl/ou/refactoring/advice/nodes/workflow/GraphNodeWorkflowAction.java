@@ -23,14 +23,7 @@ public abstract class GraphNodeWorkflowAction extends GraphNodeWorkflow {
 	 * @return The directly preceding microstep or if it's not there, null.
 	 */
 	public GraphNodeWorkflowAction getPreceding() {
-		final var edge =
-				this
-					.graph
-					.getEdgesTo(this, GraphEdgePrecedes.class)
-					.stream()
-					.findAny()
-					.orElse(null);
-		return edge == null ? null : edge.getSourceNode();
+		return this.graph.getPrecedenceIndex().getPreceding(this);
 	}
 	
 	/**
@@ -39,18 +32,7 @@ public abstract class GraphNodeWorkflowAction extends GraphNodeWorkflow {
 	 * @return The length of the chain of workflow actions, if there is any. If there is no chain, -1 is returned.
 	 */
 	public int getPrecedingLength(GraphNodeWorkflowAction workflowAction) {
-		final var directlyPrecedingWorkflowStep = this.getPreceding();
-		if (directlyPrecedingWorkflowStep == null) {
-			return -1;
-		}
-		if (directlyPrecedingWorkflowStep.equals(workflowAction)) {
-			return 1;
-		}
-		final var nextLength = directlyPrecedingWorkflowStep.getPrecedingLength(workflowAction);
-		if (nextLength < 0) {
-			return nextLength;
-		}
-		return nextLength + 1;
+		return this.graph.getPrecedenceIndex().getPrecedingLength(this, workflowAction);
 	}
 	
 	/**
@@ -59,7 +41,7 @@ public abstract class GraphNodeWorkflowAction extends GraphNodeWorkflow {
 	 * @return True if the specified workflow action precedes the current workflow action, false if not.
 	 */
 	public boolean isPrecededBy(GraphNodeWorkflowAction workflowAction) {
-		return this.getPrecedingLength(workflowAction) > 0;
+		return this.graph.getPrecedenceIndex().isPrecededBy(this, workflowAction);
 	}
 	
 	/**
@@ -1,11 +1,19 @@
 package nl.ou.refactoring.advice.nodes.workflow;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.GraphDerivedView;
+import nl.ou.refactoring.advice.GraphPath;
+import nl.ou.refactoring.advice.GraphPathSearch;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.nodes.GraphNode;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostep;
 import nl.ou.refactoring.advice.nodes.workflow.risks.GraphNodeRisk;
 
@@ -13,13 +21,15 @@ import nl.ou.refactoring.advice.nodes.workflow.risks.GraphNodeRisk;
  * Explores the workflow of Refactoring Advice Graphs (RAGs).
  */
 public final class GraphWorkflowExplorer {
+	private static final GraphDerivedView<Set<GraphNodeRisk>> DANGERS =
+			new GraphDerivedView<>(GraphWorkflowExplorer::computeDangers);
 
 	private GraphWorkflowExplorer() { }
 	
 	/**
 	 * Finds all microsteps in the advice graph.
 	 * @param graph The Refactoring Advice Graph (RAG).
-	 * @return A set of microsteps in the advice graph.
+	 * @return A live, read-only set of microsteps in the advice graph.
 	 * @throws ArgumentNullException Thrown if graph is null.
 	 */
 	public static Set<GraphNodeMicrostep> getMicrosteps(Graph graph)
@@ -33,7 +43,7 @@ public final class GraphWorkflowExplorer {
 	/**
 	 * Finds all risks in the advice graph.
 	 * @param graph The Refactoring Advice Graph (RAG).
-	 * @return A set of risks in the advice graph.
+	 * @return A live, read-only set of risks in the advice graph.
 	 * @throws ArgumentNullException Thrown if graph is null.
 	 */
 	public static Set<GraphNodeRisk> getRisks(Graph graph)
@@ -46,17 +56,59 @@ public final class GraphWorkflowExplorer {
 	
 	/**
 	 * Finds all dangers in the advice graph.
+	 * The dangers are computed once and cached until the graph is modified.
 	 * @param graph The Refactoring Advice Graph (RAG).
-	 * @return A set of dangers in the advice graph.
+	 * @return A read-only set of dangers in the advice graph.
 	 * @throws ArgumentNullException Thrown if graph is null.
 	 */
 	public static Set<GraphNodeRisk> getDangers(Graph graph)
 			throws ArgumentNullException {
 		ArgumentGuard.requireNotNull(graph, "graph");
-		return
-			getRisks(graph)
-				.stream()
-				.filter(node -> node.getNeutralisers().size() == 0)
-				.collect(Collectors.toSet());
+		return graph.getDerivedView(DANGERS);
+	}
+	
+	private static Set<GraphNodeRisk> computeDangers(Graph graph) {
+		final var dangers = new LinkedHashSet<GraphNodeRisk>();
+		for (final var risk : getRisks(graph)) {
+			if (risk.getNeutralisers().isEmpty()) {
+				dangers.add(risk);
+			}
+		}
+		return Collections.unmodifiableSet(dangers);
+	}
+	
+	/**
+	 * Finds a shortest path from the start node of the advice graph to each of its dangers.<br />
+	 * The paths are found by a single breadth-first search that follows only workflow edges.
+	 * Dangers that cannot be reached that way are looked up by a second search that follows all edges.
+	 * @param graph The Refactoring Advice Graph (RAG).
+	 * @return A map of the reachable dangers and a shortest path from the start node to each of them.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 * @throws RefactoringMustContainStartNodeException Thrown if the graph does not contain a start node.
+	 */
+	public static Map<GraphNodeRisk, GraphPath> getDangerPaths(Graph graph)
+			throws ArgumentNullException, RefactoringMustContainStartNodeException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		final var startNode = graph.getStart().orElseThrow(() -> new RefactoringMustContainStartNodeException());
+		final var dangers = getDangers(graph);
+		final var workflowPaths = startNode.findShortestPaths(dangers, GraphPathSearch.WORKFLOW_EDGES);
+		final var dangersUnreached = new ArrayList<GraphNodeRisk>();
+		for (final var danger : dangers) {
+			if (!workflowPaths.containsKey(danger)) {
+				dangersUnreached.add(danger);
+			}
+		}
+		final var otherPaths =
+				dangersUnreached.isEmpty()
+					? Map.<GraphNode, GraphPath>of()
+					: startNode.findShortestPaths(dangersUnreached, GraphPathSearch.ALL_EDGES);
+		final var result = new LinkedHashMap<GraphNodeRisk, GraphPath>();
+		for (final var danger : dangers) {
+			final var path = workflowPaths.containsKey(danger) ? workflowPaths.get(danger) : otherPaths.get(danger);
+			if (path != null) {
+				result.put(danger, path);
+			}
+		}
+		return result;
 	}
 }
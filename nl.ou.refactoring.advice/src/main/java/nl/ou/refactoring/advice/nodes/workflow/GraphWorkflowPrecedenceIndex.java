@@ -0,0 +1,191 @@
+package nl.ou.refactoring.advice.nodes.workflow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.workflow.GraphEdgePrecedes;
+
+/**
+ * An index of the chains of workflow actions that are connected by {@link GraphEdgePrecedes} edges.<br />
+ * Every workflow action is assigned its directly preceding workflow action, a depth along its chain
+ * and an interval of a depth-first traversal of the chains, so that whether a workflow action precedes
+ * another one, and by how many steps, is answered in constant time.
+ * Should the edges form a cycle, the cycle is cut at the first workflow action on it that is encountered.<br />
+ * The index reflects the graph at the time it was built; use {@link Graph#getPrecedenceIndex()} to obtain
+ * an index that is kept up to date.
+ */
+public final class GraphWorkflowPrecedenceIndex {
+	private static final int NONE = -1;
+
+	private final Map<GraphNodeWorkflowAction, Integer> indices;
+	private final GraphNodeWorkflowAction[] actions;
+	private final int[] preceding;
+	private final int[] depths;
+	private final int[] enterTimes;
+	private final int[] exitTimes;
+
+	/**
+	 * Initialises a new instance of {@link GraphWorkflowPrecedenceIndex}.
+	 * @param graph The graph of which to index the workflow actions.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 */
+	public GraphWorkflowPrecedenceIndex(Graph graph)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		final var actions = graph.getNodes(GraphNodeWorkflowAction.class);
+		final var count = actions.size();
+		this.indices = new HashMap<>(count * 2);
+		this.actions = new GraphNodeWorkflowAction[count];
+		for (final var action : actions) {
+			this.actions[this.indices.size()] = action;
+			this.indices.put(action, this.indices.size());
+		}
+		this.preceding = new int[count];
+		this.depths = new int[count];
+		this.enterTimes = new int[count];
+		this.exitTimes = new int[count];
+		Arrays.fill(this.preceding, NONE);
+		Arrays.fill(this.enterTimes, NONE);
+
+		final List<List<Integer>> following = new ArrayList<>(count);
+		for (var i = 0; i < count; i++) {
+			following.add(new ArrayList<>());
+		}
+		for (var i = 0; i < count; i++) {
+			final var edge =
+					graph
+						.getEdgesTo(this.actions[i], GraphEdgePrecedes.class)
+						.stream()
+						.findAny()
+						.orElse(null);
+			final var precedingIndex = edge == null ? null : this.indices.get(edge.getSourceNode());
+			if (precedingIndex != null) {
+				this.preceding[i] = precedingIndex;
+				following.get(precedingIndex).add(i);
+			}
+		}
+
+		var time = 0;
+		for (var i = 0; i < count; i++) {
+			if (this.preceding[i] == NONE) {
+				time = this.traverse(i, following, time);
+			}
+		}
+		for (var i = 0; i < count; i++) {
+			if (this.enterTimes[i] == NONE) {
+				// only workflow actions on or behind a cycle remain
+				final var root = this.findCycle(i);
+				following.get(this.preceding[root]).remove(Integer.valueOf(root));
+				this.preceding[root] = NONE;
+				time = this.traverse(root, following, time);
+			}
+		}
+	}
+
+	/**
+	 * Gets the workflow action that directly precedes the specified workflow action.
+	 * @param workflowAction The workflow action.
+	 * @return The directly preceding workflow action, or null if there is none.
+	 * @throws ArgumentNullException Thrown if workflowAction is null.
+	 */
+	public GraphNodeWorkflowAction getPreceding(GraphNodeWorkflowAction workflowAction)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(workflowAction, "workflowAction");
+		final var index = this.indices.get(workflowAction);
+		if (index == null || this.preceding[index] == NONE) {
+			return null;
+		}
+		return this.actions[this.preceding[index]];
+	}
+
+	/**
+	 * Gets the depth of a workflow action along its chain, which is the number of workflow actions that precede it.
+	 * @param workflowAction The workflow action.
+	 * @return The depth of the workflow action, or -1 if it is not indexed.
+	 * @throws ArgumentNullException Thrown if workflowAction is null.
+	 */
+	public int getDepth(GraphNodeWorkflowAction workflowAction)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(workflowAction, "workflowAction");
+		final var index = this.indices.get(workflowAction);
+		return index == null ? NONE : this.depths[index];
+	}
+
+	/**
+	 * Gets the length of the chain of workflow actions from a preceding workflow action to a workflow action.
+	 * @param workflowAction The workflow action at the end of the chain.
+	 * @param precedingWorkflowAction The workflow action at the start of the chain.
+	 * @return The length of the chain, if there is any. If there is no chain, -1 is returned.
+	 * @throws ArgumentNullException Thrown if workflowAction or precedingWorkflowAction is null.
+	 */
+	public int getPrecedingLength(GraphNodeWorkflowAction workflowAction, GraphNodeWorkflowAction precedingWorkflowAction)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(workflowAction, "workflowAction");
+		ArgumentGuard.requireNotNull(precedingWorkflowAction, "precedingWorkflowAction");
+		final var index = this.indices.get(workflowAction);
+		final var precedingIndex = this.indices.get(precedingWorkflowAction);
+		if (index == null ||
+				precedingIndex == null ||
+				this.enterTimes[precedingIndex] >= this.enterTimes[index] ||
+				this.exitTimes[precedingIndex] < this.exitTimes[index]) {
+			return NONE;
+		}
+		return this.depths[index] - this.depths[precedingIndex];
+	}
+
+	/**
+	 * Indicates whether a workflow action is preceded by another workflow action.
+	 * @param workflowAction The workflow action.
+	 * @param precedingWorkflowAction The workflow action that may or may not precede workflowAction.
+	 * @return True if precedingWorkflowAction precedes workflowAction, false if not.
+	 * @throws ArgumentNullException Thrown if workflowAction or precedingWorkflowAction is null.
+	 */
+	public boolean isPrecededBy(GraphNodeWorkflowAction workflowAction, GraphNodeWorkflowAction precedingWorkflowAction)
+			throws ArgumentNullException {
+		return this.getPrecedingLength(workflowAction, precedingWorkflowAction) > 0;
+	}
+
+	private int traverse(int root, List<List<Integer>> following, int time) {
+		final var stack = new ArrayList<Integer>();
+		final var positions = new ArrayList<Integer>();
+		this.depths[root] = 0;
+		this.enterTimes[root] = time++;
+		stack.add(root);
+		positions.add(0);
+		while (!stack.isEmpty()) {
+			final var top = stack.size() - 1;
+			final var index = stack.get(top);
+			final var position = positions.get(top);
+			final var next = following.get(index);
+			if (position == next.size()) {
+				this.exitTimes[index] = time++;
+				stack.removeLast();
+				positions.removeLast();
+				continue;
+			}
+			positions.set(top, position + 1);
+			final var child = next.get(position);
+			this.depths[child] = this.depths[index] + 1;
+			this.enterTimes[child] = time++;
+			stack.add(child);
+			positions.add(0);
+		}
+		return time;
+	}
+
+	private int findCycle(int start) {
+		final var seen = new HashSet<Integer>();
+		var index = start;
+		while (seen.add(index)) {
+			index = this.preceding[index];
+		}
+		return index;
+	}
+}
@@ -11,6 +11,7 @@ import nl.ou.refactoring.advice.edges.workflow.GraphEdgeFinalises;
 import nl.ou.refactoring.advice.edges.workflow.GraphEdgeObsolesces;
 import nl.ou.refactoring.advice.edges.workflow.GraphEdgeRelatesTo;
 import nl.ou.refactoring.advice.nodes.workflow.GraphNodeWorkflowAction;
+import nl.ou.refactoring.advice.nodes.workflow.GraphWorkflowExplorer;
 import nl.ou.refactoring.advice.nodes.workflow.RefactoringMustContainStartNodeException;
 import nl.ou.refactoring.advice.nodes.workflow.risks.GraphNodeRisk;
 import nl.ou.refactoring.advice.resources.ResourceProvider;
@@ -114,10 +115,11 @@ public abstract class GraphNodeMicrostep extends GraphNodeWorkflowAction {
 	 * @return The dangers associated with this microstep.
 	 */
 	public Set<GraphNodeRisk> getDangers() {
+		final var dangers = GraphWorkflowExplorer.getDangers(this.graph);
 		return this.getRisks()
 				.stream()
 				// TODO determine whether the risk really has been neutralised
-				.filter(node -> node.getNeutralisers().isEmpty())
+				.filter(dangers::contains)
 				.collect(Collectors.toUnmodifiableSet());
 	}
 
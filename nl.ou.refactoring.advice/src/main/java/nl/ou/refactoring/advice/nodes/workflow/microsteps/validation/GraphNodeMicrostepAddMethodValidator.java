@@ -2,19 +2,22 @@ package nl.ou.refactoring.advice.nodes.workflow.microsteps.validation;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.nodes.GraphNode;
 import nl.ou.refactoring.advice.nodes.workflow.risks.validation.GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator;
+import nl.ou.refactoring.advice.validation.GraphSubjectValidator;
 import nl.ou.refactoring.advice.validation.GraphValidationResult;
-import nl.ou.refactoring.advice.validation.GraphValidator;
 
 /**
  * Validates whether the Add Method microstep has all the necessary nodes
  * associated with it.
  */
-public final class GraphNodeMicrostepAddMethodValidator implements GraphValidator {
+public final class GraphNodeMicrostepAddMethodValidator implements GraphSubjectValidator {
 	/**
 	 * The singleton instance of {@link GraphNodeMicrostepAddMethodValidator}.
 	 */
@@ -27,17 +30,42 @@ public final class GraphNodeMicrostepAddMethodValidator implements GraphValidato
 	}
 
 	@Override
-	public List<GraphValidationResult> validate(final Graph graph) throws ArgumentNullException {
+	public List<? extends GraphNode> getSubjects(final Graph graph) throws ArgumentNullException {
+		return GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator.INSTANCE.getSubjects(graph);
+	}
+
+	@Override
+	public List<GraphValidationResult> validate(final Graph graph, final GraphNode subject)
+			throws ArgumentNullException {
 		ArgumentGuard.requireNotNull(graph, "graph");
+		ArgumentGuard.requireNotNull(subject, "subject");
 
 		final var results = new ArrayList<GraphValidationResult>();
 
-		validateRiskDoubleDefinition(graph, results);
+		validateRiskDoubleDefinition(graph, subject, results);
 
 		return results;
 	}
 
-	private static void validateRiskDoubleDefinition(final Graph graph, final List<GraphValidationResult> results) {
-		results.addAll(GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator.INSTANCE.validate(graph));
+	@Override
+	public Set<GraphNode> getNeighbourhood(final Graph graph, final GraphNode subject) throws ArgumentNullException {
+		return GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator.INSTANCE.getNeighbourhood(graph, subject);
+	}
+
+	@Override
+	public Set<Class<? extends GraphNode>> getNodeTypeDependencies() {
+		return GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator.INSTANCE.getNodeTypeDependencies();
+	}
+
+	@Override
+	public Set<Class<? extends GraphEdge>> getEdgeTypeDependencies() {
+		return GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator.INSTANCE.getEdgeTypeDependencies();
+	}
+
+	private static void validateRiskDoubleDefinition(
+			final Graph graph,
+			final GraphNode subject,
+			final List<GraphValidationResult> results) {
+		results.addAll(GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator.INSTANCE.validate(graph, subject));
 	}
 }
@@ -1,6 +1,7 @@
 package nl.ou.refactoring.advice.nodes.workflow.risks;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -72,17 +73,15 @@ public abstract class GraphNodeRisk extends GraphNodeWorkflow {
 		}
 
 		// Ensure a chain of workflow steps in the correct order.
+		final var precedenceIndex = this.graph.getPrecedenceIndex();
 		final var neutraliserWorkflowSteps =
 				neutralisers.stream()
-						.sorted((one, other) -> one.getPrecedingLength(other))
+						.sorted(Comparator.comparingInt(precedenceIndex::getDepth))
 						.collect(Collectors.toList());
-		if (neutraliserWorkflowSteps.size() <= 1) {
-			return Collections.unmodifiableSet(neutralisers);
-		}
 		for (var i = neutraliserWorkflowSteps.size() - 1; i > 0; i--) {
 			final var current = neutraliserWorkflowSteps.get(i);
 			final var previous = neutraliserWorkflowSteps.get(i - 1);
-			if (!current.isPrecededBy(previous)) {
+			if (!precedenceIndex.isPrecededBy(current, previous)) {
 				// return empty set if neutralisers do not form a chain
 				return Collections.unmodifiableSet(Set.of());
 			}
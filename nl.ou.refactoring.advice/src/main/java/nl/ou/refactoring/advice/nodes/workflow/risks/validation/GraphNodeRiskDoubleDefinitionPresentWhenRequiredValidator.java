@@ -1,28 +1,33 @@
 package nl.ou.refactoring.advice.nodes.workflow.risks.validation;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.edges.code.GraphEdgeHas;
+import nl.ou.refactoring.advice.nodes.GraphNode;
 import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
 import nl.ou.refactoring.advice.nodes.code.GraphNodeSignature;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClassMember;
+import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddClass;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddField;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
 import nl.ou.refactoring.advice.nodes.workflow.risks.GraphNodeRiskDoubleDefinition;
+import nl.ou.refactoring.advice.validation.GraphSubjectValidator;
 import nl.ou.refactoring.advice.validation.GraphValidationResult;
-import nl.ou.refactoring.advice.validation.GraphValidator;
 
 /**
  * Validates whether Double Definition risk nodes are present where they are
  * expected.
  */
-public final class GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator implements GraphValidator {
+public final class GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator implements GraphSubjectValidator {
 	/**
 	 * The singleton instance of
 	 * {@link GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator}.
@@ -38,145 +43,215 @@ public final class GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator imp
 	}
 
 	@Override
-	public List<GraphValidationResult> validate(final Graph graph) throws ArgumentNullException {
+	public List<GraphNode> getSubjects(final Graph graph) throws ArgumentNullException {
 		ArgumentGuard.requireNotNull(graph, "graph");
 
+		final var subjects = new ArrayList<GraphNode>();
+
+		subjects.addAll(graph.getNodes(GraphNodeMicrostepAddClass.class));
+		subjects.addAll(graph.getNodes(GraphNodeMicrostepAddMethod.class));
+		subjects.addAll(graph.getNodes(GraphNodeMicrostepAddField.class));
+
+		return Collections.unmodifiableList(subjects);
+	}
+
+	@Override
+	public List<GraphValidationResult> validate(final Graph graph, final GraphNode subject)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		ArgumentGuard.requireNotNull(subject, "subject");
+
 		final var results = new ArrayList<GraphValidationResult>();
 
-		validateClasses(graph, results);
-		validateOperations(graph, results);
-		validateAttributes(graph, results);
+		switch (subject) {
+			case GraphNodeMicrostepAddClass addClassNode -> validateClass(graph, addClassNode, results);
+			case GraphNodeMicrostepAddMethod addMethodNode -> validateOperation(graph, addMethodNode, results);
+			case GraphNodeMicrostepAddField addFieldNode -> validateAttribute(graph, addFieldNode, results);
+			default -> { }
+		}
 
-		return results;
+		return Collections.unmodifiableList(results);
 	}
 
-	private static void validateClasses(final Graph graph, final List<GraphValidationResult> results) {
-		final var addClassNodes = graph.getNodes(GraphNodeMicrostepAddClass.class);
-		for (final var addClassNode : addClassNodes) {
-			final var classNodeAdded = addClassNode.getClassNode();
-			final var packageNodeOptional = classNodeAdded.getPackageNode();
-			if (packageNodeOptional.isEmpty()) {
-				results.add(
-						new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
-								graph,
-								new HashSet<GraphNodeCode>(),
-								classNodeAdded,
-								true // Depends on whether we allow classes without packages.
-						));
-			} else {
-				final var packageNode = packageNodeOptional.get();
-				final var classNodes =
-						packageNode.getClassNodes()
-								.stream()
-								.filter(
-										(node) -> node != classNodeAdded
-												&& node.getClassName().equals(classNodeAdded.getClassName()))
-								.map(GraphNodeCode.class::cast)
-								.collect(Collectors.toUnmodifiableSet());
-				if (classNodes.isEmpty()) {
-					results.add(
-							new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
-									graph,
-									classNodes,
-									classNodeAdded,
-									true));
-				}
+	@Override
+	public Set<GraphNode> getNeighbourhood(final Graph graph, final GraphNode subject) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		ArgumentGuard.requireNotNull(subject, "subject");
 
-				results.add(
-						new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
-								graph,
-								classNodes,
-								classNodeAdded,
-								// Double Definition detected, validation now only succeeds if the risk is
-								// associated.
-								classNodeAdded.getRisks()
-										.stream()
-										.anyMatch(GraphNodeRiskDoubleDefinition.class::isInstance)));
+		final var neighbourhood = new HashSet<GraphNode>();
+		neighbourhood.add(subject);
+
+		switch (subject) {
+			case GraphNodeMicrostepAddClass addClassNode -> {
+				final var classNodeAdded = addClassNode.getClassNode();
+				neighbourhood.add(classNodeAdded);
+				classNodeAdded.getPackageNode().ifPresent(packageNode -> {
+					neighbourhood.add(packageNode);
+					neighbourhood.addAll(packageNode.getClassNodes());
+				});
 			}
+			case GraphNodeMicrostepAddMethod addMethodNode ->
+				addMethodNode.getOperationNode().ifPresent(node -> addMembers(node, neighbourhood));
+			case GraphNodeMicrostepAddField addFieldNode ->
+				addFieldNode.getAttributeNode().ifPresent(node -> addMembers(node, neighbourhood));
+			default -> { }
 		}
+
+		return neighbourhood;
 	}
 
-	private static void validateOperations(final Graph graph, final ArrayList<GraphValidationResult> results) {
-		final var addMethodNodes = graph.getNodes(GraphNodeMicrostepAddMethod.class);
-		for (final var addMethodNode : addMethodNodes) {
-			final var methodNodeAdded = addMethodNode.getOperationNode().get();
-			final var classNodeOptional = methodNodeAdded.getClassNode();
-			if (classNodeOptional.isEmpty()) {
-				results.add(
-						new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
-								graph,
-								new HashSet<GraphNodeCode>(),
-								methodNodeAdded,
-								false // We can't allow free floating operations;
-										// this is a different type of
-										// validation though.
-						));
-			} else {
-				final var classNode = classNodeOptional.get();
-				final var memberNodes =
-						classNode.getEdges(GraphEdgeHas.class)
-								.stream()
-								.map((edge) -> edge.getDestinationNode())
-								.filter(
-										(node) -> node != methodNodeAdded && node instanceof GraphNodeCode
-												&& GraphNodeSignature.equals((GraphNodeCode) node, methodNodeAdded))
-								.map(GraphNodeCode.class::cast)
-								.collect(Collectors.toUnmodifiableSet());
-				results.add(
-						new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
-								graph,
-								memberNodes,
-								methodNodeAdded,
-								// No members with identical identifier, so no Double Definition detected.
-								memberNodes.isEmpty() ||
-								// Double Definition detected, validation now only succeeds if the risk is
-								// associated.
-										methodNodeAdded.getRisks()
-												.stream()
-												.anyMatch(GraphNodeRiskDoubleDefinition.class::isInstance)));
+	@Override
+	public Set<Class<? extends GraphNode>> getNodeTypeDependencies() {
+		return
+				Set.of(
+						GraphNodeMicrostepAddClass.class,
+						GraphNodeMicrostepAddMethod.class,
+						GraphNodeMicrostepAddField.class,
+						GraphNodeCode.class,
+						GraphNodeRiskDoubleDefinition.class);
+	}
+
+	private static void addMembers(final GraphNodeClassMember memberNodeAdded, final Set<GraphNode> neighbourhood) {
+		neighbourhood.add(memberNodeAdded);
+		final var classNodeOptional = memberNodeAdded.getClassNode();
+		if (classNodeOptional.isEmpty()) {
+			return;
+		}
+		final var classNode = classNodeOptional.get();
+		neighbourhood.add(classNode);
+		for (final var memberEdge : classNode.getEdges(GraphEdgeHas.class)) {
+			final var memberNode = memberEdge.getDestinationNode();
+			neighbourhood.add(memberNode);
+			memberNode.getEdges(GraphEdgeHas.class).forEach(edge -> neighbourhood.add(edge.getDestinationNode()));
+			if (memberNode instanceof GraphNodeOperation operationNode) {
+				neighbourhood.addAll(operationNode.getOperationParameters());
 			}
 		}
 	}
 
-	private static void validateAttributes(final Graph graph, final ArrayList<GraphValidationResult> results) {
-		final var addFieldNodes = graph.getNodes(GraphNodeMicrostepAddField.class);
-		for (final var addFieldNode : addFieldNodes) {
-			final var attributeNodeAdded = addFieldNode.getAttributeNode().get();
-			final var classNodeOptional = attributeNodeAdded.getClassNode();
-			if (classNodeOptional.isEmpty()) {
+	private static void validateClass(
+			final Graph graph,
+			final GraphNodeMicrostepAddClass addClassNode,
+			final List<GraphValidationResult> results) {
+		final var classNodeAdded = addClassNode.getClassNode();
+		final var packageNodeOptional = classNodeAdded.getPackageNode();
+		if (packageNodeOptional.isEmpty()) {
+			results.add(
+					new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
+							graph,
+							new HashSet<GraphNodeCode>(),
+							classNodeAdded,
+							true // Depends on whether we allow classes without packages.
+					));
+		} else {
+			final var packageNode = packageNodeOptional.get();
+			final var classNodes =
+					packageNode.getClassNodes()
+							.stream()
+							.filter(
+									(node) -> node != classNodeAdded
+											&& node.getClassName().equals(classNodeAdded.getClassName()))
+							.map(GraphNodeCode.class::cast)
+							.collect(Collectors.toUnmodifiableSet());
+			if (classNodes.isEmpty()) {
 				results.add(
 						new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
 								graph,
-								new HashSet<GraphNodeCode>(),
-								attributeNodeAdded,
-								false // We can't allow free floating
-										// attributes; this is a different type
-										// of validation, though.
-						));
-			} else {
-				final var classNode = classNodeOptional.get();
-				final var memberNodes =
-						classNode.getEdges(GraphEdgeHas.class)
-								.stream()
-								.map((edge) -> (GraphNodeCode) edge.getDestinationNode())
-								.filter(
-										(node) -> node != attributeNodeAdded
-												&& GraphNodeSignature.equals(node, attributeNodeAdded))
-								.map(GraphNodeCode.class::cast)
-								.collect(Collectors.toUnmodifiableSet());
-				results.add(
-						new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
-								graph,
-								memberNodes,
-								attributeNodeAdded,
-								// No members with identical identifier, so no Double Definition detected.
-								memberNodes.isEmpty() ||
-								// Double Definition detected, validation now only succeeds if the risk is
-								// associated.
-										attributeNodeAdded.getRisks()
-												.stream()
-												.anyMatch(GraphNodeRiskDoubleDefinition.class::isInstance)));
+								classNodes,
+								classNodeAdded,
+								true));
 			}
+
+			results.add(
+					new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
+							graph,
+							classNodes,
+							classNodeAdded,
+							// Double Definition detected, validation now only succeeds if the risk is
+							// associated.
+							classNodeAdded.getRisks()
+									.stream()
+									.anyMatch(GraphNodeRiskDoubleDefinition.class::isInstance)));
+		}
+	}
+
+	private static void validateOperation(
+			final Graph graph,
+			final GraphNodeMicrostepAddMethod addMethodNode,
+			final List<GraphValidationResult> results) {
+		final var methodNodeAdded = addMethodNode.getOperationNode().get();
+		final var classNodeOptional = methodNodeAdded.getClassNode();
+		if (classNodeOptional.isEmpty()) {
+			results.add(
+					new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
+							graph,
+							new HashSet<GraphNodeCode>(),
+							methodNodeAdded,
+							false // We can't allow free floating operations;
+									// this is a different type of
+									// validation though.
+					));
+		} else {
+			final var classNode = classNodeOptional.get();
+			final var memberNodes =
+					classNode.getMemberNodes(methodNodeAdded.getOperationName())
+							.stream()
+							.filter(
+									(node) -> node != methodNodeAdded
+											&& GraphNodeSignature.equals(node, methodNodeAdded))
+							.collect(Collectors.toUnmodifiableSet());
+			results.add(
+					new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
+							graph,
+							memberNodes,
+							methodNodeAdded,
+							// No members with identical identifier, so no Double Definition detected.
+							memberNodes.isEmpty() ||
+							// Double Definition detected, validation now only succeeds if the risk is
+							// associated.
+									methodNodeAdded.getRisks()
+											.stream()
+											.anyMatch(GraphNodeRiskDoubleDefinition.class::isInstance)));
+		}
+	}
+
+	private static void validateAttribute(
+			final Graph graph,
+			final GraphNodeMicrostepAddField addFieldNode,
+			final List<GraphValidationResult> results) {
+		final var attributeNodeAdded = addFieldNode.getAttributeNode().get();
+		final var classNodeOptional = attributeNodeAdded.getClassNode();
+		if (classNodeOptional.isEmpty()) {
+			results.add(
+					new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
+							graph,
+							new HashSet<GraphNodeCode>(),
+							attributeNodeAdded,
+							false // We can't allow free floating
+									// attributes; this is a different type
+									// of validation, though.
+					));
+		} else {
+			final var classNode = classNodeOptional.get();
+			final var memberNodes =
+					classNode.getMemberNodes(attributeNodeAdded.getAttributeName())
+							.stream()
+							.filter(
+									(node) -> node != attributeNodeAdded
+											&& GraphNodeSignature.equals(node, attributeNodeAdded))
+							.collect(Collectors.toUnmodifiableSet());
+			results.add(
+					new GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult(
+							graph,
+							memberNodes,
+							attributeNodeAdded,
+							// No members with identical identifier, so no Double Definition detected.
+							memberNodes.isEmpty() ||
+							// Double Definition detected, validation now only succeeds if the risk is
+							// associated.
+									attributeNodeAdded.getRisks()
+											.stream()
+											.anyMatch(GraphNodeRiskDoubleDefinition.class::isInstance)));
 		}
 	}
 }
@@ -1,24 +1,28 @@
 package nl.ou.refactoring.advice.nodes.workflow.risks.validation;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.nodes.GraphNode;
 import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepRemoveClass;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepRemoveField;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepRemoveMethod;
+import nl.ou.refactoring.advice.validation.GraphSubjectValidator;
 import nl.ou.refactoring.advice.validation.GraphValidationResult;
-import nl.ou.refactoring.advice.validation.GraphValidator;
 
 /**
  * Validates whether Missing Definition risk nodes are present where they are
  * expected.
  */
-public final class GraphNodeRiskMissingDefinitionPresentWhenRequiredValidator implements GraphValidator {
+public final class GraphNodeRiskMissingDefinitionPresentWhenRequiredValidator implements GraphSubjectValidator {
 	/**
 	 * A singleton instance of {@link GraphNodeRiskMissingDefinitionPresentWhenRequiredValidator}.
 	 */
@@ -32,51 +36,80 @@ public final class GraphNodeRiskMissingDefinitionPresentWhenRequiredValidator im
 	}
 
 	@Override
-	public List<GraphValidationResult> validate(Graph graph) throws ArgumentNullException {
+	public List<GraphNode> getSubjects(Graph graph) throws ArgumentNullException {
 		ArgumentGuard.requireNotNull(graph, "graph");
 		
-		final var results = new ArrayList<GraphValidationResult>();
+		final var subjects = new ArrayList<GraphNode>();
 		
-		validateClasses(graph, results);
-		validateOperations(graph, results);
-		validateAttributes(graph, results);
+		subjects.addAll(graph.getNodes(GraphNodeMicrostepRemoveClass.class));
+		subjects.addAll(graph.getNodes(GraphNodeMicrostepRemoveMethod.class));
+		subjects.addAll(graph.getNodes(GraphNodeMicrostepRemoveField.class));
 		
-		return results;
+		return Collections.unmodifiableList(subjects);
 	}
 
-	private static void validateClasses(final Graph graph, final List<GraphValidationResult> results) {
-		final var removeClassNodes = graph.getNodes(GraphNodeMicrostepRemoveClass.class);
-		for (final var removeClassNode : removeClassNodes) {
-			final var classNodeRemoved = removeClassNode.getClassNode();
-			// TODO find references, add validation result for each reference
+	@Override
+	public List<GraphValidationResult> validate(Graph graph, GraphNode subject) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		ArgumentGuard.requireNotNull(subject, "subject");
+		
+		final var results = new ArrayList<GraphValidationResult>();
+		
+		switch (subject) {
+			case GraphNodeMicrostepRemoveMethod removeMethodNode -> validateOperation(graph, removeMethodNode, results);
+			// TODO find references to removed classes and fields, add validation result for each reference
+			default -> { }
 		}
+		
+		return Collections.unmodifiableList(results);
 	}
-	
-	private static void validateOperations(final Graph graph, final List<GraphValidationResult> results) {
-		final var removeMethodNodes = graph.getNodes(GraphNodeMicrostepRemoveMethod.class);
-		for (final var removeMethodNode : removeMethodNodes) {
+
+	@Override
+	public Set<GraphNode> getNeighbourhood(Graph graph, GraphNode subject) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		ArgumentGuard.requireNotNull(subject, "subject");
+		
+		final var neighbourhood = new HashSet<GraphNode>();
+		neighbourhood.add(subject);
+		
+		if (subject instanceof GraphNodeMicrostepRemoveMethod removeMethodNode) {
 			final var operationNodeRemoved = removeMethodNode.getOperationNode();
-			final var invocations =
-				operationNodeRemoved
-					.getInvocations()
-					.stream()
-					.map(GraphNodeCode.class::cast)
-					.collect(Collectors.toUnmodifiableSet());
-			final var validationResult =
-				new GraphNodeRiskMissingDefinitionPresentWhenRequiredValidationResult(
-					graph,
-					invocations,
-					operationNodeRemoved,
-					false
-				);
-			results.add(validationResult);
+			neighbourhood.add(operationNodeRemoved);
+			neighbourhood.addAll(operationNodeRemoved.getInvocations());
 		}
+		
+		return neighbourhood;
 	}
-	
-	private static void validateAttributes(final Graph graph, final List<GraphValidationResult> results) {
-		final var removeFieldNodes = graph.getNodes(GraphNodeMicrostepRemoveField.class);
-		for (final var removeFieldNode : removeFieldNodes) {
-			// TODO find references, add validation result for each reference
-		}
+
+	@Override
+	public Set<Class<? extends GraphNode>> getNodeTypeDependencies() {
+		return
+			Set.of(
+				GraphNodeMicrostepRemoveClass.class,
+				GraphNodeMicrostepRemoveMethod.class,
+				GraphNodeMicrostepRemoveField.class,
+				GraphNodeCode.class
+			);
+	}
+
+	private static void validateOperation(
+			final Graph graph,
+			final GraphNodeMicrostepRemoveMethod removeMethodNode,
+			final List<GraphValidationResult> results) {
+		final var operationNodeRemoved = removeMethodNode.getOperationNode();
+		final var invocations =
+			operationNodeRemoved
+				.getInvocations()
+				.stream()
+				.map(GraphNodeCode.class::cast)
+				.collect(Collectors.toUnmodifiableSet());
+		final var validationResult =
+			new GraphNodeRiskMissingDefinitionPresentWhenRequiredValidationResult(
+				graph,
+				invocations,
+				operationNodeRemoved,
+				false
+			);
+		results.add(validationResult);
 	}
 }
\ No newline at end of file
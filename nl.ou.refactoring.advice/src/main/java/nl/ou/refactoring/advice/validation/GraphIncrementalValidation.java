@@ -0,0 +1,199 @@
+package nl.ou.refactoring.advice.validation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.GraphChangeListener;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * Validates a Refactoring Advice Graph (RAG) {@link Graph} incrementally, as it changes.<br />
+ * The first validation runs every validator. After that, the changes made to the graph are recorded, and
+ * a validator is only run again if it depends on the type of a node or edge that changed.
+ * A {@link GraphSubjectValidator} is only run again for the subjects whose neighbourhood changed.
+ * Everything else is answered from the results of the previous validation.<br />
+ * Obtain an instance through {@link GraphValidationEngine#watch(Graph)} and close it to stop recording changes.
+ * Validators run one after another, on the thread that requests the validation.
+ */
+public final class GraphIncrementalValidation implements AutoCloseable {
+	private final Graph graph;
+	private final List<GraphValidator> validators;
+	private final Map<GraphValidator, GraphValidatorCache> caches;
+	private final Set<GraphNode> nodesChanged;
+	private final Set<Class<?>> nodeTypesChanged;
+	private final Set<Class<?>> edgeTypesChanged;
+	private final GraphChangeListener changeListener;
+
+	/**
+	 * Initialises a new instance of {@link GraphIncrementalValidation} and starts recording the changes made to the graph.
+	 * @param graph The Refactoring Advice Graph (RAG) {@link Graph} to validate.
+	 * @param validators The validators, in the order in which their results are reported.
+	 * @throws ArgumentNullException Thrown if graph or validators is null.
+	 */
+	GraphIncrementalValidation(Graph graph, List<GraphValidator> validators) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		ArgumentGuard.requireNotNull(validators, "validators");
+		this.graph = graph;
+		this.validators = List.copyOf(validators);
+		this.caches = new HashMap<>();
+		this.nodesChanged = Collections.newSetFromMap(new IdentityHashMap<>());
+		this.nodeTypesChanged = new HashSet<>();
+		this.edgeTypesChanged = new HashSet<>();
+		this.changeListener = new GraphChangeListener() {
+			@Override
+			public void nodeAdded(GraphNode node) {
+				nodeChanged(node);
+			}
+
+			@Override
+			public void nodeRemoved(GraphNode node) {
+				nodeChanged(node);
+			}
+
+			@Override
+			public void edgeAdded(GraphEdge edge) {
+				edgeChanged(edge);
+			}
+
+			@Override
+			public void edgeRemoved(GraphEdge edge) {
+				edgeChanged(edge);
+			}
+		};
+		graph.addChangeListener(this.changeListener);
+	}
+
+	/**
+	 * Validates the graph, reusing the results of the previous validation where the changes since then allow.
+	 * @return An unmodifiable list of validation results {@link GraphValidationResult}.
+	 */
+	public List<GraphValidationResult> validate() {
+		return this.report().getResults();
+	}
+
+	/**
+	 * Validates the graph, reusing the results of the previous validation where the changes since then allow,
+	 * and reports how long every validator took and how many results it produced.
+	 * @return The validation results together with the statistics of every validator.
+	 */
+	public GraphValidationReport report() {
+		final var start = System.nanoTime();
+		final var validationResults = new ArrayList<GraphValidationResult>();
+		final var statistics = new ArrayList<GraphValidatorStatistics>(this.validators.size());
+		for (final var validator : this.validators) {
+			final var validatorStart = System.nanoTime();
+			final var results = this.run(validator);
+			final var duration = Duration.ofNanos(System.nanoTime() - validatorStart);
+			validationResults.addAll(results);
+			statistics.add(new GraphValidatorStatistics(validator, duration, results.size()));
+		}
+		this.nodesChanged.clear();
+		this.nodeTypesChanged.clear();
+		this.edgeTypesChanged.clear();
+		return new GraphValidationReport(validationResults, statistics, Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	/**
+	 * Stops recording the changes made to the graph.
+	 */
+	@Override
+	public void close() {
+		this.graph.removeChangeListener(this.changeListener);
+	}
+
+	private List<GraphValidationResult> run(GraphValidator validator) {
+		final var cache = this.caches.get(validator);
+		if (cache != null && !this.isAffected(validator)) {
+			return cache.results();
+		}
+		if (!(validator instanceof GraphSubjectValidator subjectValidator)) {
+			final var results = validator.validate(this.graph);
+			this.caches.put(validator, new GraphValidatorCache(results, Map.of()));
+			return results;
+		}
+
+		final var subjectsCached = cache == null ? Map.<GraphNode, GraphSubjectCache>of() : cache.subjects();
+		final var subjects = new IdentityHashMap<GraphNode, GraphSubjectCache>();
+		final var results = new ArrayList<GraphValidationResult>();
+		for (final var subject : subjectValidator.getSubjects(this.graph)) {
+			var subjectCache = subjectsCached.get(subject);
+			if (subjectCache == null || this.isAffected(subjectCache)) {
+				subjectCache =
+						new GraphSubjectCache(
+							subjectValidator.validate(this.graph, subject),
+							subjectValidator.getNeighbourhood(this.graph, subject));
+			}
+			subjects.put(subject, subjectCache);
+			results.addAll(subjectCache.results());
+		}
+		final var resultsUnmodifiable = Collections.unmodifiableList(results);
+		this.caches.put(validator, new GraphValidatorCache(resultsUnmodifiable, subjects));
+		return resultsUnmodifiable;
+	}
+
+	private boolean isAffected(GraphValidator validator) {
+		return
+				isAffected(this.nodeTypesChanged, validator.getNodeTypeDependencies()) ||
+				isAffected(this.edgeTypesChanged, validator.getEdgeTypeDependencies());
+	}
+
+	private static boolean isAffected(Set<Class<?>> typesChanged, Set<? extends Class<?>> dependencies) {
+		for (final var typeChanged : typesChanged) {
+			for (final var dependency : dependencies) {
+				if (dependency.isAssignableFrom(typeChanged)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean isAffected(GraphSubjectCache subjectCache) {
+		for (final var nodeChanged : this.nodesChanged) {
+			if (subjectCache.neighbourhood().contains(nodeChanged)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void nodeChanged(GraphNode node) {
+		this.nodesChanged.add(node);
+		this.nodeTypesChanged.add(node.getClass());
+	}
+
+	private void edgeChanged(GraphEdge edge) {
+		this.nodesChanged.add(edge.getSourceNode());
+		this.nodesChanged.add(edge.getDestinationNode());
+		this.edgeTypesChanged.add(edge.getClass());
+	}
+
+	/**
+	 * The results of the previous validation by a single validator.
+	 * @param results The validation results.
+	 * @param subjects The results per subject, if the validator is a {@link GraphSubjectValidator}.
+	 */
+	private record GraphValidatorCache(
+			List<GraphValidationResult> results,
+			Map<GraphNode, GraphSubjectCache> subjects) { }
+
+	/**
+	 * The results of the previous validation of a single subject.
+	 * @param results The validation results for the subject.
+	 * @param neighbourhood The nodes on which the results depend.
+	 */
+	private record GraphSubjectCache(
+			List<GraphValidationResult> results,
+			Set<GraphNode> neighbourhood) { }
+}
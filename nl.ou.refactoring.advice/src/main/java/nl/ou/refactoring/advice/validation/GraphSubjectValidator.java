@@ -0,0 +1,57 @@
+package nl.ou.refactoring.advice.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+
+/**
+ * Validates a particular aspect of a Refactoring Advice Graph (RAG) {@link Graph} one subject node at a time,
+ * for example every microstep of a particular type.<br />
+ * The results for a subject depend only on the nodes in the neighbourhood of the subject,
+ * so that incremental validation can re-validate only the subjects whose neighbourhood changed.
+ */
+public interface GraphSubjectValidator extends GraphValidator {
+	/**
+	 * Gets the subject nodes that the validator validates.
+	 * @param graph The Refactoring Advice Graph {@link Graph} to validate.
+	 * @return The subject nodes, in the order in which their results are reported.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 */
+	List<? extends GraphNode> getSubjects(final Graph graph) throws ArgumentNullException;
+	
+	/**
+	 * Validates a single subject node.
+	 * @param graph The Refactoring Advice Graph {@link Graph} to validate.
+	 * @param subject The subject node, as returned by {@link #getSubjects(Graph)}.
+	 * @return An unmodifiable list of validation results {@link GraphValidationResult} for the subject.
+	 * @throws ArgumentNullException Thrown if graph or subject is null.
+	 */
+	List<GraphValidationResult> validate(final Graph graph, final GraphNode subject) throws ArgumentNullException;
+	
+	/**
+	 * Gets the neighbourhood of a subject node: the nodes on which the results for the subject depend.
+	 * The results for the subject remain valid as long as none of these nodes is removed
+	 * and no edge is added to or removed from any of them.
+	 * @param graph The Refactoring Advice Graph {@link Graph} to validate.
+	 * @param subject The subject node, as returned by {@link #getSubjects(Graph)}.
+	 * @return The nodes on which the results for the subject depend, including the subject itself.
+	 * @throws ArgumentNullException Thrown if graph or subject is null.
+	 */
+	Set<GraphNode> getNeighbourhood(final Graph graph, final GraphNode subject) throws ArgumentNullException;
+	
+	@Override
+	default List<GraphValidationResult> validate(final Graph graph) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(graph, "graph");
+		final var results = new ArrayList<GraphValidationResult>();
+		for (final var subject : this.getSubjects(graph)) {
+			results.addAll(this.validate(graph, subject));
+		}
+		return Collections.unmodifiableList(results);
+	}
+}
@@ -1,28 +1,48 @@
 package nl.ou.refactoring.advice.validation;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import nl.ou.refactoring.advice.Futures;
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 
 /**
- * An engine that validates Refactoring Advice Graph (RAGs) {@link Graph}.
+ * An engine that validates Refactoring Advice Graph (RAGs) {@link Graph}.<br />
+ * Validators run in the order in which they were added, or concurrently on an {@link Executor},
+ * such as {@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()}.
+ * Either way, the results are merged in the order in which the validators were added.
+ * Validators that run concurrently must not modify the graph; fixable results are to be fixed afterwards.
  */
 public final class GraphValidationEngine {
-	private final Set<GraphValidator> validators; 
-	
+	private final Set<GraphValidator> validators;
+	private final Executor executor;
+
 	/**
-	 * Initialises a new instance of {@link GraphValidationEngine}.
+	 * Initialises a new instance of {@link GraphValidationEngine} that runs its validators one after another.
 	 */
 	public GraphValidationEngine() {
-		this.validators = new HashSet<>();
+		this.validators = new LinkedHashSet<>();
+		this.executor = null;
 	}
-	
+
+	/**
+	 * Initialises a new instance of {@link GraphValidationEngine} that runs its validators concurrently.
+	 * @param executor The executor on which the validators run. The engine does not shut it down.
+	 * @throws ArgumentNullException Thrown if executor is null.
+	 */
+	public GraphValidationEngine(Executor executor) throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(executor, "executor");
+		this.validators = new LinkedHashSet<>();
+		this.executor = executor;
+	}
+
 	/**
 	 * Adds a validator that will participate in validation of a Refactoring Advice Graph (RAG) {@link Graph}.
 	 * @param validator Validates Refactoring Advice Graph (RAG) {@link Graph}.
@@ -41,11 +61,72 @@ public final class GraphValidationEngine {
 	 */
 	public List<GraphValidationResult> validate(Graph graph)
 			throws ArgumentNullException {
+		return this.report(graph).getResults();
+	}
+
+	/**
+	 * Validates a Refactoring Advice Graph (RAG) {@link Graph} and reports how long every validator took
+	 * and how many results it produced.
+	 * @param graph A Refactoring Advice Graph (RAG) {@link Graph}.
+	 * @return The validation results together with the statistics of every validator.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 */
+	public GraphValidationReport report(Graph graph)
+			throws ArgumentNullException {
 		ArgumentGuard.requireNotNull(graph, "graph");
+		final var start = System.nanoTime();
+		final var outcomes = new ArrayList<GraphValidatorOutcome>(this.validators.size());
+		if (this.executor == null) {
+			for (final var validator : this.validators) {
+				outcomes.add(run(validator, graph));
+			}
+		} else {
+			final var futures = new ArrayList<CompletableFuture<GraphValidatorOutcome>>(this.validators.size());
+			for (final var validator : this.validators) {
+				futures.add(CompletableFuture.supplyAsync(() -> run(validator, graph), this.executor));
+			}
+			for (final var future : futures) {
+				outcomes.add(Futures.join(future));
+			}
+		}
+
 		final var validationResults = new ArrayList<GraphValidationResult>();
-		for (final var validator : this.validators) {
-			validationResults.addAll(validator.validate(graph));
+		final var statistics = new ArrayList<GraphValidatorStatistics>(outcomes.size());
+		for (final var outcome : outcomes) {
+			validationResults.addAll(outcome.results());
+			statistics.add(outcome.statistics());
 		}
-		return Collections.unmodifiableList(validationResults);
+		return new GraphValidationReport(validationResults, statistics, Duration.ofNanos(System.nanoTime() - start));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Starts validating a Refactoring Advice Graph (RAG) {@link Graph} incrementally, as it changes.
+	 * The validators that have been added so far participate; validators added later do not.
+	 * @param graph A Refactoring Advice Graph (RAG) {@link Graph}.
+	 * @return The incremental validation, which must be closed to stop recording the changes made to the graph.
+	 * @throws ArgumentNullException Thrown if graph is null.
+	 */
+	public GraphIncrementalValidation watch(Graph graph)
+			throws ArgumentNullException {
+		return new GraphIncrementalValidation(graph, List.copyOf(this.validators));
+	}
+
+	private static GraphValidatorOutcome run(GraphValidator validator, Graph graph) {
+		final var start = System.nanoTime();
+		final var results = validator.validate(graph);
+		final var duration = Duration.ofNanos(System.nanoTime() - start);
+		return
+				new GraphValidatorOutcome(
+					results,
+					new GraphValidatorStatistics(validator, duration, results.size()));
+	}
+
+	/**
+	 * The results and statistics of a single validator.
+	 * @param results The validation results.
+	 * @param statistics The statistics of the validator.
+	 */
+	private record GraphValidatorOutcome(
+			List<GraphValidationResult> results,
+			GraphValidatorStatistics statistics) { }
+}
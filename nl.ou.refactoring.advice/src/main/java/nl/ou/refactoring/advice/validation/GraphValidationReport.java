@@ -0,0 +1,61 @@
+package nl.ou.refactoring.advice.validation;
+
+import java.time.Duration;
+import java.util.List;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+
+/**
+ * The outcome of a run of the {@link GraphValidationEngine}:
+ * the validation results and the statistics of every validator, in the order in which the validators were added.
+ */
+public final class GraphValidationReport {
+	private final List<GraphValidationResult> results;
+	private final List<GraphValidatorStatistics> statistics;
+	private final Duration duration;
+
+	/**
+	 * Initialises a new instance of {@link GraphValidationReport}.
+	 * @param results The validation results.
+	 * @param statistics The statistics of every validator.
+	 * @param duration The time the whole run took.
+	 * @throws ArgumentNullException Thrown if results, statistics or duration is null.
+	 */
+	public GraphValidationReport(
+			List<GraphValidationResult> results,
+			List<GraphValidatorStatistics> statistics,
+			Duration duration)
+					throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(results, "results");
+		ArgumentGuard.requireNotNull(statistics, "statistics");
+		ArgumentGuard.requireNotNull(duration, "duration");
+		this.results = List.copyOf(results);
+		this.statistics = List.copyOf(statistics);
+		this.duration = duration;
+	}
+
+	/**
+	 * Gets the validation results.
+	 * @return An unmodifiable list of validation results, grouped by validator in the order in which the validators were added.
+	 */
+	public List<GraphValidationResult> getResults() {
+		return this.results;
+	}
+
+	/**
+	 * Gets the statistics of every validator.
+	 * @return An unmodifiable list of statistics, in the order in which the validators were added.
+	 */
+	public List<GraphValidatorStatistics> getStatistics() {
+		return this.statistics;
+	}
+
+	/**
+	 * Gets the time the whole run took.
+	 * @return The time the whole run took.
+	 */
+	public Duration getDuration() {
+		return this.duration;
+	}
+}
@@ -1,9 +1,12 @@
 package nl.ou.refactoring.advice.validation;
 
 import java.util.List;
+import java.util.Set;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.nodes.GraphNode;
 
 /**
  * Validates a particular aspect of a Refactoring Advice Graph (RAG) {@link Graph}.
@@ -16,4 +19,22 @@ public interface GraphValidator {
 	 * @throws ArgumentNullException Thrown if graph is null.
 	 */
 	List<GraphValidationResult> validate(final Graph graph) throws ArgumentNullException;
-}
\ No newline at end of file
+	
+	/**
+	 * Gets the types of node on which the results of the validator depend.
+	 * Adding or removing a node of one of these types invalidates the results of an earlier validation.
+	 * @return The types of node on which the results depend; by default every type of node.
+	 */
+	default Set<Class<? extends GraphNode>> getNodeTypeDependencies() {
+		return Set.of(GraphNode.class);
+	}
+	
+	/**
+	 * Gets the types of edge on which the results of the validator depend.
+	 * Adding or removing an edge of one of these types invalidates the results of an earlier validation.
+	 * @return The types of edge on which the results depend; by default every type of edge.
+	 */
+	default Set<Class<? extends GraphEdge>> getEdgeTypeDependencies() {
+		return Set.of(GraphEdge.class);
+	}
+}
@@ -0,0 +1,65 @@
+package nl.ou.refactoring.advice.validation;
+
+import java.time.Duration;
+
+import nl.ou.refactoring.advice.contracts.ArgumentGuard;
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+
+/**
+ * Statistics of a single {@link GraphValidator} during a run of the {@link GraphValidationEngine}.
+ */
+public final class GraphValidatorStatistics {
+	private final GraphValidator validator;
+	private final Duration duration;
+	private final int resultCount;
+
+	/**
+	 * Initialises a new instance of {@link GraphValidatorStatistics}.
+	 * @param validator The validator.
+	 * @param duration The time the validator took to validate the graph.
+	 * @param resultCount The number of validation results the validator produced.
+	 * @throws ArgumentNullException Thrown if validator or duration is null.
+	 */
+	public GraphValidatorStatistics(GraphValidator validator, Duration duration, int resultCount)
+			throws ArgumentNullException {
+		ArgumentGuard.requireNotNull(validator, "validator");
+		ArgumentGuard.requireNotNull(duration, "duration");
+		this.validator = validator;
+		this.duration = duration;
+		this.resultCount = resultCount;
+	}
+
+	/**
+	 * Gets the validator.
+	 * @return The validator.
+	 */
+	public GraphValidator getValidator() {
+		return this.validator;
+	}
+
+	/**
+	 * Gets the time the validator took to validate the graph.
+	 * @return The time the validator took to validate the graph.
+	 */
+	public Duration getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * Gets the number of validation results the validator produced.
+	 * @return The number of validation results the validator produced.
+	 */
+	public int getResultCount() {
+		return this.resultCount;
+	}
+
+	@Override
+	public String toString() {
+		return
+				String.format(
+					"%s: %d result(s) in %d ms",
+					this.validator.getClass().getSimpleName(),
+					this.resultCount,
+					this.duration.toMillis());
+	}
+}
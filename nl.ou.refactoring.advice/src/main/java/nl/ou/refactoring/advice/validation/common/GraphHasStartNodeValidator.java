@@ -2,10 +2,14 @@ package nl.ou.refactoring.advice.validation.common;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+import nl.ou.refactoring.advice.nodes.workflow.GraphNodeRefactoringStart;
 import nl.ou.refactoring.advice.validation.GraphValidationResult;
 import nl.ou.refactoring.advice.validation.GraphValidator;
 
@@ -33,4 +37,14 @@ public final class GraphHasStartNodeValidator implements GraphValidator {
 				List.of(new GraphHasStartNodeValidationResult(graph, startNode.isPresent()))
 			);
 	}
+
+	@Override
+	public Set<Class<? extends GraphNode>> getNodeTypeDependencies() {
+		return Set.of(GraphNodeRefactoringStart.class);
+	}
+
+	@Override
+	public Set<Class<? extends GraphEdge>> getEdgeTypeDependencies() {
+		return Set.of();
+	}
 }
@@ -2,12 +2,15 @@ package nl.ou.refactoring.advice.validation.common;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import nl.ou.refactoring.advice.Graph;
 import nl.ou.refactoring.advice.contracts.ArgumentGuard;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+import nl.ou.refactoring.advice.edges.GraphEdge;
 import nl.ou.refactoring.advice.edges.workflow.GraphEdgeFinalises;
+import nl.ou.refactoring.advice.nodes.GraphNode;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostep;
 import nl.ou.refactoring.advice.validation.GraphValidationResult;
 import nl.ou.refactoring.advice.validation.GraphValidator;
@@ -42,4 +45,13 @@ public final class GraphIsFinalisedValidator implements GraphValidator {
 			);
 	}
 
+	@Override
+	public Set<Class<? extends GraphNode>> getNodeTypeDependencies() {
+		return Set.of(GraphNodeMicrostep.class);
+	}
+
+	@Override
+	public Set<Class<? extends GraphEdge>> getEdgeTypeDependencies() {
+		return Set.of(GraphEdgeFinalises.class);
+	}
 }
@@ -0,0 +1,68 @@
+package nl.ou.refactoring.advice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.contracts.ArgumentNullException;
+
+public final class FuturesTests {
+	@Test
+	@DisplayName("Should get the result of a future")
+	public void joinTest() {
+		// Arrange
+		final var future = CompletableFuture.supplyAsync(() -> "result");
+
+		// Act
+		final var result = Futures.join(future);
+
+		// Assert
+		assertEquals("result", result);
+	}
+
+	@Test
+	@DisplayName("Should rethrow the unchecked exceptions and errors of a failed future as is")
+	public void joinFailedTest() {
+		// Arrange
+		final var exception = new IllegalStateException("Task failed");
+		final var error = new AssertionError("Task failed");
+		final var futureException = CompletableFuture.<Void>failedFuture(exception);
+		final var futureError = CompletableFuture.<Void>failedFuture(error);
+
+		// Act
+		final var exceptionThrown = assertThrows(IllegalStateException.class, () -> Futures.join(futureException));
+		final var errorThrown = assertThrows(AssertionError.class, () -> Futures.join(futureError));
+
+		// Assert
+		assertSame(exception, exceptionThrown);
+		assertSame(error, errorThrown);
+	}
+
+	@Test
+	@DisplayName("Should throw a completion exception if a future failed with a checked exception")
+	public void joinFailedCheckedTest() {
+		// Arrange
+		final var exception = new IOException("Task failed");
+		final var future = CompletableFuture.<Void>failedFuture(exception);
+
+		// Act
+		final var exceptionThrown = assertThrows(CompletionException.class, () -> Futures.join(future));
+
+		// Assert
+		assertSame(exception, exceptionThrown.getCause());
+	}
+
+	@Test
+	@DisplayName("Should throw an exception if the future is null")
+	public void joinNullTest() {
+		// Act & Assert
+		assertThrows(ArgumentNullException.class, () -> Futures.join(null));
+	}
+}
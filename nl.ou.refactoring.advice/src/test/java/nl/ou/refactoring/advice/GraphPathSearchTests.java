@@ -0,0 +1,152 @@
+package nl.ou.refactoring.advice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddExpression;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepRemoveExpression;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepRemoveMethod;
+
+public final class GraphPathSearchTests {
+	@Test
+	@DisplayName("Should report every path up to the maximum depth and share prefixes")
+	public void findPathsSharesPrefixesTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var start = graph.start();
+		final var microstep1 = new GraphNodeMicrostepAddMethod(graph);
+		final var microstep2 = new GraphNodeMicrostepAddExpression(graph);
+		start.initiates(microstep1);
+		microstep1.precedes(microstep2);
+		final List<GraphPathLink> paths = new ArrayList<>();
+		
+		// Act
+		new GraphPathSearch().findPaths(start, 3, paths::add);
+		
+		// Assert
+		assertEquals(3, paths.size());
+		assertEquals(1, paths.get(0).getLength());
+		assertSame(paths.get(0), paths.get(1).getParent());
+		assertSame(paths.get(1), paths.get(2).getParent());
+		assertSame(microstep2, paths.get(2).getNode());
+		assertEquals(3, paths.get(2).toGraphPath().getSegments().size());
+	}
+	
+	@Test
+	@DisplayName("Should not follow cycles")
+	public void findPathsAvoidsCyclesTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var microstep1 = new GraphNodeMicrostepAddMethod(graph);
+		final var microstep2 = new GraphNodeMicrostepAddExpression(graph);
+		microstep1.precedes(microstep2);
+		microstep2.precedes(microstep1);
+		final List<GraphPathLink> paths = new ArrayList<>();
+		
+		// Act
+		new GraphPathSearch().findPaths(microstep1, 10, paths::add);
+		
+		// Assert
+		assertEquals(2, paths.size());
+	}
+	
+	@Test
+	@DisplayName("Should stop searching when the visitor returns false")
+	public void findPathsStopsWhenVisitorReturnsFalseTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var start = graph.start();
+		final var microstep1 = new GraphNodeMicrostepAddMethod(graph);
+		final var microstep2 = new GraphNodeMicrostepAddExpression(graph);
+		start.initiates(microstep1);
+		microstep1.precedes(microstep2);
+		final List<GraphPathLink> paths = new ArrayList<>();
+		
+		// Act
+		new GraphPathSearch().findPaths(start, microstep1, 10, path -> {
+			paths.add(path);
+			return false;
+		});
+		
+		// Assert
+		assertEquals(1, paths.size());
+		assertSame(microstep1, paths.get(0).getNode());
+	}
+	
+	@Test
+	@DisplayName("Should find a shortest path rather than the first path")
+	public void findShortestPathTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var start = graph.start();
+		final var microstep1 = new GraphNodeMicrostepAddMethod(graph);
+		final var microstep2 = new GraphNodeMicrostepAddExpression(graph);
+		final var microstep3 = new GraphNodeMicrostepRemoveExpression(graph);
+		start.initiates(microstep1);
+		microstep1.precedes(microstep2);
+		microstep2.precedes(microstep3);
+		microstep1.precedes(microstep3);
+		
+		// Act
+		final var path = new GraphPathSearch().findShortestPath(start, microstep3, GraphPathSearch.ALL_EDGES);
+		
+		// Assert
+		assertEquals(3, path.orElseThrow().getLength());
+		assertSame(microstep1, path.orElseThrow().getParent().getNode());
+	}
+	
+	@Test
+	@DisplayName("Should follow only the edges accepted by the edge filter")
+	public void findShortestPathWorkflowEdgesTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var start = graph.start();
+		final var microstep1 = new GraphNodeMicrostepAddMethod(graph);
+		final var microstep2 = new GraphNodeMicrostepRemoveMethod(graph);
+		start.initiates(microstep1);
+		microstep1.relatesTo(microstep2);
+		
+		// Act
+		final var pathAll = start.findShortestPath(microstep2, GraphPathSearch.ALL_EDGES);
+		final var pathWorkflow = start.findShortestPath(microstep2, GraphPathSearch.WORKFLOW_EDGES);
+		
+		// Assert
+		assertEquals(3, pathAll.orElseThrow().getSegments().size());
+		assertFalse(pathWorkflow.isPresent());
+	}
+	
+	@Test
+	@DisplayName("Should find shortest paths to several destinations by a single search")
+	public void findShortestPathsTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var start = graph.start();
+		final var microstep1 = new GraphNodeMicrostepAddMethod(graph);
+		final var microstep2 = new GraphNodeMicrostepAddExpression(graph);
+		final var microstep3 = new GraphNodeMicrostepRemoveExpression(graph);
+		final var unreachable = new GraphNodeMicrostepRemoveMethod(graph);
+		start.initiates(microstep1);
+		microstep1.precedes(microstep2);
+		microstep2.precedes(microstep3);
+		
+		// Act
+		final var paths =
+				new GraphPathSearch()
+					.findShortestPaths(start, List.of(microstep1, microstep3, unreachable), GraphPathSearch.WORKFLOW_EDGES);
+		
+		// Assert
+		assertEquals(2, paths.size());
+		assertEquals(2, paths.get(microstep1).getLength());
+		assertEquals(4, paths.get(microstep3).getLength());
+		assertSame(paths.get(microstep1), paths.get(microstep3).getParent().getParent());
+		assertFalse(paths.containsKey(unreachable));
+	}
+}
@@ -0,0 +1,104 @@
+package nl.ou.refactoring.advice;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.edges.workflow.GraphEdgePrecedes;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostep;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddClass;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepRemoveClass;
+
+public final class GraphSnapshotTests {
+	@Test
+	@DisplayName("Should number nodes and edge types densely and list outgoing and incoming edges per node")
+	public void freezeTest() {
+		// Arrange
+		final var graph = new Graph("Snapshot test");
+		final var addClassNode = new GraphNodeMicrostepAddClass(graph);
+		final var addMethodNode = new GraphNodeMicrostepAddMethod(graph);
+		final var removeClassNode = new GraphNodeMicrostepRemoveClass(graph);
+		final var precedesAddMethod = addClassNode.precedes(addMethodNode);
+		final var precedesRemoveClass = addClassNode.precedes(removeClassNode);
+		final var precedesRemoveClassFromMethod = addMethodNode.precedes(removeClassNode);
+
+		// Act
+		final var snapshot = graph.freeze();
+
+		// Assert
+		assertEquals(graph.getRefactoringName(), snapshot.getRefactoringName());
+		assertEquals(graph.getModificationCount(), snapshot.getModificationCount());
+		assertEquals(3, snapshot.getNodeCount());
+		assertEquals(3, snapshot.getEdgeCount());
+		assertEquals(1, snapshot.getEdgeTypeCount());
+		assertEquals(GraphEdgePrecedes.class, snapshot.getEdgeType(0));
+		assertEquals(0, snapshot.indexOfEdgeType(GraphEdgePrecedes.class));
+		assertEquals(-1, snapshot.indexOfEdgeType(GraphEdge.class));
+		final var addClass = snapshot.indexOf(addClassNode);
+		final var addMethod = snapshot.indexOf(addMethodNode);
+		final var removeClass = snapshot.indexOf(removeClassNode);
+		assertSame(addClassNode, snapshot.getNode(addClass));
+		assertSame(addMethodNode, snapshot.getNode(addMethod));
+		assertSame(removeClassNode, snapshot.getNode(removeClass));
+		assertEquals(Set.of(precedesAddMethod, precedesRemoveClass), outgoingEdges(snapshot, addClass));
+		assertEquals(Set.of(precedesRemoveClassFromMethod), outgoingEdges(snapshot, addMethod));
+		assertEquals(Set.of(), outgoingEdges(snapshot, removeClass));
+		assertEquals(Set.of(), incomingEdges(snapshot, addClass));
+		assertEquals(Set.of(precedesAddMethod), incomingEdges(snapshot, addMethod));
+		assertEquals(Set.of(precedesRemoveClass, precedesRemoveClassFromMethod), incomingEdges(snapshot, removeClass));
+		for (var edge = 0; edge < snapshot.getEdgeCount(); edge++) {
+			assertSame(snapshot.getEdge(edge).getSourceNode(), snapshot.getNode(snapshot.getEdgeSource(edge)));
+			assertSame(snapshot.getEdge(edge).getDestinationNode(), snapshot.getNode(snapshot.getEdgeDestination(edge)));
+			assertEquals(0, snapshot.getEdgeTypeIndex(edge));
+		}
+		assertArrayEquals(new int[] { addMethod }, snapshot.getNodeIndices(GraphNodeMicrostepAddMethod.class));
+		assertEquals(3, snapshot.getNodeIndices(GraphNodeMicrostep.class).length);
+	}
+
+	@Test
+	@DisplayName("Should return the same snapshot until the graph is modified")
+	public void freezeCachedTest() {
+		// Arrange
+		final var graph = new Graph("Snapshot cache test");
+		final var addClassNode = new GraphNodeMicrostepAddClass(graph);
+		final var snapshot = graph.freeze();
+
+		// Act
+		final var snapshotUnchanged = graph.freeze();
+		addClassNode.precedes(new GraphNodeMicrostepRemoveClass(graph));
+		final var snapshotChanged = graph.freeze();
+
+		// Assert
+		assertSame(snapshot, snapshotUnchanged);
+		assertNotSame(snapshot, snapshotChanged);
+		assertEquals(1, snapshot.getNodeCount());
+		assertEquals(0, snapshot.getEdgeCount());
+		assertEquals(2, snapshotChanged.getNodeCount());
+		assertEquals(1, snapshotChanged.getEdgeCount());
+	}
+
+	private static Set<GraphEdge> outgoingEdges(GraphSnapshot snapshot, int node) {
+		final var edges = new HashSet<GraphEdge>();
+		for (var edge = snapshot.getOutgoingStart(node); edge < snapshot.getOutgoingEnd(node); edge++) {
+			edges.add(snapshot.getEdge(edge));
+		}
+		return edges;
+	}
+
+	private static Set<GraphEdge> incomingEdges(GraphSnapshot snapshot, int node) {
+		final var edges = new HashSet<GraphEdge>();
+		for (var position = snapshot.getIncomingStart(node); position < snapshot.getIncomingEnd(node); position++) {
+			edges.add(snapshot.getEdge(snapshot.getIncomingEdge(position)));
+		}
+		return edges;
+	}
+}
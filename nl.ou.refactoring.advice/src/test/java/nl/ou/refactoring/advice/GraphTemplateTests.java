@@ -0,0 +1,115 @@
+package nl.ou.refactoring.advice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.edges.workflow.GraphEdgeInitiates;
+import nl.ou.refactoring.advice.edges.workflow.GraphEdgePrecedes;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeAttribute;
+import nl.ou.refactoring.advice.nodes.code.tokens.GraphNodeIdentifier;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddField;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepRemoveMethod;
+
+public final class GraphTemplateTests {
+	@Test
+	@DisplayName("Should instantiate independent graphs with the structure of the template")
+	public void instantiateTest() {
+		// Arrange
+		final var template = GraphTemplates.getTemplate(GraphTemplates.MOVE_METHOD).orElseThrow();
+		final var original = GraphTemplates.moveMethod();
+
+		// Act
+		final var first = template.instantiate();
+		final var second = template.instantiate("Move Method copy");
+
+		// Assert
+		assertEquals(original.getRefactoringName(), first.getRefactoringName());
+		assertEquals("Move Method copy", second.getRefactoringName());
+		assertEquals(countNodes(original), countNodes(first));
+		assertEquals(countEdges(original), countEdges(first));
+		assertEquals(countEdges(original), countEdges(second));
+		assertTrue(first.getNodes().stream().noneMatch(second.getNodes()::contains));
+		for (final var node : first.getNodes()) {
+			assertSame(first, node.getGraph());
+		}
+	}
+
+	@Test
+	@DisplayName("Should not duplicate the edges that cloned nodes create themselves")
+	public void instantiateEdgesCreatedByNodesTest() {
+		// Arrange
+		final var graph = new Graph("Add Field");
+		final var start = graph.start();
+		final var addField = new GraphNodeMicrostepAddField(graph);
+		start.initiates(addField);
+		addField.adds(new GraphNodeAttribute(graph, new GraphNodeIdentifier(graph, "field")));
+		final var template = new GraphTemplate(graph);
+
+		// Act
+		final var instance = template.instantiate();
+
+		// Assert
+		assertEquals(graph.getEdges().size(), instance.getEdges().size());
+		assertEquals(graph.clone("Add Field clone").getEdges().size(), instance.getEdges().size());
+		assertEquals(countEdges(graph), countEdges(instance));
+	}
+
+	@Test
+	@DisplayName("Should parse a default template only once")
+	public void getTemplateCachedTest() {
+		// Act
+		final var first = GraphTemplates.getTemplate(GraphTemplates.RENAME_FIELD).orElseThrow();
+		final var second = GraphTemplates.getTemplate(GraphTemplates.RENAME_FIELD).orElseThrow();
+
+		// Assert
+		assertSame(first, second);
+		assertNotSame(GraphTemplates.renameField(), GraphTemplates.renameField());
+	}
+
+	@Test
+	@DisplayName("Should register and unregister templates at runtime")
+	public void registerTest() {
+		// Arrange
+		final var name = "Replace Method";
+		final var graph = new Graph(name);
+		final var start = graph.start();
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var removeMethod = new GraphNodeMicrostepRemoveMethod(graph);
+		start.initiates(addMethod);
+		addMethod.precedes(removeMethod);
+
+		// Act
+		GraphTemplates.register(name, graph);
+		final var instance = GraphTemplates.getTemplate(name).orElseThrow().instantiate();
+		final var unregistered = GraphTemplates.unregister(name);
+
+		// Assert
+		assertEquals(3, instance.getNodes().size());
+		assertEquals(1, instance.getEdges(GraphEdgeInitiates.class).size());
+		assertEquals(1, instance.getEdges(GraphEdgePrecedes.class).size());
+		assertTrue(unregistered);
+		assertFalse(GraphTemplates.getTemplate(name).isPresent());
+	}
+
+	private static Map<Class<?>, Integer> countNodes(Graph graph) {
+		final var counts = new HashMap<Class<?>, Integer>();
+		graph.getNodes().forEach(node -> counts.merge(node.getClass(), 1, Integer::sum));
+		return counts;
+	}
+
+	private static Map<Class<?>, Integer> countEdges(Graph graph) {
+		final var counts = new HashMap<Class<?>, Integer>();
+		graph.getEdges().forEach(edge -> counts.merge(edge.getClass(), 1, Integer::sum));
+		return counts;
+	}
+}
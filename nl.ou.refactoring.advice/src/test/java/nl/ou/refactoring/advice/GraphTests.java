@@ -5,10 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +28,7 @@ import nl.ou.refactoring.advice.edges.workflow.GraphEdgeInitiates;
 import nl.ou.refactoring.advice.edges.workflow.GraphEdgePrecedes;
 import nl.ou.refactoring.advice.nodes.GraphNode;
 import nl.ou.refactoring.advice.nodes.code.GraphNodePackage;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeType;
 import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
 import nl.ou.refactoring.advice.nodes.code.tokens.GraphNodeIdentifier;
 import nl.ou.refactoring.advice.nodes.workflow.GraphNodeRefactoringStart;
@@ -69,6 +78,27 @@ public final class GraphTests {
 		assertEquals(2, nodes.size());
 	}
 	
+	@Test
+	@DisplayName("Should reflect added and removed nodes in the nodes of a particular node type")
+	public void getNodesOfTypeLiveViewTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var microsteps = graph.getNodes(GraphNodeMicrostep.class);
+		final var addMethodsExact = graph.getNodesExact(GraphNodeMicrostepAddMethod.class);
+		
+		// Act
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		new GraphNodeMicrostepRemoveMethod(graph);
+		final var sizeAfterAdding = microsteps.size();
+		graph.removeNodes(GraphNodeMicrostepRemoveMethod.class);
+		
+		// Assert
+		assertEquals(2, sizeAfterAdding);
+		assertEquals(Set.of(addMethod), microsteps);
+		assertEquals(Set.of(addMethod), addMethodsExact);
+		assertTrue(graph.getNodesExact(GraphNodeMicrostep.class).isEmpty());
+	}
+	
 	@Test
 	@DisplayName("Should correctly find a node by its path")
 	public void getNodeFoundTest() {
@@ -171,6 +201,71 @@ public final class GraphTests {
 		assertArrayEquals(edgesBefore, edgesAfter);
 	}
 	
+	@Test
+	@DisplayName("Should retrieve nodes and edges by their unique identifiers")
+	public void getNodeAndEdgeByIdentifierTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var removeMethod = new GraphNodeMicrostepRemoveMethod(graph);
+		final var precedes = addMethod.precedes(removeMethod);
+		
+		// Act
+		final var nodeFound = graph.getNode(removeMethod.getId());
+		final var edgeFound = graph.getEdge(precedes.getId());
+		final var nodeNotFound = graph.getNode(UUID.randomUUID());
+		
+		// Assert
+		assertSame(removeMethod, nodeFound);
+		assertSame(precedes, edgeFound.get());
+		assertNull(nodeNotFound);
+	}
+	
+	@Test
+	@DisplayName("Should keep incoming edges and edge types in step when removing nodes")
+	public void removeNodesUpdatesIncomingEdgesTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var startNode = graph.start();
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var removeMethod = new GraphNodeMicrostepRemoveMethod(graph);
+		final var initiates = startNode.initiates(addMethod);
+		final var precedes = addMethod.precedes(removeMethod);
+		
+		// Act
+		final var incomingBefore = removeMethod.getEdgesIncoming(GraphEdgePrecedes.class);
+		graph.removeNodes(GraphNodeMicrostepAddMethod.class);
+		
+		// Assert
+		assertEquals(Set.of(precedes), incomingBefore);
+		assertTrue(removeMethod.getEdgesIncoming().isEmpty());
+		assertTrue(graph.getEdges(GraphEdgePrecedes.class).isEmpty());
+		assertFalse(graph.containsEdge(initiates));
+		assertTrue(graph.getEdge(precedes.getId()).isEmpty());
+		assertNull(graph.getNode(addMethod.getId()));
+		assertEquals(0, graph.getEdges().size());
+	}
+	
+	@Test
+	@DisplayName("Should retrieve edges that are assignable to a particular edge type")
+	public void getEdgesOfTypeTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var startNode = graph.start();
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var removeMethod = new GraphNodeMicrostepRemoveMethod(graph);
+		final var initiates = startNode.initiates(addMethod);
+		final var precedes = addMethod.precedes(removeMethod);
+		
+		// Act
+		final var edgesInitiates = graph.getEdges(GraphEdgeInitiates.class);
+		final var edgesAll = graph.getEdges(GraphEdge.class);
+		
+		// Assert
+		assertEquals(Set.of(initiates), edgesInitiates);
+		assertEquals(Set.of(initiates, precedes), edgesAll);
+	}
+	
 	@Test
 	@DisplayName("Should clone the graph")
 	public void cloneTest() {
@@ -189,4 +284,391 @@ public final class GraphTests {
 		// Assert
 		assertNotNull(graphClone);
 	}
-}
\ No newline at end of file
+	
+	@Test
+	@DisplayName("Should clone the graph concurrently into the same nodes and edges, sharing identifiers")
+	public void cloneConcurrentlyTest() {
+		// Arrange
+		final var graph = new Graph("Clone test original");
+		final var packageNode = new GraphNodePackage(graph, new GraphNodeIdentifier(graph, "employees"));
+		for (var i = 0; i < 100; i++) {
+			packageNode.computeClassNode(new GraphNodeIdentifier(graph, "Employee" + i));
+		}
+		new GraphNodeIdentifier(graph, "Employee0");
+		
+		// Act
+		final var graphClone = graph.clone("Clone test cloned");
+		final Graph graphCloneConcurrent;
+		try (final var executor = Executors.newFixedThreadPool(2)) {
+			graphCloneConcurrent = graph.cloneConcurrently("Clone test cloned concurrently", executor);
+		}
+		
+		// Assert
+		assertEquals(graph.getEdges(GraphEdge.class).size(), graphClone.getEdges(GraphEdge.class).size());
+		assertEquals(graph.getEdges(GraphEdge.class).size(), graphCloneConcurrent.getEdges(GraphEdge.class).size());
+		assertEquals(102, graph.getNodes(GraphNodeIdentifier.class).size());
+		assertEquals(101, graphClone.getNodes(GraphNodeIdentifier.class).size());
+		assertEquals(101, graphCloneConcurrent.getNodes(GraphNodeIdentifier.class).size());
+		assertTrue(graphCloneConcurrent.getNode("employees.Employee99", GraphNodeClass.class).isPresent());
+	}
+	
+	@Test
+	@DisplayName("Should record the changes of a fork without changing its parent")
+	public void forkTest() {
+		// Arrange
+		final var graph = new Graph("Fork test parent");
+		final var addClassNode = new GraphNodeMicrostepAddClass(graph);
+		final var removeClassNode = new GraphNodeMicrostepRemoveClass(graph);
+		final var precedes = addClassNode.precedes(removeClassNode);
+		
+		// Act
+		final var fork = graph.fork("Fork test fork");
+		final var addMethodNode = new GraphNodeMicrostepAddMethod(fork);
+		final var precedesFork = fork.addEdge(new GraphEdgePrecedes(removeClassNode, addMethodNode));
+		fork.removeNodes(GraphNodeMicrostepAddClass.class);
+		
+		// Assert
+		assertSame(graph, fork.getParent().get());
+		assertTrue(graph.getParent().isEmpty());
+		assertEquals(Set.of(addClassNode, removeClassNode), graph.getNodes());
+		assertEquals(Set.of(precedes), graph.getEdges());
+		assertEquals(Set.of(removeClassNode, addMethodNode), fork.getNodes());
+		assertEquals(Set.of(precedesFork), fork.getEdges());
+		assertEquals(Set.of(addMethodNode), fork.getNodes(GraphNodeMicrostepAddMethod.class));
+		assertEquals(2, fork.getNodes(GraphNodeMicrostep.class).size());
+		assertTrue(fork.getEdgesTo(removeClassNode).isEmpty());
+		assertEquals(Set.of(precedesFork), fork.getEdgesFrom(removeClassNode));
+		assertEquals(removeClassNode, fork.getNode(removeClassNode.getId()));
+		assertNull(fork.getNode(addClassNode.getId()));
+	}
+	
+	@Test
+	@DisplayName("Should apply the changes of a fork to its parent when committed")
+	public void forkCommitTest() {
+		// Arrange
+		final var graph = new Graph("Fork test parent");
+		final var addClassNode = new GraphNodeMicrostepAddClass(graph);
+		final var removeClassNode = new GraphNodeMicrostepRemoveClass(graph);
+		addClassNode.precedes(removeClassNode);
+		final var fork = graph.fork("Fork test fork");
+		final var addMethodNode = new GraphNodeMicrostepAddMethod(fork);
+		final var precedesFork = fork.addEdge(new GraphEdgePrecedes(removeClassNode, addMethodNode));
+		fork.removeNodes(GraphNodeMicrostepAddClass.class);
+		
+		// Act
+		fork.commit();
+		
+		// Assert
+		assertEquals(Set.of(removeClassNode, addMethodNode), graph.getNodes());
+		assertEquals(Set.of(precedesFork), graph.getEdges());
+		assertEquals(graph.getNodes(), fork.getNodes());
+		assertEquals(graph.getEdges(), fork.getEdges());
+	}
+	
+	@Test
+	@DisplayName("Should drop the changes of a fork when discarded")
+	public void forkDiscardTest() {
+		// Arrange
+		final var graph = new Graph("Fork test parent");
+		final var addClassNode = new GraphNodeMicrostepAddClass(graph);
+		final var removeClassNode = new GraphNodeMicrostepRemoveClass(graph);
+		final var precedes = addClassNode.precedes(removeClassNode);
+		final var fork = graph.fork("Fork test fork");
+		new GraphNodeMicrostepAddMethod(fork);
+		fork.removeNodes(GraphNodeMicrostepAddClass.class);
+		
+		// Act
+		fork.discard();
+		
+		// Assert
+		assertEquals(Set.of(addClassNode, removeClassNode), fork.getNodes());
+		assertEquals(Set.of(precedes), fork.getEdges());
+		assertEquals(Set.of(addClassNode, removeClassNode), graph.getNodes());
+	}
+	
+	@Test
+	@DisplayName("Should move the nodes created in a fork to its parent when committed")
+	public void forkCommitNodeGraphTest() {
+		// Arrange
+		final var graph = new Graph("Fork test parent");
+		final var removeClassNode = new GraphNodeMicrostepRemoveClass(graph);
+		final var fork = graph.fork("Fork test fork");
+		final var addMethodNode = new GraphNodeMicrostepAddMethod(fork);
+		
+		// Act
+		final var precedesFork = removeClassNode.precedes(addMethodNode);
+		final var graphEdgesBeforeCommit = Set.copyOf(graph.getEdges());
+		fork.commit();
+		final var precedes = addMethodNode.precedes(new GraphNodeMicrostepAddClass(graph));
+		
+		// Assert
+		assertEquals(Set.of(), graphEdgesBeforeCommit);
+		assertSame(graph, addMethodNode.getGraph());
+		assertEquals(Set.of(precedesFork, precedes), graph.getEdges());
+		assertEquals(graph.getEdges(), fork.getEdges());
+	}
+	
+	@Test
+	@DisplayName("Should report every restored edge once when a fork is discarded")
+	public void forkDiscardChangeListenerTest() {
+		// Arrange
+		final var graph = new Graph("Fork test parent");
+		final var addClassNode = new GraphNodeMicrostepAddClass(graph);
+		final var removeClassNode = new GraphNodeMicrostepRemoveClass(graph);
+		final var precedes = addClassNode.precedes(removeClassNode);
+		final var fork = graph.fork("Fork test fork");
+		fork.removeNodes(GraphNodeMicrostepAddClass.class);
+		fork.removeNodes(GraphNodeMicrostepRemoveClass.class);
+		final var edgesAdded = new ArrayList<GraphEdge>();
+		fork.addChangeListener(new GraphChangeListener() {
+			@Override
+			public void edgeAdded(GraphEdge edge) {
+				edgesAdded.add(edge);
+			}
+		});
+		
+		// Act
+		fork.discard();
+		
+		// Assert
+		assertEquals(List.of(precedes), edgesAdded);
+	}
+	
+	@Test
+	@DisplayName("Should not commit a fork after its parent was modified")
+	public void forkCommitParentModifiedTest() {
+		// Arrange
+		final var graph = new Graph("Fork test parent");
+		final var fork = graph.fork("Fork test fork");
+		new GraphNodeMicrostepAddMethod(fork);
+		new GraphNodeMicrostepAddClass(graph);
+		
+		// Act & Assert
+		assertThrows(GraphForkParentModifiedException.class, () -> fork.commit());
+		assertThrows(IllegalStateException.class, () -> graph.commit());
+	}
+	
+	@Test
+	@DisplayName("Should commit a fork again after it was discarded, even though its parent was modified")
+	public void forkDiscardParentModifiedTest() {
+		// Arrange
+		final var graph = new Graph("Fork test parent");
+		final var fork = graph.fork("Fork test fork");
+		new GraphNodeMicrostepAddMethod(fork);
+		final var addClassNode = new GraphNodeMicrostepAddClass(graph);
+		
+		// Act
+		fork.discard();
+		final var removeClassNode = new GraphNodeMicrostepRemoveClass(fork);
+		fork.commit();
+		
+		// Assert
+		assertEquals(Set.of(addClassNode, removeClassNode), graph.getNodes());
+	}
+	
+	@Test
+	@DisplayName("Should keep the changes of a fork when committing them fails")
+	public void forkCommitFailedTest() {
+		// Arrange
+		final var graph = new Graph("Fork test parent");
+		final var fork = graph.fork("Fork test fork");
+		final var addMethodNode = new GraphNodeMicrostepAddMethod(fork);
+		final var failure = new IllegalStateException("Listener failed");
+		graph.addChangeListener(new GraphChangeListener() {
+			@Override
+			public void nodeAdded(GraphNode node) {
+				throw failure;
+			}
+		});
+		final var nodesDiscarded = new ArrayList<GraphNode>();
+		fork.addChangeListener(new GraphChangeListener() {
+			@Override
+			public void nodeRemoved(GraphNode node) {
+				nodesDiscarded.add(node);
+			}
+		});
+		
+		// Act
+		final var exception = assertThrows(IllegalStateException.class, () -> fork.commit());
+		fork.discard();
+		
+		// Assert
+		assertSame(failure, exception);
+		assertEquals(List.of(addMethodNode), nodesDiscarded);
+	}
+	
+	@Test
+	@DisplayName("Should increase the modification count only when the graph changes")
+	public void getModificationCountTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var initial = graph.getModificationCount();
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var removeMethod = new GraphNodeMicrostepRemoveMethod(graph);
+		final var afterNodes = graph.getModificationCount();
+		
+		// Act
+		addMethod.precedes(removeMethod);
+		final var afterEdge = graph.getModificationCount();
+		addMethod.precedes(removeMethod);
+		graph.addNode(addMethod);
+		final var afterExisting = graph.getModificationCount();
+		graph.removeNodes(GraphNodeMicrostepRemoveMethod.class);
+		final var afterRemoval = graph.getModificationCount();
+		
+		// Assert
+		assertEquals(initial + 2, afterNodes);
+		assertEquals(afterNodes + 1, afterEdge);
+		assertEquals(afterEdge, afterExisting);
+		assertTrue(afterRemoval > afterExisting);
+	}
+	
+	@Test
+	@DisplayName("Should notify change listeners of every node and edge added or removed")
+	public void addChangeListenerTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var removeMethod = new GraphNodeMicrostepRemoveMethod(graph);
+		final var events = new StringBuilder();
+		final var changeListener = new GraphChangeListener() {
+			@Override
+			public void nodeAdded(GraphNode node) {
+				events.append("+N");
+			}
+
+			@Override
+			public void nodeRemoved(GraphNode node) {
+				events.append("-N");
+			}
+
+			@Override
+			public void edgeAdded(GraphEdge edge) {
+				events.append("+E");
+			}
+
+			@Override
+			public void edgeRemoved(GraphEdge edge) {
+				events.append("-E");
+			}
+		};
+		graph.addChangeListener(changeListener);
+
+		// Act
+		addMethod.precedes(removeMethod);
+		addMethod.precedes(removeMethod);
+		graph.removeNodes(GraphNodeMicrostepRemoveMethod.class);
+		final var removed = graph.removeChangeListener(changeListener);
+		graph.addNode(removeMethod);
+
+		// Assert
+		assertTrue(removed);
+		assertEquals("+E-E-N", events.toString());
+	}
+
+	@Test
+	@DisplayName("Should serve a derived view from the cache until the graph changes")
+	public void getDerivedViewTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var computations = new int[1];
+		final var view = new GraphDerivedView<Integer>(g -> {
+			computations[0]++;
+			return g.getNodes().size();
+		});
+		new GraphNodeMicrostepAddMethod(graph);
+		
+		// Act
+		final var first = graph.getDerivedView(view);
+		final var second = graph.getDerivedView(view);
+		new GraphNodeMicrostepRemoveMethod(graph);
+		final var third = graph.getDerivedView(view);
+		
+		// Assert
+		assertEquals(1, first);
+		assertEquals(1, second);
+		assertEquals(2, third);
+		assertEquals(2, computations[0]);
+	}
+	
+	@Test
+	@DisplayName("Should find or create edges atomically when several threads populate a concurrent graph")
+	public void concurrentComputeEdgeTest() {
+		// Arrange
+		final var graph = Graph.concurrent("Concurrent test");
+		final var sharedNodes = new ArrayList<GraphNodeMicrostep>();
+		for (var i = 0; i < 20; i++) {
+			sharedNodes.add(new GraphNodeMicrostepAddMethod(graph));
+		}
+		final var threadCount = 8;
+		
+		// Act
+		final var futures = new ArrayList<CompletableFuture<List<GraphEdgePrecedes>>>();
+		try (final var executor = Executors.newFixedThreadPool(threadCount)) {
+			for (var thread = 0; thread < threadCount; thread++) {
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					final var edges = new ArrayList<GraphEdgePrecedes>();
+					for (var i = 0; i + 1 < sharedNodes.size(); i++) {
+						final var ownNode = new GraphNodeMicrostepRemoveMethod(graph);
+						graph.addEdge(new GraphEdgePrecedes(ownNode, sharedNodes.get(i)));
+						edges.add(
+							graph.computeEdge(
+								sharedNodes.get(i),
+								sharedNodes.get(i + 1),
+								(source, destination) -> new GraphEdgePrecedes(source, destination),
+								GraphEdgePrecedes.class));
+					}
+					return edges;
+				}, executor));
+			}
+		}
+		
+		// Assert
+		assertTrue(graph.isConcurrent());
+		final var edgesFirst = futures.getFirst().join();
+		for (final var future : futures) {
+			final var edges = future.join();
+			for (var i = 0; i < edges.size(); i++) {
+				assertSame(edgesFirst.get(i), edges.get(i));
+			}
+		}
+		assertEquals(20 + threadCount * 19, graph.getNodes().size());
+		assertEquals(threadCount * 19, graph.getNodes(GraphNodeMicrostepRemoveMethod.class).size());
+		assertEquals(19 + threadCount * 19, graph.getEdges().size());
+		assertEquals(threadCount + 1, graph.getEdgesTo(sharedNodes.get(1)).size());
+		assertFalse(graph.fork("Concurrent test fork").isConcurrent());
+	}
+	
+	@Test
+	@DisplayName("Should find or create nodes atomically when several threads populate a concurrent graph")
+	public void concurrentComputeNodeTest() {
+		// Arrange
+		final var graph = Graph.concurrent("Concurrent test");
+		final var threadCount = 8;
+		
+		// Act
+		final var typeFutures = new ArrayList<CompletableFuture<GraphNodeType>>();
+		final var packageFutures = new ArrayList<CompletableFuture<GraphNodePackage>>();
+		try (final var executor = Executors.newFixedThreadPool(threadCount)) {
+			for (var thread = 0; thread < threadCount; thread++) {
+				typeFutures.add(CompletableFuture.supplyAsync(() -> GraphNodeType.computeType(graph, "int"), executor));
+				packageFutures.add(
+					CompletableFuture.supplyAsync(
+						() -> GraphNodePackage.parse(graph, "nl.ou.refactoring").computeClassNode(
+							new GraphNodeIdentifier(graph, "Employee")).getPackageNode().orElseThrow(),
+						executor));
+			}
+		}
+		
+		// Assert
+		for (final var future : typeFutures) {
+			assertSame(typeFutures.getFirst().join(), future.join());
+		}
+		for (final var future : packageFutures) {
+			assertSame(packageFutures.getFirst().join(), future.join());
+		}
+		assertEquals(1, graph.getNodes(GraphNodeType.class).size());
+		assertEquals(3, graph.getNodes(GraphNodePackage.class).size());
+		assertEquals(1, graph.getNodes(GraphNodeClass.class).size());
+	}
+}
@@ -0,0 +1,49 @@
+package nl.ou.refactoring.advice.edges;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.edges.workflow.GraphEdgeInitiates;
+import nl.ou.refactoring.advice.nodes.workflow.GraphNodeRefactoringStart;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
+
+public final class GraphEdgeFactoriesTests {
+	@Test
+	@DisplayName("Should construct an edge through a factory that matches the node classes")
+	public void findMatchingFactoryTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var start = graph.start();
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		
+		// Act
+		final var factory =
+				GraphEdgeFactories.find(
+					GraphEdgeInitiates.class,
+					GraphNodeRefactoringStart.class,
+					GraphNodeMicrostepAddMethod.class);
+		final var edge = factory.orElseThrow().create(start, addMethod);
+		
+		// Assert
+		assertSame(start, edge.getSourceNode());
+		assertSame(addMethod, edge.getDestinationNode());
+	}
+	
+	@Test
+	@DisplayName("Should not find a factory if no constructor accepts the node classes")
+	public void findNoMatchingFactoryTest() {
+		// Act
+		final var factory =
+				GraphEdgeFactories.find(
+					GraphEdgeInitiates.class,
+					GraphNodeMicrostepAddMethod.class,
+					GraphNodeRefactoringStart.class);
+		
+		// Assert
+		assertTrue(factory.isEmpty());
+	}
+}
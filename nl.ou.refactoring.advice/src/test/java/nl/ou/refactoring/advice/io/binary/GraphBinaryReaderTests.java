@@ -0,0 +1,135 @@
+package nl.ou.refactoring.advice.io.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeType;
+import nl.ou.refactoring.advice.nodes.workflow.RefactoringMayContainOnlyOneStartNodeException;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddExpression;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
+
+public final class GraphBinaryReaderTests {
+	@Test
+	@DisplayName("Should read a graph back from a binary snapshot in a buffer")
+	public void readBufferTest()
+			throws RefactoringMayContainOnlyOneStartNodeException {
+		// Arrange
+		final var graphExpected = createSampleGraph();
+		final var outputStream = new ByteArrayOutputStream();
+		new GraphBinaryWriter(outputStream).write(graphExpected);
+		final var graphBinaryReader = new GraphBinaryReader(ByteBuffer.wrap(outputStream.toByteArray()));
+		
+		// Act
+		final var graphActual = graphBinaryReader.read();
+		
+		// Assert
+		assertEquals(graphExpected.getRefactoringName(), graphActual.getRefactoringName());
+		assertEquals(countEdgeTypes(graphExpected), countEdgeTypes(graphActual));
+		assertEquals(graphExpected.getNodes().size(), graphActual.getNodes().size());
+	}
+	
+	@Test
+	@DisplayName("Should connect every edge read back to the same endpoints, even next to nodes that compare equal")
+	public void readEdgeEndpointsTest()
+			throws RefactoringMayContainOnlyOneStartNodeException {
+		// Arrange
+		final var graphExpected = new Graph("Sample graph");
+		new GraphNodeType(graphExpected, "int");
+		new GraphNodeType(graphExpected, "int");
+		final var start = graphExpected.start();
+		final var addMethod = new GraphNodeMicrostepAddMethod(graphExpected);
+		final var addExpression = new GraphNodeMicrostepAddExpression(graphExpected);
+		start.initiates(addMethod);
+		addMethod.precedes(addExpression);
+		addExpression.finalises();
+		final var outputStream = new ByteArrayOutputStream();
+		new GraphBinaryWriter(outputStream).write(graphExpected);
+		final var graphBinaryReader = new GraphBinaryReader(ByteBuffer.wrap(outputStream.toByteArray()));
+		
+		// Act
+		final var graphActual = graphBinaryReader.read();
+		
+		// Assert
+		assertEquals(describeEdges(graphExpected), describeEdges(graphActual));
+	}
+	
+	@Test
+	@DisplayName("Should read a graph back from a memory-mapped binary snapshot file")
+	public void readFileTest(@TempDir Path directory)
+			throws IOException, RefactoringMayContainOnlyOneStartNodeException {
+		// Arrange
+		final var graphExpected = createSampleGraph();
+		final var path = directory.resolve("sample.ragb");
+		try (final var outputStream = Files.newOutputStream(path)) {
+			new GraphBinaryWriter(outputStream).write(graphExpected);
+		}
+		final var graphBinaryReader = new GraphBinaryReader(path);
+		
+		// Act
+		final var graphActual = graphBinaryReader.read();
+		
+		// Assert
+		assertEquals(countEdgeTypes(graphExpected), countEdgeTypes(graphActual));
+	}
+	
+	@Test
+	@DisplayName("Should reject data that is not a binary snapshot")
+	public void readInvalidTest() {
+		// Arrange
+		final var graphBinaryReader = new GraphBinaryReader(ByteBuffer.wrap("{}".getBytes()));
+		
+		// Act & Assert
+		assertThrows(GraphBinaryReaderInvalidFormatException.class, graphBinaryReader::read);
+	}
+	
+	private static Graph createSampleGraph()
+			throws RefactoringMayContainOnlyOneStartNodeException {
+		final var graph = new Graph("Sample graph");
+		final var start = graph.start();
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var addExpression = new GraphNodeMicrostepAddExpression(graph);
+		start.initiates(addMethod);
+		addMethod.precedes(addExpression);
+		addExpression.finalises();
+		return graph;
+	}
+	
+	private static List<String> describeEdges(Graph graph) {
+		final List<String> descriptions = new ArrayList<>();
+		for (final var edge : graph.getEdges()) {
+			descriptions.add(
+					edge.getSourceNode().getClass().getName() + "(" + edge.getSourceNode().getCaption() + ")-" +
+					edge.getClass().getName() + "-" +
+					edge.getDestinationNode().getClass().getName() + "(" + edge.getDestinationNode().getCaption() + ")");
+		}
+		descriptions.sort(null);
+		return descriptions;
+	}
+	
+	private static Map<String, Integer> countEdgeTypes(Graph graph) {
+		final Map<String, Integer> counts = new HashMap<>();
+		for (final var edge : graph.getEdges()) {
+			final var key =
+					edge.getSourceNode().getClass().getName() + "-" +
+					edge.getClass().getName() + "-" +
+					edge.getDestinationNode().getClass().getName();
+			counts.merge(key, 1, Integer::sum);
+		}
+		return counts;
+	}
+}
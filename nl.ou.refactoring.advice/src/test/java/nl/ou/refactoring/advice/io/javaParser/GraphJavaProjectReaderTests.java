@@ -0,0 +1,136 @@
+package nl.ou.refactoring.advice.io.javaParser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.edges.code.operations.expressions.GraphEdgeInvokes;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
+import nl.ou.refactoring.advice.nodes.code.GraphNodePackage;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeType;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
+
+public final class GraphJavaProjectReaderTests {
+	private static final GraphJavaReaderResolutionProvider RESOLUTION_PROVIDER =
+		new GraphJavaReaderResolutionProvider() {
+			@Override
+			public <T extends GraphNodeCode> Optional<T> resolveByFullyQualifiedName(
+					Graph graph,
+					String fullyQualifiedName,
+					Class<T> resultType) {
+				return Optional.empty();
+			}
+		};
+
+	@DisplayName("Should read all source files of a project concurrently and resolve invocations across files")
+	@Test
+	public void readTest(@TempDir Path sourceRoot) throws IOException {
+		// Arrange
+		for (final var fileName : List.of("Company.java", "Employee.java", "LegacyEmployee.java")) {
+			final var sourceFile = sourceRoot.resolve("employees").resolve(fileName);
+			Files.createDirectories(sourceFile.getParent());
+			try (InputStream inputStream =
+					this.getClass().getClassLoader().getResourceAsStream("javaParser/operations/employees/" + fileName)) {
+				Files.copy(inputStream, sourceFile);
+			}
+		}
+		final var sourceFiles = GraphJavaProjectReader.findSourceFiles(sourceRoot);
+		final var graph = new Graph("Employees test");
+
+		// Act
+		try (final var executor = Executors.newFixedThreadPool(2)) {
+			new GraphJavaProjectReader(graph, RESOLUTION_PROVIDER, sourceFiles, executor).read();
+		}
+
+		// Assert
+		assertEquals(3, sourceFiles.size());
+		assertTrue(sourceFiles.get(0).endsWith(Path.of("employees", "Company.java")));
+		final var employeeClassNode =
+			graph.getNode("nl.ou.refactoring.advice.tests.Employee", GraphNodeClass.class).get();
+		final var getNameOperationNode = employeeClassNode.getOperationNode("getName", List.of()).get();
+		assertTrue(graph.getNode("nl.ou.refactoring.advice.tests.Company", GraphNodeClass.class).isPresent());
+		assertTrue(graph.getNode("nl.ou.refactoring.advice.tests.LegacyEmployee", GraphNodeClass.class).isPresent());
+		assertEquals(
+			1,
+			graph
+				.getEdges(GraphEdgeInvokes.class)
+				.stream()
+				.filter(edge -> edge.getDestinationNode() == getNameOperationNode)
+				.count());
+	}
+
+	@DisplayName("Should read the declarations of all source files concurrently into a concurrent graph")
+	@Test
+	public void readConcurrentTest(@TempDir Path sourceRoot) throws IOException {
+		// Arrange
+		for (final var fileName : List.of("Company.java", "Employee.java", "LegacyEmployee.java")) {
+			final var sourceFile = sourceRoot.resolve("employees").resolve(fileName);
+			Files.createDirectories(sourceFile.getParent());
+			try (InputStream inputStream =
+					this.getClass().getClassLoader().getResourceAsStream("javaParser/operations/employees/" + fileName)) {
+				Files.copy(inputStream, sourceFile);
+			}
+		}
+		final var sourceFiles = GraphJavaProjectReader.findSourceFiles(sourceRoot);
+		final var graphExpected = new Graph("Employees test");
+		new GraphJavaProjectReader(graphExpected, RESOLUTION_PROVIDER, sourceFiles).read();
+		final var graph = Graph.concurrent("Employees test");
+
+		// Act
+		try (final var executor = Executors.newFixedThreadPool(3)) {
+			new GraphJavaProjectReader(graph, RESOLUTION_PROVIDER, sourceFiles, executor).read();
+		}
+
+		// Assert
+		assertEquals(graphExpected.getNodes().size(), graph.getNodes().size());
+		assertEquals(graphExpected.getEdges().size(), graph.getEdges().size());
+		assertEquals(
+			graphExpected.getNodes(GraphNodePackage.class).size(),
+			graph.getNodes(GraphNodePackage.class).size());
+		assertEquals(graphExpected.getNodes(GraphNodeType.class).size(), graph.getNodes(GraphNodeType.class).size());
+		assertEquals(graphExpected.getEdges(GraphEdgeInvokes.class).size(), graph.getEdges(GraphEdgeInvokes.class).size());
+	}
+
+	@DisplayName("Should throw if a source file cannot be parsed and the reader is strict")
+	@Test
+	public void readParseFailedTest(@TempDir Path sourceRoot) throws IOException {
+		// Arrange
+		final var sourceFile = sourceRoot.resolve("Broken.java");
+		Files.writeString(sourceFile, "public class Broken {");
+		final var graph = new Graph("Broken test");
+		final var javaProjectReader = new GraphJavaProjectReader(graph, RESOLUTION_PROVIDER, List.of(sourceFile));
+		javaProjectReader.setStrict(true);
+
+		// Act & Assert
+		assertThrows(GraphJavaReaderParseFailedException.class, javaProjectReader::read);
+	}
+
+	@DisplayName("Should read the partial compilation unit of a source file with problems if the reader is not strict")
+	@Test
+	public void readParseProblemsTest(@TempDir Path sourceRoot) throws IOException {
+		// Arrange
+		final var sourceFile = sourceRoot.resolve("Broken.java");
+		Files.writeString(sourceFile, "package broken; public class Broken { private int count; public void reset() { count = ; } }");
+		final var graph = new Graph("Broken test");
+		final var javaProjectReader = new GraphJavaProjectReader(graph, RESOLUTION_PROVIDER, List.of(sourceFile));
+
+		// Act
+		javaProjectReader.read();
+
+		// Assert
+		assertTrue(graph.getNode("broken.Broken", GraphNodeClass.class).isPresent());
+	}
+}
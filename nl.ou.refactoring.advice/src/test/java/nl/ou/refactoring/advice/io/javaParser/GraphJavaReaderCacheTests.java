@@ -0,0 +1,168 @@
+package nl.ou.refactoring.advice.io.javaParser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.edges.code.operations.expressions.GraphEdgeInvokes;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
+import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation;
+
+public final class GraphJavaReaderCacheTests {
+	private static final String PACKAGE_NAME = "nl.ou.refactoring.advice.tests";
+
+	@DisplayName("Should graft an unchanged source file and the source files it resolved without parsing them again")
+	@Test
+	public void readTest(@TempDir Path sourceRoot) throws IOException {
+		// Arrange
+		copySources(sourceRoot);
+		final var cache = new GraphJavaReaderCache(16);
+		final var resolutions = new AtomicInteger();
+		final var resolutionProvider = new SourceRootResolutionProvider(cache, sourceRoot, resolutions);
+		final var graphFirst = cache.read(new Graph("First"), resolutionProvider, sourceRoot.resolve("Company.java"));
+		final var resolutionsFirst = resolutions.get();
+
+		// Act
+		final var graphSecond = cache.read(new Graph("Second"), resolutionProvider, sourceRoot.resolve("Company.java"));
+
+		// Assert
+		assertEquals(1, resolutionsFirst);
+		assertEquals(resolutionsFirst, resolutions.get());
+		assertEquals(graphFirst.getNodes().size(), graphSecond.getNodes().size());
+		assertEquals(graphFirst.getEdges().size(), graphSecond.getEdges().size());
+		assertEquals(1, countInvocations(graphSecond, "Employee", "getName"));
+	}
+
+	@DisplayName("Should reuse the classes and operations that the graph already has when grafting")
+	@Test
+	public void readGraftTest(@TempDir Path sourceRoot) throws IOException {
+		// Arrange
+		copySources(sourceRoot);
+		final var cache = new GraphJavaReaderCache(16);
+		final var resolutionProvider = new SourceRootResolutionProvider(cache, sourceRoot, new AtomicInteger());
+		cache.read(new Graph("Warm up"), resolutionProvider, sourceRoot.resolve("Company.java"));
+		final var graph = new Graph("Graft test");
+		cache.read(graph, resolutionProvider, sourceRoot.resolve("Employee.java"));
+		final var operationCount = graph.getNodes(GraphNodeOperation.class).size();
+
+		// Act
+		cache.read(graph, resolutionProvider, sourceRoot.resolve("Company.java"));
+
+		// Assert
+		assertEquals(2, graph.getNodes(GraphNodeClass.class).size());
+		assertEquals(
+			operationCount + 2,
+			graph.getNodes(GraphNodeOperation.class).size());
+		assertEquals(1, countInvocations(graph, "Employee", "getName"));
+	}
+
+	@DisplayName("Should read a source file again once it, or a source file it resolved, has changed")
+	@Test
+	public void readChangedTest(@TempDir Path sourceRoot) throws IOException {
+		// Arrange
+		copySources(sourceRoot);
+		final var cache = new GraphJavaReaderCache(16);
+		final var resolutions = new AtomicInteger();
+		final var resolutionProvider = new SourceRootResolutionProvider(cache, sourceRoot, resolutions);
+		cache.read(new Graph("First"), resolutionProvider, sourceRoot.resolve("Company.java"));
+		final var employeeFile = sourceRoot.resolve("Employee.java");
+		Files.writeString(
+			employeeFile,
+			Files.readString(employeeFile).replace("public String getWorkplace()", "public String getOffice()"));
+
+		// Act
+		final var graph = cache.read(new Graph("Second"), resolutionProvider, sourceRoot.resolve("Company.java"));
+
+		// Assert
+		assertEquals(2, resolutions.get());
+		final var employeeClassNode = graph.getNode(PACKAGE_NAME + ".Employee", GraphNodeClass.class).get();
+		assertTrue(employeeClassNode.getOperationNode("getOffice", List.of()).isPresent());
+		assertTrue(employeeClassNode.getOperationNode("getWorkplace", List.of()).isEmpty());
+	}
+
+	@DisplayName("Should keep a source file that was touched but whose content is unchanged")
+	@Test
+	public void readTouchedTest(@TempDir Path sourceRoot) throws IOException {
+		// Arrange
+		copySources(sourceRoot);
+		final var cache = new GraphJavaReaderCache(16);
+		final var resolutions = new AtomicInteger();
+		final var resolutionProvider = new SourceRootResolutionProvider(cache, sourceRoot, resolutions);
+		cache.read(new Graph("First"), resolutionProvider, sourceRoot.resolve("Company.java"));
+		final var employeeFile = sourceRoot.resolve("Employee.java");
+		Files.setLastModifiedTime(
+			employeeFile,
+			FileTime.fromMillis(Files.getLastModifiedTime(employeeFile).toMillis() + 60_000));
+
+		// Act
+		final var graph = cache.read(new Graph("Second"), resolutionProvider, sourceRoot.resolve("Company.java"));
+
+		// Assert
+		assertEquals(1, resolutions.get());
+		assertEquals(1, countInvocations(graph, "Employee", "getName"));
+	}
+
+	private void copySources(Path sourceRoot) throws IOException {
+		for (final var fileName : List.of("Company.java", "Employee.java", "LegacyEmployee.java")) {
+			try (InputStream inputStream =
+					this.getClass().getClassLoader().getResourceAsStream("javaParser/operations/employees/" + fileName)) {
+				Files.copy(inputStream, sourceRoot.resolve(fileName));
+			}
+		}
+	}
+
+	private static long countInvocations(Graph graph, String className, String operationName) {
+		final var operationNode =
+			graph
+				.getNode(PACKAGE_NAME + "." + className, GraphNodeClass.class)
+				.get()
+				.getOperationNode(operationName, List.of())
+				.get();
+		return
+			graph
+				.getEdges(GraphEdgeInvokes.class)
+				.stream()
+				.filter(edge -> edge.getDestinationNode() == operationNode)
+				.count();
+	}
+
+	private static final class SourceRootResolutionProvider implements GraphJavaReaderResolutionProvider {
+		private final GraphJavaReaderCache cache;
+		private final Path sourceRoot;
+		private final AtomicInteger resolutions;
+
+		SourceRootResolutionProvider(GraphJavaReaderCache cache, Path sourceRoot, AtomicInteger resolutions) {
+			this.cache = cache;
+			this.sourceRoot = sourceRoot;
+			this.resolutions = resolutions;
+		}
+
+		@Override
+		public <T extends GraphNodeCode> Optional<T> resolveByFullyQualifiedName(
+				Graph graph,
+				String fullyQualifiedName,
+				Class<T> resultType) {
+			this.resolutions.incrementAndGet();
+			final var simpleName = fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1);
+			final var sourceFile = this.sourceRoot.resolve(simpleName + ".java");
+			if (!Files.isRegularFile(sourceFile)) {
+				return Optional.empty();
+			}
+			return this.cache.read(graph, this, sourceFile).getNode(fullyQualifiedName, resultType);
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package nl.ou.refactoring.advice.io.javaParser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.resolution.UnsolvedSymbolException;
+import com.github.javaparser.resolution.types.ResolvedArrayType;
+import com.github.javaparser.resolution.types.ResolvedPrimitiveType;
+import com.github.javaparser.resolution.types.ResolvedVoidType;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.io.javaParser.resolution.GraphResolvedClassDeclaration;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
+
+public final class GraphJavaReaderSymbolResolverTests {
+	private static final String SOURCE =
+		"""
+		package nl.ou.refactoring.advice.tests;
+
+		public final class Employee {
+			private Employee manager;
+			private int[] grades;
+
+			public Employee getManager() {
+				return manager;
+			}
+
+			public int getSalary() {
+				return 42;
+			}
+
+			public void promote() {
+				getManager().getSalary();
+				manager.getSalary();
+				unknown.getSalary();
+			}
+		}
+
+		interface Payable {
+			int getSalary();
+		}
+		""";
+
+	private static final GraphJavaReaderResolutionProvider RESOLUTION_PROVIDER =
+		new GraphJavaReaderResolutionProvider() {
+			@Override
+			public <T extends GraphNodeCode> Optional<T> resolveByFullyQualifiedName(
+					Graph graph,
+					String fullyQualifiedName,
+					Class<T> resultType) {
+				return Optional.empty();
+			}
+		};
+
+	@DisplayName("Should resolve Java Parser types from the graph")
+	@Test
+	public void toResolvedTypeTest() {
+		// Arrange
+		final var compilationUnit = parse(read());
+
+		// Act
+		final var managerType = findField(compilationUnit, "manager").getElementType().resolve();
+		final var gradesType = findField(compilationUnit, "grades").getVariable(0).getType().resolve();
+		final var promoteType = findMethod(compilationUnit, "promote").getType().resolve();
+
+		// Assert
+		assertEquals("nl.ou.refactoring.advice.tests.Employee", managerType.describe());
+		assertEquals(new ResolvedArrayType(ResolvedPrimitiveType.INT), gradesType);
+		assertEquals(ResolvedVoidType.INSTANCE, promoteType);
+	}
+
+	@DisplayName("Should calculate the types of literals, method invocations and their receivers from the graph")
+	@Test
+	public void calculateTypeTest() {
+		// Arrange
+		final var compilationUnit = parse(read());
+		final var getManagerCall = findMethodCall(compilationUnit, "getManager");
+		final var managerReceiver = findMethodCallReceiver(compilationUnit, "manager");
+		final var unknownReceiver = findMethodCallReceiver(compilationUnit, "unknown");
+
+		// Act
+		final var getManagerType = getManagerCall.calculateResolvedType();
+		final var getSalaryType = ((MethodCallExpr)getManagerCall.getParentNode().get()).calculateResolvedType();
+		final var managerType = managerReceiver.calculateResolvedType();
+		final var literalType = compilationUnit.findFirst(IntegerLiteralExpr.class).get().calculateResolvedType();
+
+		// Assert
+		assertEquals("nl.ou.refactoring.advice.tests.Employee", getManagerType.describe());
+		assertEquals(ResolvedPrimitiveType.INT, getSalaryType);
+		assertEquals("nl.ou.refactoring.advice.tests.Employee", managerType.describe());
+		assertEquals(ResolvedPrimitiveType.INT, literalType);
+		assertThrows(UnsolvedSymbolException.class, () -> unknownReceiver.calculateResolvedType());
+	}
+
+	@DisplayName("Should resolve class declarations to the class nodes in the graph")
+	@Test
+	public void toTypeDeclarationTest() {
+		// Arrange
+		final var graph = read();
+		final var symbolResolver = new GraphJavaReaderSymbolResolver(graph, RESOLUTION_PROVIDER);
+		final var employeeDeclaration = findTypeDeclaration(parse(graph), "Employee");
+
+		// Act
+		final var typeDeclaration = symbolResolver.toTypeDeclaration(employeeDeclaration);
+
+		// Assert
+		assertEquals("nl.ou.refactoring.advice.tests.Employee", typeDeclaration.getQualifiedName());
+		assertSame(
+			graph.getNode("nl.ou.refactoring.advice.tests.Employee", GraphNodeClass.class).get(),
+			((GraphResolvedClassDeclaration)typeDeclaration).getClassNode());
+	}
+
+	@DisplayName("Should not resolve interface declarations, nor class declarations that are absent from the graph")
+	@Test
+	public void toTypeDeclarationUnresolvedTest() {
+		// Arrange
+		final var symbolResolver = new GraphJavaReaderSymbolResolver(read(), RESOLUTION_PROVIDER);
+		final var symbolResolverEmpty = new GraphJavaReaderSymbolResolver(new Graph("Empty"), RESOLUTION_PROVIDER);
+		final var compilationUnit = parse(new Graph("Empty"));
+		final var payableDeclaration = findTypeDeclaration(compilationUnit, "Payable");
+		final var employeeDeclaration = findTypeDeclaration(compilationUnit, "Employee");
+
+		// Act & Assert
+		assertThrows(UnsolvedSymbolException.class, () -> symbolResolver.toTypeDeclaration(payableDeclaration));
+		assertThrows(UnsolvedSymbolException.class, () -> symbolResolverEmpty.toTypeDeclaration(employeeDeclaration));
+		assertThrows(
+			UnsolvedSymbolException.class,
+			() -> symbolResolver.toTypeDeclaration(findMethod(compilationUnit, "promote")));
+	}
+
+	private static Graph read() {
+		final var graph = new Graph("Symbol resolver test");
+		new GraphJavaReader(graph, RESOLUTION_PROVIDER, new StringReader(SOURCE), "$/Employee.java", "Employee.java")
+			.read();
+		return graph;
+	}
+
+	private static CompilationUnit parse(Graph graph) {
+		final var javaParser = new JavaParser(GraphJavaReader.createParserConfiguration(graph, RESOLUTION_PROVIDER));
+		return javaParser.parse(new StringReader(SOURCE)).getResult().get();
+	}
+
+	private static ClassOrInterfaceDeclaration findTypeDeclaration(CompilationUnit compilationUnit, String typeName) {
+		return
+			compilationUnit
+				.findFirst(ClassOrInterfaceDeclaration.class, declaration -> declaration.getNameAsString().equals(typeName))
+				.get();
+	}
+
+	private static FieldDeclaration findField(CompilationUnit compilationUnit, String fieldName) {
+		return compilationUnit.findFirst(FieldDeclaration.class, field -> field.getVariable(0).getNameAsString().equals(fieldName)).get();
+	}
+
+	private static MethodDeclaration findMethod(CompilationUnit compilationUnit, String methodName) {
+		return compilationUnit.findFirst(MethodDeclaration.class, method -> method.getNameAsString().equals(methodName)).get();
+	}
+
+	private static MethodCallExpr findMethodCall(CompilationUnit compilationUnit, String methodName) {
+		return
+			compilationUnit
+				.findFirst(MethodCallExpr.class, methodCallExpression -> methodCallExpression.getNameAsString().equals(methodName))
+				.get();
+	}
+
+	private static NameExpr findMethodCallReceiver(CompilationUnit compilationUnit, String name) {
+		return
+			compilationUnit
+				.findFirst(
+					NameExpr.class,
+					nameExpression ->
+						nameExpression.getNameAsString().equals(name)
+							&& nameExpression.getParentNode().orElse(null) instanceof MethodCallExpr)
+				.get();
+	}
+}
@@ -0,0 +1,164 @@
+package nl.ou.refactoring.advice.io.javaParser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+
+public final class GraphJavaReaderSymbolTableTests {
+	private static final String SOURCE =
+		"""
+		package nl.ou.refactoring.advice.tests;
+
+		import java.util.List;
+		import java.util.Set;
+
+		public final class Company {
+			private final Employee director;
+			private final Set<Employee> employees;
+
+			public void run(List<Employee> candidates) {
+				director.getName();
+				this.director.getSalary();
+				for (final var employee : this.employees) {
+					employee.getDepartment();
+				}
+				final var size = candidates.size();
+				employeeLate.getBonus();
+				final var employeeLate = new Employee();
+				employeeLate.getTitle();
+				Employee.create();
+				promote();
+			}
+
+			private static final class Department {
+				public void run() {
+					getCode();
+				}
+			}
+		}
+		""";
+
+	@DisplayName("Should resolve the types of fields, local variables, loop variables, parameters and classes")
+	@Test
+	public void resolveReceiverTypeNameTest() {
+		// Arrange
+		final var compilationUnit = parse();
+
+		// Act
+		final var symbolTable = GraphJavaReaderSymbolTable.of(compilationUnit);
+
+		// Assert
+		assertSame(symbolTable, GraphJavaReaderSymbolTable.of(compilationUnit));
+		assertEquals(Optional.of("nl.ou.refactoring.advice.tests.Employee"), resolve(compilationUnit, "getName"));
+		assertEquals(Optional.of("nl.ou.refactoring.advice.tests.Employee"), resolve(compilationUnit, "getSalary"));
+		assertEquals(Optional.of("nl.ou.refactoring.advice.tests.Employee"), resolve(compilationUnit, "getDepartment"));
+		assertEquals(Optional.of("java.util.List"), resolve(compilationUnit, "size"));
+		assertEquals(Optional.of("nl.ou.refactoring.advice.tests.Employee"), resolve(compilationUnit, "getTitle"));
+		assertEquals(Optional.of("nl.ou.refactoring.advice.tests.Employee"), resolve(compilationUnit, "create"));
+	}
+
+	@DisplayName("Should not resolve a local variable before its declaration")
+	@Test
+	public void resolveReceiverTypeNameBeforeDeclarationTest() {
+		// Arrange
+		final var compilationUnit = parse();
+
+		// Act
+		final var typeName = resolve(compilationUnit, "getBonus");
+
+		// Assert
+		assertTrue(typeName.isEmpty());
+	}
+
+	@DisplayName("Should resolve the enclosing classes of implicit receivers, including nested classes")
+	@Test
+	public void getEnclosingClassNameTest() {
+		// Arrange
+		final var compilationUnit = parse();
+		final var symbolTable = GraphJavaReaderSymbolTable.of(compilationUnit);
+		final var departmentDeclaration =
+			compilationUnit
+				.findFirst(ClassOrInterfaceDeclaration.class, declaration -> declaration.getNameAsString().equals("Department"))
+				.get();
+
+		// Act
+		final var promoteClassName = symbolTable.getEnclosingClassName(findMethodCall(compilationUnit, "promote"));
+		final var getCodeClassName = symbolTable.getEnclosingClassName(findMethodCall(compilationUnit, "getCode"));
+
+		// Assert
+		assertEquals(Optional.of("nl.ou.refactoring.advice.tests.Company"), promoteClassName);
+		assertEquals(Optional.of("nl.ou.refactoring.advice.tests.Company.Department"), getCodeClassName);
+		assertEquals(
+			Optional.of("nl.ou.refactoring.advice.tests.Company.Department"),
+			symbolTable.getClassName(departmentDeclaration));
+	}
+
+	@DisplayName("Should name structurally equal class declarations by their own enclosing classes")
+	@Test
+	public void getClassNameEqualDeclarationsTest() {
+		// Arrange
+		final var compilationUnit =
+			new JavaParser()
+				.parse(
+					"""
+					package nl.ou.refactoring.advice.tests;
+
+					public final class Company {
+						private static final class Builder { }
+					}
+
+					final class Department {
+						private static final class Builder { }
+					}
+					""")
+				.getResult()
+				.get();
+		final var builderDeclarations =
+			compilationUnit.findAll(
+				ClassOrInterfaceDeclaration.class,
+				declaration -> declaration.getNameAsString().equals("Builder"));
+
+		// Act
+		final var symbolTable = GraphJavaReaderSymbolTable.of(compilationUnit);
+
+		// Assert
+		assertEquals(builderDeclarations.get(0), builderDeclarations.get(1));
+		assertEquals(
+			Optional.of("nl.ou.refactoring.advice.tests.Company.Builder"),
+			symbolTable.getClassName(builderDeclarations.get(0)));
+		assertEquals(
+			Optional.of("nl.ou.refactoring.advice.tests.Department.Builder"),
+			symbolTable.getClassName(builderDeclarations.get(1)));
+	}
+
+	private static CompilationUnit parse() {
+		return new JavaParser().parse(new StringReader(SOURCE)).getResult().get();
+	}
+
+	private static MethodCallExpr findMethodCall(CompilationUnit compilationUnit, String methodName) {
+		return
+			compilationUnit
+				.findFirst(MethodCallExpr.class, methodCallExpression -> methodCallExpression.getNameAsString().equals(methodName))
+				.get();
+	}
+
+	private static Optional<String> resolve(CompilationUnit compilationUnit, String methodName) {
+		final var methodCallExpression = findMethodCall(compilationUnit, methodName);
+		return
+			GraphJavaReaderSymbolTable
+				.of(methodCallExpression)
+				.get()
+				.resolveReceiverTypeName(methodCallExpression, methodCallExpression.getScope().get());
+	}
+}
@@ -0,0 +1,56 @@
+package nl.ou.refactoring.advice.io.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.io.GraphReaderException;
+
+public final class GraphJsonStreamReaderTests {
+	@Test
+	@DisplayName("Should stream an empty graph from JSON")
+	public void readEmptyGraphTest()
+			throws GraphReaderException {
+		// Arrange
+		final var json = JsonSamplesLoader.loadJson("/writeEmptyGraphTest.json");
+		final var graphJsonReader = new GraphJsonStreamReader(new StringReader(json));
+		
+		// Act
+		final var graph = graphJsonReader.read();
+		
+		// Assert
+		assertEquals("Empty graph", graph.getRefactoringName());
+		assertEquals(0, graph.getNodes().size());
+	}
+	
+	@Test
+	@DisplayName("Should stream the same graph from JSON as the tree reader")
+	public void readSampleGraphTest()
+			throws GraphReaderException {
+		// Arrange
+		final var json = JsonSamplesLoader.loadJson("/writeSampleGraphTest.json");
+		final var graphExpected = new GraphJsonReader(new StringReader(json)).read();
+		final var graphJsonReader = new GraphJsonStreamReader(new StringReader(json));
+		
+		// Act
+		final var graphActual = graphJsonReader.read();
+		
+		// Assert
+		assertEquals(graphExpected.getRefactoringName(), graphActual.getRefactoringName());
+		assertEquals(graphExpected.getNodes().size(), graphActual.getNodes().size());
+		assertEquals(graphExpected.getEdges().size(), graphActual.getEdges().size());
+	}
+	
+	@Test
+	@DisplayName("Should reject JSON without a refactoring name")
+	public void readWithoutRefactoringNameTest() {
+		// Arrange
+		final var graphJsonReader = new GraphJsonStreamReader(new StringReader("{\"nodes\":[]}"));
+		
+		// Act & Assert
+		assertThrows(GraphJsonReaderRefactoringNameNotFoundException.class, graphJsonReader::read);
+	}
+}
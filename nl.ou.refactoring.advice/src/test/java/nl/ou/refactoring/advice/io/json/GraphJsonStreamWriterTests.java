@@ -0,0 +1,41 @@
+package nl.ou.refactoring.advice.io.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.Json;
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.nodes.workflow.RefactoringMayContainOnlyOneStartNodeException;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddExpression;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
+
+public final class GraphJsonStreamWriterTests {
+	@Test
+	@DisplayName("Should stream the same JSON document as the tree writer")
+	public void writeSameDocumentTest()
+			throws RefactoringMayContainOnlyOneStartNodeException {
+		// Arrange
+		final var graph = new Graph("Sample graph");
+		final var start = graph.start();
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var addExpression = new GraphNodeMicrostepAddExpression(graph);
+		start.initiates(addMethod);
+		addMethod.precedes(addExpression);
+		addExpression.finalises();
+		final var treeWriter = new StringWriter();
+		final var streamWriter = new StringWriter();
+		new GraphJsonWriter(treeWriter).write(graph);
+
+		// Act
+		new GraphJsonStreamWriter(streamWriter).write(graph);
+
+		// Assert
+		final var expected = Json.createReader(new StringReader(treeWriter.toString())).readObject();
+		final var actual = Json.createReader(new StringReader(streamWriter.toString())).readObject();
+		assertEquals(expected, actual);
+	}
+}
@@ -0,0 +1,134 @@
+package nl.ou.refactoring.advice.io.layouts.forceDirected;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.io.layouts.GraphLayoutNode;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+import nl.ou.refactoring.advice.nodes.workflow.GraphNodeWorkflowAction;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
+
+public final class GraphLayoutForceDirectedTests {
+	@Test
+	@DisplayName("Should compute the exact repulsion with a Barnes-Hut quadtree if theta is zero")
+	public void quadTreeExactRepulsionTest() {
+		// Arrange
+		final var random = new Random(42);
+		final var count = 50;
+		final var positionsX = new double[count];
+		final var positionsY = new double[count];
+		for (var i = 0; i < count; i++) {
+			positionsX[i] = random.nextDouble(500);
+			positionsY[i] = random.nextDouble(500);
+		}
+		final var expectedX = new double[count];
+		final var expectedY = new double[count];
+		for (var i = 0; i < count; i++) {
+			for (var j = 0; j < count; j++) {
+				if (i == j) {
+					continue;
+				}
+				final var differenceX = positionsX[i] - positionsX[j];
+				final var differenceY = positionsY[i] - positionsY[j];
+				final var distance = Math.max(1, Math.hypot(differenceX, differenceY));
+				final var repulsion = 1000.0 / (distance * distance);
+				expectedX[i] += (differenceX / distance) * repulsion;
+				expectedY[i] += (differenceY / distance) * repulsion;
+			}
+		}
+		final var quadTree = new GraphLayoutQuadTree();
+		final var actualX = new double[count];
+		final var actualY = new double[count];
+		
+		// Act
+		quadTree.build(positionsX, positionsY, count);
+		for (var i = 0; i < count; i++) {
+			quadTree.accumulateRepulsion(i, positionsX[i], positionsY[i], 1000.0, 0.0, actualX, actualY);
+		}
+		
+		// Assert
+		assertArrayEquals(expectedX, actualX, 1e-9);
+		assertArrayEquals(expectedY, actualY, 1e-9);
+	}
+	
+	@Test
+	@DisplayName("Should lay out a graph with Barnes-Hut repulsion and stop when converged")
+	public void applyBarnesHutTest() {
+		// Arrange
+		final var graph = new Graph("Layout graph");
+		final var start = graph.start();
+		GraphNodeWorkflowAction previous = new GraphNodeMicrostepAddMethod(graph);
+		start.initiates(previous);
+		for (var i = 0; i < 30; i++) {
+			final var next = new GraphNodeMicrostepAddMethod(graph);
+			previous.precedes(next);
+			previous = next;
+		}
+		final var settings = new GraphLayoutForceDirectedSettings();
+		settings.setRepulsion(GraphLayoutForceDirectedRepulsion.BARNES_HUT);
+		settings.setConvergenceThreshold(0.01);
+		
+		// Act
+		final var nodes = settings.createLayout().apply(graph, new Rectangle2D.Double(0, 0, 1000, 1000));
+		
+		// Assert
+		assertEquals(graph.getNodes().size(), nodes.size());
+		for (final var node : nodes) {
+			assertTrue(Double.isFinite(node.getLocation().x));
+			assertTrue(Double.isFinite(node.getLocation().y));
+		}
+	}
+	
+	@Test
+	@DisplayName("Should produce reproducible layouts with a seed on a worker pool")
+	public void applyParallelReproducibleTest() {
+		// Arrange
+		final var graph = new Graph("Layout graph");
+		final var start = graph.start();
+		GraphNodeWorkflowAction previous = new GraphNodeMicrostepAddMethod(graph);
+		start.initiates(previous);
+		for (var i = 0; i < 30; i++) {
+			final var next = new GraphNodeMicrostepAddMethod(graph);
+			previous.precedes(next);
+			previous = next;
+		}
+		final var settings = new GraphLayoutForceDirectedSettings();
+		settings.setIterations(200);
+		settings.setParallelism(4);
+		settings.setSeed(7);
+		final var area = new Rectangle2D.Double(0, 0, 1000, 1000);
+		
+		// Act
+		final var first = locations(settings.createLayout().apply(graph, area));
+		final var second = locations(settings.createLayout().apply(graph, area));
+		settings.setParallelism(1);
+		final var sequential = locations(settings.createLayout().apply(graph, area));
+		
+		// Assert
+		assertEquals(first, second);
+		for (final var entry : sequential.entrySet()) {
+			assertEquals(entry.getValue().x, first.get(entry.getKey()).x, 1e-6);
+			assertEquals(entry.getValue().y, first.get(entry.getKey()).y, 1e-6);
+		}
+	}
+	
+	private static Map<GraphNode, Point2D.Double> locations(Set<GraphLayoutNode> nodes) {
+		final var locations = new HashMap<GraphNode, Point2D.Double>();
+		for (final var node : nodes) {
+			locations.put(node.getNode(), node.getLocation());
+		}
+		return locations;
+	}
+}
@@ -1,7 +1,14 @@
 package nl.ou.refactoring.advice.io.layouts.globalRanking;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -10,6 +17,7 @@ import nl.ou.refactoring.advice.GraphPathSegmentInvalidException;
 import nl.ou.refactoring.advice.contracts.ArgumentEmptyException;
 import nl.ou.refactoring.advice.contracts.ArgumentNullException;
 import nl.ou.refactoring.advice.nodes.workflow.GraphNodeRefactoringStart;
+import nl.ou.refactoring.advice.nodes.workflow.GraphNodeWorkflowAction;
 import nl.ou.refactoring.advice.nodes.workflow.RefactoringMayContainOnlyOneStartNodeException;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddExpression;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
@@ -46,4 +54,48 @@ public final class GraphVariationExtractorTests {
 		// Assert
 		assertNotNull(variations);
 	}
+	
+	@Test
+	@DisplayName("Should extract the same variations in parallel as sequentially")
+	public void extractParallelTest()
+			throws
+				ArgumentNullException,
+				ArgumentEmptyException,
+				GraphPathSegmentInvalidException,
+				RefactoringMayContainOnlyOneStartNodeException {
+		// Arrange
+		final var graph = new Graph("Variations graph");
+		final var start = new GraphNodeRefactoringStart(graph);
+		GraphNodeWorkflowAction previous = new GraphNodeMicrostepAddMethod(graph);
+		start.initiates(previous);
+		for (var i = 0; i < 40; i++) {
+			final var addExpression = new GraphNodeMicrostepAddExpression(graph);
+			final var removeExpression = new GraphNodeMicrostepRemoveExpression(graph);
+			previous.precedes(addExpression);
+			previous.precedes(removeExpression);
+			removeExpression.precedes(addExpression);
+			previous = addExpression;
+		}
+		final int MAXIMUM_DEPTH = 4;
+		
+		// Act
+		final var expected = countVariations(GraphVariationExtractor.extract(graph, MAXIMUM_DEPTH, false));
+		final var actual = countVariations(GraphVariationExtractor.extract(graph, MAXIMUM_DEPTH, true));
+		
+		// Assert
+		assertEquals(expected, actual);
+	}
+	
+	private static Map<List<Class<?>>, Integer> countVariations(Set<GraphVariation> variations) {
+		final Map<List<Class<?>>, Integer> counts = new HashMap<>();
+		for (final var variation : variations) {
+			final var classes = new ArrayList<Class<?>>();
+			for (final var segment : variation.getSegments()) {
+				classes.add(segment.getEdgeClass());
+				classes.add(segment.getNodeClass());
+			}
+			counts.put(classes, variation.getFrequency());
+		}
+		return counts;
+	}
 }
@@ -0,0 +1,71 @@
+package nl.ou.refactoring.advice.nlp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
+import nl.ou.refactoring.advice.nodes.code.tokens.GraphNodeIdentifier;
+
+public final class NLPResultTests {
+	@Test
+	@DisplayName("Should split a text with reference strings into text runs and references")
+	public void constructorReferenceStringsTest() {
+		// Arrange
+		final var graph = new Graph("NLP result test");
+		final var classNode = new GraphNodeClass(graph, new GraphNodeIdentifier(graph, "MyClass"));
+		final var reference = NLPResult.extractReferenceString(classNode);
+
+		// Act
+		final var result =
+			new NLPResult(
+				String.format("Adds {undefined} to '%s' and %s", reference, reference),
+				Map.of(reference, classNode));
+
+		// Assert
+		assertEquals(
+			List.of(
+				new NLPResultSegment.Text("Adds {undefined} to '"),
+				new NLPResultSegment.Reference(classNode),
+				new NLPResultSegment.Text("' and "),
+				new NLPResultSegment.Reference(classNode)),
+			result.getSegments());
+		assertEquals(String.format("Adds {undefined} to '%s' and %s", reference, reference), result.getText());
+		assertEquals(Map.of(reference, classNode), result.getReferences());
+	}
+
+	@Test
+	@DisplayName("Should join adjacent text runs when merging, capitalising and appending a period")
+	public void mergeTest() {
+		// Arrange
+		final var graph = new Graph("NLP result test");
+		final var classNode = new GraphNodeClass(graph, new GraphNodeIdentifier(graph, "MyClass"));
+
+		// Act
+		final var result =
+			NLPResult.fromText("method is added")
+				.merge(NLPResult.fromText("to"), " ")
+				.merge(NLPResult.fromReference(classNode), " ")
+				.capitaliseFirstLetter()
+				.appendPeriod();
+		final var resultWithPeriod = result.appendPeriod();
+
+		// Assert
+		assertEquals(
+			List.of(
+				new NLPResultSegment.Text("Method is added to "),
+				new NLPResultSegment.Reference(classNode),
+				new NLPResultSegment.Text(".")),
+			result.getSegments());
+		assertSame(result, resultWithPeriod);
+		assertEquals(
+			new NLPResultBuilder().appendText("Method is added to ").appendReference(classNode).appendText(".").build(),
+			result);
+	}
+}
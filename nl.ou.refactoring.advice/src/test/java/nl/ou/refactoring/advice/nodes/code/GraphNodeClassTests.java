@@ -1,6 +1,8 @@
 package nl.ou.refactoring.advice.nodes.code;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -8,6 +10,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -119,5 +122,72 @@ public final class GraphNodeClassTests {
 		
 		return argumentsList.stream();
 	}
-
+	
+	@Test
+	@DisplayName("Should distinguish overloaded operations by their parameter types")
+	public void getOperationNodeOverloadTest() {
+		// Arrange
+		final var graph = new Graph("Graph test overloaded operations");
+		final var classNode = new GraphNodeClass(graph, new GraphNodeIdentifier(graph, "Alpha"));
+		final var operationNodeInt = createOperation(graph, "foo", "number", "int");
+		final var operationNodeDouble = createOperation(graph, "foo", "number", "double");
+		classNode.has(operationNodeInt);
+		classNode.has(operationNodeDouble);
+		classNode.computeAttributeNode("foo");
+		
+		// Act
+		final var actualOperationNode =
+			classNode.getOperationNode("foo", List.of(new GraphNodeOperationParameterSignature("number", "double")));
+		
+		// Assert
+		assertSame(operationNodeDouble, actualOperationNode.get());
+		assertEquals(3, classNode.getMemberNodes("foo").size());
+		assertTrue(classNode.getMemberNodes("bar").isEmpty());
+	}
+	
+	@Test
+	@DisplayName("Should find inner interfaces among the members of a class by name")
+	public void getMemberNodesInterfaceTest() {
+		// Arrange
+		final var graph = new Graph("Graph test inner interface");
+		final var classNode = new GraphNodeClass(graph, new GraphNodeIdentifier(graph, "Alpha"));
+		final var interfaceNode = new GraphNodeInterface(graph, "Beta");
+		classNode.has(interfaceNode);
+		final var attributeNode = classNode.computeAttributeNode("Beta");
+		
+		// Act
+		final var memberNodes = classNode.getMemberNodes("Beta");
+		
+		// Assert
+		assertEquals(List.of(interfaceNode, attributeNode), memberNodes);
+	}
+	
+	@Test
+	@DisplayName("Should keep the member index current when members are removed or the graph is cloned")
+	public void getAttributeNodeIndexTest() {
+		// Arrange
+		final var graph = new Graph("Graph test member index");
+		final var classNode = new GraphNodeClass(graph, new GraphNodeIdentifier(graph, "Alpha"));
+		classNode.computeAttributeNode("value");
+		
+		// Act
+		final var graphCloned = graph.clone("Graph test member index clone");
+		graph.removeNodes(GraphNodeAttribute.class);
+		
+		// Assert
+		assertTrue(classNode.getAttributeNode("value").isEmpty());
+		final var classNodeCloned = graphCloned.getNodes(GraphNodeClass.class).stream().findAny().get();
+		assertTrue(classNodeCloned.getAttributeNode("value").isPresent());
+	}
+	
+	private static GraphNodeOperation createOperation(
+		Graph graph,
+		String operationName,
+		String parameterName,
+		String parameterTypeName
+	) {
+		final var parameterNode = new GraphNodeOperationParameter(graph, parameterName);
+		parameterNode.is(GraphNodeType.computeType(graph, parameterTypeName));
+		return new GraphNodeOperation(graph, new GraphNodeIdentifier(graph, operationName), List.of(parameterNode));
+	}
 }
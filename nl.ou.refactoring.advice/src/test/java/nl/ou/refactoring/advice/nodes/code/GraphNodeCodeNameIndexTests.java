@@ -0,0 +1,93 @@
+package nl.ou.refactoring.advice.nodes.code;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
+import nl.ou.refactoring.advice.nodes.code.tokens.GraphNodeIdentifier;
+
+public final class GraphNodeCodeNameIndexTests {
+	@Test
+	@DisplayName("Should intern type nodes by type name")
+	public void computeTypeTest() {
+		// Arrange
+		final var graph = new Graph("Name index test");
+		final var intType = GraphNodeType.computeType(graph, "int");
+
+		// Act
+		final var intTypeComputed = GraphNodeType.computeType(graph, "int");
+		final var longTypeComputed = GraphNodeType.computeType(graph, "long");
+
+		// Assert
+		assertSame(intType, intTypeComputed);
+		assertNotSame(intType, longTypeComputed);
+		assertEquals(2, graph.getNodes(GraphNodeType.class).size());
+	}
+
+	@Test
+	@DisplayName("Should drop removed identifier nodes from the index")
+	public void nodeRemovedTest() {
+		// Arrange
+		final var graph = new Graph("Name index test");
+		final var employeeIdentifier = GraphNodeIdentifier.computeIdentifier(graph, "Employee");
+		final var companyIdentifier = GraphNodeIdentifier.computeIdentifier(graph, "Company");
+		graph.getNameIndex().getIdentifier("Employee");
+
+		// Act
+		graph.removeNodes(GraphNodeIdentifier.class);
+		final var employeeIdentifierIndexed = graph.getNameIndex().getIdentifier("Employee");
+		final var employeeIdentifierComputed = GraphNodeIdentifier.computeIdentifier(graph, "Employee");
+
+		// Assert
+		assertTrue(employeeIdentifierIndexed.isEmpty());
+		assertTrue(graph.getNameIndex().getIdentifier("Company").isEmpty());
+		assertNotSame(employeeIdentifier, employeeIdentifierComputed);
+		assertNotSame(companyIdentifier, GraphNodeIdentifier.computeIdentifier(graph, "Company"));
+		assertSame(employeeIdentifierComputed, graph.getNameIndex().getIdentifier("Employee").get());
+		assertEquals(2, graph.getNodes(GraphNodeIdentifier.class).size());
+	}
+
+	@Test
+	@DisplayName("Should find packages and classes by fully qualified name")
+	public void getNodeTest() {
+		// Arrange
+		final var graph = new Graph("Name index test");
+		final var packageNodeRoot = GraphNodePackage.parse(graph, "nl.ou.refactoring");
+		final var packageNode = graph.getNode("nl.ou.refactoring", GraphNodePackage.class).get();
+		final var classNode = packageNode.computeClassNode(new GraphNodeIdentifier(graph, "Alpha"));
+
+		// Act
+		final var packageNodeRootParsed = GraphNodePackage.parse(graph, "nl.ou.refactoring.advice");
+		final var classNodeComputed = packageNode.computeClassNode(new GraphNodeIdentifier(graph, "Alpha"));
+
+		// Assert
+		assertSame(packageNodeRoot, packageNodeRootParsed);
+		assertSame(classNode, classNodeComputed);
+		assertSame(classNode, graph.getNode("nl.ou.refactoring.Alpha", GraphNodeClass.class).get());
+		assertEquals(4, graph.getNodes(GraphNodePackage.class).size());
+		assertTrue(graph.getNode("nl.ou.refactoring.Alpha", GraphNodePackage.class).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should find a class by its new fully qualified name after its package was attached to a parent")
+	public void getNodeReparentedTest() {
+		// Arrange
+		final var graph = new Graph("Name index test");
+		final var ouPackage = new GraphNodePackage(graph, new GraphNodeIdentifier(graph, "ou"));
+		final var classNode = ouPackage.computeClassNode(new GraphNodeIdentifier(graph, "Alpha"));
+		assertSame(classNode, graph.getNode("ou.Alpha", GraphNodeClass.class).get());
+		final var nlPackage = new GraphNodePackage(graph, new GraphNodeIdentifier(graph, "nl"));
+
+		// Act
+		nlPackage.has(ouPackage);
+
+		// Assert
+		assertSame(classNode, graph.getNode("nl.ou.Alpha", GraphNodeClass.class).get());
+	}
+}
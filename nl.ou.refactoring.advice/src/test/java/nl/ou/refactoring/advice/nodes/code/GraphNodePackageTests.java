@@ -30,6 +30,25 @@ public final class GraphNodePackageTests {
 		assertEquals("refactoring", packageName);
 	}
 	
+	@DisplayName("Should get the current full package name after the package tree changed")
+	@Test
+	public void getPackageNameFullChangedTest() {
+		// Arrange
+		final var graph = new Graph("Package Parse Test");
+		final var ouPackage = new GraphNodePackage(graph, new GraphNodeIdentifier(graph, "ou"));
+		final var refactoringPackage = new GraphNodePackage(graph, new GraphNodeIdentifier(graph, "refactoring"));
+		ouPackage.has(refactoringPackage);
+		final var packageNameFullBefore = refactoringPackage.getPackageNameFull();
+		
+		// Act
+		new GraphNodePackage(graph, new GraphNodeIdentifier(graph, "nl")).has(ouPackage);
+		final var packageNameFullAfter = refactoringPackage.getPackageNameFull();
+		
+		// Assert
+		assertEquals("ou.refactoring", packageNameFullBefore);
+		assertEquals("nl.ou.refactoring", packageNameFullAfter);
+	}
+	
 	@DisplayName("Should parse a package name and construct a package tree accordingly")
 	@Test
 	public void parseTest() {
@@ -0,0 +1,84 @@
+package nl.ou.refactoring.advice.nodes.workflow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddExpression;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepRemoveExpression;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepRemoveMethod;
+
+public final class GraphWorkflowPrecedenceIndexTests {
+	@Test
+	@DisplayName("Should reuse the precedence index until a precedes edge is added")
+	public void getPrecedenceIndexCachedTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var addExpression = new GraphNodeMicrostepAddExpression(graph);
+		final var removeExpression = new GraphNodeMicrostepRemoveExpression(graph);
+		addMethod.precedes(addExpression);
+
+		// Act
+		final var first = graph.getPrecedenceIndex();
+		final var second = graph.getPrecedenceIndex();
+		addExpression.precedes(removeExpression);
+		final var third = graph.getPrecedenceIndex();
+
+		// Assert
+		assertSame(first, second);
+		assertNotSame(second, third);
+		assertEquals(-1, first.getPrecedingLength(removeExpression, addMethod));
+		assertEquals(2, third.getPrecedingLength(removeExpression, addMethod));
+		assertEquals(2, third.getDepth(removeExpression));
+	}
+
+	@Test
+	@DisplayName("Should not relate workflow actions on different branches")
+	public void isPrecededByBranchesTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var addExpression = new GraphNodeMicrostepAddExpression(graph);
+		final var removeExpression = new GraphNodeMicrostepRemoveExpression(graph);
+		addMethod.precedes(addExpression);
+		addMethod.precedes(removeExpression);
+
+		// Act
+		final var index = graph.getPrecedenceIndex();
+
+		// Assert
+		assertTrue(index.isPrecededBy(addExpression, addMethod));
+		assertTrue(index.isPrecededBy(removeExpression, addMethod));
+		assertFalse(index.isPrecededBy(removeExpression, addExpression));
+		assertFalse(index.isPrecededBy(addMethod, removeExpression));
+	}
+
+	@Test
+	@DisplayName("Should terminate on a cycle of workflow actions")
+	public void cycleTest() {
+		// Arrange
+		final var graph = new Graph("Refactoring test");
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		final var addExpression = new GraphNodeMicrostepAddExpression(graph);
+		final var removeMethod = new GraphNodeMicrostepRemoveMethod(graph);
+		addMethod.precedes(addExpression);
+		addExpression.precedes(removeMethod);
+		removeMethod.precedes(addMethod);
+
+		// Act
+		final var index = graph.getPrecedenceIndex();
+
+		// Assert
+		assertEquals(0, index.getDepth(addMethod));
+		assertEquals(2, index.getPrecedingLength(removeMethod, addMethod));
+		assertFalse(index.isPrecededBy(addMethod, removeMethod));
+	}
+}
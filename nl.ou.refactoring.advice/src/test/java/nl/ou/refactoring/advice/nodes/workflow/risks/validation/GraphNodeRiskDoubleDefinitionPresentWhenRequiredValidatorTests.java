@@ -13,10 +13,13 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeAttribute;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeInterface;
 import nl.ou.refactoring.advice.nodes.code.GraphNodePackage;
 import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
 import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation;
 import nl.ou.refactoring.advice.nodes.code.tokens.GraphNodeIdentifier;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddField;
 import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
 import nl.ou.refactoring.advice.nodes.workflow.risks.GraphNodeRiskDoubleDefinition;
 import nl.ou.refactoring.advice.validation.GraphValidationEngine;
@@ -40,7 +43,8 @@ public final class GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidatorTest
 		return
 			Stream.of(
 				Arguments.of(createGraphMissingRiskDoubleDefinitionMethod(), false),
-				Arguments.of(createGraphNotMissingRiskDoubleDefinitionMethod(), true)
+				Arguments.of(createGraphNotMissingRiskDoubleDefinitionMethod(), true),
+				Arguments.of(createGraphMissingRiskDoubleDefinitionInnerInterface(), false)
 			);
 	}
 	
@@ -95,6 +99,25 @@ public final class GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidatorTest
 		return graph;
 	}
 	
+	private static Graph createGraphMissingRiskDoubleDefinitionInnerInterface() {
+		final var graph = new Graph("Graph missing risk Double Definition with inner interface/field");
+		final var graphStart = graph.start();
+		final var addFieldNode = new GraphNodeMicrostepAddField(graph);
+		graphStart.initiates(addFieldNode);
+		addFieldNode.finalises();
+		
+		final var packageNode = new GraphNodePackage(graph, new GraphNodeIdentifier(graph, "test"));
+		final var classNode = new GraphNodeClass(graph, new GraphNodeIdentifier(graph, "ClassA"));
+		final var interfaceNodeExisting = new GraphNodeInterface(graph, "foo");
+		final var attributeNodeNew = new GraphNodeAttribute(graph, new GraphNodeIdentifier(graph, "foo"));
+		packageNode.has(classNode);
+		classNode.has(interfaceNodeExisting);
+		classNode.has(attributeNodeNew);
+		addFieldNode.adds(attributeNodeNew);
+		
+		return graph;
+	}
+	
 	private static Graph createGraphNotMissingRiskDoubleDefinitionMethod() {
 		final var graph = createGraphMissingRiskDoubleDefinitionMethod();
 		
@@ -0,0 +1,158 @@
+package nl.ou.refactoring.advice.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.edges.GraphEdge;
+import nl.ou.refactoring.advice.nodes.GraphNode;
+import nl.ou.refactoring.advice.nodes.code.GraphNodeCode;
+import nl.ou.refactoring.advice.nodes.code.GraphNodePackage;
+import nl.ou.refactoring.advice.nodes.code.classes.GraphNodeClass;
+import nl.ou.refactoring.advice.nodes.code.operations.GraphNodeOperation;
+import nl.ou.refactoring.advice.nodes.code.tokens.GraphNodeIdentifier;
+import nl.ou.refactoring.advice.nodes.workflow.GraphNodeRefactoringStart;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
+import nl.ou.refactoring.advice.nodes.workflow.risks.GraphNodeRiskDoubleDefinition;
+import nl.ou.refactoring.advice.nodes.workflow.risks.validation.GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult;
+import nl.ou.refactoring.advice.nodes.workflow.risks.validation.GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator;
+
+public final class GraphIncrementalValidationTests {
+	@Test
+	@DisplayName("Should re-validate only the subjects whose neighbourhood changed")
+	public void validateSubjectsTest() {
+		// Arrange
+		final var graph = new Graph("Incremental validation test");
+		final var start = graph.start();
+		final var packageNode = new GraphNodePackage(graph, new GraphNodeIdentifier(graph, "test"));
+		final var operationNodeA = addMethod(graph, start, packageNode, "ClassA");
+		final var operationNodeB = addMethod(graph, start, packageNode, "ClassB");
+		final var engine = new GraphValidationEngine();
+		engine.addValidator(GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator.INSTANCE);
+
+		try (final var validation = engine.watch(graph)) {
+			final var resultsBefore = validation.validate();
+			final var resultA = getResult(resultsBefore, operationNodeA);
+			final var resultB = getResult(resultsBefore, operationNodeB);
+			assertFalse(resultA.getIsValid());
+			assertFalse(resultB.getIsValid());
+
+			// Act
+			final var riskDoubleDefinitionNode = new GraphNodeRiskDoubleDefinition(graph);
+			operationNodeA.getAddedBy().get().causes(riskDoubleDefinitionNode);
+			riskDoubleDefinitionNode.affects(operationNodeA);
+			final var resultsAfter = validation.validate();
+
+			// Assert
+			assertEquals(2, resultsAfter.size());
+			assertNotSame(resultA, getResult(resultsAfter, operationNodeA));
+			assertTrue(getResult(resultsAfter, operationNodeA).getIsValid());
+			assertSame(resultB, getResult(resultsAfter, operationNodeB));
+			assertEquals(
+				GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidator.INSTANCE.validate(graph).size(),
+				resultsAfter.size());
+		}
+	}
+
+	@Test
+	@DisplayName("Should not re-run a validator when no node or edge it depends on changed")
+	public void validateDependenciesTest() {
+		// Arrange
+		final var graph = new Graph("Incremental validation test");
+		graph.start();
+		final var runs = new AtomicInteger();
+		final var validator = new GraphValidator() {
+			@Override
+			public List<GraphValidationResult> validate(Graph graph) {
+				runs.incrementAndGet();
+				return List.of();
+			}
+
+			@Override
+			public Set<Class<? extends GraphNode>> getNodeTypeDependencies() {
+				return Set.of(GraphNodeRefactoringStart.class);
+			}
+
+			@Override
+			public Set<Class<? extends GraphEdge>> getEdgeTypeDependencies() {
+				return Set.of();
+			}
+		};
+		final var engine = new GraphValidationEngine();
+		engine.addValidator(validator);
+
+		try (final var validation = engine.watch(graph)) {
+			validation.validate();
+
+			// Act
+			new GraphNodePackage(graph, new GraphNodeIdentifier(graph, "test"));
+			final var report = validation.report();
+
+			// Assert
+			assertEquals(1, runs.get());
+			assertEquals(1, report.getStatistics().size());
+		}
+	}
+
+	@Test
+	@DisplayName("Should stop recording changes when closed")
+	public void closeTest() {
+		// Arrange
+		final var graph = new Graph("Incremental validation test");
+		final var runs = new AtomicInteger();
+		final var engine = new GraphValidationEngine();
+		engine.addValidator(_ -> {
+			runs.incrementAndGet();
+			return List.of();
+		});
+		final var validation = engine.watch(graph);
+		validation.validate();
+
+		// Act
+		validation.close();
+		graph.start();
+		validation.validate();
+
+		// Assert
+		assertEquals(1, runs.get());
+	}
+
+	private static GraphNodeOperation addMethod(
+			Graph graph,
+			GraphNodeRefactoringStart start,
+			GraphNodePackage packageNode,
+			String className) {
+		final var addMethodNode = new GraphNodeMicrostepAddMethod(graph);
+		start.initiates(addMethodNode);
+		final var classNode = new GraphNodeClass(graph, new GraphNodeIdentifier(graph, className));
+		final var operationNodeExisting = new GraphNodeOperation(graph, new GraphNodeIdentifier(graph, "foo"));
+		final var operationNodeNew = new GraphNodeOperation(graph, new GraphNodeIdentifier(graph, "foo"));
+		packageNode.has(classNode);
+		classNode.has(operationNodeExisting);
+		classNode.has(operationNodeNew);
+		addMethodNode.adds(operationNodeNew);
+		return operationNodeNew;
+	}
+
+	private static GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult getResult(
+			List<GraphValidationResult> results,
+			GraphNodeCode nodeAdded) {
+		return
+			results
+				.stream()
+				.map(GraphNodeRiskDoubleDefinitionPresentWhenRequiredValidationResult.class::cast)
+				.filter(result -> result.getNodeAdded() == nodeAdded)
+				.findAny()
+				.orElseThrow();
+	}
+}
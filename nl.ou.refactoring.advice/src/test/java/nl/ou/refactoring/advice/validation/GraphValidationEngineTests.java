@@ -0,0 +1,77 @@
+package nl.ou.refactoring.advice.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nl.ou.refactoring.advice.Graph;
+import nl.ou.refactoring.advice.nodes.workflow.microsteps.GraphNodeMicrostepAddMethod;
+import nl.ou.refactoring.advice.validation.common.GraphHasStartNodeValidator;
+import nl.ou.refactoring.advice.validation.common.GraphIsFinalisedValidationResult;
+import nl.ou.refactoring.advice.validation.common.GraphIsFinalisedValidator;
+
+public final class GraphValidationEngineTests {
+	@Test
+	@DisplayName("Should merge concurrent validation results in the order the validators were added")
+	public void reportConcurrentTest() {
+		// Arrange
+		final var graph = new Graph("Validation test");
+		final var start = graph.start();
+		final var addMethod = new GraphNodeMicrostepAddMethod(graph);
+		start.initiates(addMethod);
+		addMethod.finalises();
+		final var slowValidator = new GraphValidator() {
+			@Override
+			public List<GraphValidationResult> validate(Graph graph) {
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+				return GraphIsFinalisedValidator.INSTANCE.validate(graph);
+			}
+		};
+
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			final var engine = new GraphValidationEngine(executor);
+			engine.addValidator(slowValidator);
+			engine.addValidator(GraphHasStartNodeValidator.INSTANCE);
+
+			// Act
+			final var report = engine.report(graph);
+
+			// Assert
+			assertEquals(2, report.getResults().size());
+			assertInstanceOf(GraphIsFinalisedValidationResult.class, report.getResults().get(0));
+			assertEquals(2, report.getStatistics().size());
+			assertSame(slowValidator, report.getStatistics().get(0).getValidator());
+			assertEquals(1, report.getStatistics().get(0).getResultCount());
+			assertTrue(report.getStatistics().get(0).getDuration().toMillis() >= 50);
+			assertSame(GraphHasStartNodeValidator.INSTANCE, report.getStatistics().get(1).getValidator());
+		}
+	}
+
+	@Test
+	@DisplayName("Should rethrow the exception of a failing validator that runs concurrently")
+	public void reportConcurrentFailureTest() {
+		// Arrange
+		final var graph = new Graph("Validation test");
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			final var engine = new GraphValidationEngine(executor);
+			engine.addValidator(_ -> {
+				throw new IllegalStateException("Validator failed");
+			});
+
+			// Act & Assert
+			assertThrows(IllegalStateException.class, () -> engine.validate(graph));
+		}
+	}
+}